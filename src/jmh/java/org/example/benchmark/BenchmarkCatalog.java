@@ -0,0 +1,99 @@
+package org.example.benchmark;
+
+import org.example.BrandShoppingApplication;
+import org.example.service.BrandService;
+import org.example.service.CatalogGenerator;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 클래스 설명 : 벤치마크용 애플리케이션 컨텍스트와 카탈로그 데이터를 준비하는 클래스
+ * 웹 서버 없이 애플리케이션 컨텍스트를 시작하고, 벤치마크마다 별도의 내장 H2 데이터베이스를 사용한다.
+ * 초기 데이터(브랜드 A~I, 9개) 이후 지정한 브랜드 수가 될 때까지 CatalogGenerator로 생성한 브랜드를 배치 단위로 저장하므로
+ * 같은 브랜드 수에서는 빌드가 달라도 항상 같은 카탈로그로 측정된다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public final class BenchmarkCatalog {
+
+    // 초기 데이터(브랜드 A~I)의 브랜드 수
+    private static final int INITIAL_BRAND_COUNT = 9;
+
+    // 생성 브랜드 이름 계산용 생성기 (측정 중 매번 생성하지 않도록 재사용)
+    private static final CatalogGenerator NAMES = generator(0);
+
+    private BenchmarkCatalog() {
+    }
+
+    /**
+     * 메서드 설명 : 지정한 브랜드 수의 카탈로그로 애플리케이션 컨텍스트를 시작하는 메서드
+     * @param brandCount 카탈로그의 전체 브랜드 수 (초기 데이터 9개 포함)
+     * @param properties 벤치마크별로 추가할 애플리케이션 설정 ("키=값" 형식)
+     * @return 시작된 애플리케이션 컨텍스트 (호출자가 종료해야 함)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public static ConfigurableApplicationContext start(int brandCount, String... properties) {
+
+        // 명령행 인자로 전달하여 application.properties의 같은 설정보다 우선 적용되도록 함
+        // (SpringApplicationBuilder.properties()는 기본값으로 등록되어 application.properties에 덮어써짐)
+        // H2는 테이블이 바뀌지 않으면 같은 쿼리의 결과를 연결별로 재사용하므로(QUERY_CACHE_SIZE),
+        // 반복 실행하는 조회 쿼리가 매번 실제로 실행되도록 결과 캐시를 끔
+        List<String> args = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=0",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.show-sql=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.org.example=WARN"));
+        args.addAll(List.of(properties));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BrandShoppingApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(args.stream().map(property -> "--" + property).toArray(String[]::new));
+
+        BrandService brandService = context.getBean(BrandService.class);
+        int existing = brandService.getAllBrands().size();
+        if (brandCount > existing) {
+            generator(brandCount - existing).loadInto(brandService);
+        }
+
+        return context;
+
+    }
+
+    /**
+     * 메서드 설명 : 벤치마크 카탈로그의 브랜드 이름을 반환하는 메서드
+     * @param index 0부터 시작하는 브랜드 순번
+     * @return 브랜드 이름 (초기 데이터 범위는 A~I, 이후는 생성 브랜드 이름)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public static String brandName(int index) {
+        return index < INITIAL_BRAND_COUNT
+                ? String.valueOf((char) ('A' + index))
+                : NAMES.brandName(index - INITIAL_BRAND_COUNT);
+    }
+
+    /**
+     * 메서드 설명 : 벤치마크용 가상 카탈로그 생성기를 반환하는 메서드
+     * 동점이 드물고 모든 카테고리에 상품이 있는 기본 설정을 사용한다.
+     * @param brandCount 생성할 브랜드 수
+     * @return 고정 시드의 카탈로그 생성기
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public static CatalogGenerator generator(int brandCount) {
+        return new CatalogGenerator(CatalogGenerator.Settings.builder()
+                .brandCount(brandCount)
+                .namePrefix("BENCH-")
+                .build());
+    }
+
+}
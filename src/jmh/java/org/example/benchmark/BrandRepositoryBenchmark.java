@@ -0,0 +1,98 @@
+package org.example.benchmark;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.example.repository.BrandRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 설명 : BrandRepository 쿼리 벤치마크
+ * 내장 H2 데이터베이스의 브랜드 수(brandCount)를 바꿔 가며 인덱스 적재에 쓰이는 전체 조회,
+ * 일괄 가격 업데이트에 쓰이는 이름 목록 조회, 기존 카테고리 정렬 조회의 평균 지연 시간을 측정한다.
+ * 각 호출은 운영과 같이 하나의 읽기 전용 트랜잭션 안에서 엔티티와 가격 컬렉션을 모두 읽는다.
+ * 실행 : ./gradlew jmh -PjmhIncludes=BrandRepositoryBenchmark
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BrandRepositoryBenchmark {
+
+    // 이름 목록 조회에 포함하는 브랜드 수
+    private static final int NAME_BATCH_SIZE = 100;
+
+    /**
+     * 카탈로그의 전체 브랜드 수
+     */
+    @Param({"9", "1000", "100000"})
+    public int brandCount;
+
+    private ConfigurableApplicationContext context;
+
+    private BrandRepository brandRepository;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private List<String> brandNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkCatalog.start(brandCount);
+        brandRepository = context.getBean(BrandRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        // 카탈로그 전체에 고르게 퍼진 브랜드 이름 목록
+        brandNames = new ArrayList<>(NAME_BATCH_SIZE);
+        for (int i = 0; i < NAME_BATCH_SIZE; i++) {
+            brandNames.add(BenchmarkCatalog.brandName((int) ((long) i * brandCount / NAME_BATCH_SIZE)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 인덱스 적재: 전체 브랜드와 가격을 한 번의 조인 쿼리로 조회
+     */
+    @Benchmark
+    public int findAllWithPrices() {
+        return readOnlyTransaction.execute(status -> countPrices(brandRepository.findAllWithPrices()));
+    }
+
+    /**
+     * 일괄 가격 업데이트: 브랜드 이름 목록으로 가격과 함께 조회
+     */
+    @Benchmark
+    public int findAllWithPricesByNameIn() {
+        return readOnlyTransaction.execute(status -> countPrices(brandRepository.findAllWithPricesByNameIn(brandNames)));
+    }
+
+    /**
+     * 기존 카테고리 정렬 조회 (브랜드 관리 화면 등에서 사용)
+     */
+    @Benchmark
+    public int findAllByCategoryOrderByPriceAsc() {
+        return readOnlyTransaction.execute(status -> countPrices(brandRepository.findAllByCategoryOrderByPriceAsc(Category.TOP)));
+    }
+
+    // 가격 컬렉션까지 초기화되도록 전체 가격 수를 계산
+    private static int countPrices(List<Brand> brands) {
+        int count = 0;
+        for (Brand brand : brands) {
+            count += brand.getPrices().size();
+        }
+        return count;
+    }
+
+}
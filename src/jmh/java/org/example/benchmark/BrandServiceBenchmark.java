@@ -0,0 +1,116 @@
+package org.example.benchmark;
+
+import org.example.dto.BrandPriceUpdateDto;
+import org.example.dto.BrandPriceUpdateResultDto;
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.example.service.BrandService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 설명 : BrandService의 조회/업데이트 API 벤치마크
+ * 내장 H2 데이터베이스의 브랜드 수(brandCount)를 바꿔 가며 API 1~3 조회와 API 4 가격 업데이트의 평균 지연 시간을 측정한다.
+ * 조회 벤치마크는 운영과 같이 카탈로그 버전별 결과 캐시를 거치며, 업데이트 벤치마크는 커밋과 인덱스 반영까지 포함한다.
+ * 일괄 가격 업데이트는 호출당 UPDATE_BATCH_SIZE건을 처리하므로 결과는 항목 1건당 시간으로 기록된다.
+ * 실행 : ./gradlew jmh -PjmhIncludes=BrandServiceBenchmark
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BrandServiceBenchmark {
+
+    // 일괄 가격 업데이트 한 번에 포함하는 항목 수
+    private static final int UPDATE_BATCH_SIZE = 100;
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * 카탈로그의 전체 브랜드 수
+     */
+    @Param({"9", "1000", "100000"})
+    public int brandCount;
+
+    private ConfigurableApplicationContext context;
+
+    private BrandService brandService;
+
+    // 업데이트 대상 브랜드와 카테고리를 순환시키는 카운터
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkCatalog.start(brandCount);
+        brandService = context.getBean(BrandService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * API 1: 카테고리별 최저가격 조회
+     */
+    @Benchmark
+    public Map<Category, Map<String, Object>> getLowestPriceByCategory() {
+        return brandService.getLowestPriceByCategory();
+    }
+
+    /**
+     * API 2: 단일 브랜드 최저 총액 조회
+     */
+    @Benchmark
+    public Map<String, Object> getLowestTotalPriceBrand() {
+        return brandService.getLowestTotalPriceBrand();
+    }
+
+    /**
+     * API 3: 카테고리별 최저/최고 가격 조회 (호출마다 카테고리를 순환)
+     */
+    @Benchmark
+    public Map<String, Object> getMinMaxPriceByCategory() {
+        return brandService.getMinMaxPriceByCategory(CATEGORIES[sequence++ % CATEGORIES.length]);
+    }
+
+    /**
+     * API 4: 단일 브랜드 가격 업데이트 (호출마다 다른 브랜드와 카테고리를 변경)
+     */
+    @Benchmark
+    public Brand updateBrandPrice() {
+        int next = sequence++;
+        return brandService.updateBrandPrice(BenchmarkCatalog.brandName(next % brandCount),
+                CATEGORIES[next % CATEGORIES.length], nextPrice(next));
+    }
+
+    /**
+     * API 4: 일괄 가격 업데이트 (결과는 항목 1건당 시간)
+     */
+    @Benchmark
+    @OperationsPerInvocation(UPDATE_BATCH_SIZE)
+    public List<BrandPriceUpdateResultDto> updateBrandPrices() {
+        List<BrandPriceUpdateDto> updates = new ArrayList<>(UPDATE_BATCH_SIZE);
+        for (int i = 0; i < UPDATE_BATCH_SIZE; i++) {
+            int next = sequence++;
+            updates.add(BrandPriceUpdateDto.builder()
+                    .brandName(BenchmarkCatalog.brandName(next % brandCount))
+                    .categoryName(CATEGORIES[next % CATEGORIES.length].getDisplayName())
+                    .price(nextPrice(next))
+                    .build());
+        }
+        return brandService.updateBrandPrices(updates);
+    }
+
+    // 1,000원~100,000원 범위에서 호출마다 달라지는 가격
+    private static int nextPrice(int sequence) {
+        return (10 + (sequence * 7919) % 991) * 100;
+    }
+
+}
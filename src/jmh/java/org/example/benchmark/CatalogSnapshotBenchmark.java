@@ -0,0 +1,100 @@
+package org.example.benchmark;
+
+import org.example.model.Brand;
+import org.example.service.CatalogGenerator;
+import org.example.service.CatalogSnapshotFile;
+import org.example.service.CategoryPriceIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 설명 : 카탈로그 스냅샷 파일 저장/복원 벤치마크
+ * 시작 시 메모리 카탈로그를 구성하는 두 경로를 비교한다.
+ * 1. restoreFromSnapshot: 스냅샷 파일을 메모리 매핑하여 CRC를 확인하고 인덱스를 구성
+ * 2. loadFromEntities: 이미 조회된 브랜드 엔티티 목록으로 인덱스를 구성 (데이터베이스 적재 경로에서 JPA 조회 시간을 뺀 부분)
+ * writeSnapshot은 체크포인트마다 스냅샷 파일을 저장(fsync 포함)하는 비용이다.
+ * 실행 : ./gradlew jmh -PjmhIncludes=CatalogSnapshotBenchmark
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class CatalogSnapshotBenchmark {
+
+    /**
+     * 카탈로그의 브랜드 수
+     */
+    @Param({"100000", "1000000"})
+    public int brandCount;
+
+    private Path directory;
+
+    private Path snapshotPath;
+
+    private List<Brand> brands;
+
+    private CategoryPriceIndex.Snapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        CatalogGenerator generator = BenchmarkCatalog.generator(brandCount);
+        brands = new ArrayList<>(brandCount);
+        for (int i = 0; i < brandCount; i++) {
+            Brand brand = generator.generate(i);
+            brand.setId((long) i + 1);
+            brands.add(brand);
+        }
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.load(brands, index.getVersion());
+        snapshot = index.snapshot();
+
+        directory = Files.createTempDirectory("catalog-snapshot-bench");
+        snapshotPath = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(snapshotPath, snapshot.version(), snapshot.matrix());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotPath);
+        Files.deleteIfExists(directory.resolve("catalog.snapshot.tmp"));
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * 스냅샷 파일로 인덱스 복원
+     */
+    @Benchmark
+    public CategoryPriceIndex restoreFromSnapshot() {
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        CatalogSnapshotFile.Contents contents = CatalogSnapshotFile.read(snapshotPath);
+        index.restore(contents, contents.catalogVersion(), index.getVersion());
+        return index;
+    }
+
+    /**
+     * 브랜드 엔티티 목록으로 인덱스 구성 (JPA 조회 제외)
+     */
+    @Benchmark
+    public CategoryPriceIndex loadFromEntities() {
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.load(brands, index.getVersion());
+        return index;
+    }
+
+    /**
+     * 스냅샷 파일 저장
+     */
+    @Benchmark
+    public long writeSnapshot() {
+        return CatalogSnapshotFile.write(snapshotPath, snapshot.version(), snapshot.matrix());
+    }
+
+}
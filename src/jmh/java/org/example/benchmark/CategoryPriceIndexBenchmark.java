@@ -0,0 +1,130 @@
+package org.example.benchmark;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.example.service.CatalogGenerator;
+import org.example.service.CategoryPriceIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 설명 : CategoryPriceIndex 조회/갱신 벤치마크
+ * 캐시를 거치지 않는 API 1~3의 실제 계산 경로(카테고리별 최저/최고 가격대, 최저 총액 브랜드, 가격순 상위 K개)와
+ * 가격 변경 시의 인덱스 갱신 비용을 브랜드 수(brandCount)에 따라 측정한다.
+ * 데이터베이스 없이 인덱스만 적재하므로 1,000,000개 브랜드까지 측정할 수 있다.
+ * 실행 : ./gradlew jmh -PjmhIncludes=CategoryPriceIndexBenchmark
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class CategoryPriceIndexBenchmark {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * 인덱스에 적재하는 브랜드 수
+     */
+    @Param({"9", "1000", "100000", "1000000"})
+    public int brandCount;
+
+    private CategoryPriceIndex index;
+
+    // 갱신 대상 브랜드 목록 (ID는 1부터 순서대로 부여)
+    private List<Brand> brands;
+
+    // 조회 카테고리와 갱신 대상을 순환시키는 카운터
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator generator = BenchmarkCatalog.generator(brandCount);
+        brands = new ArrayList<>(brandCount);
+        for (int i = 0; i < brandCount; i++) {
+            Brand brand = generator.generate(i);
+            brand.setId((long) i + 1);
+            brands.add(brand);
+        }
+
+        index = new CategoryPriceIndex();
+        index.load(brands, index.getVersion());
+    }
+
+    /**
+     * API 1/3: 카테고리의 최저 가격대 조회
+     */
+    @Benchmark
+    public CategoryPriceIndex.PriceLevel lowest() {
+        return index.lowest(CATEGORIES[sequence++ % CATEGORIES.length]);
+    }
+
+    /**
+     * API 3: 카테고리의 최고 가격대 조회
+     */
+    @Benchmark
+    public CategoryPriceIndex.PriceLevel highest() {
+        return index.highest(CATEGORIES[sequence++ % CATEGORIES.length]);
+    }
+
+    /**
+     * API 2: 최저 총액 브랜드 조회
+     */
+    @Benchmark
+    public CategoryPriceIndex.Entry lowestTotal() {
+        return index.lowestTotal();
+    }
+
+    /**
+     * API 3-1: 가격순 목록에서 카테고리의 가장 싼 브랜드 20개 조회
+     */
+    @Benchmark
+    public List<CategoryPriceIndex.RankedBrand> top20() {
+        return index.snapshot().ranked(CATEGORIES[sequence++ % CATEGORIES.length], false, null, 20);
+    }
+
+    /**
+     * API 3-1: 목록 중간의 커서 다음부터 20개 조회 (깊은 페이지도 비용이 같은지 확인)
+     */
+    @Benchmark
+    public List<CategoryPriceIndex.RankedBrand> top20AfterCursor() {
+        int next = sequence++;
+        Brand brand = brands.get((brandCount / 2 + next) % brandCount);
+        Category category = CATEGORIES[next % CATEGORIES.length];
+        return index.snapshot().ranked(category, false,
+                new CategoryPriceIndex.RankedBrand(brand.getId(), null, brand.getPrices().getOrDefault(category, 0)), 20);
+    }
+
+    /**
+     * 비교 기준: 카테고리 전체를 가격순으로 정렬한 뒤 앞의 20개 선택 (findAllByCategoryOrderByPriceAsc 방식)
+     */
+    @Benchmark
+    public List<Brand> sortedTop20() {
+        Category category = CATEGORIES[sequence++ % CATEGORIES.length];
+        List<Brand> sorted = new ArrayList<>(brands.size());
+        for (Brand brand : brands) {
+            if (brand.getPrices().containsKey(category)) {
+                sorted.add(brand);
+            }
+        }
+        sorted.sort(Comparator.comparing((Brand brand) -> brand.getPrices().get(category)).thenComparing(Brand::getId));
+        return sorted.subList(0, Math.min(20, sorted.size()));
+    }
+
+    /**
+     * API 4: 한 브랜드의 한 카테고리 가격 변경을 인덱스에 반영
+     */
+    @Benchmark
+    public void put() {
+        int next = sequence++;
+        Brand brand = brands.get(next % brandCount);
+        brand.getPrices().put(CATEGORIES[next % CATEGORIES.length], (10 + (next * 7919) % 991) * 100);
+        index.put(CategoryPriceIndex.Entry.of(brand));
+    }
+
+}
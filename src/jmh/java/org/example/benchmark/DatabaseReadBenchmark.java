@@ -0,0 +1,81 @@
+package org.example.benchmark;
+
+import org.example.model.Category;
+import org.example.service.BrandService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 설명 : 데이터베이스 조회 모드의 API 1~3 지연 시간 벤치마크
+ * musinsa.catalog.read-mode=database로 애플리케이션을 시작하고 브랜드 수에 따라 평균 지연 시간을 측정한다.
+ * - getLowestPriceByCategory : 모든 카테고리의 최저가를 집계 쿼리 한 번으로 조회 (queryParallelism과 무관)
+ * - getLowestTotalPriceBrand : 브랜드별 총액을 GROUP BY SUM으로 집계한 뒤 최저 총액 브랜드 한 곳만 조회 (queryParallelism과 무관)
+ * - getMinMaxPriceByCategory : 최저가/최고가 쿼리 2개를 요청 스레드에서 순서대로 실행할 때(queryParallelism=1)와
+ *   스레드 풀에서 동시에 실행할 때(queryParallelism=8) 비교
+ * 병렬 실행의 효과는 CPU 코어 수와 데이터베이스의 동시 처리 능력에 따라 달라진다.
+ * 실행 : ./gradlew jmh -PjmhIncludes=DatabaseReadBenchmark
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatabaseReadBenchmark {
+
+    /**
+     * 카탈로그의 전체 브랜드 수
+     */
+    @Param({"1000", "100000"})
+    public int brandCount;
+
+    /**
+     * API 3의 최저가/최고가 쿼리를 동시에 실행할 스레드 수 (1이면 순차 실행)
+     */
+    @Param({"1", "8"})
+    public int queryParallelism;
+
+    private ConfigurableApplicationContext context;
+
+    private BrandService brandService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkCatalog.start(brandCount,
+                "musinsa.catalog.read-mode=database",
+                "musinsa.catalog.query-parallelism=" + queryParallelism);
+        brandService = context.getBean(BrandService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * API 1: 카테고리별 최저가격 조회 (요청마다 데이터베이스 조회)
+     */
+    @Benchmark
+    public Map<Category, Map<String, Object>> getLowestPriceByCategory() {
+        return brandService.getLowestPriceByCategory();
+    }
+
+    /**
+     * API 2: 최저 총액 브랜드 조회 (요청마다 데이터베이스에서 집계)
+     */
+    @Benchmark
+    public Map<String, Object> getLowestTotalPriceBrand() {
+        return brandService.getLowestTotalPriceBrand();
+    }
+
+    /**
+     * API 3: 상의 카테고리의 최저/최고 가격 조회 (요청마다 데이터베이스 조회)
+     */
+    @Benchmark
+    public Map<String, Object> getMinMaxPriceByCategory() {
+        return brandService.getMinMaxPriceByCategory(Category.TOP);
+    }
+
+}
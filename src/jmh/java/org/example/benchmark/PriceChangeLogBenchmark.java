@@ -0,0 +1,73 @@
+package org.example.benchmark;
+
+import org.example.model.Category;
+import org.example.service.PriceChangeLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 클래스 설명 : 가격 변경 로그(write-ahead log)의 fsync 정책별 지속 쓰기 처리량 벤치마크
+ * 여러 스레드(기본 8개, -t 옵션으로 변경)가 가격 변경 기록을 추가하고 정책에 따라 디스크 확정까지 기다릴 때의 초당 기록 수를 측정한다.
+ * always는 호출마다 fsync, group은 동시에 기다리는 기록을 fsync 한 번으로 확정, interval은 fsync를 기다리지 않는다.
+ * 로그 파일은 임시 디렉터리에 만들며, 반복(iteration)이 끝날 때마다 체크포인트처럼 세그먼트를 봉인한 뒤 지워 비운다.
+ * 실행 : ./gradlew jmh -PjmhIncludes=PriceChangeLogBenchmark
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PriceChangeLogBenchmark {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * fsync 정책
+     */
+    @Param({"ALWAYS", "GROUP", "INTERVAL"})
+    public PriceChangeLog.FsyncPolicy policy;
+
+    private Path directory;
+
+    private PriceChangeLog log;
+
+    // 기록 대상 브랜드와 카테고리를 순환시키는 카운터
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("price-change-log-bench");
+        log = new PriceChangeLog(directory.resolve("price-changes.log"), policy, 10);
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkpoint() {
+        log.rotate();
+        log.dropSealedSegment();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        log.close();
+        Files.deleteIfExists(directory.resolve("price-changes.log"));
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * 가격 변경 기록 한 건 추가 후 정책에 따라 디스크 확정 대기
+     */
+    @Benchmark
+    public long appendPriceChange() {
+        int next = sequence.getAndIncrement();
+        long recordSequence = log.append(PriceChangeLog.Change.priceChanged(next % 100_000, CATEGORIES[next % CATEGORIES.length], next));
+        log.awaitDurable(recordSequence);
+        return recordSequence;
+    }
+
+}
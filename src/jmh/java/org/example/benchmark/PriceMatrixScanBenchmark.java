@@ -0,0 +1,128 @@
+package org.example.benchmark;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.example.service.CatalogGenerator;
+import org.example.service.CategoryPriceIndex;
+import org.example.service.PriceMatrix;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 설명 : 전체 카탈로그 스캔 비용 비교 벤치마크 (엔티티 반복문 vs 열 단위 스냅샷)
+ * 같은 생성 브랜드에 대해 Brand 엔티티 목록과 가격 맵을 순회하는 기존 방식과
+ * PriceMatrix의 int 가격 열을 순회하는 방식으로 최저 총액 브랜드와 전체 카테고리 최저가를 계산하고,
+ * 카테고리 최저가는 가격순 목록의 앞에서 읽는 방식(matrixLowestByCategory)과 열 전체 스캔(matrixLowestByCategoryScan)도 비교한다.
+ * 실행 : ./gradlew jmh -PjmhIncludes=PriceMatrixScanBenchmark
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class PriceMatrixScanBenchmark {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * 스캔 대상 브랜드 수
+     */
+    @Param({"100000", "1000000"})
+    public int brandCount;
+
+    // 엔티티 기반 방식의 브랜드 목록 (가격은 HashMap)
+    private List<Brand> brands;
+
+    // 열 단위 스냅샷
+    private PriceMatrix matrix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator generator = BenchmarkCatalog.generator(brandCount);
+        brands = new ArrayList<>(brandCount);
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        for (int i = 0; i < brandCount; i++) {
+            Brand brand = generator.generate(i);
+            brand.setId((long) i + 1);
+            brands.add(brand);
+            editor.append(CategoryPriceIndex.Entry.of(brand));
+        }
+        matrix = editor.build();
+    }
+
+    /**
+     * API 2: 엔티티 목록에서 브랜드별 가격 맵을 합산하여 최저 총액 브랜드 계산
+     */
+    @Benchmark
+    public Brand entityLowestTotal() {
+        Brand lowest = null;
+        int lowestTotal = Integer.MAX_VALUE;
+        for (Brand brand : brands) {
+            int total = 0;
+            for (Integer price : brand.getPrices().values()) {
+                total += price;
+            }
+            if (total < lowestTotal) {
+                lowestTotal = total;
+                lowest = brand;
+            }
+        }
+        return lowest;
+    }
+
+    /**
+     * API 2: 스냅샷의 총액 열을 순회하여 최저 총액 브랜드 계산
+     */
+    @Benchmark
+    public CategoryPriceIndex.Entry matrixLowestTotal() {
+        return matrix.lowestTotal();
+    }
+
+    /**
+     * API 1: 엔티티 목록을 카테고리마다 순회하여 전체 카테고리 최저가 계산
+     */
+    @Benchmark
+    public int[] entityLowestByCategory() {
+        int[] lowest = new int[CATEGORIES.length];
+        for (Category category : CATEGORIES) {
+            int min = Integer.MAX_VALUE;
+            for (Brand brand : brands) {
+                Integer price = brand.getPrices().get(category);
+                if (price != null && price < min) {
+                    min = price;
+                }
+            }
+            lowest[category.ordinal()] = min;
+        }
+        return lowest;
+    }
+
+    /**
+     * API 1: 스냅샷의 카테고리 가격 열을 순회하여 전체 카테고리 최저가와 해당 브랜드 계산 (가격순 목록을 쓰지 않는 기준선)
+     */
+    @Benchmark
+    public CategoryPriceIndex.PriceLevel[] matrixLowestByCategoryScan() {
+        CategoryPriceIndex.PriceLevel[] lowest = new CategoryPriceIndex.PriceLevel[CATEGORIES.length];
+        for (Category category : CATEGORIES) {
+            lowest[category.ordinal()] = matrix.lowestByScan(category);
+        }
+        return lowest;
+    }
+
+    /**
+     * API 1: 스냅샷의 카테고리 가격순 목록 앞에서 같은 가격의 행만 읽어 전체 카테고리 최저가와 해당 브랜드 계산
+     */
+    @Benchmark
+    public CategoryPriceIndex.PriceLevel[] matrixLowestByCategory() {
+        CategoryPriceIndex.PriceLevel[] lowest = new CategoryPriceIndex.PriceLevel[CATEGORIES.length];
+        for (Category category : CATEGORIES) {
+            lowest[category.ordinal()] = matrix.lowest(category);
+        }
+        return lowest;
+    }
+
+}
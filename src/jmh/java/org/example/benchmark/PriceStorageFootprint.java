@@ -0,0 +1,128 @@
+package org.example.benchmark;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.example.service.CatalogGenerator;
+import org.example.service.CategoryPriceIndex;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 클래스 설명 : 브랜드 가격 저장 방식별 메모리 사용량(브랜드당 바이트)을 측정하는 도구
+ * 같은 생성 브랜드(기본 1,000,000개)를 각 방식으로 만들어 힙에 유지한 상태에서 GC 이후 사용 중인 힙의 증가량을 브랜드 수로 나눈다.
+ * - entity-hashmap : 엔티티의 HashMap&lt;Category, Integer&gt; 가격 맵 (박싱된 Integer, 16칸 해시 테이블)
+ * - entry-enummap  : 이전 인덱스 항목 (ID, 이름, 수정 불가 EnumMap 가격, 총액)
+ * - entry-intarray : 현재 인덱스 항목 (ID, 이름, ordinal 기반 int[] 가격, 총액)
+ * 결과는 표로 출력하고 빌드 간 비교를 위해 build/results/jmh/footprint.json에 저장한다.
+ * 실행 : ./gradlew footprint -PfootprintBrandCount=1000000
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public final class PriceStorageFootprint {
+
+    /**
+     * 이전 인덱스 항목 구조 (비교 기준)
+     * @param id 브랜드 ID
+     * @param name 브랜드 이름
+     * @param prices 카테고리별 가격
+     * @param totalPrice 총액
+     */
+    private record EnumMapEntry(Long id, String name, Map<Category, Integer> prices, int totalPrice) {
+    }
+
+    // 보관용 배열의 참조 크기 (힙 32GB 미만의 기본 설정인 압축 참조 기준)
+    private static final int REFERENCE_SIZE = 4;
+
+    private PriceStorageFootprint() {
+    }
+
+    /**
+     * 메서드 설명 : 저장 방식별 브랜드당 바이트를 측정하여 출력하고 JSON으로 저장하는 메서드
+     * @param args [0] 브랜드 수 (기본 1,000,000), [1] 결과 파일 경로
+     * @throws IOException 결과 파일을 쓰는 중 오류가 발생한 경우
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public static void main(String[] args) throws IOException {
+
+        int brandCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path resultsFile = Path.of(args.length > 1 ? args[1] : "build/results/jmh/footprint.json");
+
+        CatalogGenerator generator = BenchmarkCatalog.generator(brandCount);
+
+        Map<String, Function<Integer, Object>> layouts = new LinkedHashMap<>();
+        layouts.put("entity-hashmap", index -> new HashMap<>(generator.generate(index).getPrices()));
+        layouts.put("entry-enummap", index -> toEnumMapEntry(generator.generate(index), index));
+        layouts.put("entry-intarray", index -> toIntArrayEntry(generator.generate(index), index));
+
+        Map<String, Double> bytesPerBrand = new LinkedHashMap<>();
+        for (Map.Entry<String, Function<Integer, Object>> layout : layouts.entrySet()) {
+            bytesPerBrand.put(layout.getKey(), measure(brandCount, layout.getValue()));
+        }
+
+        StringBuilder json = new StringBuilder("{\"brandCount\":").append(brandCount).append(",\"bytesPerBrand\":{");
+        System.out.printf("%-16s %14s%n", "layout", "bytes/brand");
+        String separator = "";
+        for (Map.Entry<String, Double> result : bytesPerBrand.entrySet()) {
+            System.out.printf("%-16s %14.1f%n", result.getKey(), result.getValue());
+            json.append(separator).append('"').append(result.getKey()).append("\":")
+                    .append(String.format(Locale.ROOT, "%.1f", result.getValue()));
+            separator = ",";
+        }
+        json.append("}}\n");
+
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+        Files.writeString(resultsFile, json, StandardCharsets.UTF_8);
+        System.out.println("결과 저장: " + resultsFile.toAbsolutePath());
+
+    }
+
+    // 지정한 방식의 객체를 brandCount개 유지했을 때 늘어난 힙 사용량을 브랜드당 바이트로 반환
+    private static double measure(int brandCount, Function<Integer, Object> factory) {
+        long before = usedHeapAfterGc();
+        Object[] retained = new Object[brandCount];
+        for (int i = 0; i < brandCount; i++) {
+            retained[i] = factory.apply(i);
+        }
+        long after = usedHeapAfterGc();
+
+        // 보관용 배열 자체의 크기(참조 크기 x 개수)는 제외
+        long arrayBytes = (long) brandCount * REFERENCE_SIZE;
+        double result = (double) (after - before - arrayBytes) / brandCount;
+
+        // 측정이 끝날 때까지 객체가 수거되지 않도록 유지
+        if (retained[brandCount - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return result;
+    }
+
+    private static Object toEnumMapEntry(Brand brand, int index) {
+        Map<Category, Integer> prices = new EnumMap<>(Category.class);
+        int totalPrice = 0;
+        for (Map.Entry<Category, Integer> price : brand.getPrices().entrySet()) {
+            prices.put(price.getKey(), price.getValue());
+            totalPrice += price.getValue();
+        }
+        return new EnumMapEntry((long) index + 1, brand.getName(), Collections.unmodifiableMap(prices), totalPrice);
+    }
+
+    private static Object toIntArrayEntry(Brand brand, int index) {
+        brand.setId((long) index + 1);
+        return CategoryPriceIndex.Entry.of(brand);
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+}
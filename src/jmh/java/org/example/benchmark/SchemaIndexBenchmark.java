@@ -0,0 +1,111 @@
+package org.example.benchmark;
+
+import org.example.dto.BrandCategoryPriceDto;
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.example.repository.BrandRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 설명 : 스키마 인덱스 효과 벤치마크
+ * brand_products 행이 1M개(브랜드 125,000개 x 카테고리 8개)인 카탈로그에서 Brand 매핑의 인덱스가 있을 때(withIndexes=true)와
+ * 애플리케이션 시작 후 인덱스를 삭제했을 때(withIndexes=false) 이름 조회와 카테고리별 가격 쿼리의 평균 지연 시간을 비교한다.
+ * 실행 : ./gradlew jmh -PjmhIncludes=SchemaIndexBenchmark
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class SchemaIndexBenchmark {
+
+    /**
+     * 카탈로그의 전체 브랜드 수 (브랜드마다 가격 행 8개)
+     */
+    @Param({"125000"})
+    public int brandCount;
+
+    /**
+     * 인덱스 유지 여부 (false이면 시작 후 이름 유니크 인덱스와 (category, price, brand_id) 인덱스를 삭제)
+     */
+    @Param({"true", "false"})
+    public boolean withIndexes;
+
+    private ConfigurableApplicationContext context;
+
+    private BrandRepository brandRepository;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    // 카탈로그 중간 위치의 브랜드 이름
+    private String brandName;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkCatalog.start(brandCount);
+        brandRepository = context.getBean(BrandRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        brandName = BenchmarkCatalog.brandName(brandCount / 2);
+
+        if (!withIndexes) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.execute("ALTER TABLE brand DROP CONSTRAINT ux_brand_name");
+            jdbcTemplate.execute("DROP INDEX idx_brand_products_category_price");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 가격 업데이트의 브랜드 조회: 이름으로 브랜드와 가격 조회
+     */
+    @Benchmark
+    public Brand findByName() {
+        return brandRepository.findByName(brandName);
+    }
+
+    /**
+     * API 3 (데이터베이스 조회 모드): 한 카테고리의 최저가 브랜드 조회
+     */
+    @Benchmark
+    public List<BrandCategoryPriceDto> findLowestPricesByCategory() {
+        return brandRepository.findLowestPricesByCategory(Category.TOP);
+    }
+
+    /**
+     * API 3 (데이터베이스 조회 모드): 한 카테고리의 최고가 브랜드 조회
+     */
+    @Benchmark
+    public List<BrandCategoryPriceDto> findHighestPricesByCategory() {
+        return brandRepository.findHighestPricesByCategory(Category.TOP);
+    }
+
+    /**
+     * API 1 (데이터베이스 조회 모드): 모든 카테고리의 최저가 브랜드를 집계 쿼리 한 번으로 조회
+     */
+    @Benchmark
+    public List<BrandCategoryPriceDto> findLowestPricesForAllCategories() {
+        return brandRepository.findLowestPricesForAllCategories();
+    }
+
+    /**
+     * 관리 화면 등의 카테고리 가격 오름차순 조회 (브랜드 엔티티와 가격 맵 적재 포함)
+     */
+    @Benchmark
+    public int findAllByCategoryOrderByPriceAsc() {
+        return readOnlyTransaction.execute(status -> brandRepository.findAllByCategoryOrderByPriceAsc(Category.TOP).size());
+    }
+
+}
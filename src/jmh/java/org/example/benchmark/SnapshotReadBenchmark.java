@@ -0,0 +1,100 @@
+package org.example.benchmark;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.example.service.CatalogGenerator;
+import org.example.service.CatalogResponseCache;
+import org.example.service.CategoryPriceIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 설명 : 스냅샷 조회의 동시 처리량 벤치마크
+ * 조회 요청의 공통 경로(카탈로그 버전 확인 후 캐시된 결과 반환)를 여러 스레드에서 동시에 실행하여,
+ * 조회가 잠금 없이 스냅샷 참조만 읽을 때 스레드 수에 따라 처리량이 늘어나는지 측정한다.
+ * - cachedRead : 조회 스레드만 실행 (-t 옵션으로 스레드 수 지정)
+ * - readWhileWriting : 조회 스레드 3개와 가격을 계속 변경하는 쓰기 스레드 1개를 함께 실행
+ * 실행 : ./gradlew jmh -PjmhIncludes=SnapshotReadBenchmark (스레드 수 비교는 JMH의 -t 1, -t 8 등으로 실행)
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class SnapshotReadBenchmark {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * 인덱스에 적재하는 브랜드 수
+     */
+    @Param({"100000"})
+    public int brandCount;
+
+    private CategoryPriceIndex index;
+
+    private CatalogResponseCache cache;
+
+    // 쓰기 스레드가 변경하는 브랜드 목록 (ID는 1부터 순서대로 부여)
+    private List<Brand> brands;
+
+    /**
+     * 쓰기 스레드별 변경 순서
+     */
+    @State(Scope.Thread)
+    public static class WriterState {
+        int sequence;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CatalogGenerator generator = BenchmarkCatalog.generator(brandCount);
+        brands = new ArrayList<>(brandCount);
+        for (int i = 0; i < brandCount; i++) {
+            Brand brand = generator.generate(i);
+            brand.setId((long) i + 1);
+            brands.add(brand);
+        }
+
+        index = new CategoryPriceIndex();
+        index.load(brands, index.getVersion());
+        cache = new CatalogResponseCache(index::getVersion);
+    }
+
+    /**
+     * API 2 조회 경로: 현재 버전의 캐시된 결과 반환 (버전이 바뀐 경우에만 스냅샷에서 다시 계산)
+     */
+    @Benchmark
+    public Object cachedRead() {
+        return cache.get("lowest-total-price-brand", () -> index.snapshot().lowestTotal());
+    }
+
+    /**
+     * 쓰기와 동시에 실행되는 조회: 스냅샷 하나를 가져와 최저 총액 브랜드 조회 (버전이 바뀌면 다시 계산)
+     */
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(3)
+    public Object reader() {
+        CategoryPriceIndex.Snapshot snapshot = index.snapshot();
+        return cache.get("lowest-total-price-brand", snapshot::lowestTotal);
+    }
+
+    /**
+     * 조회와 동시에 실행되는 쓰기: 한 브랜드의 한 카테고리 가격 변경
+     */
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(1)
+    public void writer(WriterState state) {
+        int next = state.sequence++;
+        Brand brand = brands.get(next % brandCount);
+        brand.getPrices().put(CATEGORIES[next % CATEGORIES.length], (10 + (next * 7919) % 991) * 100);
+        index.put(CategoryPriceIndex.Entry.of(brand));
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.example.benchmark;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.example.service.BrandService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 설명 : 가격 변경 지연 기록(write-behind) 벤치마크
+ * 단일 가격 업데이트(API 4)를 요청마다 커밋하는 기본 모드(writeBehind=false)와, 메모리 카탈로그에 바로 반영하고
+ * 데이터베이스에는 묶음 단위로 기록하는 지연 기록 모드(writeBehind=true)의 초당 처리 건수를 비교한다.
+ * 지연 기록 모드의 백그라운드 기록도 측정 중에 같은 CPU에서 실행되며, 반복(iteration)이 끝날 때 남은 변경을 모두 기록한다.
+ * 호출마다 다른 브랜드와 카테고리를 변경하므로 같은 상품의 변경이 합쳐지는 효과는 포함되지 않는다.
+ * 실행 : ./gradlew jmh -PjmhIncludes=WriteBehindBenchmark
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WriteBehindBenchmark {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * 카탈로그의 전체 브랜드 수
+     */
+    @Param({"100000"})
+    public int brandCount;
+
+    /**
+     * 가격 변경 지연 기록 사용 여부
+     */
+    @Param({"false", "true"})
+    public boolean writeBehind;
+
+    private ConfigurableApplicationContext context;
+
+    private BrandService brandService;
+
+    // 업데이트 대상 브랜드와 카테고리를 순환시키는 카운터
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkCatalog.start(brandCount, "musinsa.price-update.write-behind.enabled=" + writeBehind);
+        brandService = context.getBean(BrandService.class);
+        // 메모리 카탈로그 적재
+        brandService.getLowestPriceByCategory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void flush() {
+        brandService.flushPriceUpdates();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * API 4: 단일 브랜드 가격 업데이트 (호출마다 다른 브랜드와 카테고리를 변경)
+     */
+    @Benchmark
+    public Brand updateBrandPrice() {
+        int next = sequence++;
+        return brandService.updateBrandPrice(BenchmarkCatalog.brandName(next % brandCount),
+                CATEGORIES[next % CATEGORIES.length], (10 + (next * 7919) % 991) * 100);
+    }
+
+}
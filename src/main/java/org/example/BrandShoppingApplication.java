@@ -1,10 +1,14 @@
 package org.example;
 
 import org.example.service.BrandService;
+import org.example.service.CatalogGenerator;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 
 /**
  * 클래스 설명 : 무신사 코디 서비스 애플리케이션의 메인 클래스
@@ -53,4 +57,28 @@ public class BrandShoppingApplication {
         };
     }
 
-}
\ No newline at end of file
+    /**
+     * 규모 테스트용 가상 카탈로그 적재를 위한 CommandLineRunner 빈
+     * synthetic 프로파일이 활성화된 경우에만 등록되며, musinsa.generator.* 속성으로 설정한
+     * 브랜드 수와 가격 분포의 카탈로그를 CatalogGenerator로 생성하여 배치 단위로 저장한다.
+     * 기본 데이터(브랜드 A~I)를 먼저 적재한 뒤 가상 브랜드를 추가하므로 실행 순서와 관계없이 같은 카탈로그가 만들어진다.
+     * 실행 예: ./gradlew bootRun --args='--spring.profiles.active=synthetic --musinsa.generator.brand-count=1000000'
+     * @param brandService 브랜드 관련 비즈니스 로직을 처리하는 서비스 객체
+     * @param environment musinsa.generator.* 속성을 읽기 위한 환경 객체
+     * @return CommandLineRunner 구현체 - 애플리케이션 시작 시 실행될 람다 함수
+     */
+    @Bean
+    @Profile("synthetic")
+    public CommandLineRunner syntheticCatalog(BrandService brandService, Environment environment) {
+        return args -> {
+            // 기본 데이터가 없으면 먼저 적재 (데이터베이스가 비어 있을 경우에만 추가됨)
+            brandService.initializeBrands();
+
+            CatalogGenerator.Settings settings = Binder.get(environment)
+                    .bind("musinsa.generator", CatalogGenerator.Settings.class)
+                    .orElseGet(CatalogGenerator.Settings::new);
+            new CatalogGenerator(settings).loadInto(brandService);
+        };
+    }
+
+}
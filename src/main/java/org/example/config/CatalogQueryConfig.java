@@ -0,0 +1,51 @@
+package org.example.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 클래스 설명 : 데이터베이스 조회 모드에서 서로 독립적인 쿼리(API 3의 최저가/최고가 쿼리)를 병렬로 실행할 스레드 풀을 설정하는 클래스
+ * musinsa.catalog.query-parallelism이 2 이상일 때만 스레드 풀을 등록하며, 1(기본값)이면 요청 스레드에서 순서대로 실행한다.
+ * 풀 크기와 대기열이 모두 제한되어 있고, 대기열이 가득 차면 요청 스레드가 직접 실행하므로(CallerRunsPolicy)
+ * 동시에 실행되는 쿼리 수가 풀 크기를 넘지 않는다. 풀 크기는 커넥션 풀 크기보다 작게 설정해야 한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@Configuration
+public class CatalogQueryConfig {
+
+    /**
+     * 메서드 설명 : 데이터베이스 조회 모드의 쿼리를 실행할 고정 크기 스레드 풀을 등록하는 메서드
+     * @param parallelism 동시에 실행할 최대 쿼리 수 (스레드 수)
+     * @param queueCapacity 실행을 기다리는 쿼리의 최대 수
+     * @return 쿼리 실행용 스레드 풀
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnExpression("${musinsa.catalog.query-parallelism:1} > 1")
+    public ExecutorService categoryQueryExecutor(
+            @Value("${musinsa.catalog.query-parallelism:1}") int parallelism,
+            @Value("${musinsa.catalog.query-queue-capacity:256}") int queueCapacity) {
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "category-query-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        // 조회가 없는 동안에는 스레드를 유지하지 않음
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.example.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 클래스 설명 : 지연 시간과 쿼리 수 지표 수집을 설정하는 클래스
+ * 컨트롤러 엔드포인트는 Spring Boot가 기록하는 http.server.requests 타이머로 측정하고(백분위 설정은 application.properties),
+ * 서비스 메서드는 @Timed와 TimedAspect로, 요청별 데이터베이스 쿼리 수는 QueryCountInspector와 QueryCountFilter로 측정한다.
+ * 수집된 지표는 /actuator/metrics 엔드포인트에서 조회할 수 있다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 메서드 설명 : @Timed 어노테이션이 붙은 빈의 메서드 실행 시간을 기록하는 Aspect를 등록하는 메서드
+     * @param meterRegistry 지표를 등록할 레지스트리
+     * @return TimedAspect 객체
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * 메서드 설명 : Hibernate가 실행하는 SQL 문을 세는 StatementInspector를 등록하는 메서드
+     * @return Hibernate 설정에 QueryCountInspector를 추가하는 커스터마이저
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", new QueryCountInspector());
+    }
+
+    /**
+     * 메서드 설명 : 요청별 쿼리 수를 기록하는 필터를 등록하는 메서드
+     * @param meterRegistry 지표를 등록할 레지스트리
+     * @return 모든 요청에 적용되는 QueryCountFilter 등록 정보
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new QueryCountFilter(meterRegistry));
+    }
+
+}
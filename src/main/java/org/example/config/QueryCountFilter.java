@@ -0,0 +1,69 @@
+package org.example.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 클래스 설명 : 요청마다 실행된 데이터베이스 쿼리 수를 기록하는 필터
+ * 요청 시작 시 QueryCountInspector를 초기화하고, 응답 후 쿼리 수를 http.server.requests.queries 분포 지표에 기록한다.
+ * 지표는 http.server.requests와 같은 method, uri(매핑된 URI 패턴) 태그를 가지므로 엔드포인트별 지연 시간과 함께 비교할 수 있다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    /**
+     * 요청별 쿼리 수 지표 이름
+     */
+    public static final String METRIC_NAME = "http.server.requests.queries";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * QueryCountFilter 생성자
+     * @param meterRegistry 지표를 등록할 레지스트리
+     */
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 메서드 설명 : 요청을 처리하고 처리 중 실행된 쿼리 수를 기록하는 메서드
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @param filterChain 다음 필터 체인
+     * @throws ServletException 요청 처리 중 서블릿 오류가 발생한 경우
+     * @throws IOException 요청 처리 중 입출력 오류가 발생한 경우
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        QueryCountInspector.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 매핑되지 않은 요청(정적 리소스, 404 등)은 UNKNOWN으로 묶어 태그 수가 늘어나지 않도록 함
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("요청당 실행된 데이터베이스 쿼리 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(QueryCountInspector.count());
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.example.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 클래스 설명 : 현재 스레드에서 실행된 SQL 문의 수를 세는 Hibernate StatementInspector
+ * Hibernate가 JDBC로 보내는 모든 SQL 문(조회, 변경, 배치 항목)을 준비하기 직전에 호출되며, SQL은 그대로 반환한다.
+ * 요청 단위의 쿼리 수(QueryCountFilter)와 테스트의 쿼리 예산 검증에서 reset()/count()로 사용한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    // 스레드별 SQL 문 수 (요청 처리 스레드마다 독립적으로 계산)
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * 메서드 설명 : SQL 문 실행 직전에 호출되어 현재 스레드의 쿼리 수를 증가시키는 메서드
+     * @param sql 실행할 SQL 문
+     * @return 변경하지 않은 SQL 문
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 메서드 설명 : 현재 스레드의 쿼리 수를 0으로 초기화하는 메서드
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * 메서드 설명 : 마지막 초기화 이후 현재 스레드에서 실행된 쿼리 수를 반환하는 메서드
+     * @return 쿼리 수
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public static long count() {
+        return COUNT.get()[0];
+    }
+
+}
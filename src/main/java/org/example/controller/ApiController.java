@@ -3,21 +3,33 @@ package org.example.controller;
 import org.example.dto.*;
 import org.example.model.Brand;
 import org.example.model.Category;
+import org.example.service.BrandImportService;
 import org.example.service.BrandService;
+import org.example.service.CatalogResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
+import java.security.SecureRandom;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * 클래스 설명 : 무신사 코디 서비스의 REST API를 처리하는 컨트롤러
  * 이 클래스는 다음 4가지 API를 제공합니다:
  * 1. 카테고리별 최저가격 브랜드와 상품가격, 총액을 조회하는 API
  * 2. 단일 브랜드로 모든 카테고리 상품을 구매할 때 최저가격인 브랜드와 카테고리별 가격, 총액을 조회하는 API
- * 3. 카테고리 이름으로 최저, 최고 가격 브랜드와 상품 가격을 조회하는 API
- * 4. 브랜드 및 상품을 추가/업데이트/삭제하는 API
+ * 3. 카테고리 이름으로 최저, 최고 가격 브랜드와 상품 가격을 조회하는 API (가격순 상위 브랜드 페이지 조회 포함)
+ * 4. 브랜드 및 상품을 추가/업데이트/삭제하는 API (일괄 가격 업데이트, 대량 등록 포함)
  * 작성자 : sys1021
  * 작성일 : 2025.03.02
  */
@@ -29,51 +41,53 @@ public class ApiController {
     @Autowired
     private BrandService brandService;
 
+    // 브랜드 대량 등록을 처리하는 서비스 객체
+    @Autowired
+    private BrandImportService brandImportService;
+
+    // 조회 결과를 JSON 바이트로 직렬화하는 ObjectMapper
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 사전 직렬화 모드 사용 여부
+     * 활성화하면 조회 API 응답을 카탈로그 버전마다 한 번만 UTF-8 JSON 바이트로 직렬화하여 그대로 전송하고,
+     * 카탈로그 버전으로 만든 강한 ETag를 함께 제공하여 변경이 없으면 304 Not Modified로 응답한다.
+     * 데이터베이스 조회 모드에서는 사용하지 않는다(usesPrecomputedJson).
+     */
+    @Value("${musinsa.api.precomputed-json.enabled:false}")
+    private boolean precomputedJsonEnabled;
+
+    /**
+     * ETag 앞에 붙이는 인스턴스 식별값 (시작할 때마다 무작위로 생성)
+     * 카탈로그 버전은 프로세스 안에서만 증가하는 값이라 재시작하거나 다른 인스턴스로 요청이 가면 같은 버전이 다른 내용을 가리킬 수 있으므로,
+     * 다른 프로세스에서 발급된 ETag가 이 프로세스의 ETag와 일치하지 않도록 한다.
+     */
+    private final String eTagEpoch = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+
+    // 카탈로그 버전별로 직렬화된 응답 바이트 캐시
+    private final CatalogResponseCache jsonBodyCache = new CatalogResponseCache(() -> brandService.getCatalogVersion());
+
     /**
      * 메서드 설명 : API 1 카테고리별 최저가격 브랜드와 상품가격, 총액을 조회하는 API
      * 모든 카테고리(8개)에 대해 최저가를 제공하는 브랜드와 가격 정보를 조회하고,
      * 각 카테고리의 최저가 합산 총액을 계산하여 반환합니다.
      * 같은 최저가격을 제공하는 브랜드가 여러 개일 경우 모두 표시합니다.
+     * @param webRequest 사전 직렬화 모드에서 조건부 요청(If-None-Match) 확인에 사용하는 요청 객체
      * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 조회 결과 또는 오류 메시지를 반환
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
     @GetMapping("/lowest-price-by-category")
-    public ResponseEntity<?> getLowestPriceByCategory() {
+    public ResponseEntity<?> getLowestPriceByCategory(WebRequest webRequest) {
 
         try {
-            // 서비스 계층을 통해 카테고리별 최저가격 정보를 조회
-            Map<Category, Map<String, Object>> lowestPriceByCategory = brandService.getLowestPriceByCategory();
-
-            List<CategoryPriceDto> categories = new ArrayList<>();
-            int totalPrice = 0;
-
-            // 각 카테고리의 최저가격 정보를 DTO로 변환하고 총액 계산
-            for (Category category : Category.values()) {
-                Map<String, Object> categoryData = lowestPriceByCategory.get(category);
-                if (categoryData != null) {
-                    String brand = (String) categoryData.get("brand");
-                    int price = (int) categoryData.get("price");
-
-                    // DTO 생성 및 리스트에 추가
-                    categories.add(CategoryPriceDto.builder()
-                            .category(category.getDisplayName())
-                            .brand(brand)
-                            .price(String.format("%,d", price))  // 천 단위 구분자(콤마) 적용
-                            .build());
-
-                    // 총액 누적
-                    totalPrice += price;
-                }
+            // 사전 직렬화 모드에서는 카탈로그 버전별로 직렬화된 바이트를 전송
+            if (usesPrecomputedJson()) {
+                return precomputedJson("lowest-price-by-category", webRequest, this::buildLowestPriceResponse);
             }
 
-            // 응답 DTO 생성
-            LowestPriceResponseDto response = LowestPriceResponseDto.builder()
-                    .categories(categories)
-                    .totalPrice(String.format("%,d", totalPrice))  // 천 단위 구분자(콤마) 적용
-                    .build();
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(buildLowestPriceResponse());
         } catch (Exception e) {
             // 오류 발생 시 오류 응답 생성
             Map<String, String> errorResponse = new HashMap<>();
@@ -85,18 +99,66 @@ public class ApiController {
 
     }
 
+    /**
+     * 메서드 설명 : API 1 응답 DTO를 생성하는 내부 메서드
+     * 서비스 계층의 카테고리별 최저가격 정보를 DTO로 변환하고 총액을 계산한다.
+     * @return 카테고리별 최저가격 응답 DTO
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private LowestPriceResponseDto buildLowestPriceResponse() {
+
+        // 서비스 계층을 통해 카테고리별 최저가격 정보를 조회
+        Map<Category, Map<String, Object>> lowestPriceByCategory = brandService.getLowestPriceByCategory();
+
+        List<CategoryPriceDto> categories = new ArrayList<>();
+        int totalPrice = 0;
+
+        // 각 카테고리의 최저가격 정보를 DTO로 변환하고 총액 계산
+        for (Category category : Category.values()) {
+            Map<String, Object> categoryData = lowestPriceByCategory.get(category);
+            if (categoryData != null) {
+                String brand = (String) categoryData.get("brand");
+                int price = (int) categoryData.get("price");
+
+                // DTO 생성 및 리스트에 추가
+                categories.add(CategoryPriceDto.builder()
+                        .category(category.getDisplayName())
+                        .brand(brand)
+                        .price(String.format("%,d", price))  // 천 단위 구분자(콤마) 적용
+                        .build());
+
+                // 총액 누적
+                totalPrice += price;
+            }
+        }
+
+        // 응답 DTO 생성
+        return LowestPriceResponseDto.builder()
+                .categories(categories)
+                .totalPrice(String.format("%,d", totalPrice))  // 천 단위 구분자(콤마) 적용
+                .build();
+
+    }
+
     /**
      * 메서드 설명 : API 2 단일 브랜드로 모든 카테고리 상품을 구매할 때 최저가격에 판매하는 브랜드와 카테고리의 상품가격, 총액을 조회하는 API
      * 단일 브랜드에서 모든 카테고리의 상품을 구매할 때 총액이 가장 저렴한 브랜드를 찾고,
      * 해당 브랜드의 각 카테고리별 가격과 총액을 반환합니다.
+     * @param webRequest 사전 직렬화 모드에서 조건부 요청(If-None-Match) 확인에 사용하는 요청 객체
      * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 조회 결과 또는 오류 메시지를 반환
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
     @GetMapping("/lowest-total-price-brand")
-    public ResponseEntity<?> getLowestTotalPriceBrand() {
+    public ResponseEntity<?> getLowestTotalPriceBrand(WebRequest webRequest) {
 
         try {
+            // 사전 직렬화 모드에서는 카탈로그 버전별로 직렬화된 바이트를 전송
+            if (usesPrecomputedJson()) {
+                return precomputedJson("lowest-total-price-brand", webRequest, brandService::getLowestTotalPriceBrand);
+            }
+
             // 서비스 계층을 통해 최저 총액 브랜드 정보를 조회
             Map<String, Object> lowestTotalPriceBrand = brandService.getLowestTotalPriceBrand();
 
@@ -117,16 +179,24 @@ public class ApiController {
      * 지정된 카테고리에서 최저가격과 최고가격을 제공하는 브랜드와 가격 정보를 조회합니다.
      * 같은 최저/최고 가격을 제공하는 브랜드가 여러 개일 경우 모두 표시합니다.
      * @param categoryName 조회할 카테고리 이름(표시명)
+     * @param webRequest 사전 직렬화 모드에서 조건부 요청(If-None-Match) 확인에 사용하는 요청 객체
      * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 조회 결과 또는 오류 메시지를 반환
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
     @GetMapping("/min-max-price-by-category")
-    public ResponseEntity<?> getMinMaxPriceByCategory(@RequestParam String categoryName) {
+    public ResponseEntity<?> getMinMaxPriceByCategory(@RequestParam String categoryName, WebRequest webRequest) {
 
         try {
             // 카테고리 이름을 Category 열거형으로 변환
             Category category = Category.fromDisplayName(categoryName);
+
+            // 사전 직렬화 모드에서는 카탈로그 버전별로 직렬화된 바이트를 전송
+            if (usesPrecomputedJson()) {
+                return precomputedJson("min-max-price-by-category:" + category.name(), webRequest,
+                        () -> brandService.getMinMaxPriceByCategory(category));
+            }
+
             // 서비스 계층을 통해 해당 카테고리의 최저/최고 가격 정보를 조회
             Map<String, Object> minMaxPrice = brandService.getMinMaxPriceByCategory(category);
 
@@ -149,9 +219,52 @@ public class ApiController {
 
     }
 
+    /**
+     * 메서드 설명 : API 3-1 카테고리별 가격순 상위 브랜드 조회 API
+     * 지정한 카테고리에서 가장 싼(order=asc) 또는 가장 비싼(order=desc) 브랜드를 k개씩 가격순으로 조회합니다.
+     * API 3이 최저가/최고가와 같은 가격의 브랜드만 반환하는 것과 달리, 그 다음 순위의 브랜드까지 이어서 조회할 수 있습니다.
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 다음 페이지를 조회하며, nextCursor가 null이면 마지막 페이지입니다.
+     * @param category 카테고리 표시 이름(예: 상의) 또는 영문 이름(예: TOP)
+     * @param k 페이지 크기 (기본값 20)
+     * @param order 정렬 방향 (asc: 가격 오름차순, desc: 가격 내림차순, 기본값 asc)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 가격순 브랜드 페이지 또는 오류 메시지를 반환
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @GetMapping("/categories/{category}/top")
+    public ResponseEntity<?> getTopBrandsByCategory(@PathVariable String category,
+                                                    @RequestParam(defaultValue = "20") int k,
+                                                    @RequestParam(defaultValue = "asc") String order,
+                                                    @RequestParam(required = false) String cursor) {
+
+        try {
+            // 서비스 계층을 통해 카테고리의 가격순 브랜드 페이지 조회
+            CategoryTopBrandsDto page = brandService.getTopBrandsByCategory(toCategory(category), order, k, cursor);
+
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            // 유효하지 않은 카테고리 또는 페이지 파라미터일 경우 오류 응답 생성
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "잘못된 조회 파라미터");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (Exception e) {
+            // 기타 오류 발생 시 오류 응답 생성
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "카테고리별 가격순 브랜드 조회 실패");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+
+    }
+
     /**
      * 메서드 설명 : API 4-1 브랜드 생성 API
      * 새로운 브랜드와 해당 브랜드의 카테고리별 가격 정보를 등록합니다.
+     * 브랜드 이름이 비어 있으면 400 Bad Request로 응답합니다.
      * @param brandDto 생성할 브랜드 정보(이름, 카테고리별 가격)
      * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 생성 결과 또는 오류 메시지를 반환
      * 작성자 : sys1021
@@ -176,6 +289,20 @@ public class ApiController {
             response.put("brandId", savedBrand.getId().toString());
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (DataIntegrityViolationException e) {
+            // 이미 등록된 브랜드와 이름이 같은 경우 (ux_brand_name)
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "브랜드 이름 중복");
+            errorResponse.put("message", brandDto.getName() + " 브랜드가 이미 존재합니다");
+
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (IllegalArgumentException e) {
+            // 브랜드 이름이 비어 있는 경우
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "잘못된 브랜드 정보");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         } catch (Exception e) {
             // 오류 발생 시 오류 응답 생성
             Map<String, String> errorResponse = new HashMap<>();
@@ -190,8 +317,10 @@ public class ApiController {
     /**
      * 메서드 설명 : API 4-2 브랜드 업데이트 API
      * 기존 브랜드의 정보(이름, 카테고리별 가격)를 수정합니다.
+     * 요청의 version(조회 시점의 브랜드 버전) 이후 다른 변경이 먼저 저장되었으면 덮어쓰지 않고 409 Conflict로 응답합니다.
+     * 브랜드 이름이 비어 있으면 400 Bad Request로 응답합니다.
      * @param id 수정할 브랜드의 ID
-     * @param brandDto 수정할 브랜드 정보(이름, 카테고리별 가격)
+     * @param brandDto 수정할 브랜드 정보(이름, 카테고리별 가격, 조회한 버전)
      * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 수정 결과 또는 오류 메시지를 반환
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
@@ -212,9 +341,12 @@ public class ApiController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
             }
 
-            // 브랜드 정보 업데이트
+            // 브랜드 정보 업데이트 (요청에 버전이 있으면 그 버전을 기준으로 충돌 검사)
             existingBrand.setName(brandDto.getName());
             existingBrand.setPrices(brandDto.getPrices());
+            if (brandDto.getVersion() != null) {
+                existingBrand.setVersion(brandDto.getVersion());
+            }
 
             // 서비스 계층을 통해 수정된 브랜드 저장
             brandService.saveBrand(existingBrand);
@@ -225,6 +357,27 @@ public class ApiController {
             response.put("message", "브랜드가 성공적으로 업데이트되었습니다");
 
             return ResponseEntity.ok(response);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 브랜드와 이름이 같은 경우 (ux_brand_name)
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "브랜드 이름 중복");
+            errorResponse.put("message", brandDto.getName() + " 브랜드가 이미 존재합니다");
+
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (OptimisticLockingFailureException e) {
+            // 조회 이후 다른 변경이 먼저 저장된 경우 (낙관적 잠금 충돌)
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "브랜드 업데이트 충돌");
+            errorResponse.put("message", "다른 변경이 먼저 저장되었습니다. 브랜드를 다시 조회한 뒤 수정해 주세요");
+
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (IllegalArgumentException e) {
+            // 브랜드 이름이 비어 있는 경우
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "잘못된 브랜드 정보");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         } catch (Exception e) {
             // 오류 발생 시 오류 응답 생성
             Map<String, String> errorResponse = new HashMap<>();
@@ -317,6 +470,13 @@ public class ApiController {
             errorResponse.put("message", e.getMessage());
 
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (OptimisticLockingFailureException e) {
+            // 같은 브랜드의 동시 변경과 재시도 횟수만큼 충돌한 경우 (클라이언트가 다시 요청할 수 있음)
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "브랜드 가격 업데이트 충돌");
+            errorResponse.put("message", "같은 브랜드의 다른 변경과 충돌했습니다. 잠시 후 다시 시도해 주세요");
+
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
         } catch (Exception e) {
             // 기타 오류 발생 시 오류 응답 생성
             Map<String, String> errorResponse = new HashMap<>();
@@ -328,4 +488,227 @@ public class ApiController {
 
     }
 
+    /**
+     * 메서드 설명 : API 4-5 브랜드 가격 일괄 업데이트 API
+     * 여러 브랜드의 카테고리 상품 가격을 하나의 요청과 하나의 트랜잭션으로 업데이트합니다.
+     * 야간 가격 조정 작업처럼 대량의 가격 변경을 보낼 때 사용하며, 항목별 처리 결과를 요청 순서대로 반환합니다.
+     * 존재하지 않는 브랜드나 잘못된 카테고리 이름은 해당 항목만 실패로 표시됩니다.
+     * @param updates 업데이트할 가격 정보 목록(브랜드명, 카테고리명, 가격)
+     * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 성공/실패 건수와 항목별 결과 또는 오류 메시지를 반환
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @PutMapping("/brand/prices")
+    public ResponseEntity<?> updateBrandPrices(@RequestBody List<BrandPriceUpdateDto> updates) {
+
+        try {
+            // 서비스 계층을 통해 브랜드 가격 일괄 업데이트
+            List<BrandPriceUpdateResultDto> results = brandService.updateBrandPrices(updates);
+
+            long successCount = results.stream().filter(result -> "success".equals(result.getStatus())).count();
+
+            // 응답 생성 (LinkedHashMap으로 필드 순서 유지)
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", "success");
+            response.put("successCount", successCount);
+            response.put("failureCount", results.size() - successCount);
+            response.put("results", results);
+
+            return ResponseEntity.ok(response);
+        } catch (OptimisticLockingFailureException e) {
+            // 같은 브랜드의 동시 변경과 재시도 횟수만큼 충돌한 경우 (트랜잭션이 롤백되어 어떤 항목도 반영되지 않음)
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "브랜드 가격 일괄 업데이트 충돌");
+            errorResponse.put("message", "같은 브랜드의 다른 변경과 충돌했습니다. 잠시 후 다시 시도해 주세요");
+
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (Exception e) {
+            // 오류 발생 시 오류 응답 생성 (트랜잭션이 롤백되어 어떤 항목도 반영되지 않음)
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "브랜드 가격 일괄 업데이트 실패");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+
+    }
+
+    /**
+     * 메서드 설명 : API 4-6 브랜드 대량 등록 API
+     * NDJSON(application/x-ndjson) 또는 CSV(text/csv) 본문을 스트리밍으로 읽어 배치 단위로 브랜드를 등록합니다.
+     * 본문 전체를 메모리에 올리지 않으며, 배치마다 하나의 트랜잭션으로 INSERT 문을 묶어서 저장합니다.
+     * 형식이 잘못된 행은 건너뛰고, 결과에 등록/거부 건수와 초당 처리 행 수를 포함합니다.
+     * @param contentType 본문 형식 (text/csv이면 CSV, 그 외에는 NDJSON)
+     * @param batchSize 한 트랜잭션에서 저장할 브랜드 수 (생략 시 musinsa.import.batch-size)
+     * @param body 요청 본문 스트림
+     * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 등록 결과 또는 오류 메시지를 반환
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @PostMapping(value = "/brands/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<?> importBrands(@RequestHeader("Content-Type") String contentType,
+                                          @RequestParam(required = false) Integer batchSize,
+                                          InputStream body) {
+
+        try {
+            BrandImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                    ? BrandImportService.Format.CSV
+                    : BrandImportService.Format.NDJSON;
+
+            // 서비스 계층을 통해 스트리밍 등록
+            BrandImportResultDto result = brandImportService.importBrands(body, format, batchSize);
+
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 CSV 헤더일 경우 오류 응답 생성
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "잘못된 등록 형식");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (Exception e) {
+            // 기타 오류 발생 시 오류 응답 생성 (이미 커밋된 배치는 유지됨)
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "브랜드 대량 등록 실패");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+
+    }
+
+    /**
+     * 메서드 설명 : API 4-7 가격 변경 기록 API (flush and wait)
+     * 지연 기록(write-behind) 모드에서 아직 데이터베이스에 기록되지 않은 가격 변경을 모두 기록하고, 기록이 끝난 뒤 응답합니다.
+     * 배포 전이나 데이터베이스 조회 모드의 다른 인스턴스가 변경을 바로 읽어야 할 때 사용하며, 지연 기록을 사용하지 않으면 0건을 반환합니다.
+     * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 기록한 가격 변경 수 또는 오류 메시지를 반환
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @PostMapping("/brand/prices/flush")
+    public ResponseEntity<?> flushPriceUpdates() {
+
+        try {
+            int flushedCount = brandService.flushPriceUpdates();
+
+            // 응답 생성 (LinkedHashMap으로 필드 순서 유지)
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", "success");
+            response.put("flushedCount", flushedCount);
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            // 기록 실패 시 오류 응답 생성 (기록하지 못한 변경은 다음 기록 때 재시도됨)
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "가격 변경 기록 실패");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+
+    }
+
+    /**
+     * 메서드 설명 : API 4-8 브랜드 목록 페이지 조회 API (keyset 페이지)
+     * 브랜드 ID 순으로 after보다 큰 ID의 브랜드를 최대 limit개 조회합니다.
+     * 응답의 nextAfter를 다음 요청의 after로 전달하면 다음 페이지를 조회하며, nextAfter가 null이면 마지막 페이지입니다.
+     * OFFSET을 사용하지 않으므로 브랜드 수가 많아도 페이지마다 조회 비용과 메모리 사용량이 일정합니다.
+     * @param after 이전 페이지의 마지막 브랜드 ID (기본값 0: 첫 페이지)
+     * @param limit 페이지 크기 (기본값 100)
+     * @return ResponseEntity 객체로 HTTP 상태 코드와 함께 브랜드 목록 페이지 또는 오류 메시지를 반환
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @GetMapping("/brands")
+    public ResponseEntity<?> getBrands(@RequestParam(defaultValue = "0") long after,
+                                       @RequestParam(defaultValue = "100") int limit) {
+
+        try {
+            // 서비스 계층을 통해 브랜드 목록 페이지 조회
+            BrandPageDto page = brandService.getBrandPage(after, limit);
+
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            // 유효하지 않은 페이지 파라미터일 경우 오류 응답 생성
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "잘못된 페이지 파라미터");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (Exception e) {
+            // 기타 오류 발생 시 오류 응답 생성
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "브랜드 목록 조회 실패");
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+
+    }
+
+    /**
+     * 메서드 설명 : 경로의 카테고리 이름을 Category 열거형으로 변환하는 내부 메서드
+     * 영문 이름(대소문자 무관)을 먼저 찾고, 없으면 표시 이름(한글)으로 찾는다.
+     * @param name 카테고리 영문 이름 또는 표시 이름
+     * @return 일치하는 카테고리
+     * @throws IllegalArgumentException 일치하는 카테고리가 없을 경우
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private static Category toCategory(String name) {
+        for (Category category : Category.values()) {
+            if (category.name().equalsIgnoreCase(name)) {
+                return category;
+            }
+        }
+        return Category.fromDisplayName(name);
+    }
+
+    /**
+     * 메서드 설명 : 조회 API 응답을 사전 직렬화 모드로 전송할지 확인하는 내부 메서드
+     * 카탈로그 버전은 이 인스턴스의 메모리 인덱스 버전이므로, 데이터베이스 조회 모드에서는 다른 인스턴스가 데이터베이스를 변경해도 바뀌지 않고
+     * 버전을 읽는 것만으로 전체 카탈로그를 메모리에 적재하게 된다. 따라서 데이터베이스 조회 모드에서는 설정과 관계없이
+     * 직렬화 캐시와 ETag 없이 요청마다 조회 결과를 응답한다.
+     * @return 사전 직렬화 모드가 설정되어 있고 메모리 조회 모드이면 true
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private boolean usesPrecomputedJson() {
+        return precomputedJsonEnabled && !brandService.isDatabaseReadMode();
+    }
+
+    /**
+     * 메서드 설명 : 사전 직렬화 모드의 조회 응답을 생성하는 내부 메서드
+     * 인스턴스 식별값과 현재 카탈로그 버전으로 강한 ETag를 만들고, 요청의 If-None-Match와 일치하면 본문 없이 304 Not Modified로 응답한다.
+     * 그렇지 않으면 카탈로그 버전별로 한 번만 직렬화된 UTF-8 JSON 바이트를 그대로 전송한다.
+     * @param key 엔드포인트와 파라미터로 구성된 캐시 키
+     * @param webRequest 조건부 요청 헤더 확인을 위한 요청 객체
+     * @param responseSupplier 직렬화할 응답 객체를 생성하는 함수
+     * @return ETag가 포함된 JSON 바이트 응답 (변경이 없으면 null, 이때 304 응답이 이미 설정됨)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private ResponseEntity<?> precomputedJson(String key, WebRequest webRequest, Supplier<?> responseSupplier) {
+
+        // 인스턴스 식별값과 카탈로그 버전으로 강한 ETag 생성 (재시작 전이나 다른 인스턴스의 ETag와 구분)
+        String eTag = "\"" + eTagEpoch + "-" + brandService.getCatalogVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        byte[] body = jsonBodyCache.get(key, () -> {
+            try {
+                return objectMapper.writeValueAsBytes(responseSupplier.get());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("응답 직렬화 실패", e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+
+    }
+
 }
\ No newline at end of file
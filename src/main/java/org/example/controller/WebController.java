@@ -1,5 +1,6 @@
 package org.example.controller;
 
+import org.example.dto.BrandPageDto;
 import org.example.model.Brand;
 import org.example.model.Category;
 import org.example.service.BrandService;
@@ -7,6 +8,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -226,25 +229,30 @@ public class WebController {
 
     /**
      * 메서드 설명 : API 4: 브랜드 관리 페이지를 제공하는 메서드
-     * 모든 브랜드 목록과 카테고리 정보를 조회하여 브랜드 관리 페이지에 표시한다.
+     * 브랜드 목록을 브랜드 ID 순으로 한 페이지씩(keyset 페이지) 조회하여 카테고리 정보와 함께 브랜드 관리 페이지에 표시한다.
+     * 전체 브랜드를 한 번에 읽지 않으므로 브랜드 수가 많아도 페이지마다 조회 비용과 메모리 사용량이 일정하다.
+     * @param after 이전 페이지의 마지막 브랜드 ID (기본값 0: 첫 페이지)
+     * @param limit 페이지 크기 (기본값 50)
      * @param model 뷰에 데이터를 전달하기 위한 Spring의 Model 객체
      * @return 브랜드 관리 페이지 템플릿 이름 "manage-brands" 또는 오류 발생 시 "error"
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
     @GetMapping("/manage-brands")
-    public String manageBrands(Model model) {
+    public String manageBrands(@RequestParam(defaultValue = "0") long after,
+                               @RequestParam(defaultValue = "50") int limit, Model model) {
 
         try {
-            // 모든 브랜드 목록 조회
-            List<Brand> brands = brandService.getAllBrands();
+            // 브랜드 목록 페이지 조회
+            BrandPageDto page = brandService.getBrandPage(after, limit);
             // 카테고리 이름 목록 생성
             List<String> categoryNames = Arrays.stream(Category.values())
                     .map(Category::getDisplayName)
                     .collect(Collectors.toList());
 
             // 모델에 데이터 추가
-            model.addAttribute("brands", brands);
+            model.addAttribute("brands", page.getBrands());
+            model.addAttribute("page", page);
             model.addAttribute("categoryNames", categoryNames);
             model.addAttribute("categories", Category.values());
 
@@ -317,6 +325,11 @@ public class WebController {
 
             // 브랜드 관리 페이지로 리다이렉트
             return "redirect:/manage-brands";
+        } catch (DataIntegrityViolationException e) {
+            // 다른 브랜드와 이름이 같은 경우 (ux_brand_name)
+            model.addAttribute("error", "브랜드 추가 실패: " + brandName + " 브랜드가 이미 존재합니다");
+
+            return "error";
         } catch (Exception e) {
             // 오류 로깅 및 오류 페이지로 리다이렉트
             logger.error("브랜드 추가 처리 오류: ", e);
@@ -367,7 +380,9 @@ public class WebController {
     /**
      * 메서드 설명 : 브랜드 수정 요청을 처리하는 메서드
      * 폼에서 제출된 데이터를 기반으로 기존 브랜드 정보를 수정한다.
+     * 수정 폼을 조회한 이후 다른 변경이 먼저 저장되었으면(폼의 숨긴 필드 version과 현재 버전이 다르면) 덮어쓰지 않고 오류 페이지를 표시한다.
      * @param id 수정할 브랜드의 ID
+     * @param version 수정 폼을 조회했을 때의 브랜드 버전 (없으면 수정 요청을 처리하면서 조회한 버전으로 검사)
      * @param brandName 수정할 브랜드 이름
      * @param formData 폼에서 제출된 카테고리별 가격 정보를 포함한 맵
      * @param model 뷰에 데이터를 전달하기 위한 Spring의 Model 객체
@@ -376,7 +391,8 @@ public class WebController {
      * 작성일 : 2025.03.02
      */
     @PostMapping("/edit-brand")
-    public String editBrand(@RequestParam Long id, @RequestParam String brandName, @RequestParam Map<String, String> formData, Model model) {
+    public String editBrand(@RequestParam Long id, @RequestParam(required = false) Long version, @RequestParam String brandName,
+                            @RequestParam Map<String, String> formData, Model model) {
 
         try {
             // ID로 브랜드 조회
@@ -387,8 +403,11 @@ public class WebController {
                 return "error";
             }
 
-            // 브랜드 이름 업데이트
+            // 브랜드 이름 업데이트 (폼을 조회했을 때의 버전을 기준으로 충돌 검사)
             brand.setName(brandName);
+            if (version != null) {
+                brand.setVersion(version);
+            }
 
             // 폼 데이터에서 카테고리별 가격 정보 추출 및 설정
             for (Category category : Category.values()) {
@@ -404,6 +423,16 @@ public class WebController {
 
             // 브랜드 관리 페이지로 리다이렉트
             return "redirect:/manage-brands";
+        } catch (DataIntegrityViolationException e) {
+            // 다른 브랜드와 이름이 같은 경우 (ux_brand_name)
+            model.addAttribute("error", "브랜드 수정 실패: " + brandName + " 브랜드가 이미 존재합니다");
+
+            return "error";
+        } catch (OptimisticLockingFailureException e) {
+            // 수정 폼을 조회한 이후 다른 변경이 먼저 저장된 경우 (낙관적 잠금 충돌)
+            model.addAttribute("error", "브랜드 수정 실패: 다른 변경이 먼저 저장되었습니다. 브랜드를 다시 조회한 뒤 수정해 주세요");
+
+            return "error";
         } catch (Exception e) {
             // 오류 로깅 및 오류 페이지로 리다이렉트
             logger.error("브랜드 수정 처리 오류: ", e);
@@ -0,0 +1,42 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.model.Category;
+
+/**
+ * 클래스 설명 : 브랜드 한 곳의 한 카테고리 가격을 담는 조회 전용 데이터 전송 객체(DTO)
+ * 데이터베이스 조회 모드에서 Brand 엔티티와 가격 맵 전체를 적재하지 않고,
+ * brand_products 테이블의 필요한 행만 JPQL 생성자 표현식으로 받아올 때 사용한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@Data               // Lombok: getter, setter, equals, hashCode, toString 자동 생성
+@NoArgsConstructor  // Lombok: 파라미터 없는 기본 생성자 자동 생성
+@AllArgsConstructor // Lombok: 모든 필드를 파라미터로 받는 생성자 자동 생성
+@Builder            // Lombok: 빌더 패턴 구현을 자동으로 생성
+public class BrandCategoryPriceDto {
+
+    /**
+     * 브랜드 ID
+     */
+    private Long brandId;
+
+    /**
+     * 브랜드 이름
+     */
+    private String brandName;
+
+    /**
+     * 카테고리
+     */
+    private Category category;
+
+    /**
+     * 해당 카테고리의 상품 가격
+     */
+    private Integer price;
+
+}
@@ -34,4 +34,11 @@ public class BrandDto {
      */
     private Map<Category, Integer> prices;
 
+    /**
+     * 수정할 브랜드를 조회했을 때의 버전 (낙관적 잠금)
+     * API 4-2(브랜드 수정) 요청에 브랜드 목록 조회(API 4-8) 응답의 version을 그대로 전달하면, 그 사이 다른 변경이 먼저 저장된 경우 충돌(409)로 응답한다.
+     * 생략하면 수정 요청을 처리하면서 조회한 버전으로 검사한다.
+     */
+    private Long version;
+
 }
\ No newline at end of file
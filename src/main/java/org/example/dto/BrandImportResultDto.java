@@ -0,0 +1,53 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 클래스 설명 : 브랜드 대량 등록(import) 결과를 담는 데이터 전송 객체(DTO)
+ * API 4(브랜드 관리)의 POST /api/brands/import 응답에 사용된다.
+ * 등록/거부된 행 수, 커밋된 배치 수, 소요 시간과 초당 처리 행 수, 거부된 행의 사유를 포함한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@Data               // Lombok: getter, setter, equals, hashCode, toString 자동 생성
+@NoArgsConstructor  // Lombok: 파라미터 없는 기본 생성자 자동 생성
+@AllArgsConstructor // Lombok: 모든 필드를 파라미터로 받는 생성자 자동 생성
+@Builder            // Lombok: 빌더 패턴 구현을 자동으로 생성
+public class BrandImportResultDto {
+
+    /**
+     * 등록에 성공한 브랜드 수
+     */
+    private long importedCount;
+
+    /**
+     * 형식 오류, 브랜드 이름 중복 등으로 거부된 행 수
+     */
+    private long rejectedCount;
+
+    /**
+     * 커밋된 배치(트랜잭션) 수
+     */
+    private long batchCount;
+
+    /**
+     * 전체 처리 소요 시간(밀리초)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 초당 등록된 행 수
+     */
+    private long rowsPerSecond;
+
+    /**
+     * 거부된 행의 행 번호와 사유 (최대 100건)
+     */
+    private List<String> errors;
+
+}
@@ -0,0 +1,44 @@
+package org.example.dto;
+
+import org.example.model.Brand;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 클래스 설명 : 브랜드 목록의 한 페이지(keyset 페이지)를 담는 데이터 전송 객체(DTO)
+ * API 4(브랜드 관리)의 GET /api/brands 응답과 브랜드 관리 화면에 사용된다.
+ * 다음 페이지는 nextAfter를 after 파라미터로 전달하여 조회한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@Data               // Lombok: getter, setter, equals, hashCode, toString 자동 생성
+@NoArgsConstructor  // Lombok: 파라미터 없는 기본 생성자 자동 생성
+@AllArgsConstructor // Lombok: 모든 필드를 파라미터로 받는 생성자 자동 생성
+@Builder            // Lombok: 빌더 패턴 구현을 자동으로 생성
+public class BrandPageDto {
+
+    /**
+     * 이 페이지를 조회한 기준 브랜드 ID (이 ID보다 큰 브랜드부터 조회, 첫 페이지는 0)
+     */
+    private long after;
+
+    /**
+     * 페이지 크기
+     */
+    private int limit;
+
+    /**
+     * 브랜드 ID 순의 브랜드 목록 (가격 정보 포함)
+     */
+    private List<Brand> brands;
+
+    /**
+     * 다음 페이지 조회에 사용할 기준 브랜드 ID (이 페이지의 마지막 브랜드 ID, 마지막 페이지이면 null)
+     */
+    private Long nextAfter;
+
+}
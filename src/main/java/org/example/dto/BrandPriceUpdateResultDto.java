@@ -0,0 +1,48 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클래스 설명 : 일괄 가격 업데이트의 항목별 처리 결과를 담는 데이터 전송 객체(DTO)
+ * API 4(브랜드 관리)의 PUT /api/brand/prices 응답에서 요청 항목마다 하나씩 생성된다.
+ * 요청한 브랜드 이름, 카테고리 이름, 가격과 함께 처리 상태 및 메시지를 포함한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@Data               // Lombok: getter, setter, equals, hashCode, toString 자동 생성
+@NoArgsConstructor  // Lombok: 파라미터 없는 기본 생성자 자동 생성
+@AllArgsConstructor // Lombok: 모든 필드를 파라미터로 받는 생성자 자동 생성
+@Builder            // Lombok: 빌더 패턴 구현을 자동으로 생성
+public class BrandPriceUpdateResultDto {
+
+    /**
+     * 가격을 업데이트하려 한 브랜드 이름
+     */
+    private String brandName;
+
+    /**
+     * 가격을 업데이트하려 한 카테고리 이름
+     */
+    private String categoryName;
+
+    /**
+     * 요청한 새 가격
+     */
+    private int price;
+
+    /**
+     * 처리 상태
+     * 업데이트에 성공하면 "success", 실패하면 "error"
+     */
+    private String status;
+
+    /**
+     * 처리 결과 메시지
+     * 실패한 경우 실패 사유(존재하지 않는 브랜드, 잘못된 카테고리 이름 등)를 포함한다.
+     */
+    private String message;
+
+}
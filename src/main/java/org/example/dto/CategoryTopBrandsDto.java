@@ -0,0 +1,48 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 클래스 설명 : 특정 카테고리의 가격순 상위 브랜드 한 페이지를 담는 데이터 전송 객체(DTO)
+ * GET /api/categories/{category}/top 응답에 사용된다.
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 조회한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@Data               // Lombok: getter, setter, equals, hashCode, toString 자동 생성
+@NoArgsConstructor  // Lombok: 파라미터 없는 기본 생성자 자동 생성
+@AllArgsConstructor // Lombok: 모든 필드를 파라미터로 받는 생성자 자동 생성
+@Builder            // Lombok: 빌더 패턴 구현을 자동으로 생성
+public class CategoryTopBrandsDto {
+
+    /**
+     * 카테고리 표시 이름
+     */
+    private String category;
+
+    /**
+     * 정렬 방향 (asc: 가격 오름차순, desc: 가격 내림차순)
+     */
+    private String order;
+
+    /**
+     * 페이지 크기
+     */
+    private int k;
+
+    /**
+     * 가격순 브랜드 목록 (같은 가격은 오름차순이면 브랜드 ID 순, 내림차순이면 그 역순)
+     */
+    private List<BrandCategoryPriceDto> brands;
+
+    /**
+     * 다음 페이지 조회에 사용할 커서 ("가격:브랜드 ID", 이 페이지의 마지막 브랜드 기준, 마지막 페이지이면 null)
+     */
+    private String nextCursor;
+
+}
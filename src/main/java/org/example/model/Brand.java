@@ -14,10 +14,15 @@ import java.util.Map;
  * 무신사 코디 서비스에서 상품을 판매하는 브랜드를 나타내는 JPA 엔티티 클래스이다.
  * 하나의 브랜드는 여러 카테고리의 상품을 가질 수 있으며, 각 카테고리별로 가격 정보를 포함한다.
  * 데이터베이스에는 'brand' 테이블(기본 엔티티명)과 관련 컬렉션 테이블('brand_products')로 저장된다.
+ * 스키마 자동 생성(ddl-auto) 시 브랜드 이름의 유니크 인덱스와 brand_products(category, price, brand_id) 복합 인덱스가 함께 생성된다.
  * 작성자 : sys1021
  * 작성일 : 2025.03.02
  */
 @Entity  // JPA 엔티티임을 나타내는 어노테이션
+@Table(name = "brand", indexes = {
+        // 이름으로 브랜드를 조회하는 쿼리(findByName, 이름 목록 조회)가 전체 테이블을 스캔하지 않도록 하고 이름 중복을 막음
+        @Index(name = "ux_brand_name", columnList = "name", unique = true)
+})
 @Data    // Lombok 어노테이션: getter, setter, equals, hashCode, toString 메서드 자동 생성
 @NoArgsConstructor  // Lombok 어노테이션: 파라미터 없는 기본 생성자 자동 생성
 @AllArgsConstructor // Lombok 어노테이션: 모든 필드를 매개변수로 받는 생성자 자동 생성
@@ -26,28 +31,44 @@ public class Brand {
 
     /**
      * 브랜드의 고유 식별자(ID)
-     * 데이터베이스에서 기본 키(Primary Key)로 사용되며, 자동 증가(Auto Increment) 방식으로 생성된다.
+     * 데이터베이스에서 기본 키(Primary Key)로 사용되며, 'brand_seq' 시퀀스에서 생성된다.
+     * IDENTITY 방식은 INSERT를 즉시 실행해야 ID를 알 수 있어 Hibernate의 INSERT 배치가 비활성화되므로,
+     * 시퀀스 값을 50개 단위로 미리 할당받아 대량 등록 시 INSERT 문을 묶어서 전송할 수 있도록 한다.
      */
     @Id  // JPA 기본 키 지정 어노테이션
-    @GeneratedValue(strategy = GenerationType.IDENTITY)  // 기본 키 생성 전략: IDENTITY(데이터베이스에 위임)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "brand_seq")  // 기본 키 생성 전략: SEQUENCE
+    @SequenceGenerator(name = "brand_seq", sequenceName = "brand_seq", allocationSize = 50)  // 50개 단위로 ID 할당
     private Long id;
 
     /**
      * 브랜드 이름
-     * 데이터베이스의 'name' 컬럼에 매핑된다.
+     * 데이터베이스의 'name' 컬럼에 매핑되며, 유니크 인덱스(ux_brand_name)로 중복이 허용되지 않는다.
+     * 비어 있을 수 없으며(NOT NULL), 빈 이름은 BrandService에서 저장 전에 거부한다.
      */
+    @Column(nullable = false)  // 이름이 없는 브랜드 저장 방지
     private String name;
 
+    /**
+     * 낙관적 잠금(optimistic locking)을 위한 버전
+     * 브랜드 이름이나 가격(brand_products)이 바뀌어 저장될 때마다 1씩 증가하며, UPDATE 문은 'WHERE id = ? AND version = ?' 조건으로 실행된다.
+     * 다른 트랜잭션이 먼저 같은 브랜드를 변경했다면 갱신되는 행이 없으므로 ObjectOptimisticLockingFailureException이 발생한다.
+     */
+    @Version  // JPA 낙관적 잠금 버전 컬럼 지정 어노테이션
+    private Long version;
+
     /**
      * 카테고리별 상품 가격 정보
      * 카테고리(Category)를 키로, 가격(Integer)을 값으로 하는 맵 구조로 저장된다.
      * 이 맵은 별도의 컬렉션 테이블('brand_products')에 저장되며, 브랜드와 일대다(1:N) 관계를 가진다.
+     * 카테고리별 가격 정렬 조회와 카테고리별 최저/최고가 쿼리는 (category, price, brand_id) 복합 인덱스를 사용한다.
      * 새로운 브랜드 인스턴스 생성 시 빈 HashMap으로 초기화된다.
      */
     @ElementCollection  // 값 타입 컬렉션을 매핑하는 어노테이션
     @CollectionTable(
             name = "brand_products",  // 컬렉션을 저장할 테이블 이름
-            joinColumns = @JoinColumn(name = "brand_id")  // 외래 키로 사용할 컬럼
+            joinColumns = @JoinColumn(name = "brand_id"),  // 외래 키로 사용할 컬럼
+            // 카테고리 내 가격 순 조회용 인덱스 (brand_id를 포함하여 브랜드 조인 시 테이블 행을 다시 읽지 않음)
+            indexes = @Index(name = "idx_brand_products_category_price", columnList = "category, price, brand_id")
     )
     @MapKeyEnumerated(EnumType.STRING)  // 맵의 키(Category 열거형)를 문자열로 저장
     @MapKeyColumn(name = "category")   // 맵의 키가 저장될 컬럼 이름
@@ -1,13 +1,19 @@
 package org.example.repository;
 
+import org.example.dto.BrandCategoryPriceDto;
 import org.example.model.Brand;
 import org.example.model.Category;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 클래스 설명 : Brand 엔티티에 대한 데이터 액세스 계층 인터페이스
@@ -24,24 +30,249 @@ public interface BrandRepository extends JpaRepository<Brand, Long> {
      * 메서드 설명 : 브랜드 이름으로 브랜드를 조회하는 메서드
      * Spring Data JPA의 메서드 이름 규칙을 따라 자동으로 쿼리가 생성된다.
      * 이 메서드는 내부적으로 "SELECT b FROM Brand b WHERE b.name = ?1" 쿼리를 실행한다.
+     * 엔티티 그래프로 가격 맵을 함께 조회하므로 가격 정보에 접근할 때 추가 쿼리가 발생하지 않는다.
      * @param name 조회할 브랜드의 이름
      * @return 이름과 일치하는 브랜드 객체, 없을 경우 null 반환
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
+    @EntityGraph(attributePaths = "prices")
     Brand findByName(String name);
 
+    /**
+     * 메서드 설명 : ID로 브랜드를 카테고리별 가격 정보와 함께 조회하는 메서드
+     * JpaRepository의 findById를 재정의하여 엔티티 그래프로 가격 맵을 한 번의 쿼리로 함께 조회한다.
+     * 브랜드 수정/삭제 화면과 API에서 가격 정보를 읽을 때 지연 로딩 쿼리가 추가로 발생하지 않는다.
+     * @param id 조회할 브랜드의 ID
+     * @return 브랜드 객체 (없을 경우 빈 Optional)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Override
+    @EntityGraph(attributePaths = "prices")
+    Optional<Brand> findById(Long id);
+
+    /**
+     * 메서드 설명 : 모든 브랜드를 카테고리별 가격 정보와 함께 조회하는 메서드
+     * FETCH JOIN으로 가격 맵을 한 번에 적재하므로, 트랜잭션 밖에서도 지연 로딩 없이 가격 정보에 접근할 수 있다.
+     * BrandService가 메모리 인덱스를 적재하거나 전체 브랜드 목록(브랜드 관리 화면)을 조회할 때 사용한다.
+     * DISTINCT는 가격 행 수만큼 중복되는 브랜드를 하나로 합치며, 목록은 브랜드 ID 순으로 정렬된다.
+     * @return 가격 정보가 적재된 모든 브랜드 목록
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT DISTINCT b FROM Brand b LEFT JOIN FETCH b.prices ORDER BY b.id")
+    List<Brand> findAllWithPrices();
+
+    /**
+     * 메서드 설명 : 지정한 ID 다음부터 브랜드 ID 순으로 정해진 수의 브랜드를 가격 정보와 함께 조회하는 메서드 (keyset 페이지 조회)
+     * 하위 쿼리가 기본 키 인덱스에서 after 다음 위치부터 limit개의 ID만 읽으므로, OFFSET처럼 앞 페이지의 행을 건너뛰며 읽지 않아
+     * 몇 번째 페이지든 조회 비용이 같다. FETCH JOIN에 페이지 크기를 직접 걸면 Hibernate가 전체 결과를 메모리에서 자르므로
+     * 브랜드 ID를 하위 쿼리에서 먼저 제한한 뒤 가격을 함께 조회한다.
+     * @param after 이전 페이지의 마지막 브랜드 ID (첫 페이지는 0)
+     * @param limit 조회할 브랜드 수
+     * @return after보다 큰 ID의 브랜드 목록 (가격 정보 포함, 브랜드 ID 순, 최대 limit개)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT DISTINCT b FROM Brand b LEFT JOIN FETCH b.prices WHERE b.id IN "
+            + "(SELECT k.id FROM Brand k WHERE k.id > :after ORDER BY k.id LIMIT :limit) ORDER BY b.id")
+    List<Brand> findPageWithPricesAfter(@Param("after") long after, @Param("limit") int limit);
+
+    /**
+     * 메서드 설명 : 이름 목록에 해당하는 브랜드들을 카테고리별 가격 정보와 함께 조회하는 메서드
+     * 일괄 가격 업데이트에서 요청에 포함된 모든 브랜드를 한 번의 쿼리로 조회하기 위해 사용한다.
+     * @param names 조회할 브랜드 이름 목록
+     * @return 이름이 일치하는 브랜드 목록 (가격 정보 포함)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT DISTINCT b FROM Brand b LEFT JOIN FETCH b.prices WHERE b.name IN :names")
+    List<Brand> findAllWithPricesByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * 메서드 설명 : 이름 목록 중 이미 등록된 브랜드 이름을 조회하는 메서드
+     * 브랜드 대량 등록에서 배치를 저장하기 전에 이름 중복을 확인하기 위해 사용하며, ux_brand_name 인덱스만 읽고 가격은 조회하지 않는다.
+     * @param names 확인할 브랜드 이름 목록
+     * @return 등록된 브랜드 이름 목록
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT b.name FROM Brand b WHERE b.name IN :names")
+    List<String> findNamesByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * 메서드 설명 : ID 목록에 해당하는 브랜드들을 카테고리별 가격 정보와 함께 조회하는 메서드
+     * 가격 변경 지연 기록(write-behind)에서 한 묶음에 포함된 모든 브랜드를 한 번의 쿼리로 조회하기 위해 사용한다.
+     * @param ids 조회할 브랜드 ID 목록
+     * @return ID가 일치하는 브랜드 목록 (가격 정보 포함)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT DISTINCT b FROM Brand b LEFT JOIN FETCH b.prices WHERE b.id IN :ids")
+    List<Brand> findAllWithPricesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 메서드 설명 : 브랜드의 현재 버전(낙관적 잠금 버전)을 조회하는 메서드
+     * 브랜드 저장(saveBrand)에서 조회한 시점의 버전과 비교하여, 그 사이 다른 변경이 먼저 저장되었는지 확인하는 데 사용한다.
+     * 수정 중인 엔티티가 조회 전에 flush되어 버전이 먼저 올라가지 않도록 이 쿼리는 자동 flush를 하지 않는다.
+     * @param id 브랜드 ID
+     * @return 현재 버전 (브랜드가 없으면 null)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT b.version FROM Brand b WHERE b.id = :id")
+    @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+    Long findVersionById(@Param("id") Long id);
+
+    /**
+     * 메서드 설명 : 브랜드 수와 브랜드 ID 합을 조회하는 메서드
+     * 카탈로그 스냅샷 파일이 데이터베이스와 같은 내용인지 확인하는 지문(CatalogFingerprint)을 계산하는 데 사용한다.
+     * @return [브랜드 수, 브랜드 ID 합] 한 행
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT COUNT(b), COALESCE(SUM(b.id), 0) FROM Brand b")
+    List<Object[]> findBrandCountAndIdSum();
+
+    /**
+     * 메서드 설명 : 카테고리별 가격이 있는 브랜드 수, 가격 합, 가격 x 브랜드 ID 합을 조회하는 메서드
+     * 카탈로그 스냅샷 파일이 데이터베이스와 같은 내용인지 확인하는 지문(CatalogFingerprint)을 계산하는 데 사용한다.
+     * @return [카테고리, 브랜드 수, 가격 합, 가격 x 브랜드 ID 합] 목록 (상품이 없는 카테고리는 포함되지 않음)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT KEY(p), COUNT(VALUE(p)), SUM(VALUE(p)), SUM(VALUE(p) * b.id) "
+            + "FROM Brand b JOIN b.prices p GROUP BY KEY(p)")
+    List<Object[]> findCategoryPriceSums();
+
+    /**
+     * 메서드 설명 : 모든 카테고리의 최저가와 해당 가격을 제공하는 브랜드를 한 번의 쿼리로 조회하는 메서드
+     * brand_products를 카테고리별로 GROUP BY하여 최저가를 구하는 하위 쿼리와 (카테고리, 가격)이 일치하는 행만
+     * (브랜드 ID, 브랜드 이름, 카테고리, 가격)으로 반환하므로, 카테고리 수만큼 쿼리를 실행하거나 Brand 엔티티를 적재하지 않는다.
+     * 결과는 카테고리, 브랜드 ID 순으로 정렬되며, 같은 최저가의 브랜드는 모두 포함된다.
+     * 데이터베이스 조회 모드의 API 1에서 사용한다.
+     * @return 카테고리별 최저가 브랜드 목록 (상품이 없는 카테고리는 포함되지 않음)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT new org.example.dto.BrandCategoryPriceDto(b.id, b.name, KEY(p), VALUE(p)) "
+            + "FROM Brand b JOIN b.prices p "
+            + "WHERE (KEY(p), VALUE(p)) IN "
+            + "(SELECT KEY(p2), MIN(VALUE(p2)) FROM Brand b2 JOIN b2.prices p2 GROUP BY KEY(p2)) "
+            + "ORDER BY KEY(p), b.id")
+    List<BrandCategoryPriceDto> findLowestPricesForAllCategories();
+
+    /**
+     * 메서드 설명 : 카테고리 가격의 총액이 가장 낮은 브랜드들의 ID를 조회하는 메서드
+     * brand_products의 가격을 brand_id별로 SUM하여 총액 순으로 정렬한 뒤, 첫 번째 총액과 같은 행만 반환한다(FETCH FIRST ... WITH TIES).
+     * 합산과 정렬은 데이터베이스에서 수행하므로 브랜드 수와 관계없이 애플리케이션에는 최저 총액 브랜드의 ID만 전달된다.
+     * 상품이 없는 브랜드는 LEFT JOIN으로 포함되어 총액 0으로 계산된다(메모리 인덱스와 같은 기준).
+     * 같은 총액의 브랜드 사이의 순서는 보장되지 않는다. 데이터베이스 조회 모드의 API 2에서 사용한다.
+     * @return 최저 총액 브랜드 ID 목록 (브랜드가 없으면 빈 목록)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT b.id FROM Brand b LEFT JOIN b.prices p "
+            + "GROUP BY b.id "
+            + "ORDER BY COALESCE(SUM(VALUE(p)), 0) "
+            + "FETCH FIRST 1 ROWS WITH TIES")
+    List<Long> findLowestTotalPriceBrandIds();
+
+    /**
+     * 메서드 설명 : 특정 카테고리의 최저가와 해당 가격을 제공하는 브랜드를 조회하는 메서드
+     * 카테고리의 행을 (카테고리, 가격) 순으로 정렬하여 첫 번째 가격과 같은 행만 (브랜드 ID, 브랜드 이름, 카테고리, 가격)으로 반환한다(FETCH FIRST ... WITH TIES).
+     * 정렬 순서가 brand_products(category, price, brand_id) 인덱스와 같으므로 데이터베이스는 인덱스를 순서대로 읽다가 최저가 행들만 읽고 멈출 수 있으며,
+     * 카테고리의 모든 브랜드 엔티티와 가격 맵을 적재하지 않는다. 같은 최저가 브랜드 사이의 순서는 보장되지 않는다.
+     * 데이터베이스 조회 모드의 API 3에서 사용한다.
+     * @param category 조회할 카테고리
+     * @return 최저가 브랜드 목록 (해당 카테고리의 상품이 없으면 빈 목록)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT new org.example.dto.BrandCategoryPriceDto(b.id, b.name, KEY(p), VALUE(p)) "
+            + "FROM Brand b JOIN b.prices p "
+            + "WHERE KEY(p) = :category "
+            + "ORDER BY KEY(p), VALUE(p) "
+            + "FETCH FIRST 1 ROWS WITH TIES")
+    List<BrandCategoryPriceDto> findLowestPricesByCategory(@Param("category") Category category);
+
+    /**
+     * 메서드 설명 : 특정 카테고리의 최고가와 해당 가격을 제공하는 브랜드를 조회하는 메서드
+     * 하위 쿼리로 카테고리의 최고가를 구한 뒤 그 가격의 행만 (브랜드 ID, 브랜드 이름, 카테고리, 가격)으로 반환한다.
+     * 하위 쿼리는 brand_products(category, price, brand_id) 인덱스의 카테고리 범위만 읽고, 바깥 쿼리는 같은 인덱스로
+     * (카테고리, 가격)이 일치하는 행을 바로 찾는다. 같은 최고가 브랜드 사이의 순서는 보장되지 않는다.
+     * 데이터베이스 조회 모드의 API 3에서 사용한다.
+     * @param category 조회할 카테고리
+     * @return 최고가 브랜드 목록 (해당 카테고리의 상품이 없으면 빈 목록)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT new org.example.dto.BrandCategoryPriceDto(b.id, b.name, KEY(p), VALUE(p)) "
+            + "FROM Brand b JOIN b.prices p "
+            + "WHERE KEY(p) = :category AND VALUE(p) = "
+            + "(SELECT MAX(VALUE(p2)) FROM Brand b2 JOIN b2.prices p2 WHERE KEY(p2) = :category)")
+    List<BrandCategoryPriceDto> findHighestPricesByCategory(@Param("category") Category category);
+
+    /**
+     * 메서드 설명 : 특정 카테고리에서 기준 (가격, 브랜드 ID) 다음부터 가격 오름차순으로 정해진 수의 브랜드를 조회하는 메서드 (keyset 페이지 조회)
+     * 정렬 순서 (카테고리, 가격, 브랜드 ID)가 brand_products(category, price, brand_id) 인덱스와 같으므로,
+     * 데이터베이스는 인덱스에서 기준 위치를 찾아 limit개만 읽고 멈출 수 있으며 카테고리 전체를 정렬하지 않는다.
+     * 데이터베이스 조회 모드의 카테고리별 가격순 상위 브랜드 조회에서 사용한다.
+     * @param category 조회할 카테고리
+     * @param afterPrice 이전 페이지의 마지막 가격 (첫 페이지는 Integer.MIN_VALUE)
+     * @param afterId 이전 페이지의 마지막 브랜드 ID (첫 페이지는 Long.MIN_VALUE)
+     * @param limit 조회할 브랜드 수
+     * @return (가격, 브랜드 ID) 순의 브랜드 가격 목록 (최대 limit개)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT new org.example.dto.BrandCategoryPriceDto(b.id, b.name, KEY(p), VALUE(p)) "
+            + "FROM Brand b JOIN b.prices p "
+            + "WHERE KEY(p) = :category "
+            + "AND (VALUE(p) > :afterPrice OR (VALUE(p) = :afterPrice AND b.id > :afterId)) "
+            + "ORDER BY KEY(p), VALUE(p), b.id "
+            + "LIMIT :limit")
+    List<BrandCategoryPriceDto> findCategoryPricesAfter(@Param("category") Category category,
+                                                        @Param("afterPrice") int afterPrice,
+                                                        @Param("afterId") long afterId,
+                                                        @Param("limit") int limit);
+
+    /**
+     * 메서드 설명 : 특정 카테고리에서 기준 (가격, 브랜드 ID) 앞부터 가격 내림차순으로 정해진 수의 브랜드를 조회하는 메서드 (keyset 페이지 조회)
+     * findCategoryPricesAfter의 역순이며, 같은 인덱스를 거꾸로 읽는다.
+     * @param category 조회할 카테고리
+     * @param beforePrice 이전 페이지의 마지막 가격 (첫 페이지는 Integer.MAX_VALUE)
+     * @param beforeId 이전 페이지의 마지막 브랜드 ID (첫 페이지는 Long.MAX_VALUE)
+     * @param limit 조회할 브랜드 수
+     * @return (가격, 브랜드 ID) 역순의 브랜드 가격 목록 (최대 limit개)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Query("SELECT new org.example.dto.BrandCategoryPriceDto(b.id, b.name, KEY(p), VALUE(p)) "
+            + "FROM Brand b JOIN b.prices p "
+            + "WHERE KEY(p) = :category "
+            + "AND (VALUE(p) < :beforePrice OR (VALUE(p) = :beforePrice AND b.id < :beforeId)) "
+            + "ORDER BY KEY(p) DESC, VALUE(p) DESC, b.id DESC "
+            + "LIMIT :limit")
+    List<BrandCategoryPriceDto> findCategoryPricesBefore(@Param("category") Category category,
+                                                         @Param("beforePrice") int beforePrice,
+                                                         @Param("beforeId") long beforeId,
+                                                         @Param("limit") int limit);
+
     /**
      * 메서드 설명 : 특정 카테고리의 가격을 기준으로 오름차순으로 정렬된 브랜드 목록을 조회하는 메서드
      * Map 형태로 저장된 카테고리별 가격 정보(prices)에서 특정 카테고리의 가격이 낮은 순서대로 브랜드를 정렬하여 반환한다.
      * JOIN 구문을 통해 브랜드와 해당 브랜드의 가격 맵을 조인하고, WHERE 절에서 특정 카테고리를 필터링한 후 ORDER BY 절에서 가격을 기준으로 오름차순 정렬한다.
      * KEY(p)는 Map의 키(Category)를 참조하고, VALUE(p)는 Map의 값(Integer 가격)을 참조한다.
+     * 카테고리가 하나로 고정되어 있어도 ORDER BY에 카테고리를 먼저 두어 brand_products(category, price, brand_id) 인덱스와 순서를 맞추므로,
+     * 데이터베이스가 별도 정렬 없이 인덱스 순서대로 행을 반환할 수 있다.
      * @param category 가격을 비교할 카테고리 (Map의 키)
      * @return 해당 카테고리의 가격이 낮은 순으로 정렬된 브랜드 목록
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
-    @Query("SELECT b FROM Brand b JOIN b.prices p WHERE KEY(p) = :category ORDER BY VALUE(p) ASC")
+    @Query("SELECT b FROM Brand b JOIN b.prices p WHERE KEY(p) = :category ORDER BY KEY(p) ASC, VALUE(p) ASC")
     List<Brand> findAllByCategoryOrderByPriceAsc(@Param("category") Category category);
 
     /**
@@ -0,0 +1,295 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.BrandDto;
+import org.example.dto.BrandImportResultDto;
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 클래스 설명 : 대량의 브랜드를 스트리밍 방식으로 등록하는 서비스 클래스
+ * NDJSON(한 줄에 하나의 BrandDto JSON) 또는 CSV 본문을 한 줄씩 읽어 브랜드로 변환하고,
+ * 설정된 배치 크기만큼 모이면 BrandService.saveBrands로 하나의 트랜잭션에서 저장한다.
+ * 본문 전체를 메모리에 올리지 않으며, 배치마다 트랜잭션과 영속성 컨텍스트가 끝나므로 메모리 사용량이 배치 크기로 제한된다.
+ * 형식이 잘못된 행과 이미 등록된(또는 같은 요청에 앞서 나온) 브랜드 이름의 행은 건너뛰고 행 번호와 사유를 결과에 기록한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@Service
+public class BrandImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrandImportService.class);
+
+    // 결과에 포함할 거부 사유의 최대 개수
+    private static final int MAX_ERRORS = 100;
+
+    /**
+     * 본문 형식
+     * NDJSON: {"name":"A","prices":{"TOP":11200,...}} 형태의 JSON을 한 줄에 하나씩 기록
+     * CSV: 첫 행은 헤더(name, 카테고리 이름 또는 표시 이름...), 이후 행은 브랜드 이름과 카테고리별 가격 (빈 칸은 상품 없음)
+     */
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 기본 배치 크기 (한 트랜잭션에서 저장할 브랜드 수)
+    @Value("${musinsa.import.batch-size:1000}")
+    private int defaultBatchSize;
+
+    /**
+     * 메서드 설명 : 입력 스트림의 브랜드를 배치 단위로 등록하는 메서드
+     * 이미 커밋된 배치는 이후 배치에서 오류가 발생해도 유지되며, 이름이 중복된 행은 요청 전체를 실패시키지 않고 거부한 행으로 센다.
+     * CSV 헤더에 알 수 없는 카테고리가 있으면 IllegalArgumentException이 발생한다.
+     * @param inputStream 요청 본문 스트림 (UTF-8)
+     * @param format 본문 형식
+     * @param batchSize 한 트랜잭션에서 저장할 브랜드 수 (null이면 기본값 사용)
+     * @return 등록/거부 건수와 처리 속도를 포함한 결과
+     * @throws IOException 스트림을 읽는 중 오류가 발생한 경우
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public BrandImportResultDto importBrands(InputStream inputStream, Format format, Integer batchSize) throws IOException {
+
+        int size = batchSize != null && batchSize > 0 ? batchSize : defaultBatchSize;
+        long startNanos = System.nanoTime();
+
+        ImportProgress progress = new ImportProgress();
+        List<Brand> batch = new ArrayList<>(size);
+        List<Long> batchLines = new ArrayList<>(size);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            Category[] csvColumns = null;
+            String line;
+            long lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                if (format == Format.CSV && csvColumns == null) {
+                    // CSV 첫 행은 헤더 (잘못된 헤더는 이후 모든 행을 해석할 수 없으므로 전체 요청 실패)
+                    csvColumns = parseCsvHeader(line);
+                    continue;
+                }
+
+                try {
+                    batch.add(format == Format.CSV ? parseCsvRow(line, csvColumns) : parseJsonRow(line));
+                    batchLines.add(lineNumber);
+                } catch (IllegalArgumentException e) {
+                    progress.reject(lineNumber, e.getMessage());
+                    continue;
+                }
+
+                // 배치가 가득 차면 하나의 트랜잭션으로 저장
+                if (batch.size() >= size) {
+                    saveBatch(batch, batchLines, progress);
+                    batch = new ArrayList<>(size);
+                    batchLines = new ArrayList<>(size);
+                }
+            }
+        }
+
+        // 남은 브랜드 저장
+        if (!batch.isEmpty()) {
+            saveBatch(batch, batchLines, progress);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long rowsPerSecond = elapsedNanos > 0 ? progress.imported * 1_000_000_000L / elapsedNanos : progress.imported;
+        logger.info("브랜드 대량 등록 완료: {}건 등록, {}건 거부, {}개 배치, {}ms ({}건/초)",
+                progress.imported, progress.rejected, progress.batches, elapsedNanos / 1_000_000, rowsPerSecond);
+
+        return BrandImportResultDto.builder()
+                .importedCount(progress.imported)
+                .rejectedCount(progress.rejected)
+                .batchCount(progress.batches)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .errors(progress.errors)
+                .build();
+
+    }
+
+    /**
+     * 메서드 설명 : 한 배치의 브랜드를 이름 중복을 거른 뒤 하나의 트랜잭션으로 저장하는 내부 메서드
+     * 브랜드 이름은 유니크 인덱스(ux_brand_name)로 중복이 허용되지 않으므로, 같은 배치 안에서 앞 행과 이름이 같은 행과
+     * 이미 등록된 이름(이전 배치 포함)의 행은 저장하지 않고 거부한 행으로 기록한다.
+     * 확인과 저장 사이에 다른 요청이 같은 이름을 등록하여 저장이 실패하면, 그 배치의 행만 거부하고 다음 배치를 계속 처리한다.
+     * @param batch 저장할 브랜드 목록
+     * @param lines 브랜드별 본문 행 번호 (batch와 같은 순서)
+     * @param progress 등록/거부 건수와 거부 사유를 누적할 진행 상황
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void saveBatch(List<Brand> batch, List<Long> lines, ImportProgress progress) {
+
+        Set<String> existingNames = brandService.getExistingBrandNames(
+                batch.stream().map(Brand::getName).collect(Collectors.toSet()));
+        Set<String> batchNames = new HashSet<>();
+        List<Brand> accepted = new ArrayList<>(batch.size());
+        List<Long> acceptedLines = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            String name = batch.get(i).getName();
+            if (existingNames.contains(name)) {
+                progress.reject(lines.get(i), "이미 등록된 브랜드 이름입니다: " + name);
+            } else if (!batchNames.add(name)) {
+                progress.reject(lines.get(i), "같은 요청에 이미 있는 브랜드 이름입니다: " + name);
+            } else {
+                accepted.add(batch.get(i));
+                acceptedLines.add(lines.get(i));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            progress.imported += brandService.saveBrands(accepted).size();
+            progress.batches++;
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("브랜드 대량 등록 배치 저장 실패 (동시에 등록된 이름과 중복): {}행 ~ {}행",
+                    acceptedLines.get(0), acceptedLines.get(acceptedLines.size() - 1));
+            for (Long line : acceptedLines) {
+                progress.reject(line, "동시에 등록된 브랜드와 이름이 중복되어 배치를 저장하지 못했습니다");
+            }
+        }
+
+    }
+
+    // 등록 진행 상황 (등록/거부 건수, 커밋된 배치 수, 거부 사유)
+    private static final class ImportProgress {
+
+        private long imported;
+        private long rejected;
+        private long batches;
+        private final List<String> errors = new ArrayList<>();
+
+        // 거부한 행을 기록 (사유는 최대 MAX_ERRORS개까지만 보관)
+        private void reject(long lineNumber, String message) {
+            rejected++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(lineNumber + "행: " + message);
+            }
+        }
+
+    }
+
+    // NDJSON 한 줄을 브랜드로 변환
+    private Brand parseJsonRow(String line) {
+        BrandDto brandDto;
+        try {
+            brandDto = objectMapper.readValue(line, BrandDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식 오류: " + e.getOriginalMessage());
+        }
+        return toBrand(brandDto.getName(), brandDto.getPrices() != null ? brandDto.getPrices() : Map.of());
+    }
+
+    // CSV 헤더를 열 순서의 카테고리 배열로 변환 (첫 열은 브랜드 이름)
+    private Category[] parseCsvHeader(String line) {
+        List<String> columns = splitCsv(line);
+        Category[] categories = new Category[columns.size()];
+        for (int i = 1; i < columns.size(); i++) {
+            String column = columns.get(i).trim();
+            try {
+                categories[i] = Category.valueOf(column);
+            } catch (IllegalArgumentException e) {
+                categories[i] = Category.fromDisplayName(column);
+            }
+        }
+        return categories;
+    }
+
+    // CSV 한 행을 브랜드로 변환
+    private Brand parseCsvRow(String line, Category[] columns) {
+        List<String> values = splitCsv(line);
+        if (values.size() > columns.length) {
+            throw new IllegalArgumentException("헤더보다 많은 열: " + values.size());
+        }
+
+        Map<Category, Integer> prices = new HashMap<>();
+        for (int i = 1; i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                try {
+                    prices.put(columns[i], Integer.parseInt(value));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("잘못된 가격: " + value);
+                }
+            }
+        }
+        return toBrand(values.get(0).trim(), prices);
+    }
+
+    // 브랜드 이름과 가격으로 새 브랜드 엔티티 생성
+    private Brand toBrand(String name, Map<Category, Integer> prices) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("브랜드 이름이 없습니다");
+        }
+        Brand brand = new Brand();
+        brand.setName(name);
+        brand.setPrices(new HashMap<>(prices));
+        return brand;
+    }
+
+    // 큰따옴표로 감싼 값(쉼표, "" 이스케이프 포함)을 지원하는 CSV 행 분리
+    private List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+
+        return values;
+    }
+
+}
@@ -1,13 +1,50 @@
 package org.example.service;
 
+import org.example.dto.BrandCategoryPriceDto;
+import org.example.dto.BrandPageDto;
+import org.example.dto.BrandPriceUpdateDto;
+import org.example.dto.BrandPriceUpdateResultDto;
+import org.example.dto.CategoryTopBrandsDto;
 import org.example.model.Brand;
 import org.example.model.Category;
 import org.example.repository.BrandRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 클래스 설명 : 브랜드와 관련된 비즈니스 로직을 처리하는 서비스 클래스
@@ -23,8 +60,11 @@ import java.util.*;
  * 작성일 : 2025.03.02
  */
 @Service
+@Timed(value = "brand.service", description = "BrandService 메서드 실행 시간", histogram = true)  // 메서드별 실행 시간 히스토그램 (method 태그로 구분)
 public class BrandService {
 
+    private static final Logger logger = LoggerFactory.getLogger(BrandService.class);
+
     /**
      * 브랜드 데이터에 접근하기 위한 리포지토리 인스턴스
      * Spring의 의존성 주입(DI)을 통해 자동으로 주입된다.
@@ -32,6 +72,440 @@ public class BrandService {
     @Autowired
     private BrandRepository brandRepository;
 
+    /**
+     * 조회 API의 데이터 원본 (memory: 메모리 가격 인덱스, database: 요청마다 데이터베이스 조회)
+     * database 모드는 여러 인스턴스가 같은 데이터베이스를 변경하는 배포에서 메모리 인덱스 없이 최신 데이터를 조회할 때 사용한다.
+     */
+    @Value("${musinsa.catalog.read-mode:memory}")
+    private String readMode;
+
+    /**
+     * 데이터베이스 조회 모드에서 서로 독립적인 쿼리를 병렬로 실행할 스레드 풀
+     * musinsa.catalog.query-parallelism이 1이면 등록되지 않으며, 이 경우 요청 스레드에서 순서대로 실행한다.
+     */
+    @Autowired(required = false)
+    @Qualifier("categoryQueryExecutor")
+    private ExecutorService categoryQueryExecutor;
+
+    /**
+     * 카테고리별 가격 인덱스 (열 단위 가격 스냅샷)
+     * 최초 조회 시 데이터베이스에서 적재되며, 이후에는 쓰기 메서드가 커밋된 변경 사항을 반영한다.
+     */
+    private final CategoryPriceIndex categoryPriceIndex = new CategoryPriceIndex();
+
+    /**
+     * 조회 API 결과 캐시
+     * 카탈로그 버전(인덱스 버전)이 같은 동안 계산된 결과를 재사용하고, 쓰기가 반영되면 자동으로 무효화된다.
+     */
+    private final CatalogResponseCache responseCache = new CatalogResponseCache(this::getCatalogVersion);
+
+    /**
+     * 데이터베이스 조회 모드의 동시 조회 합치기
+     * 결과를 캐시하지 않는 대신, 같은 조회와 카탈로그 버전의 요청이 동시에 들어오면 데이터베이스 조회를 한 번만 실행한다.
+     */
+    private final SingleFlight databaseReads = new SingleFlight();
+
+    /**
+     * 가격 변경 지연 기록(write-behind) 사용 여부
+     * 사용하면 API 4의 가격 변경을 메모리 카탈로그에 즉시 반영하고, 데이터베이스에는 모아서 묶음 단위로 기록한다.
+     */
+    @Value("${musinsa.price-update.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
+
+    /**
+     * 모아 둔 가격 변경을 데이터베이스에 기록하는 주기 (밀리초)
+     */
+    @Value("${musinsa.price-update.write-behind.flush-interval-ms:50}")
+    private long writeBehindFlushIntervalMillis;
+
+    /**
+     * 주기를 기다리지 않고 기록을 시작하는 보관 개수이자 한 트랜잭션에서 기록하는 최대 가격 변경 수
+     */
+    @Value("${musinsa.price-update.write-behind.batch-size:500}")
+    private int writeBehindBatchSize;
+
+    /**
+     * 기록을 기다릴 수 있는 최대 가격 변경 수 (가득 차면 가격 변경 요청이 직접 기록)
+     */
+    @Value("${musinsa.price-update.write-behind.queue-capacity:10000}")
+    private int writeBehindQueueCapacity;
+
+    /**
+     * 가격 변경 로그(write-ahead log) 사용 여부 (지연 기록을 사용할 때만 동작)
+     * 사용하면 가격 변경을 로그 파일에 추가하고 디스크에 확정한 뒤 응답하며, 재시작 시 데이터베이스에 기록되지 않은 변경을 재적용한다.
+     */
+    @Value("${musinsa.price-update.log.enabled:false}")
+    private boolean changeLogEnabled;
+
+    /**
+     * 가격 변경 로그 파일 경로
+     */
+    @Value("${musinsa.price-update.log.path:data/price-changes.log}")
+    private String changeLogPath;
+
+    /**
+     * 가격 변경 로그의 fsync 정책 (always, group, interval)
+     */
+    @Value("${musinsa.price-update.log.fsync:group}")
+    private String changeLogFsync;
+
+    /**
+     * interval 정책의 fsync 주기 (밀리초)
+     */
+    @Value("${musinsa.price-update.log.fsync-interval-ms:10}")
+    private long changeLogFsyncIntervalMillis;
+
+    /**
+     * 가격 변경 로그를 비우는 크기 (바이트, 넘으면 대기 중인 변경을 데이터베이스에 기록한 뒤 로그를 비움)
+     */
+    @Value("${musinsa.price-update.log.checkpoint-bytes:67108864}")
+    private long changeLogCheckpointBytes;
+
+    /**
+     * 카탈로그 스냅샷 파일 사용 여부 (가격 변경 로그를 사용할 때만 동작)
+     * 사용하면 체크포인트마다 메모리 카탈로그 전체를 바이너리 파일로 저장하고, 시작 시 이 파일과 이후의 로그만으로 카탈로그를 복원한다.
+     */
+    @Value("${musinsa.catalog.snapshot.enabled:false}")
+    private boolean catalogSnapshotEnabled;
+
+    /**
+     * 카탈로그 스냅샷 파일 경로
+     */
+    @Value("${musinsa.catalog.snapshot.path:data/catalog.snapshot}")
+    private String catalogSnapshotPath;
+
+    /**
+     * 카탈로그가 바뀌었을 때 체크포인트(스냅샷 저장 후 로그 비우기)를 실행하는 주기 (밀리초)
+     */
+    @Value("${musinsa.catalog.snapshot.interval-ms:60000}")
+    private long catalogSnapshotIntervalMillis;
+
+    /**
+     * 브랜드 목록 페이지 조회(getBrandPage)에서 허용하는 최대 페이지 크기
+     */
+    @Value("${musinsa.brand-page.max-limit:1000}")
+    private int brandPageMaxLimit;
+
+    /**
+     * 카테고리별 가격순 상위 브랜드 조회(getTopBrandsByCategory)에서 허용하는 최대 페이지 크기
+     */
+    @Value("${musinsa.category-top.max-k:1000}")
+    private int categoryTopMaxK;
+
+    /**
+     * 가격 변경이 다른 트랜잭션의 변경과 충돌(낙관적 잠금 실패)했을 때 트랜잭션을 실행하는 최대 횟수 (첫 시도 포함)
+     */
+    @Value("${musinsa.price-update.retry.max-attempts:10}")
+    private int priceUpdateMaxAttempts;
+
+    /**
+     * 충돌 후 다시 시도하기 전 대기 시간의 기준 (밀리초)
+     * 0부터 기준 x 2^(시도 횟수 - 1) 사이에서 무작위로 기다려, 충돌한 요청들이 같은 시점에 다시 충돌하지 않도록 한다.
+     */
+    @Value("${musinsa.price-update.retry.backoff-ms:1}")
+    private long priceUpdateBackoffMillis;
+
+    /**
+     * 지연 기록과 가격 변경의 트랜잭션을 시작하기 위한 트랜잭션 매니저
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 가격 변경 트랜잭션 (충돌 시 조회부터 다시 실행하기 위해 메서드 안에서 트랜잭션을 시작)
+     */
+    private TransactionTemplate priceUpdateTransaction;
+
+    /**
+     * 브랜드 저장/삭제 트랜잭션 (기록을 기다리는 가격 변경을 트랜잭션 밖에서 먼저 기록하기 위해 메서드 안에서 트랜잭션을 시작)
+     */
+    private TransactionTemplate brandWriteTransaction;
+
+    /**
+     * 충돌로 가격 변경 트랜잭션을 다시 실행한 횟수
+     */
+    private final AtomicLong priceUpdateConflicts = new AtomicLong();
+
+    /**
+     * 가격 변경 지연 기록 버퍼 (지연 기록을 사용하지 않으면 null)
+     */
+    private PriceWriteBehindBuffer priceWriteBehind;
+
+    /**
+     * 메모리 카탈로그 반영과 지연 기록 보관의 순서를 맞추기 위한 잠금
+     * 같은 상품의 가격 변경이 동시에 들어와도 메모리에 마지막으로 반영된 가격이 데이터베이스에도 마지막으로 기록되도록 한다.
+     */
+    private final Object writeBehindLock = new Object();
+
+    /**
+     * 가격 변경 로그 (사용하지 않으면 null)
+     */
+    private PriceChangeLog priceChangeLog;
+
+    /**
+     * 시작 시 로그에서 읽은, 데이터베이스에 기록되지 않았을 수 있는 가격 변경 (브랜드 ID -> 카테고리별 마지막 가격)
+     * 애플리케이션 준비가 끝나면 재적용하고 비운다.
+     */
+    private Map<Long, Map<Category, Integer>> recoveredPrices;
+
+    /**
+     * 로그 재적용 완료 신호 (재적용이 끝나기 전의 가격 변경 요청은 기다림, 로그를 사용하지 않으면 null)
+     */
+    private volatile CountDownLatch priceChangeRecovery;
+
+    /**
+     * 시작 시 로그에서 읽은 브랜드 저장/삭제 기록의 브랜드 ID (스냅샷으로 복원할 때 데이터베이스에서 다시 읽음)
+     */
+    private Set<Long> recoveredBrandIds;
+
+    /**
+     * 로그에 기록했지만 트랜잭션이 아직 끝나지 않은 브랜드 저장/삭제 수 (writeBehindLock 안에서 증가)
+     * 0이 아니면 메모리 카탈로그에 아직 반영되지 않은 변경이 있으므로 체크포인트를 미룬다.
+     */
+    private final AtomicInteger brandChangesInFlight = new AtomicInteger();
+
+    /**
+     * 저장/삭제 트랜잭션이 진행 중인 브랜드 ID별 진행 수 (writeBehindLock 안에서 사용)
+     * 이 브랜드들의 가격 변경 요청은 커밋 이후 메모리 카탈로그 반영이 끝날 때까지 기다린다.
+     */
+    private final Map<Long, Integer> brandsBeingSaved = new HashMap<>();
+
+    /**
+     * 체크포인트를 한 번에 하나씩 실행하기 위한 잠금 (writeBehindLock보다 먼저 잡음)
+     */
+    private final Object checkpointLock = new Object();
+
+    /**
+     * 마지막으로 저장한 카탈로그 스냅샷의 카탈로그 버전 (checkpointLock 안에서 사용)
+     */
+    private long catalogSnapshotVersion = -1;
+
+    /**
+     * 체크포인트 실행 스레드 (로그가 가득 찼을 때와 주기 실행, 가격 변경 로그를 사용하지 않으면 null)
+     */
+    private ScheduledExecutorService checkpointScheduler;
+
+    /**
+     * 로그가 가득 차서 요청한 체크포인트가 아직 끝나지 않았는지 여부 (중복 요청 방지)
+     */
+    private final AtomicBoolean checkpointScheduled = new AtomicBoolean();
+
+    /**
+     * 메서드 설명 : 가격 변경 트랜잭션을 준비하고, 가격 변경 지연 기록을 사용하도록 설정된 경우 지연 기록 버퍼를 생성하는 메서드
+     * 기록은 호출한 쪽의 트랜잭션과 관계없이 묶음마다 새 트랜잭션에서 커밋된다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @PostConstruct
+    public void startPriceWriteBehind() {
+        priceUpdateTransaction = new TransactionTemplate(transactionManager);
+        brandWriteTransaction = new TransactionTemplate(transactionManager);
+        if (!writeBehindEnabled) {
+            return;
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        priceWriteBehind = new PriceWriteBehindBuffer(
+                prices -> transaction.executeWithoutResult(status -> writePriceUpdates(prices)),
+                writeBehindFlushIntervalMillis, writeBehindBatchSize, writeBehindQueueCapacity);
+
+        if (changeLogEnabled) {
+            priceChangeLog = new PriceChangeLog(Path.of(changeLogPath),
+                    PriceChangeLog.FsyncPolicy.valueOf(changeLogFsync.toUpperCase(Locale.ROOT)), changeLogFsyncIntervalMillis);
+            priceChangeRecovery = new CountDownLatch(1);
+            checkpointScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "price-change-log-checkpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            // 브랜드 저장/삭제 기록 이전의 가격 변경은 이미 데이터베이스에 기록된 것이므로 제외
+            Map<Long, Map<Category, Integer>> recovered = new LinkedHashMap<>();
+            Set<Long> brandIds = new HashSet<>();
+            long count = priceChangeLog.replay(change -> {
+                if (change.type() == PriceChangeLog.Type.PRICE_CHANGED) {
+                    recovered.computeIfAbsent(change.brandId(), id -> new EnumMap<>(Category.class))
+                            .put(change.category(), change.price());
+                } else {
+                    recovered.remove(change.brandId());
+                    brandIds.add(change.brandId());
+                }
+            });
+            recoveredPrices = recovered;
+            recoveredBrandIds = brandIds;
+            logger.info("가격 변경 로그 {}건을 읽었습니다 (재적용 대상 브랜드 {}개): {}", count, recovered.size(), changeLogPath);
+        } else if (catalogSnapshotEnabled) {
+            logger.warn("카탈로그 스냅샷은 가격 변경 로그(musinsa.price-update.log.enabled)를 사용할 때만 동작합니다");
+        }
+    }
+
+    /**
+     * 메서드 설명 : 애플리케이션 준비가 끝난 뒤 가격 변경 로그에서 읽은 변경을 재적용하는 메서드
+     * 카탈로그 스냅샷을 사용하면 먼저 스냅샷 파일로 카탈로그를 복원하고, 그렇지 않으면 데이터베이스에서 적재한다.
+     * 적재된 카탈로그에 변경을 반영하고 지연 기록에 다시 넣은 뒤, 모두 데이터베이스에 기록하고 로그를 비운다(체크포인트).
+     * 준비 완료(ApplicationReadyEvent) 처리 중에 실행되므로, 끝날 때까지 준비 상태(readiness)가 트래픽 수신으로 바뀌지 않으며
+     * 새 가격 변경 요청도 기다린다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPriceChanges() {
+        CountDownLatch recovery = priceChangeRecovery;
+        if (recovery == null || recovery.getCount() == 0) {
+            return;
+        }
+        try {
+            boolean logged = !recoveredBrandIds.isEmpty() || !recoveredPrices.isEmpty();
+            boolean restored = catalogSnapshotEnabled && restoreCatalogSnapshot(recoveredBrandIds, logged);
+            loadedSnapshot();
+            int applied = 0;
+            for (Map.Entry<Long, Map<Category, Integer>> brand : recoveredPrices.entrySet()) {
+                for (Map.Entry<Category, Integer> price : brand.getValue().entrySet()) {
+                    boolean queued;
+                    synchronized (writeBehindLock) {
+                        if (categoryPriceIndex.updatePrice(brand.getKey(), price.getKey(), price.getValue()) == null) {
+                            continue;
+                        }
+                        queued = priceWriteBehind.submit(brand.getKey(), price.getKey(), price.getValue());
+                    }
+                    // 지연 기록 버퍼가 가득 참: 잠금을 놓고 기록한 뒤 다시 보관
+                    while (!queued) {
+                        priceWriteBehind.flush();
+                        synchronized (writeBehindLock) {
+                            queued = priceWriteBehind.submit(brand.getKey(), price.getKey(), price.getValue());
+                        }
+                    }
+                    applied++;
+                }
+            }
+            if (restored && logged) {
+                verifyRestoredCatalog();
+            }
+            // 스냅샷으로 복원한 뒤 바뀐 내용이 없으면 스냅샷을 다시 저장하지 않음
+            synchronized (checkpointLock) {
+                if (categoryPriceIndex.getVersion() != catalogSnapshotVersion) {
+                    checkpointPriceChangeLog();
+                }
+            }
+            logger.info("가격 변경 로그의 가격 변경 {}건을 재적용했습니다", applied);
+        } finally {
+            recoveredPrices = null;
+            recoveredBrandIds = null;
+            recovery.countDown();
+        }
+
+        if (catalogSnapshotEnabled) {
+            checkpointScheduler.scheduleWithFixedDelay(this::checkpointIfChanged,
+                    catalogSnapshotIntervalMillis, catalogSnapshotIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 메서드 설명 : 카탈로그 스냅샷 파일로 메모리 카탈로그를 복원하는 내부 메서드
+     * 스냅샷 이후의 가격 변경은 로그에서 재적용하고, 저장/삭제 기록이 있는 브랜드는 데이터베이스에서 다시 읽어 교체한다.
+     * 로그에 변경이 없으면 데이터베이스는 스냅샷을 저장할 때와 같아야 하므로, 헤더의 카탈로그 지문을 데이터베이스의 지문과 비교하여
+     * 다르면(재시작 때 초기 데이터를 다시 만든 인메모리 데이터베이스, 다른 데이터베이스, 로그 없이 변경된 가격 등) 스냅샷을 버리고 데이터베이스에서 적재한다.
+     * 로그에 변경이 있으면 재적용과 기록이 끝난 뒤 verifyRestoredCatalog에서 같은 방식으로 확인한다.
+     * @param changedBrandIds 로그에 저장/삭제 기록이 있는 브랜드 ID
+     * @param logged 로그에 재적용할 변경이 있는지 여부
+     * @return 스냅샷으로 복원했는지 여부
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private boolean restoreCatalogSnapshot(Set<Long> changedBrandIds, boolean logged) {
+        long started = System.nanoTime();
+        long expectedVersion = categoryPriceIndex.getVersion();
+        CatalogSnapshotFile.Contents contents;
+        try {
+            contents = CatalogSnapshotFile.read(Path.of(catalogSnapshotPath));
+        } catch (UncheckedIOException e) {
+            logger.warn("카탈로그 스냅샷 파일을 사용할 수 없어 데이터베이스에서 적재합니다", e);
+            return false;
+        }
+        if (contents == null) {
+            return false;
+        }
+        if (!logged && !contents.fingerprint().equals(databaseFingerprint())) {
+            logger.warn("카탈로그 스냅샷이 데이터베이스와 일치하지 않아 데이터베이스에서 적재합니다: {}", catalogSnapshotPath);
+            return false;
+        }
+        if (!categoryPriceIndex.restore(contents, contents.catalogVersion(), expectedVersion)) {
+            return false;
+        }
+        long restoredVersion = categoryPriceIndex.getVersion();
+
+        if (!changedBrandIds.isEmpty()) {
+            List<CategoryPriceIndex.Entry> saved = brandRepository.findAllWithPricesByIdIn(changedBrandIds).stream()
+                    .map(CategoryPriceIndex.Entry::of)
+                    .collect(Collectors.toList());
+            categoryPriceIndex.putAll(saved);
+            Set<Long> deleted = new HashSet<>(changedBrandIds);
+            saved.forEach(entry -> deleted.remove(entry.id()));
+            deleted.forEach(categoryPriceIndex::remove);
+        }
+
+        catalogSnapshotVersion = restoredVersion;
+        logger.info("카탈로그 스냅샷에서 브랜드 {}개를 복원했습니다 (카탈로그 버전 {}, 다시 읽은 브랜드 {}개, {}ms)",
+                categoryPriceIndex.snapshot().matrix().liveCount(), contents.catalogVersion(), changedBrandIds.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * 메서드 설명 : 스냅샷으로 복원하고 로그의 변경을 재적용한 메모리 카탈로그가 데이터베이스와 같은지 확인하는 내부 메서드
+     * 재적용한 가격 변경을 먼저 데이터베이스에 기록한 뒤 두 카탈로그 지문을 비교하며, 다르면(스냅샷 이후 로그 없이 데이터가 바뀐 경우 등)
+     * 복원한 카탈로그를 버리고 데이터베이스에서 다시 적재한다. 비교가 잘못 실패해도 데이터베이스에서 적재할 뿐이므로 결과는 항상 데이터베이스와 같다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void verifyRestoredCatalog() {
+        priceWriteBehind.flush();
+        if (!CatalogFingerprint.of(categoryPriceIndex.snapshot().matrix()).equals(databaseFingerprint())) {
+            logger.warn("복원한 카탈로그가 데이터베이스와 일치하지 않아 데이터베이스에서 다시 적재합니다: {}", catalogSnapshotPath);
+            categoryPriceIndex.invalidate();
+            loadedSnapshot();
+        }
+    }
+
+    // 데이터베이스의 카탈로그 지문 계산 (브랜드 수와 ID 합, 카테고리별 가격 집계)
+    private CatalogFingerprint databaseFingerprint() {
+        Object[] brands = brandRepository.findBrandCountAndIdSum().get(0);
+        int categoryCount = Category.values().length;
+        long[] priceCounts = new long[categoryCount];
+        long[] priceSums = new long[categoryCount];
+        long[] weightedSums = new long[categoryCount];
+        for (Object[] row : brandRepository.findCategoryPriceSums()) {
+            int c = ((Category) row[0]).ordinal();
+            priceCounts[c] = ((Number) row[1]).longValue();
+            priceSums[c] = ((Number) row[2]).longValue();
+            weightedSums[c] = ((Number) row[3]).longValue();
+        }
+        return new CatalogFingerprint(((Number) brands[0]).longValue(), ((Number) brands[1]).longValue(),
+                priceCounts, priceSums, weightedSums);
+    }
+
+    /**
+     * 메서드 설명 : 애플리케이션 종료 시 기록을 기다리는 가격 변경을 모두 데이터베이스에 기록하는 메서드
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @PreDestroy
+    public void stopPriceWriteBehind() {
+        if (checkpointScheduler != null) {
+            checkpointScheduler.shutdownNow();
+        }
+        if (priceChangeLog != null) {
+            // 모든 변경을 데이터베이스(와 카탈로그 스냅샷)에 기록하여 다음 시작 시 재적용할 기록이 없도록 함
+            checkpointIfChanged();
+        }
+        if (priceWriteBehind != null) {
+            priceWriteBehind.close();
+        }
+        if (priceChangeLog != null) {
+            priceChangeLog.close();
+        }
+    }
+
     /**
      * 메서드 설명 : 애플리케이션 시작 시 초기 브랜드 데이터를 설정하는 메서드
      * 데이터베이스에 브랜드가 없는 경우에만 기본 브랜드 데이터를 생성한다.
@@ -161,18 +635,59 @@ public class BrandService {
             brandI.getPrices().put(Category.SOCKS, 1700);
             brandI.getPrices().put(Category.ACCESSORY, 2400);
             brandRepository.save(brandI);
+
+            // 초기 데이터가 커밋되면 인덱스를 다시 적재하도록 무효화
+            afterCommit(categoryPriceIndex::invalidate);
         }
 
     }
 
     /**
      * 메서드 설명 : 모든 브랜드 목록을 조회하는 메서드
-     * @return 모든 브랜드 목록
+     * 가격 정보를 FETCH JOIN으로 함께 조회하므로 브랜드 수와 관계없이 한 번의 쿼리로 처리된다.
+     * @return 모든 브랜드 목록 (가격 정보 포함, 브랜드 ID 순)
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
     public List<Brand> getAllBrands() {
-        return brandRepository.findAll();
+        // 지연 기록 중인 가격 변경을 먼저 기록하여 최신 가격으로 조회
+        flushPriceUpdates();
+        return brandRepository.findAllWithPrices();
+    }
+
+    /**
+     * 메서드 설명 : 브랜드 목록을 브랜드 ID 순으로 한 페이지씩 조회하는 메서드 (keyset 페이지)
+     * 이전 페이지의 마지막 브랜드 ID 다음부터 조회하므로, 전체 브랜드 수나 페이지 위치와 관계없이 한 번의 쿼리로
+     * 페이지 크기만큼의 브랜드만 읽는다. 다음 페이지가 있는지 알기 위해 한 건을 더 조회한다.
+     * @param after 이전 페이지의 마지막 브랜드 ID (첫 페이지는 0)
+     * @param limit 페이지 크기 (1 ~ musinsa.brand-page.max-limit)
+     * @return 브랜드 목록 페이지 (다음 페이지가 없으면 nextAfter는 null)
+     * @throws IllegalArgumentException 기준 ID가 음수이거나 페이지 크기가 허용 범위를 벗어난 경우
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public BrandPageDto getBrandPage(long after, int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("after는 0 이상이어야 합니다: " + after);
+        }
+        if (limit < 1 || limit > brandPageMaxLimit) {
+            throw new IllegalArgumentException("limit은 1 이상 " + brandPageMaxLimit + " 이하여야 합니다: " + limit);
+        }
+        // 지연 기록 중인 가격 변경을 먼저 기록하여 최신 가격으로 조회
+        flushPriceUpdates();
+
+        List<Brand> brands = brandRepository.findPageWithPricesAfter(after, limit + 1);
+        Long nextAfter = null;
+        if (brands.size() > limit) {
+            brands = new ArrayList<>(brands.subList(0, limit));
+            nextAfter = brands.get(limit - 1).getId();
+        }
+        return BrandPageDto.builder()
+                .after(after)
+                .limit(limit)
+                .brands(brands)
+                .nextAfter(nextAfter)
+                .build();
     }
 
     /**
@@ -183,6 +698,8 @@ public class BrandService {
      * 작성일 : 2025.03.02
      */
     public Brand getBrandById(Long id) {
+        // 지연 기록 중인 가격 변경을 먼저 기록하여 최신 가격으로 조회
+        flushPriceUpdates();
         return brandRepository.findById(id).orElse(null);
     }
 
@@ -194,19 +711,91 @@ public class BrandService {
      * 작성일 : 2025.03.02
      */
     public Brand getBrandByName(String name) {
+        // 지연 기록 중인 가격 변경을 먼저 기록하여 최신 가격으로 조회
+        flushPriceUpdates();
         return brandRepository.findByName(name);
     }
 
+    /**
+     * 메서드 설명 : 주어진 이름 중 이미 등록된 브랜드 이름을 조회하는 메서드
+     * 대량 등록에서 배치를 저장하기 전에 이름 중복(ux_brand_name)을 한 번의 쿼리로 확인하는 데 사용한다.
+     * @param names 확인할 브랜드 이름 목록
+     * @return 이미 등록된 브랜드 이름
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public Set<String> getExistingBrandNames(Collection<String> names) {
+        return names.isEmpty() ? Set.of() : new HashSet<>(brandRepository.findNamesByNameIn(names));
+    }
+
     /**
      * 메서드 설명 : 브랜드를 저장하는 메서드 (생성 또는 수정)
-     * @param brand 저장할 브랜드 객체
+     * 수정은 브랜드에 담긴 버전(관리 화면과 API에서 조회한 시점의 버전)을 조건으로 실행되므로, 조회 이후 다른 변경
+     * (가격 변경, 다른 관리자의 수정 등)이 먼저 저장되었으면 그 변경을 덮어쓰지 않고 충돌 예외가 발생한다.
+     * 요청 범위의 영속성 컨텍스트(open-in-view)에서 조회한 엔티티는 버전을 바꿔도 UPDATE 조건에 쓰이지 않으므로,
+     * 브랜드에 담긴 버전을 데이터베이스의 현재 버전과 먼저 비교하고, 그 이후의 변경은 버전 조건 UPDATE가 막는다.
+     * @param brand 저장할 브랜드 객체 (버전이 없으면 충돌 검사 없이 저장)
      * @return 저장된 브랜드 객체
+     * @throws IllegalArgumentException 브랜드 이름이 비어 있는 경우 (저장하지 않음)
+     * @throws DataIntegrityViolationException 다른 브랜드와 이름이 같은 경우
+     * @throws OptimisticLockingFailureException 브랜드의 버전 이후 다른 변경이 먼저 저장된 경우
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
-    @Transactional
     public Brand saveBrand(Brand brand) {
-        return brandRepository.save(brand);
+        requireBrandName(brand);
+        return writeBrands(brand.getId() != null ? List.of(brand.getId()) : List.of(), () -> {
+            if (brand.getId() != null && brand.getVersion() != null) {
+                Long currentVersion = brandRepository.findVersionById(brand.getId());
+                if (currentVersion != null && !currentVersion.equals(brand.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Brand.class, brand.getId());
+                }
+            }
+            // 이름 중복(ux_brand_name)을 커밋 전에 DataIntegrityViolationException으로 확인할 수 있도록 바로 실행
+            Brand savedBrand = brandRepository.save(brand);
+            brandRepository.flush();
+            if (priceChangeLog != null) {
+                logBrandChanges(List.of(PriceChangeLog.Change.brandSaved(savedBrand.getId())));
+            }
+
+            // 커밋 이후 엔티티 버전과 함께 인덱스에 반영
+            indexAfterCommit(List.of(savedBrand));
+
+            return savedBrand;
+        });
+    }
+
+    /**
+     * 메서드 설명 : 여러 브랜드를 하나의 트랜잭션에서 저장하는 메서드
+     * 브랜드 ID를 시퀀스에서 미리 할당받으므로 INSERT 문이 flush 시점에 hibernate.jdbc.batch_size 단위로 묶여 전송된다.
+     * 대량 등록(BrandImportService)에서 배치마다 호출되며, 커밋 이후 저장된 브랜드를 인덱스에 한 번에 반영한다.
+     * @param brands 저장할 브랜드 목록
+     * @return 저장된 브랜드 목록
+     * @throws IllegalArgumentException 이름이 비어 있는 브랜드가 포함된 경우 (배치 전체를 저장하지 않음)
+     * @throws DataIntegrityViolationException 이름이 이미 등록된 브랜드가 포함된 경우 (배치 전체가 롤백됨)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public List<Brand> saveBrands(List<Brand> brands) {
+        brands.forEach(BrandService::requireBrandName);
+        List<Long> brandIds = brands.stream()
+                .map(Brand::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return writeBrands(brandIds, () -> {
+            List<Brand> savedBrands = brandRepository.saveAll(brands);
+            brandRepository.flush();
+            if (priceChangeLog != null) {
+                logBrandChanges(savedBrands.stream()
+                        .map(savedBrand -> PriceChangeLog.Change.brandSaved(savedBrand.getId()))
+                        .collect(Collectors.toList()));
+            }
+
+            // 커밋 이후 엔티티 버전과 함께 인덱스에 반영
+            indexAfterCommit(savedBrands);
+
+            return savedBrands;
+        });
     }
 
     /**
@@ -215,9 +804,17 @@ public class BrandService {
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
-    @Transactional
     public void deleteBrand(Long id) {
-        brandRepository.deleteById(id);
+        writeBrands(List.of(id), () -> {
+            brandRepository.deleteById(id);
+            if (priceChangeLog != null) {
+                logBrandChanges(List.of(PriceChangeLog.Change.brandDeleted(id)));
+            }
+
+            // 커밋 이후 인덱스에서 제거
+            afterCommit(() -> categoryPriceIndex.remove(id));
+            return null;
+        });
     }
 
     /**
@@ -228,6 +825,8 @@ public class BrandService {
      * 작성일 : 2025.03.02
      */
     public List<Brand> getBrandsByCategoryOrderByPriceAsc(Category category) {
+        // 지연 기록 중인 가격 변경을 먼저 기록하여 최신 가격으로 조회
+        flushPriceUpdates();
         return brandRepository.findAllByCategoryOrderByPriceAsc(category);
     }
 
@@ -239,6 +838,8 @@ public class BrandService {
      * 작성일 : 2025.03.02
      */
     public List<Brand> getBrandsByCategoryOrderByPriceDesc(Category category) {
+        // 지연 기록 중인 가격 변경을 먼저 기록하여 최신 가격으로 조회
+        flushPriceUpdates();
         return brandRepository.findAllByCategoryOrderByPriceDesc(category);
     }
 
@@ -246,35 +847,66 @@ public class BrandService {
      * 메서드 설명 : API 1 카테고리별 최저가격 브랜드와 상품가격, 총액을 조회하는 메서드
      * 각 카테고리별로 최저 가격을 제공하는 브랜드와 가격 정보를 맵 형태로 반환한다.
      * 같은 최저가격을 제공하는 브랜드가 여러 개인 경우, 모든 브랜드를 콤마로 구분하여 표시한다.
+     * 데이터베이스 대신 메모리 인덱스의 스냅샷 하나에서 모든 카테고리를 조회하므로, 계산 도중 쓰기가 반영되어도 한 버전의 결과만 반환한다.
+     * 결과는 카탈로그 버전별로 캐시되어 여러 요청이 공유하므로, 호출자는 반환된 맵을 수정해서는 안 된다.
+     * 데이터베이스 조회 모드에서는 캐시 없이 요청마다 데이터베이스에서 계산하되, 동시에 들어온 같은 요청은 한 번의 계산을 공유한다.
      * @return 카테고리를 키로, 브랜드와 가격 정보를 값으로 하는 맵
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
     public Map<Category, Map<String, Object>> getLowestPriceByCategory() {
+        if (isDatabaseReadMode()) {
+            return databaseReads.execute("lowest-price-by-category", categoryPriceIndex.getVersion(),
+                    this::queryLowestPriceByCategory);
+        }
+        return responseCache.get("lowest-price-by-category", this::computeLowestPriceByCategory);
+    }
+
+    /**
+     * 메서드 설명 : 데이터베이스 조회 모드에서 API 1 결과를 계산하는 내부 메서드
+     * 모든 카테고리의 최저가 브랜드를 하나의 집계 쿼리(카테고리별 GROUP BY MIN)로 조회하므로,
+     * 카테고리 수와 관계없이 데이터베이스 왕복은 한 번이며 Brand 엔티티를 적재하지 않는다.
+     * @return 카테고리를 키로, 브랜드와 가격 정보를 값으로 하는 맵
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private Map<Category, Map<String, Object>> queryLowestPriceByCategory() {
+
+        // 카테고리별로 최저가 행 묶기 (쿼리 결과가 브랜드 ID 순이므로 묶은 뒤에도 순서 유지)
+        Map<Category, List<BrandCategoryPriceDto>> lowestByCategory = brandRepository.findLowestPricesForAllCategories()
+                .stream()
+                .collect(Collectors.groupingBy(BrandCategoryPriceDto::getCategory,
+                        () -> new EnumMap<>(Category.class), Collectors.toList()));
+
         Map<Category, Map<String, Object>> result = new HashMap<>();
+        for (Map.Entry<Category, List<BrandCategoryPriceDto>> lowest : lowestByCategory.entrySet()) {
+            // 결과 맵에 브랜드와 가격 정보 저장 (같은 최저가 브랜드는 콤마로 구분)
+            Map<String, Object> categoryData = new HashMap<>();
+            categoryData.put("brand", lowest.getValue().stream()
+                    .map(BrandCategoryPriceDto::getBrandName)
+                    .collect(Collectors.joining(",")));
+            categoryData.put("price", lowest.getValue().get(0).getPrice());
 
-        // 각 카테고리별로 최저가격 브랜드 조회
-        for (Category category : Category.values()) {
-            List<Brand> brands = getBrandsByCategoryOrderByPriceAsc(category);
-            if (!brands.isEmpty()) {
-                int lowestPrice = brands.get(0).getPrices().get(category);
-
-                // 같은 최저가 가진 모든 브랜드 수집
-                List<String> lowestPriceBrands = new ArrayList<>();
-                for (Brand brand : brands) {
-                    int price = brand.getPrices().get(category);
-                    if (price == lowestPrice) {
-                        lowestPriceBrands.add(brand.getName());
-                    } else {
-                        // 이미 가격순 정렬이므로 첫 번째 다른 가격이 나오면 중단
-                        break;
-                    }
-                }
+            result.put(lowest.getKey(), categoryData);
+        }
+
+        return result;
+
+    }
+
+    // API 1 결과 계산 (캐시에 없을 때만 호출)
+    private Map<Category, Map<String, Object>> computeLowestPriceByCategory() {
+        Map<Category, Map<String, Object>> result = new HashMap<>();
+        CategoryPriceIndex.Snapshot snapshot = loadedSnapshot();
 
-                // 결과 맵에 브랜드와 가격 정보 저장
+        // 각 카테고리별로 같은 스냅샷에서 최저 가격대를 조회
+        for (Category category : Category.values()) {
+            CategoryPriceIndex.PriceLevel lowest = snapshot.lowest(category);
+            if (lowest != null) {
+                // 결과 맵에 브랜드와 가격 정보 저장 (같은 최저가 브랜드는 콤마로 구분)
                 Map<String, Object> categoryData = new HashMap<>();
-                categoryData.put("brand", String.join(",", lowestPriceBrands));
-                categoryData.put("price", lowestPrice);
+                categoryData.put("brand", String.join(",", lowest.brandNames()));
+                categoryData.put("price", lowest.price());
 
                 result.put(category, categoryData);
             }
@@ -286,48 +918,89 @@ public class BrandService {
 
     /**
      * 메서드 설명 : API 2 단일 브랜드로 모든 카테고리 상품을 구매할 때 최저가격 브랜드를 조회하는 메서드
-     * 모든 브랜드를 검사하여 각 브랜드의 총 가격을 계산하고,
-     * 그 중 최저 총액을 제공하는 브랜드와 카테고리별 가격, 총액 정보를 반환한다.
+     * 메모리 인덱스 스냅샷의 브랜드별 총액 열에서 총액이 가장 낮은 브랜드를 조회하고,
+     * 해당 브랜드의 카테고리별 가격, 총액 정보를 반환한다.
+     * 총액이 같은 브랜드가 여러 개인 경우 브랜드 ID가 가장 작은 브랜드를 반환한다.
+     * 결과는 카탈로그 버전별로 캐시된다.
+     * 데이터베이스 조회 모드에서는 캐시 없이 요청마다 데이터베이스에서 계산하되, 동시에 들어온 같은 요청은 한 번의 계산을 공유한다.
      * @return 최저 총액 브랜드 정보를 포함한 맵
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
     public Map<String, Object> getLowestTotalPriceBrand() {
+        if (isDatabaseReadMode()) {
+            return databaseReads.execute("lowest-total-price-brand", categoryPriceIndex.getVersion(),
+                    this::queryLowestTotalPriceBrand);
+        }
+        return responseCache.get("lowest-total-price-brand", this::computeLowestTotalPriceBrand);
+    }
 
-        List<Brand> brands = getAllBrands();
-        Brand lowestTotalPriceBrand = null;
-        int lowestTotalPrice = Integer.MAX_VALUE;
+    /**
+     * 메서드 설명 : 데이터베이스 조회 모드에서 API 2 결과를 계산하는 내부 메서드
+     * 브랜드별 총액 합산과 정렬은 데이터베이스의 GROUP BY SUM 쿼리로 수행하여 최저 총액 브랜드의 ID만 받고,
+     * 그중 ID가 가장 작은 브랜드 하나의 가격 정보만 조회하므로 브랜드 수와 관계없이 메모리 사용량이 일정하다.
+     * 두 쿼리 사이에 해당 브랜드가 삭제되면 다음 ID의 동점 브랜드를 조회한다.
+     * @return 최저 총액 브랜드 정보를 포함한 맵
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private Map<String, Object> queryLowestTotalPriceBrand() {
 
-        // 모든 브랜드의 총 가격을 계산하고 최저가 브랜드 찾기
-        for (Brand brand : brands) {
-            int totalPrice = calculateTotalPrice(brand);
-            if (totalPrice < lowestTotalPrice) {
-                lowestTotalPrice = totalPrice;
-                lowestTotalPriceBrand = brand;
+        // 최저 총액 브랜드 ID 조회 (동점 브랜드 포함, 메모리 인덱스와 같이 ID가 작은 브랜드 우선)
+        List<Long> lowestTotalBrandIds = brandRepository.findLowestTotalPriceBrandIds()
+                .stream()
+                .sorted()
+                .toList();
+
+        for (Long brandId : lowestTotalBrandIds) {
+            Optional<Brand> brand = brandRepository.findById(brandId);
+            if (brand.isPresent()) {
+                return toLowestTotalPriceResult(CategoryPriceIndex.Entry.of(brand.get()));
             }
         }
 
+        return new HashMap<>();
+
+    }
+
+    // API 2 결과 계산 (캐시에 없을 때만 호출)
+    private Map<String, Object> computeLowestTotalPriceBrand() {
+        // 스냅샷에서 총액이 가장 낮은 브랜드 조회 (가격 정보도 같은 스냅샷의 값)
+        return toLowestTotalPriceResult(loadedSnapshot().lowestTotal());
+    }
+
+    /**
+     * 메서드 설명 : 최저 총액 브랜드의 가격 정보를 API 2 응답 맵으로 변환하는 내부 메서드
+     * @param lowestTotalPriceBrand 최저 총액 브랜드 (브랜드가 없으면 null)
+     * @return 최저 총액 브랜드 정보를 포함한 맵 (브랜드가 없으면 빈 맵)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private Map<String, Object> toLowestTotalPriceResult(CategoryPriceIndex.Entry lowestTotalPriceBrand) {
+
         // 결과 맵 구성
         Map<String, Object> result = new HashMap<>();
         if (lowestTotalPriceBrand != null) {
             // LinkedHashMap을 사용해 필드 순서 유지
             Map<String, Object> brandInfo = new LinkedHashMap<>();
             // 요구사항 순서대로 추가: 브랜드, 카테고리, 총액
-            brandInfo.put("브랜드", lowestTotalPriceBrand.getName());
+            brandInfo.put("브랜드", lowestTotalPriceBrand.name());
 
             // 카테고리별 가격 정보 목록 생성
             List<Map<String, String>> categoryPrices = new ArrayList<>();
             for (Category category : Category.values()) {
                 Map<String, String> categoryPrice = new LinkedHashMap<>();
                 categoryPrice.put("카테고리", category.getDisplayName());
-                // 가격에 콤마 포맷 적용
-                categoryPrice.put("가격", String.format("%,d", lowestTotalPriceBrand.getPrices().get(category)));
+                // 가격에 콤마 포맷 적용 (상품이 없는 카테고리는 null)
+                categoryPrice.put("가격", lowestTotalPriceBrand.hasPrice(category)
+                        ? String.format("%,d", lowestTotalPriceBrand.price(category))
+                        : null);
                 categoryPrices.add(categoryPrice);
             }
 
             brandInfo.put("카테고리", categoryPrices);
             // 총액에 콤마 포맷 적용
-            brandInfo.put("총액", String.format("%,d", lowestTotalPrice));
+            brandInfo.put("총액", String.format("%,d", lowestTotalPriceBrand.totalPrice()));
 
             result.put("최저가", brandInfo);
         }
@@ -336,110 +1009,822 @@ public class BrandService {
 
     }
 
-    /**
-     * 메서드 설명 : 브랜드의 전체 카테고리 상품 가격 총액을 계산하는 내부 메서드
-     * @param brand 총액을 계산할 브랜드
-     * @return 해당 브랜드의 모든 카테고리 상품 가격 총액
-     * 작성자 : sys1021
-     * 작성일 : 2025.03.02
-     */
-    private int calculateTotalPrice(Brand brand) {
-        // 스트림 API를 사용하여 모든 카테고리의 가격을 합산
-        return brand.getPrices().values().stream().mapToInt(Integer::intValue).sum();
-    }
-
     /**
      * 메서드 설명 : API 3 카테고리 이름으로 최저, 최고 가격 브랜드와 상품 가격을 조회하는 메서드
      * 지정된 카테고리에 대해 최저가 및 최고가 브랜드와 가격 정보를 조회한다.
      * 같은 가격을 제공하는 브랜드가 여러 개인 경우 모두 포함한다.
+     * 메모리 인덱스 스냅샷의 카테고리 가격 열에서 최저/최고 가격대를 조회하므로,
+     * 카테고리 전체를 두 번 정렬하여 조회하지 않고 엔티티도 적재하지 않는다.
+     * 결과는 카테고리와 카탈로그 버전별로 캐시된다.
+     * 데이터베이스 조회 모드에서는 캐시 없이 요청마다 데이터베이스에서 조회하되, 동시에 들어온 같은 요청은 한 번의 조회를 공유한다.
      * @param category 조회할 카테고리
      * @return 카테고리, 최저가, 최고가 정보를 포함한 맵
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
     public Map<String, Object> getMinMaxPriceByCategory(Category category) {
+        if (isDatabaseReadMode()) {
+            return databaseReads.execute("min-max-price-by-category:" + category.name(), categoryPriceIndex.getVersion(),
+                    () -> queryMinMaxPriceByCategory(category));
+        }
+        return responseCache.get("min-max-price-by-category:" + category.name(),
+                () -> computeMinMaxPriceByCategory(category));
+    }
+
+    // API 3 결과 계산 (캐시에 없을 때만 호출)
+    private Map<String, Object> computeMinMaxPriceByCategory(Category category) {
 
-        // 해당 카테고리의 브랜드를 가격 오름차순과 내림차순으로 조회
-        List<Brand> brandsAsc = getBrandsByCategoryOrderByPriceAsc(category);
-        List<Brand> brandsDesc = getBrandsByCategoryOrderByPriceDesc(category);
+        // 최저가와 최고가를 같은 버전에서 조회
+        CategoryPriceIndex.Snapshot snapshot = loadedSnapshot();
 
         Map<String, Object> result = new HashMap<>();
         // 카테고리 이름 설정
         result.put("카테고리", category.getDisplayName());
 
-        // 최저가 브랜드 정보 추가
-        if (!brandsAsc.isEmpty()) {
-            Brand minPriceBrand = brandsAsc.get(0);
-            int minPrice = minPriceBrand.getPrices().get(category);
-
-            // 같은 최저가 가진 모든 브랜드 수집
-            List<Map<String, String>> minPriceList = new ArrayList<>();
-
-            for (Brand brand : brandsAsc) {
-                int price = brand.getPrices().get(category);
-                if (price == minPrice) {
-                    Map<String, String> minPriceInfo = new HashMap<>();
-                    minPriceInfo.put("브랜드", brand.getName());
-                    minPriceInfo.put("가격", String.format("%,d", price));
-                    minPriceList.add(minPriceInfo);
-                } else {
-                    // 이미 가격순 정렬이므로 첫 번째 다른 가격이 나오면 중단
-                    break;
-                }
-            }
+        // 최저가 브랜드 정보 추가 (같은 최저가 가진 모든 브랜드 포함)
+        CategoryPriceIndex.PriceLevel lowest = snapshot.lowest(category);
+        if (lowest != null) {
+            result.put("최저가", toBrandPriceList(lowest));
+        }
 
-            result.put("최저가", minPriceList);
+        // 최고가 브랜드 정보 추가 (같은 최고가 가진 모든 브랜드 포함)
+        CategoryPriceIndex.PriceLevel highest = snapshot.highest(category);
+        if (highest != null) {
+            result.put("최고가", toBrandPriceList(highest));
         }
 
-        // 최고가 브랜드 정보 추가
-        if (!brandsDesc.isEmpty()) {
-            Brand maxPriceBrand = brandsDesc.get(0);
-            int maxPrice = maxPriceBrand.getPrices().get(category);
+        return result;
 
-            // 같은 최고가 가진 모든 브랜드 수집
-            List<Map<String, String>> maxPriceList = new ArrayList<>();
+    }
 
-            for (Brand brand : brandsDesc) {
-                int price = brand.getPrices().get(category);
-                if (price == maxPrice) {
-                    Map<String, String> maxPriceInfo = new HashMap<>();
-                    maxPriceInfo.put("브랜드", brand.getName());
-                    maxPriceInfo.put("가격", String.format("%,d", price));
-                    maxPriceList.add(maxPriceInfo);
-                } else {
-                    // 이미 가격순 정렬이므로 첫 번째 다른 가격이 나오면 중단
-                    break;
-                }
-            }
+    /**
+     * 메서드 설명 : 데이터베이스 조회 모드에서 API 3 결과를 계산하는 내부 메서드
+     * 최저가 쿼리와 최고가 쿼리는 서로 독립적이므로, 스레드 풀이 설정되어 있으면 동시에 실행한 뒤 결과를 기다린다.
+     * 병렬로 실행된 쿼리는 요청 스레드가 아닌 풀 스레드에서 실행되므로 요청별 쿼리 수 지표(QueryCountFilter)에는 포함되지 않는다.
+     * @param category 조회할 카테고리
+     * @return 카테고리, 최저가, 최고가 정보를 포함한 맵
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private Map<String, Object> queryMinMaxPriceByCategory(Category category) {
 
-            result.put("최고가", maxPriceList);
+        // 두 쿼리를 먼저 시작 (스레드 풀이 없으면 요청 스레드에서 바로 실행)
+        CompletableFuture<List<BrandCategoryPriceDto>> lowestQuery =
+                submitQuery(() -> brandRepository.findLowestPricesByCategory(category));
+        CompletableFuture<List<BrandCategoryPriceDto>> highestQuery =
+                submitQuery(() -> brandRepository.findHighestPricesByCategory(category));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("카테고리", category.getDisplayName());
+
+        List<BrandCategoryPriceDto> lowest = join(lowestQuery);
+        if (!lowest.isEmpty()) {
+            result.put("최저가", toBrandPriceList(toPriceLevel(lowest)));
+        }
+
+        List<BrandCategoryPriceDto> highest = join(highestQuery);
+        if (!highest.isEmpty()) {
+            result.put("최고가", toBrandPriceList(toPriceLevel(highest)));
         }
 
         return result;
 
     }
 
+    /**
+     * 메서드 설명 : 같은 가격의 브랜드 행 목록을 가격대 정보로 변환하는 내부 메서드
+     * 브랜드 이름은 메모리 인덱스와 같이 브랜드 ID 순으로 정렬한다.
+     * @param prices 같은 가격의 브랜드 행 목록 (순서 무관, 비어 있지 않음)
+     * @return 가격과 브랜드 이름 목록을 담은 가격대 정보
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private static CategoryPriceIndex.PriceLevel toPriceLevel(List<BrandCategoryPriceDto> prices) {
+        return new CategoryPriceIndex.PriceLevel(prices.get(0).getPrice(),
+                prices.stream()
+                        .sorted(Comparator.comparing(BrandCategoryPriceDto::getBrandId))
+                        .map(BrandCategoryPriceDto::getBrandName)
+                        .toList());
+    }
+
+    /**
+     * 메서드 설명 : 가격대 정보를 브랜드, 가격 맵 목록으로 변환하는 내부 메서드
+     * @param priceLevel 변환할 가격대 정보
+     * @return 브랜드별 브랜드명과 콤마 포맷 가격을 담은 맵 목록
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private List<Map<String, String>> toBrandPriceList(CategoryPriceIndex.PriceLevel priceLevel) {
+        List<Map<String, String>> priceList = new ArrayList<>();
+        String formattedPrice = String.format("%,d", priceLevel.price());
+
+        for (String brandName : priceLevel.brandNames()) {
+            Map<String, String> priceInfo = new HashMap<>();
+            priceInfo.put("브랜드", brandName);
+            priceInfo.put("가격", formattedPrice);
+            priceList.add(priceInfo);
+        }
+
+        return priceList;
+    }
+
+    /**
+     * 메서드 설명 : 특정 카테고리의 가장 싼(또는 비싼) 브랜드를 가격순으로 한 페이지씩 조회하는 메서드
+     * 메모리 인덱스 스냅샷이 카테고리마다 유지하는 가격순 목록에서 커서 위치를 이진 탐색한 뒤 k개만 읽으므로,
+     * 카테고리 전체를 정렬하여 조회하는(findAllByCategoryOrderByPriceAsc) 대신 O(log n + k)로 처리된다.
+     * 오름차순은 (가격, 브랜드 ID) 순, 내림차순은 그 역순이며, 다음 페이지가 있는지 알기 위해 한 건을 더 조회한다.
+     * 커서는 이전 페이지의 마지막 브랜드의 "가격:브랜드 ID"이므로, 페이지 사이에 가격이 바뀌어도 중복이나 누락 없이 그 위치 다음부터 이어서 조회한다.
+     * 데이터베이스 조회 모드에서는 같은 커서 조건의 keyset 쿼리로 brand_products 인덱스에서 k + 1건만 읽는다.
+     * @param category 조회할 카테고리
+     * @param order 정렬 방향 (asc: 가격 오름차순, desc: 가격 내림차순)
+     * @param k 페이지 크기 (1 ~ musinsa.category-top.max-k)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @return 가격순 브랜드 페이지 (다음 페이지가 없으면 nextCursor는 null)
+     * @throws IllegalArgumentException 정렬 방향, 페이지 크기, 커서가 잘못된 경우
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public CategoryTopBrandsDto getTopBrandsByCategory(Category category, String order, int k, String cursor) {
+        boolean descending;
+        if ("asc".equalsIgnoreCase(order)) {
+            descending = false;
+        } else if ("desc".equalsIgnoreCase(order)) {
+            descending = true;
+        } else {
+            throw new IllegalArgumentException("order는 asc 또는 desc여야 합니다: " + order);
+        }
+        if (k < 1 || k > categoryTopMaxK) {
+            throw new IllegalArgumentException("k는 1 이상 " + categoryTopMaxK + " 이하여야 합니다: " + k);
+        }
+        CategoryPriceIndex.RankedBrand after = parseRankCursor(cursor);
+
+        List<BrandCategoryPriceDto> brands = isDatabaseReadMode()
+                ? queryTopBrandsByCategory(category, descending, after, k + 1)
+                : loadedSnapshot().ranked(category, descending, after, k + 1).stream()
+                        .map(ranked -> new BrandCategoryPriceDto(ranked.id(), ranked.name(), category, ranked.price()))
+                        .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (brands.size() > k) {
+            brands = new ArrayList<>(brands.subList(0, k));
+            BrandCategoryPriceDto last = brands.get(k - 1);
+            nextCursor = last.getPrice() + ":" + last.getBrandId();
+        }
+        return CategoryTopBrandsDto.builder()
+                .category(category.getDisplayName())
+                .order(descending ? "desc" : "asc")
+                .k(k)
+                .brands(brands)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 데이터베이스 조회 모드의 가격순 조회 (커서가 없으면 정렬 방향의 맨 앞부터)
+    private List<BrandCategoryPriceDto> queryTopBrandsByCategory(Category category, boolean descending,
+                                                                 CategoryPriceIndex.RankedBrand after, int limit) {
+        if (descending) {
+            return after == null
+                    ? brandRepository.findCategoryPricesBefore(category, Integer.MAX_VALUE, Long.MAX_VALUE, limit)
+                    : brandRepository.findCategoryPricesBefore(category, after.price(), after.id(), limit);
+        }
+        return after == null
+                ? brandRepository.findCategoryPricesAfter(category, Integer.MIN_VALUE, Long.MIN_VALUE, limit)
+                : brandRepository.findCategoryPricesAfter(category, after.price(), after.id(), limit);
+    }
+
+    // "가격:브랜드 ID" 형식의 커서를 기준 위치로 변환 (비어 있으면 null, 형식이 잘못되면 IllegalArgumentException)
+    private static CategoryPriceIndex.RankedBrand parseRankCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int separator = cursor.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 커서: " + cursor);
+        }
+        try {
+            return new CategoryPriceIndex.RankedBrand(Long.parseLong(cursor.substring(separator + 1)), null,
+                    Integer.parseInt(cursor.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서: " + cursor, e);
+        }
+    }
+
     /**
      * 메서드 설명 : API 4 브랜드 가격을 업데이트하는 메서드
      * 지정된 브랜드명과 카테고리에 해당하는 상품의 가격을 업데이트한다.
+     * 지연 기록(write-behind)을 사용하면 데이터베이스를 거치지 않고 메모리 카탈로그에 바로 반영한 뒤 기록을 예약하며,
+     * 이 경우 반환되는 브랜드는 메모리 카탈로그의 내용으로 만든 복사본이다.
+     * 브랜드 저장은 버전 조건이 붙은 UPDATE로 실행되며, 그 사이 다른 트랜잭션이 같은 브랜드를 변경했다면
+     * 트랜잭션을 롤백하고 브랜드 조회부터 다시 실행한다 (최대 musinsa.price-update.retry.max-attempts회).
      * @param brandName 업데이트할 브랜드의 이름
      * @param category 업데이트할 카테고리
      * @param price 새로운 가격
      * @return 업데이트된 브랜드 객체 (브랜드가 존재하지 않는 경우 null)
+     * @throws OptimisticLockingFailureException 모든 시도가 충돌한 경우
      * 작성자 : sys1021
      * 작성일 : 2025.03.02
      */
-    @Transactional
     public Brand updateBrandPrice(String brandName, Category category, int price) {
 
-        Brand brand = getBrandByName(brandName);
-        if (brand != null) {
+        if (priceWriteBehind != null) {
+            CategoryPriceIndex.Entry entry = submitPriceUpdate(brandName, category, price);
+            return entry != null ? toBrand(entry) : null;
+        }
+
+        return retryOnConflict(() -> {
+            Brand brand = getBrandByName(brandName);
+            if (brand == null) {
+                return null;
+            }
             brand.getPrices().put(category, price);
-            return brandRepository.save(brand);
+            Brand savedBrand = brandRepository.save(brand);
+            // 버전 조건 UPDATE를 바로 실행하여 충돌을 이 시도 안에서 확인하고, 증가된 버전을 인덱스 반영에 사용
+            brandRepository.flush();
+
+            // 커밋 이후 인덱스에 반영
+            indexAfterCommit(List.of(savedBrand));
+
+            return savedBrand;
+        });
+
+    }
+
+    /**
+     * 메서드 설명 : API 4 여러 브랜드의 카테고리 가격을 한 번에 업데이트하는 메서드
+     * 요청에 포함된 모든 브랜드를 한 번의 쿼리로 조회한 뒤 하나의 트랜잭션 안에서 가격을 변경한다.
+     * 변경 사항은 커밋 시점에 한꺼번에 반영되며, hibernate.jdbc.batch_size 설정에 따라 UPDATE/INSERT 문이 일괄 전송된다.
+     * 같은 브랜드와 카테고리에 대한 요청이 여러 번 있으면 마지막 요청의 가격이 적용된다.
+     * 존재하지 않는 브랜드나 잘못된 카테고리 이름은 해당 항목만 실패로 처리하고 나머지는 계속 반영한다.
+     * 지연 기록(write-behind)을 사용하면 항목마다 메모리 카탈로그에 바로 반영하고 기록을 예약한다.
+     * 다른 트랜잭션과 충돌하면 updateBrandPrice와 같이 전체 트랜잭션을 다시 실행한다.
+     * @param updates 업데이트할 가격 정보 목록(브랜드명, 카테고리명, 가격)
+     * @return 요청 순서와 같은 순서의 항목별 처리 결과 목록
+     * @throws OptimisticLockingFailureException 모든 시도가 충돌한 경우
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public List<BrandPriceUpdateResultDto> updateBrandPrices(List<BrandPriceUpdateDto> updates) {
+
+        if (priceWriteBehind != null) {
+            return submitPriceUpdates(updates);
+        }
+        return retryOnConflict(() -> writeBrandPrices(updates));
+
+    }
+
+    /**
+     * 메서드 설명 : 여러 브랜드의 카테고리 가격을 현재 트랜잭션에서 변경하는 내부 메서드 (updateBrandPrices의 한 번의 시도)
+     * @param updates 업데이트할 가격 정보 목록(브랜드명, 카테고리명, 가격)
+     * @return 요청 순서와 같은 순서의 항목별 처리 결과 목록
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private List<BrandPriceUpdateResultDto> writeBrandPrices(List<BrandPriceUpdateDto> updates) {
+
+        // 요청에 포함된 모든 브랜드를 한 번의 쿼리로 조회
+        Set<String> brandNames = updates.stream()
+                .map(BrandPriceUpdateDto::getBrandName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Brand> brandsByName = new HashMap<>();
+        if (!brandNames.isEmpty()) {
+            for (Brand brand : brandRepository.findAllWithPricesByNameIn(brandNames)) {
+                brandsByName.put(brand.getName(), brand);
+            }
+        }
+
+        List<BrandPriceUpdateResultDto> results = new ArrayList<>(updates.size());
+        Map<Long, Brand> changedBrands = new LinkedHashMap<>();
+
+        for (BrandPriceUpdateDto update : updates) {
+            BrandPriceUpdateResultDto.BrandPriceUpdateResultDtoBuilder result = BrandPriceUpdateResultDto.builder()
+                    .brandName(update.getBrandName())
+                    .categoryName(update.getCategoryName())
+                    .price(update.getPrice());
+
+            Brand brand = brandsByName.get(update.getBrandName());
+            if (brand == null) {
+                results.add(result.status("error").message(update.getBrandName() + " 브랜드가 존재하지 않습니다").build());
+                continue;
+            }
+
+            Category category;
+            try {
+                category = Category.fromDisplayName(update.getCategoryName());
+            } catch (IllegalArgumentException e) {
+                results.add(result.status("error").message(e.getMessage()).build());
+                continue;
+            }
+
+            // 관리 상태의 엔티티를 변경하면 커밋 시점의 flush에서 일괄 반영됨
+            brand.getPrices().put(category, update.getPrice());
+            changedBrands.put(brand.getId(), brand);
+            results.add(result.status("success").message("브랜드 가격이 성공적으로 업데이트되었습니다").build());
+        }
+
+        // 커밋 이후 변경된 브랜드를 인덱스에 한 번에 반영 (버전 조건 UPDATE를 먼저 실행하여 충돌 확인)
+        if (!changedBrands.isEmpty()) {
+            brandRepository.flush();
+            indexAfterCommit(changedBrands.values());
+        }
+
+        return results;
+
+    }
+
+    /**
+     * 메서드 설명 : 기록을 기다리는 가격 변경을 모두 데이터베이스에 기록하고 완료될 때까지 기다리는 메서드 (flush and wait)
+     * 지연 기록을 사용하지 않으면 아무것도 하지 않는다.
+     * 브랜드 저장/삭제 전에도 호출되어, 먼저 들어온 가격 변경이 나중에 기록되어 저장된 내용을 덮어쓰지 않도록 하고,
+     * 브랜드 엔티티 조회(관리 화면 등) 전에도 호출되어 기록 전의 가격이 조회되지 않도록 한다.
+     * @return 기록한 가격 변경 수
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public int flushPriceUpdates() {
+        return priceWriteBehind != null ? priceWriteBehind.flush() : 0;
+    }
+
+    /**
+     * 메서드 설명 : 브랜드 저장/삭제를 트랜잭션에서 실행하되, 대상 브랜드의 가격 변경 요청을 커밋 이후 반영이 끝날 때까지 막는 내부 메서드
+     * 지연 기록을 사용하면 트랜잭션을 시작하기 전에 기록을 기다리는 가격 변경을 모두 기록한다(flushPriceUpdates).
+     * 기록한 뒤 커밋 전에 같은 브랜드의 가격 변경이 들어오면 메모리 카탈로그에는 반영되었다가 커밋 이후 반영에 덮어써지고
+     * 데이터베이스에는 저장 이후에 기록되어 둘이 달라지므로, 그 요청은 커밋 이후 반영까지 끝난 다음에 처리한다.
+     * 호출한 쪽의 트랜잭션에 참여하는 경우에는 그 트랜잭션이 끝날 때 막은 것을 푼다.
+     * @param brandIds 저장/삭제할 기존 브랜드 ID (새 브랜드는 제외)
+     * @param write 트랜잭션 안에서 실행할 저장/삭제
+     * @return 저장/삭제 결과
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private <T> T writeBrands(Collection<Long> brandIds, Supplier<T> write) {
+        if (priceWriteBehind == null) {
+            return inBrandWriteTransaction(write);
+        }
+        holdPriceUpdates(brandIds);
+        boolean joined = TransactionSynchronizationManager.isSynchronizationActive();
+        if (joined) {
+            afterCompletion(() -> releasePriceUpdates(brandIds));
+        }
+        try {
+            priceWriteBehind.flush();
+            return inBrandWriteTransaction(write);
+        } finally {
+            if (!joined) {
+                releasePriceUpdates(brandIds);
+            }
+        }
+    }
+
+    // 브랜드 이름이 비어 있으면 IllegalArgumentException (이름은 메모리 카탈로그와 가격 변경 API에서 브랜드를 찾는 키)
+    private static void requireBrandName(Brand brand) {
+        if (brand.getName() == null || brand.getName().isBlank()) {
+            throw new IllegalArgumentException("브랜드 이름이 없습니다");
+        }
+    }
+
+    // 브랜드 저장/삭제 트랜잭션에서 실행 (트랜잭션 매니저가 없는 단위 테스트에서는 바로 실행)
+    private <T> T inBrandWriteTransaction(Supplier<T> write) {
+        return brandWriteTransaction != null ? brandWriteTransaction.execute(status -> write.get()) : write.get();
+    }
+
+    // 브랜드들의 가격 변경 요청을 막음
+    private void holdPriceUpdates(Collection<Long> brandIds) {
+        synchronized (writeBehindLock) {
+            brandIds.forEach(brandId -> brandsBeingSaved.merge(brandId, 1, Integer::sum));
+        }
+    }
+
+    // 막았던 가격 변경 요청을 풀고 기다리는 요청을 깨움
+    private void releasePriceUpdates(Collection<Long> brandIds) {
+        synchronized (writeBehindLock) {
+            brandIds.forEach(brandId -> brandsBeingSaved.computeIfPresent(brandId, (id, count) -> count > 1 ? count - 1 : null));
+            writeBehindLock.notifyAll();
+        }
+    }
+
+    // 브랜드의 저장/삭제 트랜잭션이 진행 중이면 끝날 때까지 기다림 (writeBehindLock 안에서 호출, 기다리는 동안 잠금을 놓음)
+    private void awaitBrandWrite(String brandName) {
+        Long brandId;
+        while ((brandId = categoryPriceIndex.idOf(brandName)) != null && brandsBeingSaved.containsKey(brandId)) {
+            try {
+                writeBehindLock.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("브랜드 저장 완료 대기 중 인터럽트", e);
+            }
         }
+    }
 
-        return null;
+    /**
+     * 메서드 설명 : 가격 변경을 메모리 카탈로그에 반영하고 데이터베이스 기록을 예약하는 내부 메서드 (지연 기록 모드)
+     * 메모리 카탈로그가 아직 적재되지 않았다면 먼저 적재한다.
+     * 지연 기록 버퍼가 가득 차면 아무것도 반영하지 않은 채 writeBehindLock을 놓고 기록(flush)한 뒤 다시 시도하므로,
+     * 데이터베이스에 기록하는 동안 다른 브랜드의 가격 변경과 브랜드 저장은 기다리지 않는다.
+     * @param brandName 업데이트할 브랜드의 이름
+     * @param category 업데이트할 카테고리
+     * @param price 새로운 가격
+     * @return 변경된 인덱스 항목 (브랜드가 존재하지 않는 경우 null)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private CategoryPriceIndex.Entry submitPriceUpdate(String brandName, Category category, int price) {
+        awaitPriceChangeRecovery();
+        loadedSnapshot();
+        CategoryPriceIndex.Entry entry;
+        long sequence = 0;
+        while (true) {
+            synchronized (writeBehindLock) {
+                awaitBrandWrite(brandName);
+                Long brandId = categoryPriceIndex.idOf(brandName);
+                if (brandId == null) {
+                    return null;
+                }
+                // 보관할 자리가 있을 때만 메모리 카탈로그와 로그에 반영 (같은 브랜드의 저장은 awaitBrandWrite로 막혀 있으므로 항목이 있음)
+                if (priceWriteBehind.submit(brandId, category, price)) {
+                    entry = categoryPriceIndex.updatePrice(brandName, category, price);
+                    if (priceChangeLog != null) {
+                        sequence = priceChangeLog.append(PriceChangeLog.Change.priceChanged(brandId, category, price));
+                    }
+                    checkpointPriceChangeLogIfFull();
+                    break;
+                }
+            }
+            // 지연 기록 버퍼가 가득 참: 잠금을 놓고 기록한 뒤 다시 시도
+            priceWriteBehind.flush();
+        }
+        // 잠금을 놓은 뒤 로그 확정을 기다려, 동시에 들어온 가격 변경이 fsync 한 번에 함께 확정되도록 함 (group commit)
+        if (sequence > 0) {
+            priceChangeLog.awaitDurable(sequence);
+        }
+        return entry;
+    }
 
+    /**
+     * 메서드 설명 : 브랜드 저장/삭제 기록을 가격 변경 로그에 추가하고 디스크에 확정될 때까지 기다리는 내부 메서드
+     * 재적용 시 이 기록 이전의 가격 변경(이미 데이터베이스에 기록됨)이 저장된 내용을 덮어쓰지 않도록, 트랜잭션 커밋 전에 확정한다.
+     * @param changes 브랜드 저장/삭제 기록 목록
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void logBrandChanges(List<PriceChangeLog.Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        // 트랜잭션 안에서 호출되므로 체크포인트(새 트랜잭션에서 기록)는 가격 변경 요청에서만 실행
+        long sequence;
+        synchronized (writeBehindLock) {
+            sequence = priceChangeLog.appendAll(changes);
+            brandChangesInFlight.incrementAndGet();
+        }
+        // 커밋 후 메모리 카탈로그에 반영되거나 롤백될 때까지 체크포인트가 이 기록을 지우지 않도록 함
+        afterCompletion(brandChangesInFlight::decrementAndGet);
+        priceChangeLog.awaitDurable(sequence);
+    }
+
+    /**
+     * 메서드 설명 : 가격 변경 로그가 설정한 크기를 넘으면 체크포인트 스레드에 체크포인트를 요청하는 내부 메서드 (writeBehindLock 안에서 호출)
+     * 요청한 스레드는 기다리지 않으므로, 데이터베이스 기록과 스냅샷 저장이 가격 변경 요청의 응답 시간에 포함되지 않는다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void checkpointPriceChangeLogIfFull() {
+        if (priceChangeLog != null && priceChangeLog.size() > changeLogCheckpointBytes
+                && checkpointScheduled.compareAndSet(false, true)) {
+            checkpointScheduler.execute(() -> {
+                try {
+                    checkpointIfChanged();
+                } finally {
+                    checkpointScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 메서드 설명 : 대기 중인 가격 변경을 모두 데이터베이스에 기록한 뒤 가격 변경 로그를 비우는 내부 메서드 (checkpointLock 안에서 호출)
+     * writeBehindLock 안에서는 로그를 새 파일로 전환(rotate)만 하여, 이전 기록이 봉인된 세그먼트에 모두 들어가고 이후 기록은 새 파일에 추가되게 한다.
+     * 잠금을 놓은 뒤 봉인된 세그먼트의 가격 변경을 포함한 대기 중인 변경을 데이터베이스에 기록하고(그 사이 들어온 변경도 함께 기록될 수 있으며,
+     * 새 파일에 남아 있으므로 재적용해도 결과가 같음), 카탈로그 스냅샷을 사용하면 메모리 카탈로그를 스냅샷 파일로 저장한 뒤 봉인된 세그먼트를 지운다.
+     * 따라서 가격 변경 요청은 전환하는 동안만 기다리고, 데이터베이스 트랜잭션과 스냅샷 파일 쓰기 동안에는 기다리지 않는다.
+     * 커밋되지 않은 브랜드 저장/삭제 기록이 있으면 그 변경이 스냅샷에 빠진 채 로그에서 지워지지 않도록 다음 기회로 미룬다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void checkpointPriceChangeLog() {
+        synchronized (writeBehindLock) {
+            if (brandChangesInFlight.get() > 0) {
+                return;
+            }
+            priceChangeLog.rotate();
+        }
+        priceWriteBehind.flush();
+        if (catalogSnapshotEnabled) {
+            CategoryPriceIndex.Snapshot snapshot = loadedSnapshot();
+            long started = System.nanoTime();
+            long size = CatalogSnapshotFile.write(Path.of(catalogSnapshotPath), snapshot.version(), snapshot.matrix());
+            catalogSnapshotVersion = snapshot.version();
+            logger.info("카탈로그 스냅샷을 저장했습니다 (브랜드 {}개, {}바이트, {}ms)",
+                    snapshot.matrix().liveCount(), size, (System.nanoTime() - started) / 1_000_000);
+        }
+        priceChangeLog.dropSealedSegment();
+    }
+
+    /**
+     * 메서드 설명 : 마지막 카탈로그 스냅샷 이후 카탈로그가 바뀌었으면 체크포인트를 실행하는 내부 메서드 (로그가 가득 찼을 때, 주기 실행, 종료 시)
+     * 카탈로그 스냅샷을 사용하지 않으면 항상 실행한다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void checkpointIfChanged() {
+        try {
+            synchronized (checkpointLock) {
+                if (categoryPriceIndex.getVersion() != catalogSnapshotVersion) {
+                    checkpointPriceChangeLog();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("가격 변경 로그 체크포인트 실패", e);
+        }
+    }
+
+    /**
+     * 메서드 설명 : 시작 시 가격 변경 로그 재적용이 끝날 때까지 기다리는 내부 메서드
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void awaitPriceChangeRecovery() {
+        CountDownLatch recovery = priceChangeRecovery;
+        if (recovery == null) {
+            return;
+        }
+        try {
+            recovery.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("가격 변경 로그 재적용 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 메서드 설명 : 여러 가격 변경을 항목별로 메모리 카탈로그에 반영하고 데이터베이스 기록을 예약하는 내부 메서드 (지연 기록 모드)
+     * @param updates 업데이트할 가격 정보 목록(브랜드명, 카테고리명, 가격)
+     * @return 요청 순서와 같은 순서의 항목별 처리 결과 목록
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private List<BrandPriceUpdateResultDto> submitPriceUpdates(List<BrandPriceUpdateDto> updates) {
+
+        List<BrandPriceUpdateResultDto> results = new ArrayList<>(updates.size());
+        for (BrandPriceUpdateDto update : updates) {
+            BrandPriceUpdateResultDto.BrandPriceUpdateResultDtoBuilder result = BrandPriceUpdateResultDto.builder()
+                    .brandName(update.getBrandName())
+                    .categoryName(update.getCategoryName())
+                    .price(update.getPrice());
+
+            Category category;
+            try {
+                category = Category.fromDisplayName(update.getCategoryName());
+            } catch (IllegalArgumentException e) {
+                results.add(result.status("error").message(e.getMessage()).build());
+                continue;
+            }
+
+            if (update.getBrandName() == null || submitPriceUpdate(update.getBrandName(), category, update.getPrice()) == null) {
+                results.add(result.status("error").message(update.getBrandName() + " 브랜드가 존재하지 않습니다").build());
+                continue;
+            }
+            results.add(result.status("success").message("브랜드 가격이 성공적으로 업데이트되었습니다").build());
+        }
+        return results;
+
+    }
+
+    /**
+     * 메서드 설명 : 지연 기록된 가격 변경 묶음을 데이터베이스에 반영하는 내부 메서드
+     * 묶음에 포함된 브랜드를 한 번의 쿼리로 조회한 뒤 가격을 변경하며, 변경 사항은 트랜잭션 커밋 시점에 일괄 전송된다.
+     * 메모리 카탈로그에는 이미 반영되어 있으므로 인덱스는 다시 갱신하지 않는다.
+     * 그 사이에 삭제된 브랜드의 가격 변경은 버린다.
+     * @param prices 반영할 가격 변경 목록 ((브랜드 ID, 카테고리)별로 하나씩)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void writePriceUpdates(List<PriceWriteBehindBuffer.PendingPrice> prices) {
+
+        Set<Long> brandIds = prices.stream()
+                .map(PriceWriteBehindBuffer.PendingPrice::brandId)
+                .collect(Collectors.toSet());
+        Map<Long, Brand> brandsById = new HashMap<>();
+        for (Brand brand : brandRepository.findAllWithPricesByIdIn(brandIds)) {
+            brandsById.put(brand.getId(), brand);
+        }
+
+        for (PriceWriteBehindBuffer.PendingPrice price : prices) {
+            Brand brand = brandsById.get(price.brandId());
+            if (brand != null) {
+                brand.getPrices().put(price.category(), price.price());
+            }
+        }
+
+    }
+
+    /**
+     * 메서드 설명 : 인덱스 항목으로 브랜드 객체를 만드는 내부 메서드
+     * 영속성 컨텍스트와 관계없는 복사본이다.
+     * @param entry 인덱스 항목
+     * @return 브랜드 ID, 이름, 가격을 복사한 브랜드 객체
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private static Brand toBrand(CategoryPriceIndex.Entry entry) {
+        Brand brand = new Brand();
+        brand.setId(entry.id());
+        brand.setName(entry.name());
+        for (Category category : Category.values()) {
+            if (entry.hasPrice(category)) {
+                brand.getPrices().put(category, entry.price(category));
+            }
+        }
+        return brand;
+    }
+
+    /**
+     * 메서드 설명 : 조회 API가 데이터베이스 조회 모드로 동작하는지 확인하는 메서드
+     * 데이터베이스 조회 모드에서는 카탈로그 버전(getCatalogVersion)이 다른 인스턴스의 변경을 반영하지 않으므로,
+     * 컨트롤러는 이 경우 카탈로그 버전으로 만든 응답 캐시와 ETag를 사용하지 않는다.
+     * @return musinsa.catalog.read-mode가 database이면 true
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public boolean isDatabaseReadMode() {
+        return "database".equalsIgnoreCase(readMode);
+    }
+
+    /**
+     * 메서드 설명 : 데이터베이스 조회 모드의 쿼리를 시작하는 내부 메서드
+     * 스레드 풀이 설정되어 있으면 풀에서 비동기로 실행하고, 없으면 요청 스레드에서 바로 실행한다.
+     * @param query 실행할 쿼리
+     * @return 쿼리 결과
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private <T> CompletableFuture<T> submitQuery(Supplier<T> query) {
+        return categoryQueryExecutor != null
+                ? CompletableFuture.supplyAsync(query, categoryQueryExecutor)
+                : CompletableFuture.completedFuture(query.get());
+    }
+
+    /**
+     * 메서드 설명 : 병렬로 실행한 쿼리의 결과를 기다려 반환하는 내부 메서드
+     * 쿼리에서 발생한 예외는 CompletionException으로 감싸지 않고 원래 예외로 다시 던진다.
+     * @param query 실행 중인 쿼리
+     * @return 쿼리 결과
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private static <T> T join(CompletableFuture<T> query) {
+        try {
+            return query.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 메서드 설명 : 현재 카탈로그 버전을 반환하는 메서드
+     * saveBrand, deleteBrand, updateBrandPrice의 변경이 커밋되어 인덱스에 반영될 때마다 증가한다.
+     * 조회 결과 캐시의 유효성 판단에 사용된다. 메모리 인덱스를 적재하므로 데이터베이스 조회 모드에서는 사용하지 않는다.
+     * @return 현재 카탈로그 버전
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public long getCatalogVersion() {
+        return loadedSnapshot().version();
+    }
+
+    /**
+     * 메서드 설명 : 적재된 가격 인덱스의 현재 스냅샷을 반환하는 내부 메서드
+     * 인덱스가 아직 적재되지 않았다면 데이터베이스에서 전체 브랜드를 읽어 적재한다.
+     * 조회 도중 다른 쓰기가 반영되면 읽어온 목록이 오래된 것일 수 있으므로 다시 조회한다.
+     * 적재된 이후에는 잠금 없이 스냅샷 참조만 읽는다.
+     * @return 적재된 가격 인덱스 스냅샷
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private CategoryPriceIndex.Snapshot loadedSnapshot() {
+        CategoryPriceIndex.Snapshot snapshot = categoryPriceIndex.snapshot();
+        while (!snapshot.loaded()) {
+            categoryPriceIndex.load(brandRepository.findAllWithPrices(), snapshot.version());
+            snapshot = categoryPriceIndex.snapshot();
+        }
+        return snapshot;
+    }
+
+    /**
+     * 메서드 설명 : 현재 트랜잭션이 커밋된 이후에 작업을 실행하는 내부 메서드
+     * 롤백된 변경이 인덱스에 반영되지 않도록, 트랜잭션이 진행 중이면 커밋 시점까지 실행을 미룬다.
+     * 트랜잭션이 없으면 즉시 실행한다.
+     * @param action 커밋 이후 실행할 작업
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 가격 변경을 트랜잭션 안에서 실행하고, 낙관적 잠금 충돌 시 새 트랜잭션에서 다시 실행하는 내부 메서드
+     * 충돌한 시도의 트랜잭션은 롤백되고 영속성 컨텍스트도 비워지므로, 다음 시도는 다른 트랜잭션이 커밋한 최신 가격을 읽는다.
+     * 호출한 쪽의 트랜잭션에 참여하는 경우에는 그 트랜잭션이 이미 롤백 대상이므로 다시 시도하지 않고 예외를 전달한다.
+     * @param update 한 번의 시도로 실행할 가격 변경
+     * @return 가격 변경 결과
+     * @throws OptimisticLockingFailureException 모든 시도가 충돌한 경우
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private <T> T retryOnConflict(Supplier<T> update) {
+        if (priceUpdateTransaction == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return update.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return priceUpdateTransaction.execute(status -> update.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= priceUpdateMaxAttempts) {
+                    logger.warn("가격 변경이 {}회 모두 다른 변경과 충돌했습니다: {}", attempt, e.getMessage());
+                    throw e;
+                }
+                priceUpdateConflicts.incrementAndGet();
+                try {
+                    long bound = priceUpdateBackoffMillis << Math.min(attempt - 1, 10);
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 메서드 설명 : 충돌로 가격 변경 트랜잭션을 다시 실행한 누적 횟수를 반환하는 메서드
+     * @return 다시 실행한 횟수
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public long getPriceUpdateConflictCount() {
+        return priceUpdateConflicts.get();
+    }
+
+    /**
+     * 메서드 설명 : 변경된 브랜드를 커밋 이후 엔티티 버전과 함께 인덱스에 반영하도록 예약하는 내부 메서드
+     * 같은 브랜드를 변경한 트랜잭션들의 커밋 이후 작업이 커밋 순서와 다르게 실행되어도, 인덱스에는 가장 높은 버전의 내용이 남는다.
+     * @param brands 변경된 브랜드 목록 (버전 조건 UPDATE가 실행된 상태)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void indexAfterCommit(Collection<Brand> brands) {
+        List<CategoryPriceIndex.Entry> entries = new ArrayList<>(brands.size());
+        Map<Long, Long> versions = new HashMap<>();
+        for (Brand brand : brands) {
+            entries.add(CategoryPriceIndex.Entry.of(brand));
+            if (brand.getVersion() != null) {
+                versions.put(brand.getId(), brand.getVersion());
+            }
+        }
+        afterCommit(() -> categoryPriceIndex.putAll(entries, versions));
+    }
+
+    /**
+     * 메서드 설명 : 현재 트랜잭션이 끝난 이후(커밋 또는 롤백)에 작업을 실행하는 내부 메서드
+     * 커밋 이후 작업(afterCommit)이 모두 실행된 다음에 실행된다. 트랜잭션이 없으면 즉시 실행한다.
+     * @param action 트랜잭션 종료 이후 실행할 작업
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
 }
\ No newline at end of file
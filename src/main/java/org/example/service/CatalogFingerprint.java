@@ -0,0 +1,148 @@
+package org.example.service;
+
+import org.example.model.Category;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 클래스 설명 : 카탈로그 내용의 지문 (카탈로그 스냅샷이 데이터베이스와 같은 내용인지 확인하는 데 사용)
+ * 브랜드 수와 브랜드 ID 합, 카테고리마다 가격이 있는 브랜드 수, 가격 합, 가격 x 브랜드 ID 합으로 구성된다.
+ * 가격 합만으로는 두 브랜드의 가격이 서로 바뀐 경우를 구분하지 못하므로 브랜드 ID를 곱한 합을 함께 비교한다.
+ * 합은 long 범위를 넘으면 하위 64비트만 남기므로(데이터베이스 집계 결과도 같은 방식으로 변환), 양쪽을 같은 방식으로 계산하면 비교할 수 있다.
+ * 같은 지문이 같은 내용을 보장하지는 않지만, 재시작 때 초기 데이터가 다시 만들어진 인메모리 데이터베이스나
+ * 로그 없이 변경된 가격처럼 흔한 불일치는 구분한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public final class CatalogFingerprint {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * 파일에 저장할 때의 크기 (바이트)
+     */
+    public static final int BYTES = 8 + 8 + 3 * 8 * CATEGORIES.length;
+
+    private final long brandCount;
+    private final long brandIdSum;
+    private final long[] priceCounts;
+    private final long[] priceSums;
+    private final long[] weightedSums;
+
+    /**
+     * 메서드 설명 : 지문을 생성하는 생성자
+     * @param brandCount 브랜드 수
+     * @param brandIdSum 브랜드 ID 합
+     * @param priceCounts 카테고리 순서(ordinal)별 가격이 있는 브랜드 수
+     * @param priceSums 카테고리 순서별 가격 합
+     * @param weightedSums 카테고리 순서별 가격 x 브랜드 ID 합
+     */
+    public CatalogFingerprint(long brandCount, long brandIdSum, long[] priceCounts, long[] priceSums, long[] weightedSums) {
+        this.brandCount = brandCount;
+        this.brandIdSum = brandIdSum;
+        this.priceCounts = priceCounts;
+        this.priceSums = priceSums;
+        this.weightedSums = weightedSums;
+    }
+
+    /**
+     * 메서드 설명 : 메모리 카탈로그의 지문을 계산하는 메서드
+     * @param matrix 열 단위 가격 스냅샷 (삭제된 행 제외)
+     * @return 카탈로그 지문
+     */
+    public static CatalogFingerprint of(PriceMatrix matrix) {
+        long brandCount = 0;
+        long brandIdSum = 0;
+        long[] priceCounts = new long[CATEGORIES.length];
+        long[] priceSums = new long[CATEGORIES.length];
+        long[] weightedSums = new long[CATEGORIES.length];
+        for (int row = 0; row < matrix.size(); row++) {
+            CategoryPriceIndex.Entry entry = matrix.entry(row);
+            if (entry == null) {
+                continue;
+            }
+            brandCount++;
+            brandIdSum += entry.id();
+            int[] prices = entry.prices();
+            for (int c = 0; c < prices.length; c++) {
+                if (prices[c] != CategoryPriceIndex.Entry.NO_PRICE) {
+                    priceCounts[c]++;
+                    priceSums[c] += prices[c];
+                    weightedSums[c] += prices[c] * entry.id();
+                }
+            }
+        }
+        return new CatalogFingerprint(brandCount, brandIdSum, priceCounts, priceSums, weightedSums);
+    }
+
+    /**
+     * 메서드 설명 : 파일에서 지문을 읽는 메서드
+     * @param buffer 읽을 위치에 놓인 버퍼 (BYTES만큼 읽음)
+     * @return 카탈로그 지문
+     */
+    public static CatalogFingerprint read(ByteBuffer buffer) {
+        long brandCount = buffer.getLong();
+        long brandIdSum = buffer.getLong();
+        long[] priceCounts = new long[CATEGORIES.length];
+        long[] priceSums = new long[CATEGORIES.length];
+        long[] weightedSums = new long[CATEGORIES.length];
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            priceCounts[c] = buffer.getLong();
+            priceSums[c] = buffer.getLong();
+            weightedSums[c] = buffer.getLong();
+        }
+        return new CatalogFingerprint(brandCount, brandIdSum, priceCounts, priceSums, weightedSums);
+    }
+
+    /**
+     * 메서드 설명 : 지문을 버퍼에 쓰는 메서드
+     * @param buffer 쓸 위치에 놓인 버퍼 (BYTES만큼 씀)
+     * @return 같은 버퍼
+     */
+    public ByteBuffer write(ByteBuffer buffer) {
+        buffer.putLong(brandCount).putLong(brandIdSum);
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            buffer.putLong(priceCounts[c]).putLong(priceSums[c]).putLong(weightedSums[c]);
+        }
+        return buffer;
+    }
+
+    /**
+     * 메서드 설명 : 브랜드 수를 반환하는 메서드
+     * @return 브랜드 수
+     */
+    public long brandCount() {
+        return brandCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CatalogFingerprint that)) {
+            return false;
+        }
+        return brandCount == that.brandCount && brandIdSum == that.brandIdSum
+                && Arrays.equals(priceCounts, that.priceCounts)
+                && Arrays.equals(priceSums, that.priceSums)
+                && Arrays.equals(weightedSums, that.weightedSums);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(brandCount);
+        result = 31 * result + Long.hashCode(brandIdSum);
+        result = 31 * result + Arrays.hashCode(priceCounts);
+        result = 31 * result + Arrays.hashCode(priceSums);
+        return 31 * result + Arrays.hashCode(weightedSums);
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogFingerprint{brands=" + brandCount + ", priceCounts=" + Arrays.toString(priceCounts)
+                + ", priceSums=" + Arrays.toString(priceSums) + "}";
+    }
+
+}
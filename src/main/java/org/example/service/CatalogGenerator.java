@@ -0,0 +1,268 @@
+package org.example.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 클래스 설명 : 규모 테스트용 가상 카탈로그를 생성하는 클래스
+ * 시드, 브랜드 수, 가격 분포, 동일 가격(동점) 비율, 상품 없는 카테고리 비율을 설정하여 브랜드를 생성한다.
+ * 각 브랜드는 (시드, 순번)만으로 결정되므로 같은 설정이면 실행 순서나 환경과 관계없이 항상 같은 카탈로그가 만들어지고,
+ * 전체 목록을 메모리에 올리지 않고 순번 단위로 생성할 수 있다.
+ * 테스트, JMH 벤치마크, synthetic 프로파일(애플리케이션 시작 시 적재)에서 함께 사용한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class CatalogGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogGenerator.class);
+
+    // 순번별 난수 시드를 퍼뜨리기 위한 상수 (황금비 기반)
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    // LOG_NORMAL 분포의 표준편차 (로그 스케일)
+    private static final double LOG_NORMAL_SIGMA = 0.8;
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * 가격 분포
+     * UNIFORM: 최저~최고 가격 사이 균등 분포
+     * LOG_NORMAL: 중앙값 주변에 몰리고 고가 쪽으로 꼬리가 긴 분포 (실제 상품 가격에 가까움)
+     */
+    public enum PriceDistribution {
+        UNIFORM, LOG_NORMAL
+    }
+
+    /**
+     * 생성 설정
+     * synthetic 프로파일에서는 musinsa.generator.* 속성으로 바인딩된다.
+     */
+    @Data               // Lombok: getter, setter, equals, hashCode, toString 자동 생성
+    @NoArgsConstructor  // Lombok: 파라미터 없는 기본 생성자 자동 생성
+    @AllArgsConstructor // Lombok: 모든 필드를 파라미터로 받는 생성자 자동 생성
+    @Builder            // Lombok: 빌더 패턴 구현을 자동으로 생성
+    public static class Settings {
+
+        /**
+         * 생성할 브랜드 수
+         */
+        @Builder.Default
+        private int brandCount = 1000;
+
+        /**
+         * 난수 시드 (같은 시드와 설정이면 같은 카탈로그가 생성됨)
+         */
+        @Builder.Default
+        private long seed = 20261017L;
+
+        /**
+         * 브랜드 이름 접두사 (이름은 접두사 + 7자리 순번)
+         */
+        @Builder.Default
+        private String namePrefix = "GEN-";
+
+        /**
+         * 가격 분포
+         */
+        @Builder.Default
+        private PriceDistribution distribution = PriceDistribution.LOG_NORMAL;
+
+        /**
+         * 최저 가격
+         */
+        @Builder.Default
+        private int minPrice = 1000;
+
+        /**
+         * 최고 가격
+         */
+        @Builder.Default
+        private int maxPrice = 100000;
+
+        /**
+         * LOG_NORMAL 분포의 중앙 가격
+         */
+        @Builder.Default
+        private int medianPrice = 10000;
+
+        /**
+         * 가격 단위 (모든 가격은 이 값의 배수로 반올림)
+         */
+        @Builder.Default
+        private int priceStep = 100;
+
+        /**
+         * 카테고리 가격을 소수의 공용 가격 중 하나로 정할 확률 (0.0~1.0)
+         * 값이 클수록 같은 가격을 가진 브랜드(동점)가 많아진다.
+         */
+        @Builder.Default
+        private double tieRate = 0.05;
+
+        /**
+         * 동점용 공용 가격의 카테고리별 개수
+         */
+        @Builder.Default
+        private int tiePoolSize = 10;
+
+        /**
+         * 카테고리에 상품이 없을 확률 (0.0~1.0)
+         */
+        @Builder.Default
+        private double missingRate = 0.0;
+
+        /**
+         * 적재 시 한 트랜잭션에서 저장할 브랜드 수
+         */
+        @Builder.Default
+        private int batchSize = 1000;
+
+    }
+
+    private final Settings settings;
+
+    // 가격 단위에 맞춘 최저/최고 가격
+    private final int lowestPrice;
+    private final int highestPrice;
+
+    // 카테고리별 동점용 공용 가격 (카테고리 순서 -> 가격 목록)
+    private final int[][] tiePrices;
+
+    /**
+     * CatalogGenerator 생성자
+     * @param settings 생성 설정
+     */
+    public CatalogGenerator(Settings settings) {
+        int step = settings.getPriceStep();
+        if (step <= 0 || (settings.getMinPrice() + step - 1) / step * step > settings.getMaxPrice() / step * step) {
+            throw new IllegalArgumentException("잘못된 가격 범위: " + settings.getMinPrice() + "~" + settings.getMaxPrice()
+                    + " (단위 " + step + ")");
+        }
+        this.settings = settings;
+        this.lowestPrice = (settings.getMinPrice() + step - 1) / step * step;
+        this.highestPrice = settings.getMaxPrice() / step * step;
+
+        SplittableRandom random = new SplittableRandom(settings.getSeed());
+        this.tiePrices = new int[CATEGORIES.length][Math.max(1, settings.getTiePoolSize())];
+        for (int[] prices : tiePrices) {
+            for (int i = 0; i < prices.length; i++) {
+                prices[i] = nextPrice(random);
+            }
+        }
+    }
+
+    /**
+     * 메서드 설명 : 지정한 순번의 브랜드를 생성하는 메서드
+     * 같은 설정과 순번이면 항상 같은 이름과 가격의 브랜드를 반환한다. ID는 저장 시 할당된다.
+     * @param index 0부터 시작하는 브랜드 순번
+     * @return 생성된 브랜드 (저장되지 않은 새 엔티티)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public Brand generate(int index) {
+
+        SplittableRandom random = new SplittableRandom(settings.getSeed() ^ ((index + 1L) * SEED_MIX));
+
+        Brand brand = new Brand();
+        brand.setName(brandName(index));
+        for (Category category : CATEGORIES) {
+            if (random.nextDouble() < settings.getMissingRate()) {
+                continue;
+            }
+            int price = random.nextDouble() < settings.getTieRate()
+                    ? tiePrices[category.ordinal()][random.nextInt(tiePrices[category.ordinal()].length)]
+                    : nextPrice(random);
+            brand.getPrices().put(category, price);
+        }
+
+        return brand;
+
+    }
+
+    /**
+     * 메서드 설명 : 전체 브랜드를 순번 순서로 생성하는 스트림을 반환하는 메서드
+     * @return 0 ~ brandCount-1 순번의 브랜드 스트림
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public Stream<Brand> brands() {
+        return IntStream.range(0, settings.getBrandCount()).mapToObj(this::generate);
+    }
+
+    /**
+     * 메서드 설명 : 지정한 순번의 브랜드 이름을 반환하는 메서드
+     * @param index 0부터 시작하는 브랜드 순번
+     * @return 접두사 + 7자리 순번
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public String brandName(int index) {
+        return settings.getNamePrefix() + String.format("%07d", index);
+    }
+
+    /**
+     * 메서드 설명 : 생성한 브랜드를 배치 단위로 저장하는 메서드
+     * 배치마다 BrandService.saveBrands를 호출하므로 브랜드 대량 등록과 같이 하나의 트랜잭션에서 INSERT 문이 묶여 전송되고,
+     * 배치가 끝날 때마다 영속성 컨텍스트가 정리되어 메모리 사용량이 배치 크기로 제한된다.
+     * @param brandService 브랜드 저장에 사용할 서비스
+     * @return 저장된 브랜드 수
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public long loadInto(BrandService brandService) {
+
+        int batchSize = Math.max(1, settings.getBatchSize());
+        long startNanos = System.nanoTime();
+        long saved = 0;
+
+        List<Brand> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < settings.getBrandCount(); i++) {
+            batch.add(generate(i));
+            if (batch.size() == batchSize) {
+                saved += brandService.saveBrands(batch).size();
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            saved += brandService.saveBrands(batch).size();
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        logger.info("가상 카탈로그 적재 완료: {}개 브랜드, {}ms (시드 {}, 분포 {})",
+                saved, elapsedMillis, settings.getSeed(), settings.getDistribution());
+
+        return saved;
+
+    }
+
+    // 설정된 분포에서 가격 하나를 뽑아 범위와 가격 단위에 맞춤
+    private int nextPrice(SplittableRandom random) {
+        double price;
+        if (settings.getDistribution() == PriceDistribution.LOG_NORMAL) {
+            price = settings.getMedianPrice() * Math.exp(LOG_NORMAL_SIGMA * gaussian(random));
+        } else {
+            price = settings.getMinPrice() + random.nextDouble() * (settings.getMaxPrice() - settings.getMinPrice());
+        }
+
+        int step = settings.getPriceStep();
+        long rounded = Math.round(price / step) * step;
+        return (int) Math.max(lowestPrice, Math.min(highestPrice, rounded));
+    }
+
+    // 표준 정규분포 난수 (Box-Muller 변환)
+    private static double gaussian(SplittableRandom random) {
+        return Math.sqrt(-2.0 * Math.log(1.0 - random.nextDouble())) * Math.cos(2.0 * Math.PI * random.nextDouble());
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.example.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 클래스 설명 : 카탈로그 버전별로 조회 결과를 캐시하는 클래스
+ * 조회 API의 계산 결과를 (엔드포인트, 파라미터) 키와 계산 당시의 카탈로그 버전으로 저장하고,
+ * 현재 카탈로그 버전과 같은 결과만 반환한다.
+ * 쓰기가 반영되면 카탈로그 버전이 증가하므로 별도의 삭제 없이 이전 결과가 자동으로 무효화된다.
+ * 계산 전후의 버전이 다르면(계산 도중 쓰기가 반영된 경우) 결과를 저장하지 않으며,
+ * 이미 더 새로운 버전의 결과가 저장되어 있으면 덮어쓰지 않으므로 오래된 결과가 게시되지 않는다.
+ * 캐시에 없는 결과는 SingleFlight로 계산하므로, 같은 키와 버전의 요청이 동시에 몰려도 계산은 한 번만 실행된다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class CatalogResponseCache {
+
+    /**
+     * 캐시에 저장되는 결과와 계산 당시의 카탈로그 버전
+     * @param version 카탈로그 버전
+     * @param value 계산 결과
+     */
+    private record Versioned(long version, Object value) {
+    }
+
+    // 캐시 키 -> 버전이 기록된 결과
+    private final Map<String, Versioned> entries = new ConcurrentHashMap<>();
+
+    // 현재 카탈로그 버전을 제공하는 함수
+    private final LongSupplier catalogVersion;
+
+    // 캐시에 없는 결과의 동시 계산을 하나로 합침
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    /**
+     * CatalogResponseCache 생성자
+     * @param catalogVersion 현재 카탈로그 버전을 제공하는 함수
+     */
+    public CatalogResponseCache(LongSupplier catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+
+    /**
+     * 메서드 설명 : 현재 카탈로그 버전의 결과를 반환하고, 없으면 계산하여 저장하는 메서드
+     * 반환된 결과는 여러 요청이 공유하므로 호출자가 수정해서는 안 된다.
+     * @param key 엔드포인트와 파라미터로 구성된 캐시 키
+     * @param loader 결과를 계산하는 함수
+     * @return 현재 카탈로그 버전의 결과
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+
+        long version = catalogVersion.getAsLong();
+        Versioned cached = entries.get(key);
+        if (cached != null && cached.version() == version) {
+            return (T) cached.value();
+        }
+
+        // 같은 키와 버전을 계산 중인 요청이 있으면 그 결과를 함께 사용
+        T value = singleFlight.execute(key, version, loader);
+
+        // 계산 도중 카탈로그가 변경되지 않은 경우에만 저장하고, 더 새로운 버전의 결과는 덮어쓰지 않음
+        if (catalogVersion.getAsLong() == version) {
+            entries.merge(key, new Versioned(version, value),
+                    (previous, current) -> previous.version() >= current.version() ? previous : current);
+        }
+
+        return value;
+
+    }
+
+    /**
+     * 메서드 설명 : 캐시된 모든 결과를 삭제하는 메서드
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+}
@@ -0,0 +1,210 @@
+package org.example.service;
+
+import org.example.model.Category;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 클래스 설명 : 메모리 카탈로그(PriceMatrix) 전체를 저장하는 바이너리 스냅샷 파일
+ * 재시작 시 JPA로 전체 브랜드 엔티티를 읽어 인덱스를 다시 구성하는 대신, 이 파일을 메모리 매핑(mmap)하여
+ * 행을 순서대로 읽는 것만으로 카탈로그를 복원하기 위해 사용한다.
+ * 파일은 헤더(매직 넘버, 형식 버전, 카테고리 수, 브랜드 수, 카탈로그 버전, 본문 길이, 본문 CRC32, 카탈로그 지문) 뒤에
+ * 브랜드마다 [브랜드 ID(long)][카테고리 순서별 가격(int x 카테고리 수)][이름 길이(unsigned short)][이름(UTF-8)]이 이어진다.
+ * 임시 파일에 모두 쓰고 fsync한 뒤 이름을 바꾸므로(atomic move), 쓰는 도중 중단되어도 이전 스냅샷이 그대로 남는다.
+ * 읽을 때 헤더나 CRC가 맞지 않으면 예외를 던지며, 호출자는 데이터베이스에서 적재하는 방식으로 돌아간다.
+ * 헤더의 카탈로그 지문(CatalogFingerprint)은 호출자가 데이터베이스의 지문과 비교하여 스냅샷이 같은 데이터인지 확인하는 데 사용한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public final class CatalogSnapshotFile {
+
+    // 파일 헤더: "MSCS" + 형식 버전 + 카테고리 수 + 브랜드 수 + 카탈로그 버전 + 본문 길이 + 본문 CRC32 + 카탈로그 지문
+    private static final int MAGIC = 0x4D534353;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 8 + 8 + 4 + CatalogFingerprint.BYTES;
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    // 이름 길이를 unsigned short로 저장하므로 UTF-8 기준 최대 길이
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private CatalogSnapshotFile() {
+    }
+
+    /**
+     * 스냅샷 파일에서 읽은 카탈로그
+     * 브랜드 정보는 매핑된 파일에서 반복(iterator) 도중에 하나씩 만들어지므로, 전체 브랜드를 한꺼번에 객체로 만들지 않는다.
+     * @param catalogVersion 스냅샷을 쓸 때의 카탈로그 버전
+     * @param brandCount 스냅샷의 브랜드 수
+     * @param fingerprint 스냅샷을 쓸 때의 카탈로그 지문
+     * @param body 브랜드 정보가 저장된 매핑 영역
+     */
+    public record Contents(long catalogVersion, int brandCount, CatalogFingerprint fingerprint, ByteBuffer body) implements Iterable<CategoryPriceIndex.Entry> {
+
+        @Override
+        public Iterator<CategoryPriceIndex.Entry> iterator() {
+            ByteBuffer buffer = body.duplicate();
+            return new Iterator<>() {
+
+                private int remaining = brandCount;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public CategoryPriceIndex.Entry next() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    remaining--;
+                    return readEntry(buffer);
+                }
+            };
+        }
+
+    }
+
+    /**
+     * 메서드 설명 : 카탈로그 스냅샷을 파일로 저장하는 메서드
+     * 같은 디렉터리의 임시 파일에 쓰고 fsync한 뒤 기존 파일을 교체한다.
+     * @param path 저장할 파일 경로
+     * @param catalogVersion 카탈로그 버전
+     * @param matrix 저장할 열 단위 가격 스냅샷 (삭제된 행은 저장하지 않음)
+     * @return 저장한 파일 크기 (바이트)
+     */
+    public static long write(Path path, long catalogVersion, PriceMatrix matrix) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            long bodyLength;
+            CRC32 crc = new CRC32();
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                // 본문을 먼저 쓰고, 브랜드 수와 CRC를 알게 된 뒤 헤더를 채움
+                channel.position(HEADER_SIZE);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                        new CheckedOutputStream(Channels.newOutputStream(channel), crc), 1 << 16));
+                int brandCount = 0;
+                for (int row = 0; row < matrix.size(); row++) {
+                    CategoryPriceIndex.Entry entry = matrix.entry(row);
+                    if (entry != null) {
+                        writeEntry(out, entry);
+                        brandCount++;
+                    }
+                }
+                out.flush();
+                bodyLength = channel.position() - HEADER_SIZE;
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .putInt(MAGIC).putInt(FORMAT_VERSION).putInt(CATEGORIES.length).putInt(brandCount)
+                        .putLong(catalogVersion).putLong(bodyLength).putInt((int) crc.getValue());
+                CatalogFingerprint.of(matrix).write(header);
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return HEADER_SIZE + bodyLength;
+        } catch (IOException e) {
+            throw new UncheckedIOException("카탈로그 스냅샷 파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 메서드 설명 : 스냅샷 파일을 메모리 매핑하여 읽는 메서드
+     * 헤더와 본문 CRC를 확인한 뒤 매핑 영역을 그대로 반환하며, 브랜드 정보는 반환된 Contents를 반복할 때 읽는다.
+     * @param path 스냅샷 파일 경로
+     * @return 스냅샷 내용 (파일이 없으면 null)
+     * @throws UncheckedIOException 파일을 읽을 수 없거나 형식, 카테고리 구성, CRC가 맞지 않는 경우
+     */
+    public static Contents read(Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("카탈로그 스냅샷 파일 크기가 올바르지 않습니다: " + size);
+            }
+            // 매핑은 채널을 닫은 뒤에도 유효함
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mapped.getInt() != MAGIC || mapped.getInt() != FORMAT_VERSION) {
+                throw new IOException("카탈로그 스냅샷 파일 형식이 아닙니다");
+            }
+            if (mapped.getInt() != CATEGORIES.length) {
+                throw new IOException("카탈로그 스냅샷의 카테고리 구성이 현재와 다릅니다");
+            }
+            int brandCount = mapped.getInt();
+            long catalogVersion = mapped.getLong();
+            long bodyLength = mapped.getLong();
+            int expectedCrc = mapped.getInt();
+            CatalogFingerprint fingerprint = CatalogFingerprint.read(mapped);
+            if (brandCount < 0 || bodyLength != size - HEADER_SIZE) {
+                throw new IOException("카탈로그 스냅샷 파일이 손상되었습니다 (본문 길이 불일치)");
+            }
+
+            ByteBuffer body = mapped.slice(HEADER_SIZE, (int) bodyLength);
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("카탈로그 스냅샷 파일이 손상되었습니다 (CRC 불일치)");
+            }
+            return new Contents(catalogVersion, brandCount, fingerprint, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("카탈로그 스냅샷 파일 읽기 실패: " + path, e);
+        }
+    }
+
+    // 브랜드 정보 한 건 쓰기
+    private static void writeEntry(DataOutputStream out, CategoryPriceIndex.Entry entry) throws IOException {
+        byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_BYTES) {
+            throw new IOException("스냅샷에 저장할 수 없는 브랜드 이름 길이입니다: " + entry.id());
+        }
+        out.writeLong(entry.id());
+        for (int price : entry.prices()) {
+            out.writeInt(price);
+        }
+        out.writeShort(name.length);
+        out.write(name);
+    }
+
+    // 브랜드 정보 한 건 읽기 (총액은 가격에서 다시 계산)
+    private static CategoryPriceIndex.Entry readEntry(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        int[] prices = new int[CATEGORIES.length];
+        int totalPrice = 0;
+        for (int c = 0; c < prices.length; c++) {
+            prices[c] = buffer.getInt();
+            if (prices[c] != CategoryPriceIndex.Entry.NO_PRICE) {
+                totalPrice += prices[c];
+            }
+        }
+        byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(name);
+        return new CategoryPriceIndex.Entry(id, new String(name, StandardCharsets.UTF_8), prices, totalPrice);
+    }
+
+}
@@ -0,0 +1,495 @@
+package org.example.service;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클래스 설명 : 전체 브랜드의 카테고리별 가격을 메모리에 유지하는 클래스
+ * 브랜드 정보는 열(column) 단위의 변경 불가 스냅샷(PriceMatrix)에 저장하고, 브랜드 ID와 행 번호의 대응만 따로 관리한다.
+ * 카테고리별 최저/최고 가격대와 최저 총액 브랜드는 스냅샷의 int 가격 열을 순서대로 읽어 계산하고,
+ * 카테고리별 가격순 상위 K개는 스냅샷이 함께 유지하는 가격순 목록에서 읽는다.
+ * BrandService의 쓰기 메서드(saveBrand, deleteBrand, updateBrandPrice)가 커밋된 변경 사항을 반영하므로,
+ * 조회 API는 데이터베이스에 접근하지 않고, 계산 결과는 카탈로그 버전별로 캐시된다(CatalogResponseCache).
+ * 인덱스 내용은 버전과 함께 변경 불가 스냅샷(Snapshot)으로 AtomicReference에 게시한다. 쓰기는 잠금으로 순서를 정한 뒤
+ * 다음 버전의 스냅샷을 만들어 교체하고, 조회는 잠금 없이 현재 스냅샷 참조 하나를 읽어 요청 전체에서 사용한다.
+ * 버전 값은 적재 도중의 변경 감지와 조회 결과 캐시의 유효성 판단에 사용된다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class CategoryPriceIndex {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * 인덱스에 저장되는 브랜드 정보
+     * 엔티티와 분리된 복사본이므로 영속성 컨텍스트가 닫힌 뒤에도 안전하게 사용할 수 있다.
+     * 가격은 Category.ordinal()을 인덱스로 하는 int 배열에 저장하여, 브랜드마다 해시 테이블과 박싱된 Integer를 두지 않고
+     * 조회 시 언박싱 없이 읽는다. 상품이 없는 카테고리는 NO_PRICE로 표시한다.
+     * 배열은 복사 없이 전달되므로 호출자가 수정해서는 안 된다.
+     * @param id 브랜드 ID
+     * @param name 브랜드 이름
+     * @param prices 카테고리 순서(ordinal)별 가격 (상품이 없으면 NO_PRICE)
+     * @param totalPrice 모든 카테고리 가격의 총액
+     */
+    public record Entry(Long id, String name, int[] prices, int totalPrice) {
+
+        /**
+         * 상품이 없는 카테고리를 나타내는 가격 값
+         */
+        public static final int NO_PRICE = Integer.MIN_VALUE;
+
+        /**
+         * 메서드 설명 : 브랜드 엔티티로부터 인덱스 항목을 생성하는 메서드
+         * @param brand 복사할 브랜드 엔티티
+         * @return 브랜드 ID, 이름, 가격을 복사한 인덱스 항목
+         */
+        public static Entry of(Brand brand) {
+            int[] prices = new int[CATEGORIES.length];
+            Arrays.fill(prices, NO_PRICE);
+            int totalPrice = 0;
+            if (brand.getPrices() != null) {
+                for (Map.Entry<Category, Integer> price : brand.getPrices().entrySet()) {
+                    if (price.getValue() != null) {
+                        prices[price.getKey().ordinal()] = price.getValue();
+                        totalPrice += price.getValue();
+                    }
+                }
+            }
+            return new Entry(brand.getId(), brand.getName(), prices, totalPrice);
+        }
+
+        /**
+         * 메서드 설명 : 카테고리에 상품이 있는지 확인하는 메서드
+         * @param category 확인할 카테고리
+         * @return 상품이 있으면 true
+         */
+        public boolean hasPrice(Category category) {
+            return prices[category.ordinal()] != NO_PRICE;
+        }
+
+        /**
+         * 메서드 설명 : 카테고리의 가격을 반환하는 메서드
+         * @param category 조회할 카테고리
+         * @return 가격 (상품이 없으면 NO_PRICE)
+         */
+        public int price(Category category) {
+            return prices[category.ordinal()];
+        }
+
+    }
+
+    /**
+     * 특정 카테고리의 한 가격대에 해당하는 브랜드 목록
+     * @param price 가격
+     * @param brandNames 해당 가격을 제공하는 브랜드 이름 목록 (브랜드 ID 순)
+     */
+    public record PriceLevel(int price, List<String> brandNames) {
+    }
+
+    /**
+     * 특정 카테고리의 가격순 조회 결과 항목
+     * 다음 페이지는 마지막 항목의 (가격, 브랜드 ID)를 기준 위치로 전달하여 조회한다.
+     * @param id 브랜드 ID
+     * @param name 브랜드 이름
+     * @param price 해당 카테고리의 가격
+     */
+    public record RankedBrand(Long id, String name, int price) {
+    }
+
+    /**
+     * 특정 시점의 인덱스 내용 전체 (변경 불가)
+     * 조회 요청은 처음에 스냅샷 하나를 가져와 요청이 끝날 때까지 사용하므로, 여러 카테고리를 조회하는 동안
+     * 쓰기가 반영되더라도 한 버전의 일관된 결과만 보게 된다.
+     * @param version 스냅샷의 버전 (카탈로그 버전)
+     * @param loaded 데이터베이스에서 적재된 내용인지 여부
+     * @param matrix 전체 브랜드의 열 단위 가격 스냅샷
+     */
+    public record Snapshot(long version, boolean loaded, PriceMatrix matrix) {
+
+        /**
+         * 메서드 설명 : 특정 카테고리의 최저가와 해당 가격을 제공하는 브랜드 목록을 조회하는 메서드
+         * @param category 조회할 카테고리
+         * @return 최저가 정보 (해당 카테고리의 상품이 없으면 null)
+         */
+        public PriceLevel lowest(Category category) {
+            return matrix.lowest(category);
+        }
+
+        /**
+         * 메서드 설명 : 특정 카테고리의 최고가와 해당 가격을 제공하는 브랜드 목록을 조회하는 메서드
+         * @param category 조회할 카테고리
+         * @return 최고가 정보 (해당 카테고리의 상품이 없으면 null)
+         */
+        public PriceLevel highest(Category category) {
+            return matrix.highest(category);
+        }
+
+        /**
+         * 메서드 설명 : 모든 카테고리 가격의 총액이 가장 낮은 브랜드를 조회하는 메서드
+         * 총액이 같은 브랜드가 여러 개인 경우 브랜드 ID가 가장 작은 브랜드를 반환하므로 결과가 항상 일정하다.
+         * @return 총액이 가장 낮은 브랜드의 인덱스 항목 (브랜드가 없으면 null)
+         */
+        public Entry lowestTotal() {
+            return matrix.lowestTotal();
+        }
+
+        /**
+         * 메서드 설명 : 특정 카테고리의 브랜드를 가격순으로 기준 위치 다음부터 정해진 수만큼 조회하는 메서드
+         * 오름차순은 (가격, 브랜드 ID) 순, 내림차순은 그 역순이며, 비용은 카테고리의 브랜드 수가 아니라 limit에 비례한다.
+         * @param category 조회할 카테고리
+         * @param descending 가격 내림차순 여부
+         * @param after 이전 페이지의 마지막 항목 (가격과 브랜드 ID만 사용, 첫 페이지는 null)
+         * @param limit 조회할 최대 브랜드 수
+         * @return 가격순 브랜드 목록 (상품이 있는 브랜드만, 최대 limit개)
+         */
+        public List<RankedBrand> ranked(Category category, boolean descending, RankedBrand after, int limit) {
+            if (after == null) {
+                return descending
+                        ? matrix.ranked(category, true, Integer.MAX_VALUE, Long.MAX_VALUE, limit)
+                        : matrix.ranked(category, false, Integer.MIN_VALUE, Long.MIN_VALUE, limit);
+            }
+            return matrix.ranked(category, descending, after.price(), after.id(), limit);
+        }
+
+    }
+
+    // 현재 게시된 스냅샷 (조회는 잠금 없이 참조만 읽음)
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(new Snapshot(0, false, PriceMatrix.EMPTY));
+
+    // 쓰기끼리의 순서를 보장하는 잠금 (조회는 사용하지 않음)
+    private final Lock writeLock = new ReentrantLock();
+
+    // 브랜드 ID -> 스냅샷의 행 번호 (쓰기 잠금 안에서만 사용)
+    private final Map<Long, Integer> rows = new HashMap<>();
+
+    // 브랜드 이름 -> 브랜드 ID (쓰기 잠금 안에서만 사용, 이름이 바뀐 브랜드의 이전 이름은 updatePrice에서 걸러냄)
+    private final Map<String, Long> idsByName = new HashMap<>();
+
+    // 브랜드 ID -> 마지막으로 반영된 브랜드 엔티티 버전 (쓰기 잠금 안에서만 사용, 버전과 함께 반영된 브랜드만 기록)
+    private final Map<Long, Long> entityVersions = new HashMap<>();
+
+    /**
+     * 메서드 설명 : 현재 게시된 스냅샷을 반환하는 메서드
+     * 잠금 없이 참조 하나만 읽으므로 쓰기가 진행 중이어도 기다리지 않으며, 반쯤 반영된 변경을 보지 않는다.
+     * @return 현재 스냅샷
+     */
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * 메서드 설명 : 인덱스가 적재되었는지 확인하는 메서드
+     * @return 적재 완료 여부
+     */
+    public boolean isLoaded() {
+        return current.get().loaded();
+    }
+
+    /**
+     * 메서드 설명 : 현재 인덱스 버전을 반환하는 메서드
+     * 적재를 시작하기 전에 버전을 기록해 두었다가 load 호출 시 전달하면, 그 사이의 변경 여부를 판단할 수 있다.
+     * @return 현재 버전
+     */
+    public long getVersion() {
+        return current.get().version();
+    }
+
+    /**
+     * 메서드 설명 : 데이터베이스에서 읽어온 전체 브랜드로 인덱스를 다시 구성하는 메서드
+     * 조회를 시작한 시점(expectedVersion) 이후에 변경이 반영되었다면 읽어온 목록이 오래된 것일 수 있으므로 적재하지 않는다.
+     * @param brands 전체 브랜드 목록
+     * @param expectedVersion 브랜드 목록을 조회하기 직전의 인덱스 버전
+     * @return 적재에 성공하면 true, 그 사이에 변경이 있었다면 false
+     */
+    public boolean load(Collection<Brand> brands, long expectedVersion) {
+        writeLock.lock();
+        try {
+            Snapshot previous = current.get();
+            if (previous.version() != expectedVersion) {
+                return false;
+            }
+            publish(previous, true, rebuild(() -> brands.stream().map(Entry::of).iterator()));
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 카탈로그 스냅샷 파일(CatalogSnapshotFile)에서 읽은 브랜드로 인덱스를 다시 구성하는 메서드
+     * 데이터베이스 적재와 같이 조회를 시작한 시점 이후에 변경이 반영되었다면 적재하지 않는다.
+     * 카탈로그 버전은 스냅샷을 쓸 때의 버전 이후로 이어지므로, 재시작 전에 발급된 ETag가 다른 내용에 다시 쓰이지 않는다.
+     * @param entries 스냅샷의 전체 브랜드 정보
+     * @param catalogVersion 스냅샷을 쓸 때의 카탈로그 버전
+     * @param expectedVersion 스냅샷 파일을 읽기 직전의 인덱스 버전
+     * @return 적재에 성공하면 true, 그 사이에 변경이 있었다면 false
+     */
+    public boolean restore(Iterable<Entry> entries, long catalogVersion, long expectedVersion) {
+        writeLock.lock();
+        try {
+            Snapshot previous = current.get();
+            if (previous.version() != expectedVersion) {
+                return false;
+            }
+            PriceMatrix matrix = rebuild(entries);
+            current.set(new Snapshot(Math.max(previous.version(), catalogVersion) + 1, true, matrix));
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 인덱스를 무효화하는 메서드
+     * 다음 조회 시 데이터베이스에서 다시 적재되도록 한다.
+     */
+    public void invalidate() {
+        writeLock.lock();
+        try {
+            rows.clear();
+            idsByName.clear();
+            publish(current.get(), false, PriceMatrix.EMPTY);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 브랜드를 인덱스에 추가하거나 기존 항목을 교체하는 메서드
+     * @param entry 추가할 인덱스 항목
+     */
+    public void put(Entry entry) {
+        putAll(List.of(entry));
+    }
+
+    /**
+     * 메서드 설명 : 여러 브랜드를 한 번에 인덱스에 반영하는 메서드
+     * 일괄 업데이트의 변경 사항을 하나의 스냅샷으로 게시하므로 버전도 한 번만 증가하고,
+     * 조회 요청은 변경 전 또는 변경 후의 스냅샷만 보게 된다.
+     * @param entries 추가하거나 교체할 인덱스 항목 목록
+     */
+    public void putAll(Collection<Entry> entries) {
+        putAll(entries, Map.of());
+    }
+
+    /**
+     * 메서드 설명 : 커밋된 브랜드 엔티티 버전(Brand.version)과 함께 여러 브랜드를 한 번에 인덱스에 반영하는 메서드
+     * 커밋 이후 반영(afterCommit)은 커밋 순서와 다르게 실행될 수 있으므로, 이미 더 새로운 버전이 반영된 브랜드의 항목은 건너뛴다.
+     * 같은 브랜드를 동시에 변경한 트랜잭션 중 먼저 커밋된 쪽의 항목이 나중에 반영되어 최신 가격을 덮어쓰는 것을 막는다.
+     * @param entries 추가하거나 교체할 인덱스 항목 목록
+     * @param versions 브랜드 ID -> 커밋된 엔티티 버전 (버전이 없는 브랜드는 항상 반영)
+     */
+    public void putAll(Collection<Entry> entries, Map<Long, Long> versions) {
+        writeLock.lock();
+        try {
+            Snapshot previous = current.get();
+            PriceMatrix matrix = previous.matrix();
+            List<Entry> newer = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                Long version = versions.get(entry.id());
+                if (version != null) {
+                    Long applied = entityVersions.get(entry.id());
+                    if (applied != null && applied >= version) {
+                        continue;
+                    }
+                    entityVersions.put(entry.id(), version);
+                }
+                newer.add(entry);
+            }
+            if (newer.isEmpty() && !entries.isEmpty()) {
+                return;
+            }
+            if (previous.loaded()) {
+                PriceMatrix.Editor editor = matrix.edit();
+                for (Entry entry : newer) {
+                    apply(editor, entry);
+                }
+                matrix = editor.build();
+            }
+            publish(previous, previous.loaded(), matrix);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 이름으로 찾은 브랜드의 한 카테고리 가격만 변경하는 메서드
+     * 데이터베이스를 조회하지 않고 인덱스에 있는 브랜드 정보로 새 항목을 만들어 바로 게시하므로,
+     * 가격 변경을 나중에 데이터베이스에 기록하는 지연 기록(write-behind) 모드에서 사용한다.
+     * 인덱스가 적재되지 않았거나 브랜드가 없으면 아무것도 변경하지 않는다.
+     * @param brandName 브랜드 이름
+     * @param category 변경할 카테고리
+     * @param price 새 가격
+     * @return 변경된 인덱스 항목 (브랜드가 없으면 null)
+     */
+    public Entry updatePrice(String brandName, Category category, int price) {
+        writeLock.lock();
+        try {
+            Long brandId = idsByName.get(brandName);
+            return brandId != null ? updateRow(brandId, brandName, category, price) : null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 이름으로 브랜드 ID를 찾는 메서드
+     * 지연 기록 모드에서 가격 변경을 반영하기 전에 같은 브랜드의 저장이 진행 중인지 확인할 때 사용한다.
+     * @param brandName 브랜드 이름
+     * @return 브랜드 ID (인덱스에 없으면 null)
+     */
+    public Long idOf(String brandName) {
+        writeLock.lock();
+        try {
+            return idsByName.get(brandName);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : ID로 찾은 브랜드의 한 카테고리 가격만 변경하는 메서드
+     * 재시작 시 가격 변경 로그(PriceChangeLog)의 기록을 재적용할 때 사용한다.
+     * @param brandId 브랜드 ID
+     * @param category 변경할 카테고리
+     * @param price 새 가격
+     * @return 변경된 인덱스 항목 (브랜드가 없으면 null)
+     */
+    public Entry updatePrice(Long brandId, Category category, int price) {
+        writeLock.lock();
+        try {
+            return updateRow(brandId, null, category, price);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 브랜드를 인덱스에서 제거하는 메서드
+     * @param brandId 제거할 브랜드 ID
+     */
+    public void remove(Long brandId) {
+        writeLock.lock();
+        try {
+            Snapshot previous = current.get();
+            PriceMatrix matrix = previous.matrix();
+            Integer row = rows.remove(brandId);
+            entityVersions.remove(brandId);
+            if (previous.loaded() && row != null) {
+                Entry removed = matrix.entry(row);
+                if (removed != null) {
+                    idsByName.remove(removed.name(), brandId);
+                }
+                PriceMatrix.Editor editor = matrix.edit();
+                editor.remove(row);
+                matrix = compactIfSparse(editor.build());
+            }
+            publish(previous, previous.loaded(), matrix);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 현재 스냅샷에서 특정 카테고리의 최저가와 해당 가격을 제공하는 브랜드 목록을 조회하는 메서드
+     * @param category 조회할 카테고리
+     * @return 최저가 정보 (해당 카테고리의 상품이 없으면 null)
+     */
+    public PriceLevel lowest(Category category) {
+        return snapshot().lowest(category);
+    }
+
+    /**
+     * 메서드 설명 : 현재 스냅샷에서 특정 카테고리의 최고가와 해당 가격을 제공하는 브랜드 목록을 조회하는 메서드
+     * @param category 조회할 카테고리
+     * @return 최고가 정보 (해당 카테고리의 상품이 없으면 null)
+     */
+    public PriceLevel highest(Category category) {
+        return snapshot().highest(category);
+    }
+
+    /**
+     * 메서드 설명 : 현재 스냅샷에서 모든 카테고리 가격의 총액이 가장 낮은 브랜드를 조회하는 메서드
+     * @return 총액이 가장 낮은 브랜드의 인덱스 항목 (브랜드가 없으면 null)
+     */
+    public Entry lowestTotal() {
+        return snapshot().lowestTotal();
+    }
+
+    // 주어진 브랜드만으로 새 스냅샷과 행 번호, 이름 대응을 구성 (쓰기 잠금 안에서 호출)
+    private PriceMatrix rebuild(Iterable<Entry> entries) {
+        rows.clear();
+        idsByName.clear();
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        for (Entry entry : entries) {
+            rows.put(entry.id(), editor.append(entry));
+            idsByName.put(entry.name(), entry.id());
+        }
+        return editor.build();
+    }
+
+    // 다음 버전의 스냅샷을 게시 (쓰기 잠금 안에서만 호출되므로 단순 set으로 충분)
+    private void publish(Snapshot previous, boolean loaded, PriceMatrix matrix) {
+        current.set(new Snapshot(previous.version() + 1, loaded, matrix));
+    }
+
+    // 인덱스 항목을 편집 중인 스냅샷에 반영 (새 브랜드는 마지막 행에 추가)
+    private void apply(PriceMatrix.Editor editor, Entry entry) {
+        Integer row = rows.get(entry.id());
+        if (row == null) {
+            rows.put(entry.id(), editor.append(entry));
+        } else {
+            editor.set(row, entry);
+        }
+        idsByName.put(entry.name(), entry.id());
+    }
+
+    // 브랜드 행의 한 카테고리 가격을 바꾼 다음 버전을 게시 (쓰기 잠금 안에서 호출, 이름이 주어지면 현재 이름과 일치해야 함)
+    private Entry updateRow(Long brandId, String expectedName, Category category, int price) {
+        Snapshot previous = current.get();
+        Integer row = rows.get(brandId);
+        if (!previous.loaded() || row == null) {
+            return null;
+        }
+        Entry entry = previous.matrix().entry(row);
+        if (entry == null || (expectedName != null && !expectedName.equals(entry.name()))) {
+            return null;
+        }
+
+        int[] prices = entry.prices().clone();
+        int oldPrice = prices[category.ordinal()];
+        prices[category.ordinal()] = price;
+        int totalPrice = entry.totalPrice() - (oldPrice == Entry.NO_PRICE ? 0 : oldPrice) + price;
+        Entry updated = new Entry(entry.id(), entry.name(), prices, totalPrice);
+
+        PriceMatrix.Editor editor = previous.matrix().edit();
+        editor.set(row, updated);
+        publish(previous, true, editor.build());
+        return updated;
+    }
+
+    // 삭제된 빈 행이 브랜드 수보다 많아지면 남은 브랜드만으로 스냅샷을 다시 구성
+    private PriceMatrix compactIfSparse(PriceMatrix matrix) {
+        int deleted = matrix.size() - matrix.liveCount();
+        if (deleted <= Math.max(PriceMatrix.CHUNK_SIZE, matrix.liveCount())) {
+            return matrix;
+        }
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        rows.clear();
+        idsByName.clear();
+        for (int row = 0; row < matrix.size(); row++) {
+            Entry entry = matrix.entry(row);
+            if (entry != null) {
+                rows.put(entry.id(), editor.append(entry));
+                idsByName.put(entry.name(), entry.id());
+            }
+        }
+        return editor.build();
+    }
+
+}
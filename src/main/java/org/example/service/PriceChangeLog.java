@@ -0,0 +1,590 @@
+package org.example.service;
+
+import org.example.model.Category;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 클래스 설명 : 브랜드 생성/수정, 삭제, 가격 변경 기록을 파일 끝에 추가하는 로그 (write-ahead log)
+ * 가격 변경 지연 기록(write-behind) 모드에서 데이터베이스에 아직 기록되지 않은 가격 변경을 잃지 않기 위해,
+ * 변경을 로그 파일에 먼저 추가하고 fsync로 디스크에 확정한 뒤 응답하며, 재시작 시 로그를 처음부터 읽어 재적용한다.
+ * fsync 정책(FsyncPolicy)은 다음 중에서 선택한다.
+ * 1. ALWAYS: append가 fsync까지 마친 뒤 반환한다. 호출자가 다른 잠금을 가진 채로 호출하면 그 잠금을 기다리는 쓰기는 fsync를 함께 나누지 못한다.
+ * 2. GROUP: append는 메모리에 추가만 하고, 호출자가 자신의 잠금을 놓은 뒤 awaitDurable로 확정을 기다린다.
+ *    기다리는 호출자 중 한 명이 그때까지 모인 기록 전체를 한 번에 쓰고 fsync하며(group commit), fsync가 진행되는 동안 들어온 기록은
+ *    다음 fsync에 함께 확정되므로 동시 호출이 많을수록 fsync 한 번에 확정되는 기록이 늘어난다.
+ * 3. INTERVAL: 기록을 메모리에 모아 두고 fsyncIntervalMillis마다 백그라운드에서 쓰고 fsync하며, 호출자는 기다리지 않는다.
+ *    비정상 종료 시 마지막 주기 동안의 기록이 유실될 수 있다.
+ * 파일은 헤더(매직 넘버와 형식 버전) 뒤에 [길이(int)][CRC32(int)][내용] 형식의 기록이 이어지며,
+ * 쓰는 도중 중단되어 길이나 CRC가 맞지 않는 마지막 기록은 재적용 시 버리고 파일에서 잘라낸다.
+ * 체크포인트는 rotate로 지금까지의 기록을 봉인된 세그먼트(로그 파일 이름 + ".sealed")로 옮기고 새 파일에 이어서 기록한 뒤,
+ * 봉인된 세그먼트의 변경이 데이터베이스에 반영되면 dropSealedSegment로 지운다. 재적용은 봉인된 세그먼트부터 읽는다.
+ * 쓰기나 fsync가 한 번 실패하면 어떤 기록까지 디스크에 남았는지 알 수 없으므로 이후의 모든 기록 요청을 거부한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class PriceChangeLog implements AutoCloseable {
+
+    // 파일 헤더: "MSPL" + 형식 버전
+    private static final int MAGIC = 0x4D53504C;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    // 기록 내용 크기: 종류(byte) + 브랜드 ID(long) + 카테고리 순서(byte, 없으면 -1) + 가격(int)
+    private static final int PAYLOAD_SIZE = 1 + 8 + 1 + 4;
+    private static final int RECORD_SIZE = 4 + 4 + PAYLOAD_SIZE;
+
+    // 쓰지 않은 기록을 모아 두는 버퍼의 초기 크기
+    private static final int INITIAL_BUFFER_SIZE = 64 * RECORD_SIZE;
+
+    // INTERVAL 정책에서 백그라운드 fsync를 기다리지 않고 호출자가 직접 쓰는 대기 크기
+    private static final int MAX_UNWRITTEN_BYTES = 1 << 20;
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * fsync 정책
+     */
+    public enum FsyncPolicy {
+        ALWAYS, GROUP, INTERVAL
+    }
+
+    /**
+     * 기록 종류
+     */
+    public enum Type {
+        /**
+         * 브랜드 생성 또는 수정 (데이터베이스에 직접 저장되며, 이전의 가격 변경 기록을 대체)
+         */
+        BRAND_SAVED,
+        /**
+         * 브랜드 삭제 (데이터베이스에서 직접 삭제되며, 이전의 가격 변경 기록을 대체)
+         */
+        BRAND_DELETED,
+        /**
+         * 한 카테고리의 가격 변경 (지연 기록 대상)
+         */
+        PRICE_CHANGED
+    }
+
+    /**
+     * 로그 기록 한 건
+     * @param type 기록 종류
+     * @param brandId 브랜드 ID
+     * @param category 가격을 변경한 카테고리 (가격 변경이 아니면 null)
+     * @param price 새 가격 (가격 변경이 아니면 0)
+     */
+    public record Change(Type type, long brandId, Category category, int price) {
+
+        /**
+         * 메서드 설명 : 브랜드 생성/수정 기록을 만드는 메서드
+         * @param brandId 브랜드 ID
+         * @return 브랜드 저장 기록
+         */
+        public static Change brandSaved(long brandId) {
+            return new Change(Type.BRAND_SAVED, brandId, null, 0);
+        }
+
+        /**
+         * 메서드 설명 : 브랜드 삭제 기록을 만드는 메서드
+         * @param brandId 브랜드 ID
+         * @return 브랜드 삭제 기록
+         */
+        public static Change brandDeleted(long brandId) {
+            return new Change(Type.BRAND_DELETED, brandId, null, 0);
+        }
+
+        /**
+         * 메서드 설명 : 가격 변경 기록을 만드는 메서드
+         * @param brandId 브랜드 ID
+         * @param category 카테고리
+         * @param price 새 가격
+         * @return 가격 변경 기록
+         */
+        public static Change priceChanged(long brandId, Category category, int price) {
+            return new Change(Type.PRICE_CHANGED, brandId, category, price);
+        }
+
+    }
+
+    private final Path path;
+
+    // 체크포인트가 끝나지 않은 기록을 보관하는 봉인된 세그먼트 파일
+    private final Path sealedPath;
+
+    // 현재 로그 파일 (rotate에서 잠금을 가진 채, 쓰기와 fsync가 진행 중이지 않을 때만 교체)
+    private FileChannel channel;
+
+    private final FsyncPolicy policy;
+
+    // 아래 필드를 보호하는 잠금 (쓰기와 fsync는 잠금을 놓은 상태에서 한 스레드만 실행)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 쓰기와 fsync가 끝날 때마다 신호
+    private final Condition synced = lock.newCondition();
+
+    // 파일에 아직 쓰지 않은 기록과, 쓰기가 끝난 뒤 재사용할 버퍼
+    private ByteBuffer unwritten = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+    // 지금까지 추가된 기록 수와 디스크에 확정된 기록 수
+    private long appendedCount;
+    private long durableCount;
+
+    // 현재 로그 파일 크기 (쓰지 않은 기록 포함, 봉인된 세그먼트 제외)
+    private long size;
+
+    // 쓰기와 fsync를 실행 중인 스레드가 있는지 여부
+    private boolean syncing;
+
+    // 쓰기나 fsync 실패 원인 (실패 후에는 모든 기록을 거부)
+    private IOException failure;
+
+    // INTERVAL 정책의 주기적인 fsync 스레드
+    private final Thread intervalSyncer;
+
+    /**
+     * 메서드 설명 : 로그 파일을 열거나 새로 만드는 생성자
+     * 기존 파일이 있으면 replay로 읽을 수 있도록 그대로 두고, 새 기록은 파일 끝에 추가한다.
+     * @param path 로그 파일 경로 (상위 디렉터리가 없으면 생성)
+     * @param policy fsync 정책
+     * @param fsyncIntervalMillis INTERVAL 정책의 fsync 주기 (밀리초)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public PriceChangeLog(Path path, FsyncPolicy policy, long fsyncIntervalMillis) {
+        this.path = path;
+        this.sealedPath = path.resolveSibling(path.getFileName() + ".sealed");
+        this.policy = policy;
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() < HEADER_SIZE) {
+                writeHeader();
+            } else {
+                checkHeader();
+            }
+            size = channel.size();
+            channel.position(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("가격 변경 로그를 열 수 없습니다: " + path, e);
+        }
+
+        if (policy == FsyncPolicy.INTERVAL) {
+            intervalSyncer = new Thread(() -> syncPeriodically(fsyncIntervalMillis), "price-change-log-sync");
+            intervalSyncer.setDaemon(true);
+            intervalSyncer.start();
+        } else {
+            intervalSyncer = null;
+        }
+    }
+
+    /**
+     * 메서드 설명 : 로그 파일의 기록을 처음부터 순서대로 읽어 전달하는 메서드
+     * 체크포인트가 끝나기 전에 종료되어 봉인된 세그먼트가 남아 있으면 그 기록을 먼저 전달한다.
+     * 쓰는 도중 중단된 마지막 기록(길이 부족, CRC 불일치)을 만나면 거기서 멈추고 그 뒤를 파일에서 잘라내어,
+     * 이후에 추가되는 기록이 손상된 기록 뒤에 이어지지 않도록 한다. 새 기록을 추가하기 전에 호출해야 한다.
+     * @param consumer 읽은 기록을 받을 함수
+     * @return 읽은 기록 수
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public long replay(Consumer<Change> consumer) {
+        lock.lock();
+        try {
+            if (appendedCount > 0) {
+                throw new IllegalStateException("기록을 추가한 뒤에는 재적용할 수 없습니다");
+            }
+            long count = 0;
+            if (Files.exists(sealedPath)) {
+                try (FileChannel sealed = FileChannel.open(sealedPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    count += (readRecords(sealed, consumer) - HEADER_SIZE) / RECORD_SIZE;
+                }
+            }
+            long validEnd = readRecords(channel, consumer);
+            size = validEnd;
+            channel.position(validEnd);
+            return count + (validEnd - HEADER_SIZE) / RECORD_SIZE;
+        } catch (IOException e) {
+            throw new UncheckedIOException("가격 변경 로그를 읽을 수 없습니다: " + path, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 기록 하나를 추가하는 메서드
+     * ALWAYS 정책이면 fsync까지 마친 뒤 반환하고, 그 외에는 메모리에 추가만 하고 반환한다.
+     * GROUP 정책에서 디스크 확정을 기다리려면 반환된 순번으로 awaitDurable을 호출한다.
+     * @param change 추가할 기록
+     * @return 기록 순번 (awaitDurable에 사용)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public long append(Change change) {
+        return appendAll(List.of(change));
+    }
+
+    /**
+     * 메서드 설명 : 여러 기록을 순서대로 추가하는 메서드
+     * @param changes 추가할 기록 목록
+     * @return 마지막 기록의 순번
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public long appendAll(Collection<Change> changes) {
+        long sequence;
+        boolean flushNow;
+        lock.lock();
+        try {
+            // ALWAYS: 다른 호출자의 기록과 묶지 않도록, 진행 중인 쓰기가 끝난 뒤 잠금을 가진 채로 자신의 기록만 쓰고 fsync
+            while (policy == FsyncPolicy.ALWAYS && syncing) {
+                synced.awaitUninterruptibly();
+            }
+            checkNotFailed();
+            unwritten = ensureCapacity(unwritten, changes.size() * RECORD_SIZE);
+            for (Change change : changes) {
+                encode(unwritten, change);
+            }
+            size += (long) changes.size() * RECORD_SIZE;
+            appendedCount += changes.size();
+            sequence = appendedCount;
+            if (policy == FsyncPolicy.ALWAYS) {
+                try {
+                    writeAndForce(unwritten);
+                } catch (IOException e) {
+                    failure = e;
+                    synced.signalAll();
+                }
+                checkNotFailed();
+                durableCount = sequence;
+                return sequence;
+            }
+            flushNow = policy == FsyncPolicy.INTERVAL && unwritten.position() > MAX_UNWRITTEN_BYTES;
+        } finally {
+            lock.unlock();
+        }
+        if (flushNow) {
+            syncUntil(sequence);
+        }
+        return sequence;
+    }
+
+    /**
+     * 메서드 설명 : 지정한 순번까지의 기록이 디스크에 확정될 때까지 기다리는 메서드 (group commit)
+     * 쓰기와 fsync를 실행 중인 스레드가 없으면 호출자가 그때까지 모인 기록 전체를 쓰고 fsync하며,
+     * 이미 실행 중이면 그 작업이 끝나기를 기다린 뒤 아직 확정되지 않았다면 다음 작업을 실행한다.
+     * INTERVAL 정책에서는 기다리지 않는다.
+     * @param sequence append가 반환한 기록 순번
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public void awaitDurable(long sequence) {
+        if (policy != FsyncPolicy.INTERVAL) {
+            syncUntil(sequence);
+        }
+    }
+
+    /**
+     * 메서드 설명 : 지금까지의 기록을 봉인된 세그먼트로 옮기고 새 로그 파일에 이어서 기록하도록 전환하는 메서드 (체크포인트 시작)
+     * 아직 파일에 쓰지 않은 기록을 쓰고 fsync한 뒤 파일 이름만 바꾸므로 기록 수와 관계없이 짧게 끝나며, 이후의 기록은 새 파일에 추가된다.
+     * 이전 체크포인트가 끝나지 않아 봉인된 세그먼트가 남아 있으면 현재 파일의 기록을 그 뒤에 이어 붙인다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public void rotate() {
+        lock.lock();
+        try {
+            while (syncing) {
+                synced.awaitUninterruptibly();
+            }
+            checkNotFailed();
+            try {
+                writeAndForce(unwritten);
+                if (Files.exists(sealedPath)) {
+                    try (FileChannel sealed = FileChannel.open(sealedPath, StandardOpenOption.WRITE)) {
+                        sealed.position(sealed.size());
+                        for (long position = HEADER_SIZE; position < size; ) {
+                            position += channel.transferTo(position, size - position, sealed);
+                        }
+                        sealed.force(false);
+                    }
+                    channel.truncate(HEADER_SIZE);
+                    channel.position(HEADER_SIZE);
+                    channel.force(false);
+                } else {
+                    channel.close();
+                    Files.move(path, sealedPath, StandardCopyOption.ATOMIC_MOVE);
+                    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    writeHeader();
+                    channel.position(HEADER_SIZE);
+                }
+            } catch (IOException e) {
+                failure = e;
+                synced.signalAll();
+                throw new UncheckedIOException("가격 변경 로그를 전환할 수 없습니다: " + path, e);
+            }
+            size = HEADER_SIZE;
+            durableCount = appendedCount;
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 봉인된 세그먼트를 지우는 메서드 (체크포인트 완료)
+     * rotate 이전의 기록이 모두 데이터베이스(와 카탈로그 스냅샷)에 반영된 뒤에 호출한다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public void dropSealedSegment() {
+        lock.lock();
+        try {
+            Files.deleteIfExists(sealedPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("봉인된 가격 변경 로그를 지울 수 없습니다: " + sealedPath, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 현재 로그 파일 크기를 반환하는 메서드
+     * @return 아직 파일에 쓰지 않은 기록을 포함한 크기 (바이트, 봉인된 세그먼트 제외)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 남은 기록을 디스크에 확정하고 파일을 닫는 메서드
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @Override
+    public void close() {
+        if (intervalSyncer != null) {
+            intervalSyncer.interrupt();
+        }
+        try {
+            long sequence;
+            lock.lock();
+            try {
+                sequence = failure == null ? appendedCount : 0;
+            } finally {
+                lock.unlock();
+            }
+            syncUntil(sequence);
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 메서드 설명 : 지정한 순번까지의 기록이 확정될 때까지 쓰기와 fsync를 실행하거나 기다리는 내부 메서드
+     * 쓰기와 fsync는 잠금을 놓은 상태에서 실행하므로, 그동안 다른 호출자는 새 버퍼에 기록을 계속 추가할 수 있고
+     * 그 기록은 다음 fsync에서 한꺼번에 확정된다.
+     * @param sequence 확정되어야 하는 기록 순번
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void syncUntil(long sequence) {
+        lock.lock();
+        try {
+            while (durableCount < sequence) {
+                checkNotFailed();
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+
+                // 모인 기록 전체를 가져가고 빈 버퍼로 교체
+                syncing = true;
+                ByteBuffer batch = unwritten;
+                long target = appendedCount;
+                unwritten = spare;
+                IOException error = null;
+                lock.unlock();
+                try {
+                    writeAndForce(batch);
+                } catch (IOException e) {
+                    error = e;
+                } finally {
+                    lock.lock();
+                }
+
+                spare = batch;
+                syncing = false;
+                if (error != null) {
+                    failure = error;
+                } else {
+                    durableCount = Math.max(durableCount, target);
+                }
+                synced.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메서드 설명 : INTERVAL 정책에서 주기적으로 모인 기록을 쓰고 fsync하는 내부 메서드 (백그라운드 스레드)
+     * 실패 원인은 failure에 보관되어 다음 기록 요청에서 전달된다.
+     * @param intervalMillis fsync 주기 (밀리초)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void syncPeriodically(long intervalMillis) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long sequence;
+            lock.lock();
+            try {
+                sequence = failure == null ? appendedCount : 0;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                syncUntil(sequence);
+            } catch (UncheckedIOException e) {
+                return;
+            }
+        }
+    }
+
+    // 세그먼트 파일의 기록을 처음부터 읽어 전달하고, 손상된 마지막 기록은 잘라낸 뒤 정상 기록의 끝 위치를 반환
+    private long readRecords(FileChannel segment, Consumer<Change> consumer) throws IOException {
+        long validEnd = HEADER_SIZE;
+        segment.position(HEADER_SIZE);
+        DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(segment), 1 << 16));
+        byte[] payload = new byte[PAYLOAD_SIZE];
+        CRC32 crc = new CRC32();
+        while (true) {
+            try {
+                if (input.readInt() != PAYLOAD_SIZE) {
+                    break;
+                }
+                int checksum = input.readInt();
+                input.readFully(payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+            } catch (EOFException e) {
+                break;
+            }
+            consumer.accept(decode(ByteBuffer.wrap(payload)));
+            validEnd += RECORD_SIZE;
+        }
+
+        // 손상된 마지막 기록 제거
+        if (segment.size() > validEnd) {
+            segment.truncate(validEnd);
+            segment.force(false);
+        }
+        return validEnd;
+    }
+
+    // 버퍼의 기록을 파일에 쓰고 fsync한 뒤 버퍼를 비움
+    private void writeAndForce(ByteBuffer batch) throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        channel.force(false);
+        batch.clear();
+    }
+
+    // 버퍼에 bytes만큼의 여유가 없으면 더 큰 버퍼로 복사
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    private void checkNotFailed() {
+        if (failure != null) {
+            throw new UncheckedIOException("가격 변경 로그 쓰기에 실패하여 더 이상 기록할 수 없습니다: " + path, failure);
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION);
+        header.flip();
+        channel.truncate(0);
+        channel.write(header, 0);
+        channel.force(true);
+    }
+
+    private void checkHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+            throw new IOException("가격 변경 로그 형식이 아닙니다: " + path);
+        }
+    }
+
+    // [길이][CRC32][종류, 브랜드 ID, 카테고리 순서, 가격]
+    private static void encode(ByteBuffer buffer, Change change) {
+        int start = buffer.position();
+        buffer.putInt(PAYLOAD_SIZE).putInt(0)
+                .put((byte) change.type().ordinal())
+                .putLong(change.brandId())
+                .put((byte) (change.category() != null ? change.category().ordinal() : -1))
+                .putInt(change.price());
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), start + 8, PAYLOAD_SIZE);
+        buffer.putInt(start + 4, (int) crc.getValue());
+    }
+
+    private static Change decode(ByteBuffer payload) {
+        Type type = Type.values()[payload.get()];
+        long brandId = payload.getLong();
+        int category = payload.get();
+        int price = payload.getInt();
+        return new Change(type, brandId, category >= 0 ? CATEGORIES[category] : null, price);
+    }
+
+}
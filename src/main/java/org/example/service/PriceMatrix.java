@@ -0,0 +1,765 @@
+package org.example.service;
+
+import org.example.model.Category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 클래스 설명 : 전체 카탈로그의 가격을 열(column) 단위로 저장하는 변경 불가 스냅샷
+ * 브랜드 하나를 행(row)으로 보고, 브랜드 ID/이름 배열과 카테고리마다 하나의 int 가격 열, 총액 열을 가진다.
+ * 최저 총액 계산은 엔티티와 맵을 따라가지 않고 int 배열을 순서대로 읽는 반복문으로 처리한다.
+ * 각 열은 CHUNK_SIZE개 행 단위의 조각(chunk)으로 나누어 저장하며, 변경은 Editor로 다음 스냅샷을 만들 때
+ * 값이 바뀐 조각만 복사하므로(copy-on-write) 가격 하나를 바꾸는 비용이 브랜드 수에 비례해 커지지 않는다.
+ * 삭제된 행은 삭제 표시(live가 false)와 가격이 없는 빈 행으로 남으며, 행 번호와 브랜드 ID의 대응은 CategoryPriceIndex가 관리한다.
+ * 삭제 여부는 이름과 별도로 기록하므로 이름이 null인 브랜드도 삭제된 행으로 취급되지 않는다.
+ * 카테고리마다 상품이 있는 행 번호를 (가격, 브랜드 ID) 순으로 정렬한 목록도 함께 유지하여, 가격순 상위 K개 조회는
+ * 열 전체를 정렬하지 않고 시작 위치를 이진 탐색한 뒤 K개만 읽고, 최저가/최고가는 목록의 양 끝에서 같은 가격의 행만 읽는다. 이 목록도 ORDER_LEAF_SIZE 안팎의 조각으로 나누어
+ * 변경된 조각만 새로 만들며, 처음부터 만드는 스냅샷(적재, 복원, 압축)은 build() 시점에 한 번 정렬한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public final class PriceMatrix {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    /**
+     * 조각 하나에 저장되는 행 수
+     */
+    public static final int CHUNK_SIZE = 1 << 12;
+
+    private static final int CHUNK_BITS = 12;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * 가격순 목록의 조각 하나에 저장되는 기준 행 수 (두 배를 넘으면 둘로 나눔)
+     */
+    public static final int ORDER_LEAF_SIZE = 512;
+
+    // 상품이 없는 카테고리의 가격
+    private static final int NO_PRICE = CategoryPriceIndex.Entry.NO_PRICE;
+
+    // 삭제된 행의 총액 (최저 총액 비교에서 항상 뒤로 밀림)
+    private static final int NO_TOTAL = Integer.MAX_VALUE;
+
+    /**
+     * 행이 없는 스냅샷
+     */
+    public static final PriceMatrix EMPTY = new PriceMatrix(0, 0,
+            new long[0][], new String[0][], new boolean[0][], new int[CATEGORIES.length][0][], new int[0][],
+            new int[CATEGORIES.length][0][]);
+
+    // 삭제된 행을 포함한 전체 행 수
+    private final int size;
+
+    // 삭제되지 않은 행 수
+    private final int liveCount;
+
+    // 조각별 브랜드 ID
+    private final long[][] ids;
+
+    // 조각별 브랜드 이름 (삭제된 행은 null)
+    private final String[][] names;
+
+    // 조각별 삭제되지 않은 행 여부
+    private final boolean[][] live;
+
+    // 카테고리 순서(ordinal) -> 조각별 가격
+    private final int[][][] columns;
+
+    // 조각별 가격 총액
+    private final int[][] totals;
+
+    // 카테고리 순서(ordinal) -> (가격, 브랜드 ID) 순으로 정렬된 행 번호 조각 목록 (상품이 있는 행만, 빈 조각 없음)
+    private final int[][][] orders;
+
+    private PriceMatrix(int size, int liveCount, long[][] ids, String[][] names, boolean[][] live, int[][][] columns,
+                        int[][] totals, int[][][] orders) {
+        this.size = size;
+        this.liveCount = liveCount;
+        this.ids = ids;
+        this.names = names;
+        this.live = live;
+        this.columns = columns;
+        this.totals = totals;
+        this.orders = orders;
+    }
+
+    /**
+     * 메서드 설명 : 삭제된 행을 포함한 전체 행 수를 반환하는 메서드
+     * @return 전체 행 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 메서드 설명 : 삭제되지 않은 행 수를 반환하는 메서드
+     * @return 브랜드 수
+     */
+    public int liveCount() {
+        return liveCount;
+    }
+
+    /**
+     * 메서드 설명 : 행이 삭제되지 않았는지 확인하는 메서드
+     * @param row 행 번호
+     * @return 브랜드가 있는 행이면 true
+     */
+    public boolean isLive(int row) {
+        return live[row >>> CHUNK_BITS][row & CHUNK_MASK];
+    }
+
+    /**
+     * 메서드 설명 : 행의 브랜드 정보를 인덱스 항목으로 반환하는 메서드
+     * @param row 행 번호
+     * @return 인덱스 항목 (삭제된 행이면 null)
+     */
+    public CategoryPriceIndex.Entry entry(int row) {
+        int chunk = row >>> CHUNK_BITS;
+        int offset = row & CHUNK_MASK;
+        if (!live[chunk][offset]) {
+            return null;
+        }
+        int[] prices = new int[CATEGORIES.length];
+        for (int c = 0; c < prices.length; c++) {
+            prices[c] = columns[c][chunk][offset];
+        }
+        return new CategoryPriceIndex.Entry(ids[chunk][offset], names[chunk][offset], prices, totals[chunk][offset]);
+    }
+
+    /**
+     * 메서드 설명 : 특정 카테고리의 최저가와 해당 가격을 제공하는 브랜드 목록을 계산하는 메서드
+     * 가격순 목록의 첫 행이 최저가이므로, 첫 조각의 앞에서부터 같은 가격인 행만 읽는다 (비용은 같은 가격의 브랜드 수에 비례).
+     * 가격순 목록은 같은 가격 안에서 브랜드 ID 순이므로 브랜드 목록도 브랜드 ID 순이다.
+     * @param category 조회할 카테고리
+     * @return 최저가 정보 (해당 카테고리의 상품이 없으면 null)
+     */
+    public CategoryPriceIndex.PriceLevel lowest(Category category) {
+        int[][] leaves = orders[category.ordinal()];
+        if (leaves.length == 0) {
+            return null;
+        }
+        return levelFrom(category.ordinal(), 0, 0, price(category.ordinal(), leaves[0][0]));
+    }
+
+    /**
+     * 메서드 설명 : 특정 카테고리의 최고가와 해당 가격을 제공하는 브랜드 목록을 계산하는 메서드
+     * 가격순 목록의 마지막 행이 최고가이므로, 그 가격의 가장 작은 브랜드 ID 위치를 이진 탐색한 뒤 끝까지 읽는다
+     * (비용은 O(log n + 같은 가격의 브랜드 수)). 브랜드 목록은 브랜드 ID 순이다.
+     * @param category 조회할 카테고리
+     * @return 최고가 정보 (해당 카테고리의 상품이 없으면 null)
+     */
+    public CategoryPriceIndex.PriceLevel highest(Category category) {
+        int c = category.ordinal();
+        int[][] leaves = orders[c];
+        if (leaves.length == 0) {
+            return null;
+        }
+        int[] last = leaves[leaves.length - 1];
+        int max = price(c, last[last.length - 1]);
+        int[] position = seek(leaves, columns[c], ids, max, Long.MIN_VALUE, true);
+        return levelFrom(c, position[0], position[1], max);
+    }
+
+    /**
+     * 메서드 설명 : 가격 열 전체를 읽어 특정 카테고리의 최저가와 해당 가격을 제공하는 브랜드 목록을 계산하는 메서드
+     * 가격순 목록을 쓰지 않는 이전 방식으로, 벤치마크의 비교 기준과 테스트의 결과 비교에만 사용한다.
+     * @param category 조회할 카테고리
+     * @return 최저가 정보 (해당 카테고리의 상품이 없으면 null)
+     */
+    public CategoryPriceIndex.PriceLevel lowestByScan(Category category) {
+        int[][] column = columns[category.ordinal()];
+        int min = Integer.MAX_VALUE;
+        for (int chunk = 0; chunk < column.length; chunk++) {
+            int[] prices = column[chunk];
+            int limit = rowsIn(chunk);
+            for (int i = 0; i < limit; i++) {
+                int price = prices[i];
+                if (price != NO_PRICE && price < min) {
+                    min = price;
+                }
+            }
+        }
+        return level(column, min);
+    }
+
+    /**
+     * 메서드 설명 : 가격 열 전체를 읽어 특정 카테고리의 최고가와 해당 가격을 제공하는 브랜드 목록을 계산하는 메서드
+     * 가격순 목록을 쓰지 않는 이전 방식으로, 벤치마크의 비교 기준과 테스트의 결과 비교에만 사용한다.
+     * 상품이 없는 칸(NO_PRICE)은 int의 최솟값이므로 별도 검사 없이 최댓값 비교에서 제외된다.
+     * @param category 조회할 카테고리
+     * @return 최고가 정보 (해당 카테고리의 상품이 없으면 null)
+     */
+    public CategoryPriceIndex.PriceLevel highestByScan(Category category) {
+        int[][] column = columns[category.ordinal()];
+        int max = NO_PRICE;
+        for (int chunk = 0; chunk < column.length; chunk++) {
+            int[] prices = column[chunk];
+            int limit = rowsIn(chunk);
+            for (int i = 0; i < limit; i++) {
+                max = Math.max(max, prices[i]);
+            }
+        }
+        return max != NO_PRICE ? level(column, max) : null;
+    }
+
+    /**
+     * 메서드 설명 : 모든 카테고리 가격의 총액이 가장 낮은 브랜드를 계산하는 메서드
+     * 총액이 같은 브랜드가 여러 개인 경우 브랜드 ID가 가장 작은 브랜드를 반환한다.
+     * @return 총액이 가장 낮은 브랜드의 인덱스 항목 (브랜드가 없으면 null)
+     */
+    public CategoryPriceIndex.Entry lowestTotal() {
+        int best = NO_TOTAL;
+        int bestRow = -1;
+        for (int chunk = 0; chunk < totals.length; chunk++) {
+            int[] chunkTotals = totals[chunk];
+            int limit = rowsIn(chunk);
+            for (int i = 0; i < limit; i++) {
+                int total = chunkTotals[i];
+                if (total < best) {
+                    best = total;
+                    bestRow = (chunk << CHUNK_BITS) | i;
+                } else if (total == best && bestRow >= 0 && ids[chunk][i] < id(bestRow)) {
+                    // 같은 총액은 드물기 때문에 ID 비교는 이 경우에만 수행
+                    bestRow = (chunk << CHUNK_BITS) | i;
+                }
+            }
+        }
+        return bestRow >= 0 ? entry(bestRow) : null;
+    }
+
+    /**
+     * 메서드 설명 : 특정 카테고리의 브랜드를 가격순으로 기준 위치 다음부터 정해진 수만큼 조회하는 메서드
+     * 오름차순은 (가격, 브랜드 ID) 순, 내림차순은 그 역순이며, 기준 위치는 이전 페이지의 마지막 브랜드의 (가격, 브랜드 ID)이다.
+     * 가격순 목록에서 기준 위치를 이진 탐색하고 limit개만 읽으므로 비용은 O(log n + limit)이다.
+     * 첫 페이지는 오름차순이면 (Integer.MIN_VALUE, Long.MIN_VALUE), 내림차순이면 (Integer.MAX_VALUE, Long.MAX_VALUE)를 기준으로 전달한다.
+     * @param category 조회할 카테고리
+     * @param descending 가격 내림차순 여부
+     * @param afterPrice 기준 위치의 가격
+     * @param afterId 기준 위치의 브랜드 ID
+     * @param limit 조회할 최대 브랜드 수
+     * @return 가격순 브랜드 목록 (상품이 있는 브랜드만, 최대 limit개)
+     */
+    public List<CategoryPriceIndex.RankedBrand> ranked(Category category, boolean descending,
+                                                       int afterPrice, long afterId, int limit) {
+        int[][] leaves = orders[category.ordinal()];
+        int[][] column = columns[category.ordinal()];
+        List<CategoryPriceIndex.RankedBrand> result = new ArrayList<>(Math.min(limit, ORDER_LEAF_SIZE));
+        if (descending) {
+            // 기준 이상인 첫 위치의 바로 앞부터 거꾸로 읽음
+            int[] position = seek(leaves, column, ids, afterPrice, afterId, true);
+            int leaf = position[0];
+            int offset = position[1] - 1;
+            while (result.size() < limit && leaf >= 0) {
+                if (offset < 0) {
+                    if (--leaf >= 0) {
+                        offset = leaves[leaf].length - 1;
+                    }
+                    continue;
+                }
+                result.add(ranked(column, leaves[leaf][offset--]));
+            }
+        } else {
+            // 기준보다 큰 첫 위치부터 읽음
+            int[] position = seek(leaves, column, ids, afterPrice, afterId, false);
+            int leaf = position[0];
+            int offset = position[1];
+            while (result.size() < limit && leaf < leaves.length) {
+                if (offset == leaves[leaf].length) {
+                    leaf++;
+                    offset = 0;
+                    continue;
+                }
+                result.add(ranked(column, leaves[leaf][offset++]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 메서드 설명 : 이 스냅샷을 기준으로 다음 스냅샷을 만드는 편집기를 생성하는 메서드
+     * @return 편집기
+     */
+    public Editor edit() {
+        return new Editor(this);
+    }
+
+    // 행의 브랜드 ID
+    private long id(int row) {
+        return ids[row >>> CHUNK_BITS][row & CHUNK_MASK];
+    }
+
+    // 가격순 조회 결과 항목 생성
+    private CategoryPriceIndex.RankedBrand ranked(int[][] column, int row) {
+        int chunk = row >>> CHUNK_BITS;
+        int offset = row & CHUNK_MASK;
+        return new CategoryPriceIndex.RankedBrand(ids[chunk][offset], names[chunk][offset], column[chunk][offset]);
+    }
+
+    // 행의 (가격, 브랜드 ID)를 기준 (price, id)와 비교
+    private static int compare(int[][] column, long[][] ids, int row, int price, long id) {
+        int chunk = row >>> CHUNK_BITS;
+        int offset = row & CHUNK_MASK;
+        int rowPrice = column[chunk][offset];
+        return rowPrice != price ? Integer.compare(rowPrice, price) : Long.compare(ids[chunk][offset], id);
+    }
+
+    // 가격순 목록에서 기준 (price, id)보다 뒤에 있는(inclusive면 같은 것도 포함) 첫 행의 위치 {조각, 조각 내 위치}
+    // 모든 행이 기준 앞에 있으면 {조각 수, 0}
+    private static int[] seek(int[][] leaves, int[][] column, long[][] ids, int price, long id, boolean inclusive) {
+        int low = 0;
+        int high = leaves.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int[] leaf = leaves[mid];
+            if (isAfter(column, ids, leaf[leaf.length - 1], price, id, inclusive)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        if (low == leaves.length) {
+            return new int[]{low, 0};
+        }
+        int[] leaf = leaves[low];
+        int first = 0;
+        int last = leaf.length - 1;
+        while (first < last) {
+            int mid = (first + last) >>> 1;
+            if (isAfter(column, ids, leaf[mid], price, id, inclusive)) {
+                last = mid;
+            } else {
+                first = mid + 1;
+            }
+        }
+        return new int[]{low, first};
+    }
+
+    private static boolean isAfter(int[][] column, long[][] ids, int row, int price, long id, boolean inclusive) {
+        int compared = compare(column, ids, row, price, id);
+        return inclusive ? compared >= 0 : compared > 0;
+    }
+
+    // 조각에 들어 있는 행 수 (마지막 조각은 일부만 사용)
+    private int rowsIn(int chunk) {
+        return Math.min(CHUNK_SIZE, size - (chunk << CHUNK_BITS));
+    }
+
+    // 행의 카테고리 가격
+    private int price(int category, int row) {
+        return columns[category][row >>> CHUNK_BITS][row & CHUNK_MASK];
+    }
+
+    // 가격순 목록의 {조각, 조각 내 위치}부터 지정한 가격인 행의 브랜드 이름을 순서대로 모아 가격대 정보로 반환
+    private CategoryPriceIndex.PriceLevel levelFrom(int category, int leaf, int offset, int price) {
+        int[][] leaves = orders[category];
+        List<String> brandNames = new ArrayList<>();
+        while (leaf < leaves.length) {
+            if (offset == leaves[leaf].length) {
+                leaf++;
+                offset = 0;
+                continue;
+            }
+            int row = leaves[leaf][offset++];
+            if (price(category, row) != price) {
+                break;
+            }
+            brandNames.add(names[row >>> CHUNK_BITS][row & CHUNK_MASK]);
+        }
+        return new CategoryPriceIndex.PriceLevel(price, Collections.unmodifiableList(brandNames));
+    }
+
+    // 가격 열에서 지정한 가격을 가진 브랜드를 브랜드 ID 순으로 모아 가격대 정보로 반환 (해당 브랜드가 없으면 null)
+    private CategoryPriceIndex.PriceLevel level(int[][] column, int price) {
+        TreeMap<Long, String> brands = new TreeMap<>();
+        for (int chunk = 0; chunk < column.length; chunk++) {
+            int[] prices = column[chunk];
+            int limit = rowsIn(chunk);
+            for (int i = 0; i < limit; i++) {
+                if (prices[i] == price) {
+                    brands.put(ids[chunk][i], names[chunk][i]);
+                }
+            }
+        }
+        return brands.isEmpty() ? null
+                : new CategoryPriceIndex.PriceLevel(price, Collections.unmodifiableList(new ArrayList<>(brands.values())));
+    }
+
+    /**
+     * 클래스 설명 : 기존 스냅샷을 바꾸지 않고 다음 스냅샷을 만드는 편집기
+     * 조각 배열의 목록만 얕게 복사한 뒤, 값이 바뀌는 조각을 처음 쓸 때 한 번만 복사한다.
+     * 여러 변경을 하나의 편집기로 모으면 같은 조각은 한 번만 복사된다.
+     * 가격순 목록은 가격이 바뀐 카테고리의 조각 목록만 복사하고, 행이 들어가거나 빠지는 조각은 새 배열로 교체한다.
+     * 빈 스냅샷에서 시작한 편집기는 행마다 가격순 목록을 고치지 않고 build() 시점에 카테고리별로 한 번 정렬한다.
+     * build() 이후에는 만들어진 스냅샷과 배열을 공유하므로 더 이상 사용할 수 없다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public static final class Editor {
+
+        private int size;
+        private int liveCount;
+        private long[][] ids;
+        private String[][] names;
+        private boolean[][] live;
+        private final int[][][] columns;
+        private int[][] totals;
+        private final int[][][] orders;
+
+        // 빈 스냅샷에서 시작하여 build() 시점에 가격순 목록을 정렬로 만드는지 여부
+        private final boolean sortOrdersOnBuild;
+
+        // 이 편집기에서 새로 만들었거나 복사한 조각 (바로 수정 가능)
+        private final BitSet ownedIds = new BitSet();
+        private final BitSet ownedNames = new BitSet();
+        private final BitSet ownedLive = new BitSet();
+        private final BitSet ownedTotals = new BitSet();
+        private final BitSet[] ownedColumns = new BitSet[CATEGORIES.length];
+        private final boolean[] ownedOrders = new boolean[CATEGORIES.length];
+
+        private boolean built;
+
+        private Editor(PriceMatrix base) {
+            size = base.size;
+            liveCount = base.liveCount;
+            ids = base.ids.clone();
+            names = base.names.clone();
+            live = base.live.clone();
+            totals = base.totals.clone();
+            columns = new int[CATEGORIES.length][][];
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = base.columns[c].clone();
+                ownedColumns[c] = new BitSet();
+            }
+            orders = base.orders.clone();
+            sortOrdersOnBuild = base.size == 0;
+        }
+
+        /**
+         * 메서드 설명 : 새 행을 끝에 추가하는 메서드
+         * @param entry 추가할 브랜드 정보
+         * @return 추가된 행 번호
+         */
+        public int append(CategoryPriceIndex.Entry entry) {
+            checkNotBuilt();
+            int row = size;
+            if ((row >>> CHUNK_BITS) == ids.length) {
+                addChunk();
+            }
+            size++;
+            liveCount++;
+            write(row, entry.id(), entry.name(), entry.prices(), entry.totalPrice());
+            return row;
+        }
+
+        /**
+         * 메서드 설명 : 기존 행의 브랜드 정보를 교체하는 메서드
+         * @param row 행 번호
+         * @param entry 새 브랜드 정보
+         */
+        public void set(int row, CategoryPriceIndex.Entry entry) {
+            checkNotBuilt();
+            Objects.checkIndex(row, size);
+            if (!live[row >>> CHUNK_BITS][row & CHUNK_MASK]) {
+                liveCount++;
+            }
+            write(row, entry.id(), entry.name(), entry.prices(), entry.totalPrice());
+        }
+
+        /**
+         * 메서드 설명 : 행을 삭제된 빈 행으로 바꾸는 메서드
+         * @param row 행 번호
+         */
+        public void remove(int row) {
+            checkNotBuilt();
+            Objects.checkIndex(row, size);
+            int chunk = row >>> CHUNK_BITS;
+            int offset = row & CHUNK_MASK;
+            if (!live[chunk][offset]) {
+                return;
+            }
+            liveCount--;
+            for (int c = 0; c < columns.length; c++) {
+                if (columns[c][chunk][offset] != NO_PRICE) {
+                    removeOrdered(c, row);
+                    writableColumn(c, chunk)[offset] = NO_PRICE;
+                }
+            }
+            writableTotals(chunk)[offset] = NO_TOTAL;
+            writableNames(chunk)[offset] = null;
+            writableLive(chunk)[offset] = false;
+        }
+
+        /**
+         * 메서드 설명 : 편집 결과로 새 스냅샷을 만드는 메서드
+         * @return 새 스냅샷
+         */
+        public PriceMatrix build() {
+            checkNotBuilt();
+            built = true;
+            if (sortOrdersOnBuild) {
+                for (int c = 0; c < orders.length; c++) {
+                    orders[c] = sortedOrder(c);
+                }
+            }
+            return new PriceMatrix(size, liveCount, ids, names, live, columns, totals, orders);
+        }
+
+        // 행의 모든 값을 기록 (값이 바뀌는 조각만 복사)
+        // 가격순 목록의 위치는 현재 값으로 찾으므로, 바뀌는 카테고리는 값을 쓰기 전에 빼고 쓴 뒤에 다시 넣음
+        private void write(int row, long id, String name, int[] prices, int total) {
+            int chunk = row >>> CHUNK_BITS;
+            int offset = row & CHUNK_MASK;
+            boolean idChanged = ids[chunk][offset] != id;
+            int reordered = 0;
+            for (int c = 0; c < columns.length; c++) {
+                int oldPrice = columns[c][chunk][offset];
+                if (idChanged || oldPrice != prices[c]) {
+                    reordered |= 1 << c;
+                    if (oldPrice != NO_PRICE) {
+                        removeOrdered(c, row);
+                    }
+                }
+            }
+            if (idChanged) {
+                writableIds(chunk)[offset] = id;
+            }
+            if (!Objects.equals(name, names[chunk][offset])) {
+                writableNames(chunk)[offset] = name;
+            }
+            if (!live[chunk][offset]) {
+                writableLive(chunk)[offset] = true;
+            }
+            for (int c = 0; c < columns.length; c++) {
+                if (columns[c][chunk][offset] != prices[c]) {
+                    writableColumn(c, chunk)[offset] = prices[c];
+                }
+            }
+            if (totals[chunk][offset] != total) {
+                writableTotals(chunk)[offset] = total;
+            }
+            for (int c = 0; c < columns.length; c++) {
+                if ((reordered & (1 << c)) != 0 && prices[c] != NO_PRICE) {
+                    insertOrdered(c, row);
+                }
+            }
+        }
+
+        // 행을 카테고리 가격순 목록의 제자리에 추가 (조각이 기준 크기의 두 배를 넘으면 둘로 나눔)
+        private void insertOrdered(int category, int row) {
+            if (sortOrdersOnBuild) {
+                return;
+            }
+            int[][] leaves = writableOrder(category);
+            if (leaves.length == 0) {
+                orders[category] = new int[][]{{row}};
+                return;
+            }
+            int chunk = row >>> CHUNK_BITS;
+            int offset = row & CHUNK_MASK;
+            int[] position = seek(leaves, columns[category], ids, columns[category][chunk][offset], ids[chunk][offset], false);
+            int index = position[0];
+            int at = position[1];
+            if (index == leaves.length) {
+                // 모든 행보다 뒤이면 마지막 조각의 끝에 추가
+                index--;
+                at = leaves[index].length;
+            }
+            int[] leaf = leaves[index];
+            int[] grown = new int[leaf.length + 1];
+            System.arraycopy(leaf, 0, grown, 0, at);
+            grown[at] = row;
+            System.arraycopy(leaf, at, grown, at + 1, leaf.length - at);
+            if (grown.length <= ORDER_LEAF_SIZE * 2) {
+                leaves[index] = grown;
+                return;
+            }
+            int[][] split = new int[leaves.length + 1][];
+            System.arraycopy(leaves, 0, split, 0, index);
+            split[index] = Arrays.copyOfRange(grown, 0, grown.length / 2);
+            split[index + 1] = Arrays.copyOfRange(grown, grown.length / 2, grown.length);
+            System.arraycopy(leaves, index + 1, split, index + 2, leaves.length - index - 1);
+            orders[category] = split;
+        }
+
+        // 행을 카테고리 가격순 목록에서 제거 (현재 기록된 가격과 브랜드 ID로 위치를 찾음, 빈 조각은 목록에서 뺌)
+        private void removeOrdered(int category, int row) {
+            if (sortOrdersOnBuild) {
+                return;
+            }
+            int[][] leaves = writableOrder(category);
+            int chunk = row >>> CHUNK_BITS;
+            int offset = row & CHUNK_MASK;
+            int[] position = seek(leaves, columns[category], ids, columns[category][chunk][offset], ids[chunk][offset], true);
+            int index = position[0];
+            int at = position[1];
+            if (index == leaves.length || leaves[index][at] != row) {
+                throw new IllegalStateException("가격순 목록에 없는 행입니다: " + row);
+            }
+            int[] leaf = leaves[index];
+            if (leaf.length > 1) {
+                int[] shrunk = new int[leaf.length - 1];
+                System.arraycopy(leaf, 0, shrunk, 0, at);
+                System.arraycopy(leaf, at + 1, shrunk, at, leaf.length - at - 1);
+                leaves[index] = shrunk;
+                return;
+            }
+            int[][] merged = new int[leaves.length - 1][];
+            System.arraycopy(leaves, 0, merged, 0, index);
+            System.arraycopy(leaves, index + 1, merged, index, leaves.length - index - 1);
+            orders[category] = merged;
+        }
+
+        private int[][] writableOrder(int category) {
+            if (!ownedOrders[category]) {
+                orders[category] = orders[category].clone();
+                ownedOrders[category] = true;
+            }
+            return orders[category];
+        }
+
+        // 카테고리의 상품이 있는 행을 (가격, 브랜드 ID) 순으로 정렬하여 가격순 목록 생성
+        // (가격, 행 번호)를 long 하나로 묶어 기본형 정렬한 뒤, 같은 가격 구간만 브랜드 ID 순으로 맞춤
+        private int[][] sortedOrder(int category) {
+            int[][] column = columns[category];
+            long[] keys = new long[size];
+            int count = 0;
+            for (int row = 0; row < size; row++) {
+                int price = column[row >>> CHUNK_BITS][row & CHUNK_MASK];
+                if (price != NO_PRICE) {
+                    keys[count++] = ((long) price << 32) | row;
+                }
+            }
+            Arrays.sort(keys, 0, count);
+
+            int[] sorted = new int[count];
+            for (int i = 0; i < count; i++) {
+                sorted[i] = (int) keys[i];
+            }
+            for (int start = 0, end; start < count; start = end) {
+                int price = (int) (keys[start] >> 32);
+                end = start + 1;
+                while (end < count && (int) (keys[end] >> 32) == price) {
+                    end++;
+                }
+                if (end - start > 1) {
+                    sortRunById(sorted, start, end);
+                }
+            }
+
+            int[][] leaves = new int[(count + ORDER_LEAF_SIZE - 1) / ORDER_LEAF_SIZE][];
+            for (int leaf = 0; leaf < leaves.length; leaf++) {
+                int from = leaf * ORDER_LEAF_SIZE;
+                leaves[leaf] = Arrays.copyOfRange(sorted, from, Math.min(count, from + ORDER_LEAF_SIZE));
+            }
+            return leaves;
+        }
+
+        // 같은 가격의 행 구간을 브랜드 ID 순으로 정렬 (행 번호 순이 대개 ID 순이므로 이미 정렬된 구간은 그대로 둠)
+        private void sortRunById(int[] rows, int start, int end) {
+            boolean sorted = true;
+            for (int i = start + 1; i < end && sorted; i++) {
+                sorted = id(rows[i - 1]) < id(rows[i]);
+            }
+            if (sorted) {
+                return;
+            }
+            Integer[] run = new Integer[end - start];
+            for (int i = start; i < end; i++) {
+                run[i - start] = rows[i];
+            }
+            Arrays.sort(run, Comparator.comparingLong(this::id));
+            for (int i = start; i < end; i++) {
+                rows[i] = run[i - start];
+            }
+        }
+
+        private long id(int row) {
+            return ids[row >>> CHUNK_BITS][row & CHUNK_MASK];
+        }
+
+        // 모든 열에 빈 조각을 하나씩 추가
+        private void addChunk() {
+            int chunk = ids.length;
+            ids = Arrays.copyOf(ids, chunk + 1);
+            names = Arrays.copyOf(names, chunk + 1);
+            live = Arrays.copyOf(live, chunk + 1);
+            totals = Arrays.copyOf(totals, chunk + 1);
+            ids[chunk] = new long[CHUNK_SIZE];
+            names[chunk] = new String[CHUNK_SIZE];
+            live[chunk] = new boolean[CHUNK_SIZE];
+            totals[chunk] = filled(NO_TOTAL);
+            ownedIds.set(chunk);
+            ownedNames.set(chunk);
+            ownedLive.set(chunk);
+            ownedTotals.set(chunk);
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = Arrays.copyOf(columns[c], chunk + 1);
+                columns[c][chunk] = filled(NO_PRICE);
+                ownedColumns[c].set(chunk);
+            }
+        }
+
+        private long[] writableIds(int chunk) {
+            if (!ownedIds.get(chunk)) {
+                ids[chunk] = ids[chunk].clone();
+                ownedIds.set(chunk);
+            }
+            return ids[chunk];
+        }
+
+        private String[] writableNames(int chunk) {
+            if (!ownedNames.get(chunk)) {
+                names[chunk] = names[chunk].clone();
+                ownedNames.set(chunk);
+            }
+            return names[chunk];
+        }
+
+        private boolean[] writableLive(int chunk) {
+            if (!ownedLive.get(chunk)) {
+                live[chunk] = live[chunk].clone();
+                ownedLive.set(chunk);
+            }
+            return live[chunk];
+        }
+
+        private int[] writableTotals(int chunk) {
+            if (!ownedTotals.get(chunk)) {
+                totals[chunk] = totals[chunk].clone();
+                ownedTotals.set(chunk);
+            }
+            return totals[chunk];
+        }
+
+        private int[] writableColumn(int category, int chunk) {
+            if (!ownedColumns[category].get(chunk)) {
+                columns[category][chunk] = columns[category][chunk].clone();
+                ownedColumns[category].set(chunk);
+            }
+            return columns[category][chunk];
+        }
+
+        private static int[] filled(int value) {
+            int[] chunk = new int[CHUNK_SIZE];
+            Arrays.fill(chunk, value);
+            return chunk;
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("이미 스냅샷을 만든 편집기입니다.");
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,213 @@
+package org.example.service;
+
+import org.example.model.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 클래스 설명 : 가격 변경을 모아 두었다가 묶음 단위로 데이터베이스에 기록하는 지연 기록(write-behind) 버퍼
+ * 가격 변경은 (브랜드 ID, 카테고리)별로 마지막 값만 보관하므로(last-write-wins), 같은 상품의 가격이 여러 번 바뀌어도 한 번만 기록된다.
+ * 보관된 변경은 flushIntervalMillis마다, 또는 batchSize개가 모이면 즉시 백그라운드 스레드에서 기록하며,
+ * 기록 함수(writer)는 최대 batchSize개씩 나누어 호출되므로 묶음마다 하나의 트랜잭션으로 기록하면 된다.
+ * 보관 개수가 capacity에 도달하면 새 변경을 받지 않고(submit이 false를 반환) 호출자가 flush()를 실행한 뒤 다시 보관하게 하여(caller-runs)
+ * 메모리 사용량과 유실 가능 범위를 제한한다. 호출자는 자신이 잡은 잠금을 놓은 뒤 기록하므로, 기록하는 동안 다른 변경이 막히지 않는다.
+ * 기록은 잠금으로 한 번에 하나씩만 실행되므로, flush()가 반환되면 호출 이전에 추가된 변경은 모두 기록된 상태이다(flush and wait).
+ * 기록에 실패한 변경은 다시 보관하되, 그 사이에 같은 상품의 새 가격이 들어왔다면 새 가격을 유지한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class PriceWriteBehindBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceWriteBehindBuffer.class);
+
+    /**
+     * 기록을 기다리는 가격 변경
+     * @param brandId 브랜드 ID
+     * @param category 카테고리
+     * @param price 새 가격
+     */
+    public record PendingPrice(Long brandId, Category category, int price) {
+    }
+
+    // 보관 키 (브랜드 ID, 카테고리)
+    private record Key(Long brandId, Category category) {
+    }
+
+    // 기록을 기다리는 변경 (키별 마지막 가격, pending 자체를 잠금으로 사용)
+    private final Map<Key, Integer> pending = new LinkedHashMap<>();
+
+    // 기록을 한 번에 하나씩 실행하기 위한 잠금
+    private final Lock flushLock = new ReentrantLock();
+
+    // 묶음 크기 도달로 요청된 백그라운드 기록이 아직 시작되지 않았는지 여부 (중복 예약 방지)
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final Consumer<List<PendingPrice>> writer;
+
+    private final int batchSize;
+
+    private final int capacity;
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 메서드 설명 : 지연 기록 버퍼를 생성하고 주기적인 기록을 시작하는 생성자
+     * @param writer 가격 변경 묶음을 데이터베이스에 기록하는 함수 (한 번에 최대 batchSize개)
+     * @param flushIntervalMillis 주기적인 기록 간격 (밀리초)
+     * @param batchSize 즉시 기록을 시작하는 보관 개수이자 한 번에 기록하는 최대 개수
+     * @param capacity 최대 보관 개수 (도달하면 새 변경을 받지 않음)
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public PriceWriteBehindBuffer(Consumer<List<PendingPrice>> writer, long flushIntervalMillis, int batchSize, int capacity) {
+        if (flushIntervalMillis <= 0 || batchSize <= 0 || capacity < batchSize) {
+            throw new IllegalArgumentException("flushIntervalMillis와 batchSize는 1 이상이고, capacity는 batchSize 이상이어야 합니다");
+        }
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "price-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 메서드 설명 : 가격 변경을 보관하는 메서드
+     * 같은 (브랜드 ID, 카테고리)의 변경이 이미 보관되어 있으면 새 가격으로 덮어쓴다.
+     * 보관 개수가 batchSize에 도달하면 백그라운드 기록을 요청한다.
+     * capacity에 도달했으면 보관하지 않고 false를 반환하며, 기록하지 않는다. 호출자는 잡고 있는 잠금을 놓고 flush()를 실행한 뒤 다시 호출한다.
+     * @param brandId 브랜드 ID
+     * @param category 카테고리
+     * @param price 새 가격
+     * @return 보관했으면 true, 가득 차서 보관하지 않았으면 false
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public boolean submit(Long brandId, Category category, int price) {
+
+        Key key = new Key(brandId, category);
+        int size;
+        synchronized (pending) {
+            if (pending.size() >= capacity && !pending.containsKey(key)) {
+                return false;
+            }
+            pending.put(key, price);
+            size = pending.size();
+        }
+        if (size >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                flushScheduled.set(false);
+                flushQuietly();
+            });
+        }
+        return true;
+
+    }
+
+    /**
+     * 메서드 설명 : 보관된 가격 변경을 모두 기록하고 완료될 때까지 기다리는 메서드
+     * 다른 스레드의 기록이 진행 중이면 그 기록이 끝난 뒤 남은 변경을 기록한다.
+     * 기록에 실패하면 기록하지 못한 변경을 다시 보관하고 예외를 그대로 던진다.
+     * @return 이번 호출에서 기록한 가격 변경 수
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public int flush() {
+
+        flushLock.lock();
+        try {
+            List<PendingPrice> drained;
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    return 0;
+                }
+                drained = new ArrayList<>(pending.size());
+                pending.forEach((key, price) -> drained.add(new PendingPrice(key.brandId(), key.category(), price)));
+                pending.clear();
+            }
+
+            int written = 0;
+            try {
+                while (written < drained.size()) {
+                    List<PendingPrice> batch = drained.subList(written, Math.min(written + batchSize, drained.size()));
+                    writer.accept(batch);
+                    written += batch.size();
+                }
+            } catch (RuntimeException | Error e) {
+                requeue(drained.subList(written, drained.size()));
+                throw e;
+            }
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+
+    }
+
+    /**
+     * 메서드 설명 : 기록을 기다리는 가격 변경 수를 반환하는 메서드
+     * @return 보관 중인 (브랜드 ID, 카테고리) 수
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public int pendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * 메서드 설명 : 주기적인 기록을 중지하고 남은 가격 변경을 모두 기록하는 메서드
+     * 애플리케이션 종료 시 호출된다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public void close() {
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    /**
+     * 메서드 설명 : 백그라운드 스레드에서 기록하는 내부 메서드
+     * 실패한 변경은 flush()에서 다시 보관되므로 다음 주기에 재시도되며, 예외는 로그만 남긴다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("가격 변경 지연 기록 실패 (대기 {}건, 다음 주기에 재시도): {}", pendingCount(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 메서드 설명 : 기록하지 못한 가격 변경을 다시 보관하는 내부 메서드
+     * 기록하는 동안 같은 (브랜드 ID, 카테고리)의 새 변경이 보관되었다면 새 가격이 최신이므로 덮어쓰지 않는다.
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private void requeue(List<PendingPrice> prices) {
+        synchronized (pending) {
+            for (PendingPrice price : prices) {
+                pending.putIfAbsent(new Key(price.brandId(), price.category()), price.price());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.example.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 클래스 설명 : 같은 키와 카탈로그 버전의 동시 계산을 하나로 합치는 클래스 (single-flight)
+ * 처음 도착한 호출자만 계산을 실행하고, 계산이 끝나기 전에 같은 (키, 버전)으로 도착한 호출자는
+ * 새로 계산하지 않고 진행 중인 계산의 결과(또는 예외)를 함께 받는다.
+ * 계산이 끝나면 진행 중 목록에서 제거되므로 결과를 보관하지 않으며, 이후 호출은 다시 계산한다(결과 보관은 CatalogResponseCache가 담당).
+ * 가격 변경 직후 캐시가 무효화된 상태에서 같은 조회 요청이 몰려도 데이터베이스 조회나 전체 스캔이 버전마다 한 번만 실행되도록 한다.
+ * 계산 결과는 여러 호출자가 공유하므로 호출자가 수정해서는 안 된다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class SingleFlight {
+
+    /**
+     * 진행 중인 계산의 식별자
+     * @param key 엔드포인트와 파라미터로 구성된 키
+     * @param version 계산을 시작한 시점의 카탈로그 버전
+     */
+    private record Flight(String key, long version) {
+    }
+
+    // (키, 버전) -> 진행 중인 계산의 결과
+    private final Map<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 메서드 설명 : 같은 (키, 버전)의 계산이 진행 중이면 그 결과를 기다려 반환하고, 없으면 직접 계산하는 메서드
+     * 계산은 호출자 스레드에서 실행되며, 계산 중 발생한 예외는 기다리던 호출자에게도 그대로 전달된다.
+     * 계산 함수 안에서 같은 (키, 버전)으로 다시 호출하면 자기 자신을 기다리게 되므로 그렇게 사용해서는 안 된다.
+     * @param key 엔드포인트와 파라미터로 구성된 키
+     * @param version 현재 카탈로그 버전
+     * @param computation 결과를 계산하는 함수
+     * @return 계산 결과
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, long version, Supplier<T> computation) {
+
+        Flight flight = new Flight(key, version);
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flight, leader);
+        if (running != null) {
+            return (T) await(running);
+        }
+
+        try {
+            T value = computation.get();
+            leader.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, leader);
+        }
+
+    }
+
+    /**
+     * 메서드 설명 : 현재 진행 중인 계산 수를 반환하는 메서드
+     * @return 진행 중인 (키, 버전) 수
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 메서드 설명 : 다른 호출자가 실행 중인 계산의 결과를 기다리는 내부 메서드
+     * 계산에서 발생한 예외는 CompletionException으로 감싸지 않고 원래 예외로 다시 던진다.
+     * @param running 실행 중인 계산
+     * @return 계산 결과
+     * 작성자 : sys1021
+     * 작성일 : 2026.10.17
+     */
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+}
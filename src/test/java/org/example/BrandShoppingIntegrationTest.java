@@ -54,6 +54,7 @@ public class BrandShoppingIntegrationTest {
     private Long testBrandId;
     private static final String TEST_BRAND_NAME = "IntegrationTestBrand";
     private static final String UPDATED_BRAND_NAME = "IntegrationTestBrand Updated";
+    private static final String VERSION_TEST_BRAND_NAME = "Brand For Version Test";
 
     @BeforeAll
     void setUpBeforeAll() {
@@ -104,6 +105,11 @@ public class BrandShoppingIntegrationTest {
             if (deleteTestBrand != null) {
                 brandRepository.delete(deleteTestBrand);
             }
+
+            Brand versionTestBrand = brandRepository.findByName(VERSION_TEST_BRAND_NAME);
+            if (versionTestBrand != null) {
+                brandRepository.delete(versionTestBrand);
+            }
         } catch (Exception e) {
             logger.error("테스트 데이터 정리 중 오류 발생", e);
         }
@@ -500,6 +506,260 @@ public class BrandShoppingIntegrationTest {
         assertNotNull(savedE2EBrand.getId(), "E2E 테스트 브랜드가 저장되지 않았습니다");
     }
 
+    /**
+     * API 4 테스트 - 브랜드 가격 일괄 업데이트 테스트
+     *
+     * 이 테스트는 여러 브랜드의 가격을 한 번의 요청으로 업데이트하고, 변경 사항이 데이터베이스에 반영되는지 검증합니다.
+     */
+    @Test
+    @Order(10)
+    @DisplayName("API 4: 브랜드 가격 일괄 업데이트 테스트")
+    @Transactional
+    void updateBrandPrices_ShouldUpdateAllPricesInOneRequest() throws Exception {
+        String requestBody = "["
+                + "{\"brandName\":\"A\",\"categoryName\":\"상의\",\"price\":11000},"
+                + "{\"brandName\":\"B\",\"categoryName\":\"바지\",\"price\":3700},"
+                + "{\"brandName\":\"존재하지않는브랜드\",\"categoryName\":\"상의\",\"price\":1000}"
+                + "]";
+
+        mockMvc.perform(put("/api/brand/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successCount").value(2))
+                .andExpect(jsonPath("$.failureCount").value(1))
+                .andExpect(jsonPath("$.results[2].status").value("error"));
+
+        // 변경 사항을 데이터베이스로 전송한 뒤 확인
+        brandRepository.flush();
+        assertEquals(11000, brandRepository.findByName("A").getPrices().get(Category.TOP), "A의 상의 가격이 반영되지 않았습니다");
+        assertEquals(3700, brandRepository.findByName("B").getPrices().get(Category.PANTS), "B의 바지 가격이 반영되지 않았습니다");
+    }
+
+    /**
+     * API 4 테스트 - NDJSON 브랜드 대량 등록 테스트
+     *
+     * 이 테스트는 NDJSON 본문을 작은 배치 크기로 등록하여 여러 배치로 나뉘어 저장되는지,
+     * 형식이 잘못된 행은 건너뛰고 행 번호와 함께 보고되는지 검증합니다.
+     */
+    @Test
+    @Order(11)
+    @DisplayName("API 4: NDJSON 브랜드 대량 등록 테스트")
+    @Transactional
+    void importBrands_ShouldImportNdjsonInBatches() throws Exception {
+        String requestBody = "{\"name\":\"ImportA\",\"prices\":{\"TOP\":1000,\"PANTS\":2000}}\n"
+                + "{\"name\":\"ImportB\",\"prices\":{\"TOP\":1100}}\n"
+                + "잘못된 행\n"
+                + "{\"name\":\"ImportC\",\"prices\":{\"SOCKS\":900}}\n";
+
+        mockMvc.perform(post("/api/brands/import")
+                        .param("batchSize", "2")
+                        .contentType("application/x-ndjson")
+                        .content(requestBody))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(3))
+                .andExpect(jsonPath("$.rejectedCount").value(1))
+                .andExpect(jsonPath("$.batchCount").value(2))
+                .andExpect(jsonPath("$.errors[0]").value(org.hamcrest.Matchers.startsWith("3행:")));
+
+        brandRepository.flush();
+        assertEquals(2000, brandRepository.findByName("ImportA").getPrices().get(Category.PANTS), "ImportA의 바지 가격이 저장되지 않았습니다");
+        assertNotNull(brandRepository.findByName("ImportC"), "ImportC가 저장되지 않았습니다");
+    }
+
+    /**
+     * API 4 테스트 - CSV 브랜드 대량 등록 테스트
+     *
+     * 이 테스트는 카테고리 표시 이름으로 된 CSV 헤더를 해석하고, 빈 칸은 상품 없음으로 저장하는지 검증합니다.
+     * 알 수 없는 카테고리가 헤더에 있으면 400 오류를 반환하는지도 확인합니다.
+     */
+    @Test
+    @Order(12)
+    @DisplayName("API 4: CSV 브랜드 대량 등록 테스트")
+    @Transactional
+    void importBrands_ShouldImportCsv() throws Exception {
+        String requestBody = "name,상의,바지,SOCKS\n"
+                + "CsvBrandA,1000,,300\n"
+                + "\"Csv, Brand B\",1200,2500,400\n";
+
+        mockMvc.perform(post("/api/brands/import")
+                        .contentType("text/csv")
+                        .content(requestBody))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(2))
+                .andExpect(jsonPath("$.rejectedCount").value(0));
+
+        brandRepository.flush();
+        Brand csvBrandA = brandRepository.findByName("CsvBrandA");
+        assertEquals(300, csvBrandA.getPrices().get(Category.SOCKS), "CsvBrandA의 양말 가격이 저장되지 않았습니다");
+        assertFalse(csvBrandA.getPrices().containsKey(Category.PANTS), "빈 칸은 상품 없음으로 저장되어야 합니다");
+        assertEquals(2500, brandRepository.findByName("Csv, Brand B").getPrices().get(Category.PANTS), "따옴표로 감싼 이름이 처리되지 않았습니다");
+
+        // 알 수 없는 카테고리 헤더는 요청 전체를 거부
+        mockMvc.perform(post("/api/brands/import")
+                        .contentType("text/csv")
+                        .content("name,신발\nX,1000\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * 운영 지표 테스트 - 엔드포인트/서비스 지연 시간과 요청별 쿼리 수 지표 노출 테스트
+     *
+     * 이 테스트는 조회 API 호출 후 /actuator/metrics에서 엔드포인트별 요청 타이머(http.server.requests),
+     * 서비스 메서드 타이머(brand.service), 요청별 쿼리 수(http.server.requests.queries)를 조회할 수 있는지 검증합니다.
+     */
+    @Test
+    @Order(13)
+    @DisplayName("운영 지표: 엔드포인트/서비스 타이머와 요청별 쿼리 수")
+    void metrics_ShouldExposeLatencyAndQueryCounts() throws Exception {
+        mockMvc.perform(get("/api/min-max-price-by-category").param("categoryName", "상의"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/http.server.requests")
+                        .param("tag", "uri:/api/min-max-price-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").isNotEmpty());
+
+        mockMvc.perform(get("/actuator/metrics/brand.service")
+                        .param("tag", "method:getMinMaxPriceByCategory"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[?(@.tag == 'class')]").isNotEmpty());
+
+        mockMvc.perform(get("/actuator/metrics/http.server.requests.queries")
+                        .param("tag", "uri:/api/min-max-price-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").isNotEmpty());
+    }
+
+    /**
+     * API 4 테스트 - 대량 등록의 브랜드 이름 중복 처리 테스트
+     *
+     * 이 테스트는 이미 등록된 이름, 같은 배치 안에서 반복된 이름, 앞 배치에서 등록된 이름의 행을
+     * 요청 전체를 실패시키지 않고 거부한 행으로 보고하며, 나머지 행은 정상 등록하는지 검증합니다.
+     */
+    @Test
+    @Order(14)
+    @DisplayName("API 4: 대량 등록 브랜드 이름 중복 행 거부 테스트")
+    @Transactional
+    void importBrands_ShouldRejectDuplicateNames() throws Exception {
+        String requestBody = "{\"name\":\"DupImportA\",\"prices\":{\"TOP\":1000}}\n"
+                + "{\"name\":\"A\",\"prices\":{\"TOP\":1100}}\n"
+                + "{\"name\":\"DupImportB\",\"prices\":{\"TOP\":1200}}\n"
+                + "{\"name\":\"DupImportB\",\"prices\":{\"TOP\":1300}}\n"
+                + "{\"name\":\"DupImportA\",\"prices\":{\"TOP\":1400}}\n";
+
+        mockMvc.perform(post("/api/brands/import")
+                        .param("batchSize", "2")
+                        .contentType("application/x-ndjson")
+                        .content(requestBody))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(2))
+                .andExpect(jsonPath("$.rejectedCount").value(3))
+                .andExpect(jsonPath("$.batchCount").value(2))
+                .andExpect(jsonPath("$.errors[0]").value(org.hamcrest.Matchers.startsWith("2행:")))
+                .andExpect(jsonPath("$.errors[1]").value(org.hamcrest.Matchers.startsWith("4행:")))
+                .andExpect(jsonPath("$.errors[2]").value(org.hamcrest.Matchers.startsWith("5행:")));
+
+        brandRepository.flush();
+        assertEquals(1000, brandRepository.findByName("DupImportA").getPrices().get(Category.TOP), "먼저 나온 DupImportA 행이 저장되어야 합니다");
+        assertEquals(1200, brandRepository.findByName("DupImportB").getPrices().get(Category.TOP), "먼저 나온 DupImportB 행이 저장되어야 합니다");
+    }
+
+    /**
+     * API 4 테스트 - 이미 등록된 이름으로 브랜드 생성 테스트
+     *
+     * 이 테스트는 이름이 중복된 브랜드 생성 요청이 500 대신 409 오류를 반환하고, 브랜드가 추가되지 않는지 검증합니다.
+     */
+    @Test
+    @Order(15)
+    @DisplayName("API 4: 중복 이름 브랜드 생성 시 409 응답 테스트")
+    void createBrand_WithDuplicateName_ShouldReturnConflict() throws Exception {
+        BrandDto brandDto = new BrandDto();
+        brandDto.setName("A");
+        brandDto.setPrices(Map.of(Category.TOP, 1000));
+        long brandCount = brandRepository.count();
+
+        mockMvc.perform(post("/api/brand")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(brandDto)))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("브랜드 이름 중복"));
+
+        assertEquals(brandCount, brandRepository.count(), "중복 이름의 브랜드가 추가되지 않아야 합니다");
+    }
+
+    /**
+     * API 4 테스트 - 조회 이후 다른 변경이 먼저 저장된 브랜드 수정 시 409 응답 테스트
+     *
+     * 같은 버전을 조회한 두 요청 중 먼저 저장된 수정만 남고, 나중 요청은 덮어쓰지 않고 충돌로 응답하는지 검증합니다.
+     */
+    @Test
+    @Order(16)
+    @DisplayName("API 4: 조회 이후 다른 변경이 먼저 저장된 브랜드 수정 시 409 응답 테스트")
+    void updateBrand_WithStaleVersion_ShouldReturnConflict() throws Exception {
+        Brand brand = new Brand();
+        brand.setName(VERSION_TEST_BRAND_NAME);
+        for (Category category : Category.values()) {
+            brand.getPrices().put(category, 5000);
+        }
+        Brand savedBrand = brandService.saveBrand(brand);
+        Long loadedVersion = savedBrand.getVersion();
+
+        // 1. 조회한 버전으로 수정 - 성공
+        BrandDto firstUpdate = new BrandDto(VERSION_TEST_BRAND_NAME, Map.of(Category.TOP, 7000), loadedVersion);
+        mockMvc.perform(put("/api/brand/" + savedBrand.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(firstUpdate)))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        // 2. 같은 버전으로 다시 수정 - 먼저 저장된 수정을 덮어쓰지 않고 충돌
+        BrandDto staleUpdate = new BrandDto(VERSION_TEST_BRAND_NAME, Map.of(Category.TOP, 8000), loadedVersion);
+        mockMvc.perform(put("/api/brand/" + savedBrand.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(staleUpdate)))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("브랜드 업데이트 충돌"));
+
+        assertEquals(7000, brandService.getBrandById(savedBrand.getId()).getPrices().get(Category.TOP),
+                "먼저 저장된 수정이 남아 있어야 합니다");
+    }
+
+    /**
+     * API 4 테스트 - 이름이 없는 브랜드 생성 시 400 응답 테스트
+     *
+     * 이름이 없는 브랜드 생성 요청이 500 대신 400 오류를 반환하고, 브랜드가 추가되지 않으며 조회 API가 계속 동작하는지 검증합니다.
+     */
+    @Test
+    @Order(17)
+    @DisplayName("API 4: 이름이 없는 브랜드 생성 시 400 응답 테스트")
+    void createBrand_WithoutName_ShouldReturnBadRequest() throws Exception {
+        long brandCount = brandRepository.count();
+
+        for (String name : new String[]{null, " "}) {
+            BrandDto brandDto = new BrandDto();
+            brandDto.setName(name);
+            brandDto.setPrices(Map.of(Category.TOP, 1));
+
+            mockMvc.perform(post("/api/brand")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(brandDto)))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("잘못된 브랜드 정보"));
+        }
+
+        assertEquals(brandCount, brandRepository.count(), "이름이 없는 브랜드가 추가되지 않아야 합니다");
+        mockMvc.perform(get("/api/lowest-price-by-category"))
+                .andExpect(status().isOk());
+    }
+
     /**
      * 테스트 브랜드 생성을 위한 헬퍼 메서드
      *
@@ -0,0 +1,146 @@
+package org.example;
+
+import org.example.model.Category;
+import org.example.service.BrandService;
+import org.example.service.CatalogSnapshotFile;
+import org.example.service.CategoryPriceIndex;
+import org.example.service.PriceChangeLog;
+import org.example.service.PriceChangeLog.Change;
+import org.example.service.PriceMatrix;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : 카탈로그 스냅샷 파일 복원 통합 테스트
+ * 초기 데이터와 같은 브랜드 A~I(ID 1~9)를 가진 스냅샷 파일과, 그 이후의 변경이 남은 가격 변경 로그를 만들어 두고 애플리케이션을 시작하여
+ * 메모리 카탈로그가 데이터베이스 전체 조회 없이 스냅샷으로 복원되고, 로그의 변경만 그 위에 재적용되는지 검증합니다.
+ * 로그에 기록된 브랜드 B와 브랜드 C의 모자 가격만 스냅샷에서 데이터베이스와 다르게(5000) 만들어, 재적용 결과가 데이터베이스와 일치하게 합니다.
+ * 스냅샷으로 복원되었는지는 카탈로그 버전이 스냅샷의 버전 이후로 이어지는지로 확인합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@SpringBootTest(properties = {
+        "musinsa.price-update.write-behind.enabled=true",
+        "musinsa.price-update.write-behind.flush-interval-ms=3600000",
+        "musinsa.price-update.log.enabled=true",
+        "musinsa.catalog.snapshot.enabled=true",
+        "musinsa.catalog.snapshot.interval-ms=3600000",
+        "spring.datasource.url=jdbc:h2:mem:catalog-snapshot"
+})
+public class CatalogSnapshotRecoveryTest {
+
+    // 헤더만 있는 빈 로그 파일 크기
+    private static final long EMPTY_LOG_SIZE = 8;
+
+    // 스냅샷 파일을 쓸 때의 카탈로그 버전
+    private static final long SNAPSHOT_VERSION = 500;
+
+    private static Path logPath;
+
+    private static Path snapshotPath;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 애플리케이션 시작 전에 스냅샷 파일과 로그 파일을 만들고 경로를 설정합니다.
+     * 로그에는 브랜드 B 저장 기록(데이터베이스에서 다시 읽어야 함)과 브랜드 C의 모자 가격 변경(재적용 대상)이 있습니다.
+     */
+    @DynamicPropertySource
+    static void catalogSnapshot(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("catalog-snapshot");
+        snapshotPath = directory.resolve("catalog.snapshot");
+        logPath = directory.resolve("price-changes.log");
+
+        int[][] prices = seedPrices();
+        Arrays.fill(prices[1], 5000);
+        prices[2][Category.HAT.ordinal()] = 5000;
+        CatalogSnapshotFile.write(snapshotPath, SNAPSHOT_VERSION, catalog(prices));
+
+        try (PriceChangeLog log = new PriceChangeLog(logPath, PriceChangeLog.FsyncPolicy.ALWAYS, 10)) {
+            log.append(Change.brandSaved(2L));
+            log.append(Change.priceChanged(3L, Category.HAT, 1200));
+        }
+        registry.add("musinsa.catalog.snapshot.path", snapshotPath::toString);
+        registry.add("musinsa.price-update.log.path", logPath::toString);
+    }
+
+    /**
+     * 스냅샷으로 복원되고, 저장 기록이 있는 브랜드는 데이터베이스의 내용으로, 가격 변경은 로그의 값으로 반영되어야 합니다.
+     * 재적용 후에는 새 스냅샷이 저장되고 로그는 비워져야 합니다.
+     */
+    @Test
+    @DisplayName("시작 시 스냅샷으로 복원 후 로그의 변경만 재적용")
+    void startup_ShouldRestoreSnapshotAndReplayNewerChanges() throws IOException {
+
+        // then: 카탈로그 버전이 스냅샷 이후로 이어짐 (데이터베이스에서 적재하지 않고 스냅샷으로 복원됨)
+        assertTrue(brandService.getCatalogVersion() > SNAPSHOT_VERSION);
+
+        // 브랜드 C의 모자는 로그의 가격으로 재적용되고 데이터베이스에도 기록됨
+        Map<Category, Map<String, Object>> lowest = brandService.getLowestPriceByCategory();
+        assertEquals("C", lowest.get(Category.HAT).get("brand"));
+        assertEquals(1200, lowest.get(Category.HAT).get("price"));
+        assertEquals(1200, jdbcTemplate.queryForObject("SELECT p.price FROM brand b JOIN brand_products p ON b.id = p.brand_id "
+                + "WHERE b.name = 'C' AND p.category = 'HAT'", Integer.class));
+
+        // 재적용한 내용으로 새 스냅샷이 저장되고(브랜드 B는 데이터베이스에서 다시 읽은 가격) 로그는 비워짐
+        Map<String, CategoryPriceIndex.Entry> saved = new HashMap<>();
+        CatalogSnapshotFile.read(snapshotPath).forEach(entry -> saved.put(entry.name(), entry));
+        assertEquals(9, saved.size());
+        assertEquals(1200, saved.get("C").price(Category.HAT));
+        assertEquals(10500, saved.get("B").price(Category.TOP));
+        assertEquals(2100, saved.get("B").price(Category.BAG));
+        assertEquals(EMPTY_LOG_SIZE, Files.size(logPath));
+
+    }
+
+    /**
+     * 메서드 설명 : 초기 데이터의 브랜드 A~I 가격을 반환하는 메서드
+     * @return 브랜드 순서(ID - 1)별, 카테고리 순서(ordinal)별 가격
+     */
+    static int[][] seedPrices() {
+        return new int[][]{
+                {11200, 5500, 4200, 9000, 2000, 1700, 1800, 2300},
+                {10500, 5900, 3800, 9100, 2100, 2000, 2000, 2200},
+                {10000, 6200, 3300, 9200, 2200, 1900, 2200, 2100},
+                {10100, 5100, 3000, 9500, 2500, 1500, 2400, 2000},
+                {10700, 5000, 3800, 9900, 2300, 1800, 2100, 2100},
+                {11200, 7200, 4000, 9300, 2100, 1600, 2300, 1900},
+                {10500, 5800, 3900, 9000, 2200, 1700, 2100, 2000},
+                {10800, 6300, 3100, 9700, 2100, 1600, 2000, 2000},
+                {11400, 6700, 3200, 9500, 2400, 1700, 1700, 2400}
+        };
+    }
+
+    /**
+     * 메서드 설명 : 브랜드 A~I(ID 1~9)의 카탈로그를 만드는 메서드
+     * @param prices 브랜드 순서별, 카테고리 순서별 가격
+     * @return 열 단위 가격 스냅샷
+     */
+    static PriceMatrix catalog(int[][] prices) {
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        for (int i = 0; i < prices.length; i++) {
+            editor.append(new CategoryPriceIndex.Entry((long) i + 1, String.valueOf((char) ('A' + i)), prices[i],
+                    Arrays.stream(prices[i]).sum()));
+        }
+        return editor.build();
+    }
+
+}
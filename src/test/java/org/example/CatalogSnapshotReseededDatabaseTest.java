@@ -0,0 +1,87 @@
+package org.example;
+
+import org.example.model.Category;
+import org.example.service.BrandService;
+import org.example.service.CatalogSnapshotFile;
+import org.example.service.CategoryPriceIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : 초기 데이터가 다시 만들어진 데이터베이스로 재시작할 때 카탈로그 스냅샷을 거부하는지 검증하는 통합 테스트
+ * 이전 실행에서 브랜드 A의 상의 가격을 3000으로 바꾼 뒤 저장한 스냅샷(로그는 비어 있음)을 만들어 두고, 초기 데이터로 다시 채워진
+ * 인메모리 데이터베이스(브랜드 수와 ID 1~9는 같고 가격만 다름)로 애플리케이션을 시작합니다.
+ * 스냅샷 헤더의 카탈로그 지문이 데이터베이스와 다르므로 스냅샷을 버리고 데이터베이스에서 적재해야 합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@SpringBootTest(properties = {
+        "musinsa.price-update.write-behind.enabled=true",
+        "musinsa.price-update.write-behind.flush-interval-ms=3600000",
+        "musinsa.price-update.log.enabled=true",
+        "musinsa.catalog.snapshot.enabled=true",
+        "musinsa.catalog.snapshot.interval-ms=3600000",
+        "spring.datasource.url=jdbc:h2:mem:catalog-snapshot-reseeded"
+})
+public class CatalogSnapshotReseededDatabaseTest {
+
+    // 스냅샷 파일을 쓸 때의 카탈로그 버전
+    private static final long SNAPSHOT_VERSION = 500;
+
+    private static Path snapshotPath;
+
+    @Autowired
+    private BrandService brandService;
+
+    /**
+     * 애플리케이션 시작 전에 이전 실행의 스냅샷 파일을 만들고 경로를 설정합니다 (로그 파일은 없음).
+     */
+    @DynamicPropertySource
+    static void catalogSnapshot(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("catalog-snapshot-reseeded");
+        snapshotPath = directory.resolve("catalog.snapshot");
+
+        int[][] prices = CatalogSnapshotRecoveryTest.seedPrices();
+        prices[0][Category.TOP.ordinal()] = 3000;
+        CatalogSnapshotFile.write(snapshotPath, SNAPSHOT_VERSION, CatalogSnapshotRecoveryTest.catalog(prices));
+
+        registry.add("musinsa.catalog.snapshot.path", snapshotPath::toString);
+        registry.add("musinsa.price-update.log.path", directory.resolve("price-changes.log")::toString);
+    }
+
+    /**
+     * 스냅샷의 가격이 아니라 데이터베이스의 가격으로 조회되고, 데이터베이스의 내용으로 새 스냅샷이 저장되어야 합니다.
+     */
+    @Test
+    @DisplayName("초기 데이터가 다시 만들어진 데이터베이스로 재시작하면 스냅샷 대신 데이터베이스에서 적재")
+    void startup_ShouldRejectSnapshotOfReseededDatabase() {
+
+        // then: 카탈로그 버전이 스냅샷 이후로 이어지지 않음 (스냅샷으로 복원하지 않음)
+        assertTrue(brandService.getCatalogVersion() < SNAPSHOT_VERSION);
+
+        // 상의 최저가는 데이터베이스의 브랜드 C 10000 (스냅샷은 브랜드 A 3000)
+        Map<String, Object> top = brandService.getLowestPriceByCategory().get(Category.TOP);
+        assertEquals("C", top.get("brand"));
+        assertEquals(10000, top.get("price"));
+
+        // 데이터베이스의 내용으로 새 스냅샷이 저장됨
+        Map<String, CategoryPriceIndex.Entry> saved = new HashMap<>();
+        CatalogSnapshotFile.read(snapshotPath).forEach(entry -> saved.put(entry.name(), entry));
+        assertEquals(9, saved.size());
+        assertEquals(11200, saved.get("A").price(Category.TOP));
+
+    }
+
+}
@@ -0,0 +1,222 @@
+package org.example;
+
+import org.example.config.QueryCountInspector;
+import org.example.dto.CategoryTopBrandsDto;
+import org.example.model.Category;
+import org.example.service.BrandService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 클래스 설명 : 데이터베이스 조회 모드 통합 테스트
+ * musinsa.catalog.read-mode=database로 실행하여, 메모리 인덱스 대신 데이터베이스 쿼리로 계산한 조회 결과가
+ * 초기 데이터(브랜드 A~I)의 기대값과 같은지, API 1, API 2가 정해진 수의 쿼리로만 응답하는지 검증합니다.
+ * API 3의 최저가/최고가 쿼리는 스레드 풀에서 병렬로 실행되고, 가격순 상위 브랜드 페이지는 keyset 쿼리로 조회합니다.
+ * 사전 직렬화 모드를 함께 설정하여, 데이터베이스 조회 모드에서는 직렬화 캐시와 ETag 없이 요청마다 데이터베이스를 조회하는지도 검증합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@SpringBootTest(properties = {
+        "musinsa.catalog.read-mode=database",
+        "musinsa.catalog.query-parallelism=4",
+        "musinsa.api.precomputed-json.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:database-read-mode"
+})
+@AutoConfigureMockMvc
+public class DatabaseReadModeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    @Qualifier("categoryQueryExecutor")
+    private ExecutorService categoryQueryExecutor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * API 1: 집계 쿼리로 카테고리마다 최저가와 같은 가격의 모든 브랜드를 반환하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 1: 데이터베이스 조회 모드의 카테고리별 최저가")
+    void getLowestPriceByCategory_ShouldReturnLowestBrandsFromDatabase() {
+
+        // when
+        Map<Category, Map<String, Object>> result = brandService.getLowestPriceByCategory();
+
+        // then
+        assertEquals(Category.values().length, result.size());
+        assertEquals("C", result.get(Category.TOP).get("brand"));
+        assertEquals(10000, result.get(Category.TOP).get("price"));
+        assertEquals("A,G", result.get(Category.SNEAKERS).get("brand"), "같은 최저가 브랜드는 ID 순으로 모두 포함되어야 합니다");
+        assertEquals(9000, result.get(Category.SNEAKERS).get("price"));
+        assertEquals("D", result.get(Category.HAT).get("brand"));
+        assertEquals(1500, result.get(Category.HAT).get("price"));
+
+    }
+
+    /**
+     * API 1: 카테고리 수와 관계없이 데이터베이스 왕복이 한 번인지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 1: 데이터베이스 조회 모드에서 쿼리 1회로 응답")
+    void lowestPriceApi_ShouldIssueSingleQuery() throws Exception {
+
+        // when
+        QueryCountInspector.reset();
+        mockMvc.perform(get("/api/lowest-price-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalPrice").value("34,100"));
+
+        // then
+        assertEquals(1, QueryCountInspector.count(), "모든 카테고리를 하나의 집계 쿼리로 조회해야 합니다");
+
+    }
+
+    /**
+     * API 1: 사전 직렬화 모드가 설정되어 있어도 다른 인스턴스가 데이터베이스를 변경한 내용을 다음 요청에 바로 반환하는지 검증합니다.
+     * 카탈로그 버전(메모리 인덱스)을 읽지 않으므로 ETag가 없고, 전체 카탈로그를 적재하지 않아 쿼리도 한 번만 실행되어야 합니다.
+     */
+    @Test
+    @DisplayName("API 1: 데이터베이스 조회 모드에서는 사전 직렬화 캐시와 ETag를 사용하지 않음")
+    void lowestPriceApi_ShouldBypassPrecomputedJsonInDatabaseMode() throws Exception {
+
+        // given: 첫 응답 이후 다른 인스턴스가 브랜드 I의 상의 가격을 최저가로 변경
+        mockMvc.perform(get("/api/lowest-price-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.categories[0].brand").value("C"));
+        String updateTopPrice = "UPDATE brand_products SET price = ? WHERE category = 'TOP' "
+                + "AND brand_id = (SELECT id FROM brand WHERE name = 'I')";
+        jdbcTemplate.update(updateTopPrice, 9000);
+
+        try {
+            // when
+            QueryCountInspector.reset();
+            mockMvc.perform(get("/api/lowest-price-by-category"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.categories[0].brand").value("I"))
+                    .andExpect(jsonPath("$.categories[0].price").value("9,000"));
+
+            // then
+            assertEquals(1, QueryCountInspector.count(), "카탈로그 버전을 읽기 위해 전체 카탈로그를 적재하지 않아야 합니다");
+        } finally {
+            jdbcTemplate.update(updateTopPrice, 11400);
+        }
+
+    }
+
+    /**
+     * API 2: 총액 집계 쿼리와 최저 총액 브랜드 한 곳의 조회만으로 응답하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 2: 데이터베이스 조회 모드의 최저 총액 브랜드")
+    void lowestTotalPriceApi_ShouldAggregateInDatabase() throws Exception {
+
+        // when
+        QueryCountInspector.reset();
+        mockMvc.perform(get("/api/lowest-total-price-brand"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.최저가.브랜드").value("D"))
+                .andExpect(jsonPath("$.최저가.총액").value("36,100"));
+
+        // then
+        assertEquals(2, QueryCountInspector.count(), "총액 집계 쿼리와 최저 총액 브랜드 조회만 실행되어야 합니다");
+
+    }
+
+    /**
+     * API 3: 최저가/최고가 쿼리를 병렬로 실행하여 결과를 반환하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 3: 데이터베이스 조회 모드의 최저/최고 가격 (병렬 실행)")
+    @SuppressWarnings("unchecked")
+    void getMinMaxPriceByCategory_ShouldQueryDatabaseInParallel() {
+
+        // when
+        Map<String, Object> result = brandService.getMinMaxPriceByCategory(Category.TOP);
+
+        // then
+        assertNotNull(categoryQueryExecutor, "병렬 실행용 스레드 풀이 등록되어야 합니다");
+        List<Map<String, String>> lowest = (List<Map<String, String>>) result.get("최저가");
+        List<Map<String, String>> highest = (List<Map<String, String>>) result.get("최고가");
+        assertEquals("C", lowest.get(0).get("브랜드"));
+        assertEquals("10,000", lowest.get(0).get("가격"));
+        assertEquals("I", highest.get(0).get("브랜드"));
+        assertEquals("11,400", highest.get(0).get("가격"));
+
+    }
+
+
+    /**
+     * API 3-1: keyset 쿼리로 가격순 페이지를 이어서 조회하여 메모리 인덱스와 같은 순서(같은 가격은 브랜드 ID 순)를 반환하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 3-1: 데이터베이스 조회 모드의 가격순 상위 브랜드 페이지")
+    void getTopBrandsByCategory_ShouldPageWithKeysetQueries() {
+
+        // when: 스니커즈를 오름차순 2개씩, 내림차순 4개씩 끝까지 조회
+        List<String> ascending = collectTopBrandNames("asc", 2);
+        List<String> descending = collectTopBrandNames("desc", 4);
+
+        // then
+        assertEquals(List.of("A", "G", "B", "C", "F", "D", "I", "H", "E"), ascending);
+        assertEquals(List.of("E", "H", "I", "D", "F", "C", "B", "G", "A"), descending, "내림차순은 오름차순의 역순이어야 합니다");
+
+    }
+
+    /**
+     * API 3-1: 페이지마다 쿼리 한 번으로 응답하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 3-1: 데이터베이스 조회 모드에서 페이지당 쿼리 1회로 응답")
+    void topBrandsApi_ShouldIssueSingleQueryPerPage() throws Exception {
+
+        // when
+        QueryCountInspector.reset();
+        mockMvc.perform(get("/api/categories/{category}/top", "SNEAKERS").param("k", "3").param("cursor", "9100:2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.brands[0].brandName").value("C"))
+                .andExpect(jsonPath("$.nextCursor").value("9500:4"));
+
+        // then
+        assertEquals(1, QueryCountInspector.count(), "커서 다음의 k + 1개만 한 번의 쿼리로 조회해야 합니다");
+
+    }
+
+    // 스니커즈 가격순 페이지를 커서로 끝까지 이어서 조회한 브랜드 이름 목록
+    private List<String> collectTopBrandNames(String order, int k) {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        do {
+            CategoryTopBrandsDto page = brandService.getTopBrandsByCategory(Category.SNEAKERS, order, k, cursor);
+            page.getBrands().forEach(brand -> names.add(brand.getBrandName()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return names;
+    }
+
+}
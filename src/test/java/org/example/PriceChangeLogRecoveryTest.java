@@ -0,0 +1,141 @@
+package org.example;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.BrandPriceUpdateDto;
+import org.example.model.Category;
+import org.example.service.BrandService;
+import org.example.service.PriceChangeLog;
+import org.example.service.PriceChangeLog.Change;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 클래스 설명 : 가격 변경 로그(write-ahead log) 재적용 통합 테스트
+ * 데이터베이스에 기록되기 전에 종료된 것처럼 가격 변경 기록이 남은 로그 파일을 만들어 두고 애플리케이션을 시작하여,
+ * 시작 시 로그의 가격 변경이 카탈로그와 데이터베이스에 재적용되는지, 이후의 가격 변경이 응답 전에 로그에 확정되는지 검증합니다.
+ * 로그의 브랜드 ID 1, 2는 초기 데이터의 브랜드 A, B입니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@SpringBootTest(properties = {
+        "musinsa.price-update.write-behind.enabled=true",
+        "musinsa.price-update.write-behind.flush-interval-ms=3600000",
+        "musinsa.price-update.log.enabled=true",
+        "musinsa.price-update.log.fsync=group",
+        "spring.datasource.url=jdbc:h2:mem:price-change-log"
+})
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PriceChangeLogRecoveryTest {
+
+    // 헤더만 있는 빈 로그 파일 크기와 기록 한 건의 크기
+    private static final long EMPTY_LOG_SIZE = 8;
+    private static final long RECORD_SIZE = 22;
+
+    private static Path logPath;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 애플리케이션 시작 전에 재적용할 로그 파일을 만들고 경로를 설정합니다.
+     * 브랜드 A의 상의 가격 변경은 재적용 대상이고, 브랜드 B의 상의 가격 변경은 이후의 브랜드 저장 기록으로 대체되어 재적용되지 않아야 합니다.
+     */
+    @DynamicPropertySource
+    static void priceChangeLog(DynamicPropertyRegistry registry) throws IOException {
+        logPath = Files.createTempDirectory("price-change-log").resolve("price-changes.log");
+        try (PriceChangeLog log = new PriceChangeLog(logPath, PriceChangeLog.FsyncPolicy.ALWAYS, 10)) {
+            log.append(Change.priceChanged(1L, Category.TOP, 9500));
+            log.append(Change.priceChanged(2L, Category.TOP, 8000));
+            log.append(Change.brandSaved(2L));
+            log.append(Change.priceChanged(1L, Category.TOP, 9000));
+        }
+        registry.add("musinsa.price-update.log.path", logPath::toString);
+    }
+
+    /**
+     * 시작 시 로그의 마지막 가격 변경이 카탈로그와 데이터베이스에 반영되고, 반영이 끝난 로그는 비워져야 합니다.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("시작 시 로그의 가격 변경 재적용")
+    void startup_ShouldReplayUnwrittenPriceChanges() throws IOException {
+
+        // then: 브랜드 A는 로그의 마지막 가격, 브랜드 B는 저장 기록 이전의 가격 변경이므로 초기 가격 유지
+        Map<String, Object> top = brandService.getLowestPriceByCategory().get(Category.TOP);
+        assertEquals("A", top.get("brand"));
+        assertEquals(9000, top.get("price"));
+        assertEquals(9000, storedPrice("A", Category.TOP), "재적용한 변경은 데이터베이스에 기록되어야 합니다");
+        assertEquals(10500, storedPrice("B", Category.TOP));
+        assertEquals(EMPTY_LOG_SIZE, Files.size(logPath), "재적용 후 로그는 비워져야 합니다");
+
+    }
+
+    /**
+     * 가격 변경 요청은 데이터베이스 기록 전이라도 응답 전에 로그 파일에 확정되어, 재시작 시 다시 읽을 수 있어야 합니다.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("가격 변경은 응답 전에 로그에 확정")
+    void updateBrandPrice_ShouldBeDurableInLogBeforeResponse() throws Exception {
+
+        // given
+        long sizeBefore = Files.size(logPath);
+
+        // when
+        mockMvc.perform(put("/api/brand/price")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BrandPriceUpdateDto("C", "모자", 1200))))
+                .andExpect(status().isOk());
+
+        // then: 데이터베이스는 아직 이전 가격이고, 로그 파일에는 기록 한 건이 추가됨
+        assertEquals(1900, storedPrice("C", Category.HAT));
+        assertEquals(sizeBefore + RECORD_SIZE, Files.size(logPath));
+        List<Change> changes = new ArrayList<>();
+        Path copy = Files.copy(logPath, logPath.resolveSibling("copy.log"));
+        try (PriceChangeLog log = new PriceChangeLog(copy, PriceChangeLog.FsyncPolicy.ALWAYS, 10)) {
+            log.replay(changes::add);
+        }
+        assertEquals(Category.HAT, changes.get(changes.size() - 1).category());
+        assertEquals(1200, changes.get(changes.size() - 1).price());
+
+    }
+
+    // 데이터베이스에 저장된 가격 조회
+    private int storedPrice(String brandName, Category category) {
+        return jdbcTemplate.queryForObject("SELECT p.price FROM brand b JOIN brand_products p ON b.id = p.brand_id "
+                + "WHERE b.name = ? AND p.category = ?", Integer.class, brandName, category.name());
+    }
+
+}
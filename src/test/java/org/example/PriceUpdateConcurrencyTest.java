@@ -0,0 +1,162 @@
+package org.example;
+
+import org.example.model.Category;
+import org.example.service.BrandService;
+import org.example.service.CategoryPriceIndex;
+import org.example.service.PriceMatrix;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : 가격 변경 낙관적 잠금과 충돌 재시도 동시성 테스트
+ * 32개의 쓰기 스레드가 브랜드 A~D(브랜드마다 8개 스레드)의 서로 다른 카테고리 가격을 동시에 반복 변경하여,
+ * 같은 브랜드의 변경이 충돌해도 재시도로 모두 반영되는지(잃어버린 변경이 없는지) 검증하고 처리량을 기록합니다.
+ * 각 스레드는 자신만의 (브랜드, 카테고리) 가격을 변경하므로, 다른 스레드가 조회 이후에 커밋한 가격을 덮어쓰면 최종 가격이 달라집니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@SpringBootTest(properties = {
+        "musinsa.price-update.retry.max-attempts=100",
+        "spring.datasource.url=jdbc:h2:mem:price-update-concurrency"
+})
+public class PriceUpdateConcurrencyTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceUpdateConcurrencyTest.class);
+
+    private static final List<String> BRANDS = List.of("A", "B", "C", "D");
+
+    private static final int WRITERS = 32;
+
+    private static final int UPDATES_PER_WRITER = 50;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모든 가격 변경이 실패 없이 끝나고, 데이터베이스와 메모리 카탈로그 모두 스레드마다 마지막으로 변경한 가격이어야 합니다.
+     * 브랜드 버전은 커밋된 변경 수만큼 증가해야 합니다.
+     */
+    @Test
+    @DisplayName("32개 스레드의 동시 가격 변경: 잃어버린 변경 없음")
+    void updateBrandPrice_ShouldNotLoseConcurrentUpdates() throws Exception {
+
+        // given: 메모리 카탈로그 적재, 스레드마다 (브랜드, 카테고리) 하나씩
+        brandService.getLowestPriceByCategory();
+        Category[] categories = Category.values();
+        assertEquals(WRITERS, BRANDS.size() * categories.length, "스레드마다 서로 다른 상품을 변경해야 합니다");
+        Map<String, Long> initialVersions = new HashMap<>();
+        for (String brand : BRANDS) {
+            initialVersions.put(brand, storedVersion(brand));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        long conflictsBefore = brandService.getPriceUpdateConflictCount();
+
+        // when
+        long started;
+        long elapsed;
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                        assertNotNull(brandService.updateBrandPrice(brandOf(writer), categories[writer / BRANDS.size()],
+                                priceOf(writer, i)));
+                    }
+                    return null;
+                }));
+            }
+            started = System.nanoTime();
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(120, TimeUnit.SECONDS);
+            }
+            elapsed = System.nanoTime() - started;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long updates = (long) WRITERS * UPDATES_PER_WRITER;
+        long conflicts = brandService.getPriceUpdateConflictCount() - conflictsBefore;
+        logger.info("동시 가격 변경 {}건: {}ms, 초당 {}건, 충돌 재시도 {}회", updates, elapsed / 1_000_000,
+                updates * 1_000_000_000L / Math.max(elapsed, 1), conflicts);
+
+        // then: 데이터베이스와 메모리 카탈로그 모두 스레드마다 마지막 가격
+        Map<String, CategoryPriceIndex.Entry> indexed = indexedEntries();
+        for (int w = 0; w < WRITERS; w++) {
+            Category category = categories[w / BRANDS.size()];
+            int expected = priceOf(w, UPDATES_PER_WRITER - 1);
+            assertEquals(expected, storedPrice(brandOf(w), category), brandOf(w) + " " + category + " 데이터베이스 가격");
+            assertEquals(expected, indexed.get(brandOf(w)).price(category), brandOf(w) + " " + category + " 메모리 카탈로그 가격");
+        }
+
+        // 브랜드마다 커밋된 변경 수(스레드 8개 x 변경 수)만큼 버전이 증가
+        for (String brand : BRANDS) {
+            assertEquals(initialVersions.get(brand) + (long) (WRITERS / BRANDS.size()) * UPDATES_PER_WRITER, storedVersion(brand),
+                    brand + " 브랜드의 버전");
+        }
+
+    }
+
+    // 스레드가 변경하는 브랜드
+    private static String brandOf(int writer) {
+        return BRANDS.get(writer % BRANDS.size());
+    }
+
+    // 스레드의 i번째 변경 가격 (스레드마다 다른 범위)
+    private static int priceOf(int writer, int i) {
+        return 10_000 + writer * 100 + i;
+    }
+
+    // 메모리 카탈로그의 브랜드 이름별 항목 (서비스 빈은 프록시이므로 대상 객체의 인덱스를 읽음)
+    private Map<String, CategoryPriceIndex.Entry> indexedEntries() {
+        CategoryPriceIndex index = (CategoryPriceIndex) ReflectionTestUtils.getField(
+                AopTestUtils.<BrandService>getTargetObject(brandService), "categoryPriceIndex");
+        PriceMatrix matrix = index.snapshot().matrix();
+        Map<String, CategoryPriceIndex.Entry> entries = new HashMap<>();
+        for (int row = 0; row < matrix.size(); row++) {
+            CategoryPriceIndex.Entry entry = matrix.entry(row);
+            if (entry != null) {
+                entries.put(entry.name(), entry);
+            }
+        }
+        return entries;
+    }
+
+    // 데이터베이스에 저장된 가격 조회
+    private int storedPrice(String brandName, Category category) {
+        return jdbcTemplate.queryForObject("SELECT p.price FROM brand b JOIN brand_products p ON b.id = p.brand_id "
+                + "WHERE b.name = ? AND p.category = ?", Integer.class, brandName, category.name());
+    }
+
+    // 데이터베이스에 저장된 브랜드 버전 조회
+    private long storedVersion(String brandName) {
+        return jdbcTemplate.queryForObject("SELECT version FROM brand WHERE name = ?", Long.class, brandName);
+    }
+
+}
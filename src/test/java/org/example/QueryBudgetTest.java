@@ -0,0 +1,102 @@
+package org.example;
+
+import org.example.config.QueryCountInspector;
+import org.example.repository.BrandRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 클래스 설명 : 조회 엔드포인트의 데이터베이스 쿼리 예산 테스트
+ * 각 조회 요청을 처리하는 동안 Hibernate가 실행한 SQL 문 수(QueryCountInspector)를 세고,
+ * 고정된 예산을 넘으면 실패한다. 브랜드 수만큼 쿼리가 늘어나는 N+1 문제가 다시 생기면
+ * 초기 데이터(브랜드 9개)만으로도 예산을 넘으므로 이 테스트에서 바로 드러난다.
+ * MockMvc는 테스트 스레드에서 요청을 처리하므로 뷰 렌더링 중의 지연 로딩 쿼리도 함께 계산된다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    /**
+     * API 1~3(가격순 상위 브랜드 조회 포함)은 메모리 인덱스에서 응답하므로 인덱스 적재(최초 1회) 외에는 쿼리를 실행하지 않아야 합니다.
+     */
+    @Test
+    @DisplayName("API 1~3: 인덱스 적재 외 쿼리 없음")
+    void readApis_ShouldStayWithinQueryBudget() throws Exception {
+        assertQueryBudget(1, get("/api/lowest-price-by-category"));
+        assertQueryBudget(1, get("/api/lowest-total-price-brand"));
+        assertQueryBudget(1, get("/api/min-max-price-by-category").param("categoryName", "상의"));
+        assertQueryBudget(1, get("/api/categories/{category}/top", "TOP").param("k", "3"));
+        assertQueryBudget(1, get("/api/categories/{category}/top", "TOP").param("order", "desc").param("cursor", "10800:8"));
+    }
+
+    /**
+     * 웹 조회 화면도 API와 같은 인덱스를 사용하므로 인덱스 적재 외에는 쿼리를 실행하지 않아야 합니다.
+     */
+    @Test
+    @DisplayName("웹 조회 화면: 인덱스 적재 외 쿼리 없음")
+    void readPages_ShouldStayWithinQueryBudget() throws Exception {
+        assertQueryBudget(1, get("/lowest-price-by-category"));
+        assertQueryBudget(1, get("/lowest-total-price-brand"));
+        assertQueryBudget(1, get("/min-max-price-result").param("categoryName", "바지"));
+    }
+
+    /**
+     * 브랜드 관리 화면은 페이지 크기와 관계없이 한 페이지의 브랜드와 가격을 한 번의 쿼리로 조회해야 합니다.
+     */
+    @Test
+    @DisplayName("브랜드 관리 화면: 페이지당 1회 쿼리")
+    void manageBrands_ShouldLoadBrandsWithPricesInOneQuery() throws Exception {
+        assertQueryBudget(1, get("/manage-brands"));
+        assertQueryBudget(1, get("/manage-brands").param("after", "4").param("limit", "2"));
+    }
+
+    /**
+     * 브랜드 목록 API는 페이지마다 브랜드와 가격을 한 번의 쿼리로 조회해야 합니다.
+     */
+    @Test
+    @DisplayName("브랜드 목록 API: 페이지당 1회 쿼리")
+    void getBrands_ShouldLoadEachPageInOneQuery() throws Exception {
+        assertQueryBudget(1, get("/api/brands").param("limit", "4"));
+        assertQueryBudget(1, get("/api/brands").param("after", "4").param("limit", "4"));
+    }
+
+    /**
+     * 브랜드 수정 화면은 브랜드와 가격을 한 번의 쿼리로 조회해야 합니다.
+     */
+    @Test
+    @DisplayName("브랜드 수정 화면: 단일 브랜드 1회 쿼리")
+    void editBrand_ShouldLoadBrandWithPricesInOneQuery() throws Exception {
+        Long id = brandRepository.findByName("A").getId();
+
+        assertQueryBudget(1, get("/edit-brand").param("id", String.valueOf(id)));
+    }
+
+    // 요청을 처리하는 동안 실행된 쿼리 수가 예산 이하인지 검증
+    private void assertQueryBudget(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        QueryCountInspector.reset();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        long queries = QueryCountInspector.count();
+        assertTrue(queries <= budget, request.buildRequest(null).getRequestURI()
+                + " 요청이 쿼리 예산을 초과했습니다: " + queries + "개 (예산 " + budget + "개)");
+    }
+
+}
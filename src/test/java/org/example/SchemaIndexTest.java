@@ -0,0 +1,64 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 클래스 설명 : 스키마 인덱스 사용 여부 테스트
+ * Brand 매핑으로 생성된 스키마에서 H2의 EXPLAIN 결과(실행 계획)를 확인하여,
+ * 이름 조회와 카테고리별 가격 조회 쿼리가 전체 테이블 스캔 대신 인덱스를 사용하는지 검증합니다.
+ * 쿼리는 BrandRepository의 JPQL이 생성하는 SQL과 같은 조건과 정렬로 작성합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@SpringBootTest
+public class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * findByName(updateBrandPrice 등)의 이름 조건이 브랜드 이름 유니크 인덱스를 사용해야 합니다.
+     */
+    @Test
+    @DisplayName("브랜드 이름 조회: 유니크 인덱스 사용")
+    void findByName_ShouldUseUniqueNameIndex() {
+        String plan = explain("SELECT b.id FROM brand b WHERE b.name = 'A'");
+        assertTrue(plan.contains("UX_BRAND_NAME"), plan);
+    }
+
+    /**
+     * 카테고리별 가격 정렬 조회는 카테고리 조건을 (category, price) 복합 인덱스로 찾고, 인덱스 순서 그대로 반환해야 합니다(정렬 생략).
+     */
+    @Test
+    @DisplayName("카테고리별 가격 정렬 조회: 복합 인덱스 사용, 정렬 생략")
+    void categoryOrderedQuery_ShouldUseCategoryPriceIndex() {
+        String plan = explain("SELECT b.id FROM brand b JOIN brand_products p ON b.id = p.brand_id "
+                + "WHERE p.category = 'TOP' ORDER BY p.category, p.price");
+        assertTrue(plan.contains("IDX_BRAND_PRODUCTS_CATEGORY_PRICE: CATEGORY = 'TOP'"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    /**
+     * 카테고리 최저가 조회(API 3의 데이터베이스 조회 모드)는 인덱스를 순서대로 읽어 최저가 행에서 멈출 수 있어야 합니다.
+     */
+    @Test
+    @DisplayName("카테고리 최저가 조회: 복합 인덱스 순서로 최저가 행만 조회")
+    void categoryLowestQuery_ShouldReadIndexInOrder() {
+        String plan = explain("SELECT b.id, b.name, p.category, p.price FROM brand b JOIN brand_products p ON b.id = p.brand_id "
+                + "WHERE p.category = 'TOP' ORDER BY p.category, p.price FETCH FIRST 1 ROWS WITH TIES");
+        assertTrue(plan.contains("IDX_BRAND_PRODUCTS_CATEGORY_PRICE: CATEGORY = 'TOP'"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    // H2 실행 계획 조회
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+}
@@ -0,0 +1,184 @@
+package org.example;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.QueryCountInspector;
+import org.example.dto.BrandPriceUpdateDto;
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.example.service.BrandService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 클래스 설명 : 가격 변경 지연 기록(write-behind) 통합 테스트
+ * musinsa.price-update.write-behind.enabled=true로 실행하여, 가격 변경이 데이터베이스 쿼리 없이 조회 API에 즉시 반영되고
+ * 데이터베이스에는 기록 API(flush and wait) 호출 시 (브랜드, 카테고리)별 마지막 가격만 기록되는지 검증합니다.
+ * 주기적인 기록이 테스트 도중 실행되지 않도록 기록 주기는 충분히 길게 설정합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@SpringBootTest(properties = {
+        "musinsa.price-update.write-behind.enabled=true",
+        "musinsa.price-update.write-behind.flush-interval-ms=3600000",
+        "spring.datasource.url=jdbc:h2:mem:write-behind"
+})
+@AutoConfigureMockMvc
+public class WriteBehindPriceUpdateTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * API 4의 가격 변경은 쿼리 없이 API 1에 바로 반영되고, 데이터베이스에는 기록 API 호출 후 마지막 가격으로 한 번 기록되어야 합니다.
+     */
+    @Test
+    @DisplayName("가격 변경: 메모리 즉시 반영, 기록 API 호출 시 데이터베이스 기록")
+    void updateBrandPrice_ShouldApplyInMemoryAndWriteOnFlush() throws Exception {
+
+        // given: 메모리 카탈로그 적재
+        brandService.getLowestPriceByCategory();
+
+        // when: 같은 상품의 가격을 두 번 변경
+        QueryCountInspector.reset();
+        for (int price : new int[]{9500, 9000}) {
+            mockMvc.perform(put("/api/brand/price")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new BrandPriceUpdateDto("A", "상의", price))))
+                    .andExpect(status().isOk());
+        }
+
+        // then: 쿼리 없이 조회 API에 반영, 데이터베이스는 아직 이전 가격
+        assertEquals(0, QueryCountInspector.count(), "가격 변경 요청은 데이터베이스에 접근하지 않아야 합니다");
+        Map<String, Object> top = brandService.getLowestPriceByCategory().get(Category.TOP);
+        assertEquals("A", top.get("brand"));
+        assertEquals(9000, top.get("price"));
+        assertEquals(11200, storedPrice("A", Category.TOP));
+
+        // when: 기록 API 호출
+        mockMvc.perform(post("/api/brand/prices/flush"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.flushedCount").value(1));
+
+        // then
+        assertEquals(9000, storedPrice("A", Category.TOP), "마지막 가격이 기록되어야 합니다");
+        assertEquals(0, brandService.flushPriceUpdates());
+
+    }
+
+    /**
+     * 브랜드 엔티티 조회 전에는 기록을 기다리던 가격 변경이 먼저 기록되어야 하고,
+     * 조회 이후의 가격 변경도 브랜드 저장 전에 먼저 기록되므로, 조회한 내용으로 저장하면 그 변경을 덮어쓰지 않고 충돌해야 합니다.
+     */
+    @Test
+    @DisplayName("브랜드 조회/저장 전 대기 중인 가격 변경 기록, 조회 이후 변경이 있으면 저장 충돌")
+    void brandReadAndSave_ShouldFlushPendingPriceUpdatesFirst() {
+
+        // given: 브랜드 B의 가격 변경이 기록 대기 중 (존재하지 않는 브랜드 Z는 실패)
+        brandService.updateBrandPrices(List.of(
+                new BrandPriceUpdateDto("B", "가방", 1000),
+                new BrandPriceUpdateDto("Z", "가방", 1000)));
+        assertEquals(2100, storedPrice("B", Category.BAG));
+
+        // when: 관리 화면에서 브랜드 B 조회
+        Brand brand = brandService.getBrandByName("B");
+
+        // then: 대기 중이던 가격이 기록된 뒤 조회됨
+        assertEquals(1000, brand.getPrices().get(Category.BAG));
+
+        // when: 조회 이후 가방 가격이 다시 변경된 상태에서 조회한 내용으로 브랜드 저장
+        brandService.updateBrandPrice("B", Category.BAG, 1500);
+        brand.getPrices().put(Category.HAT, 100);
+
+        // then: 대기 중이던 변경이 먼저 기록되어 버전이 올라갔으므로 저장은 충돌하고, 조회 이후의 가격 변경이 남아 메모리 카탈로그와 일치
+        assertThrows(OptimisticLockingFailureException.class, () -> brandService.saveBrand(brand));
+        assertEquals(0, brandService.flushPriceUpdates(), "저장 이후에 기록될 변경이 남아 있으면 안 됩니다");
+        assertEquals(1500, storedPrice("B", Category.BAG));
+        assertEquals(2000, storedPrice("B", Category.HAT));
+        Map<String, Object> bag = brandService.getLowestPriceByCategory().get(Category.BAG);
+        assertEquals("B", bag.get("brand"));
+        assertEquals(1500, bag.get("price"));
+
+        // when: 다시 조회한 내용으로 저장하면 성공
+        Brand reloaded = brandService.getBrandByName("B");
+        reloaded.getPrices().put(Category.HAT, 100);
+        brandService.saveBrand(reloaded);
+
+        // then
+        assertEquals(100, storedPrice("B", Category.HAT));
+        assertEquals(1500, storedPrice("B", Category.BAG));
+
+    }
+
+    /**
+     * 브랜드 저장 트랜잭션이 커밋되기 전에 같은 브랜드의 가격 변경이 들어오면, 커밋 이후 인덱스 반영이 끝날 때까지 기다렸다가 처리되어야 합니다.
+     * 그렇지 않으면 가격 변경이 메모리에만 반영된 뒤 커밋 이후 반영에 덮어써지고, 데이터베이스에는 나중에 기록되어 둘이 달라집니다.
+     * 저장을 바깥 트랜잭션 안에서 호출하여 커밋 시점을 테스트가 정합니다.
+     */
+    @Test
+    @DisplayName("브랜드 저장 커밋 전에 들어온 같은 브랜드의 가격 변경은 커밋 이후 처리")
+    void priceUpdateDuringBrandSave_ShouldWaitUntilCommitted() throws Exception {
+
+        // given: 관리 화면에서 조회한 브랜드 C의 양말 가격을 300으로 수정
+        brandService.getLowestPriceByCategory();
+        Brand brand = brandService.getBrandByName("C");
+        brand.getPrices().put(Category.SOCKS, 300);
+
+        // when: 저장 트랜잭션이 커밋되기 전에 같은 브랜드의 양말 가격 변경 요청
+        CompletableFuture<Brand> priceUpdate = new TransactionTemplate(transactionManager).execute(status -> {
+            brandService.saveBrand(brand);
+            CompletableFuture<Brand> update = CompletableFuture.supplyAsync(
+                    () -> brandService.updateBrandPrice("C", Category.SOCKS, 200));
+            assertThrows(TimeoutException.class, () -> update.get(300, TimeUnit.MILLISECONDS),
+                    "저장이 커밋되기 전에는 같은 브랜드의 가격 변경이 반영되지 않아야 합니다");
+            return update;
+        });
+
+        // then: 커밋 이후 가격 변경이 처리되어 메모리 카탈로그와 데이터베이스가 같은 가격을 가짐
+        assertEquals(200, priceUpdate.get(5, TimeUnit.SECONDS).getPrices().get(Category.SOCKS));
+        brandService.flushPriceUpdates();
+        assertEquals(200, storedPrice("C", Category.SOCKS));
+        Map<String, Object> socks = brandService.getLowestPriceByCategory().get(Category.SOCKS);
+        assertEquals("C", socks.get("brand"));
+        assertEquals(200, socks.get("price"));
+
+    }
+
+    // 데이터베이스에 저장된 가격 조회
+    private int storedPrice(String brandName, Category category) {
+        return jdbcTemplate.queryForObject("SELECT p.price FROM brand b JOIN brand_products p ON b.id = p.brand_id "
+                + "WHERE b.name = ? AND p.category = ?", Integer.class, brandName, category.name());
+    }
+
+}
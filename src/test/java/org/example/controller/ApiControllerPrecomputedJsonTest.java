@@ -0,0 +1,102 @@
+package org.example.controller;
+
+import org.example.model.Category;
+import org.example.service.BrandImportService;
+import org.example.service.BrandService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.*;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 클래스 설명 : ApiController의 사전 직렬화 모드 테스트
+ * musinsa.api.precomputed-json.enabled=true 설정에서 조회 API가 카탈로그 버전별로 직렬화된 응답과
+ * 강한 ETag를 제공하고, If-None-Match가 일치하면 304 Not Modified로 응답하는지 검증한다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+@WebMvcTest(controllers = ApiController.class, properties = "musinsa.api.precomputed-json.enabled=true")
+public class ApiControllerPrecomputedJsonTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BrandService brandService;
+
+    @MockBean
+    private BrandImportService brandImportService;
+
+    /**
+     * 각 테스트 전에 API 1 응답 데이터를 모킹한다.
+     */
+    @BeforeEach
+    void setUp() {
+        Map<Category, Map<String, Object>> lowestPriceByCategory = new HashMap<>();
+        for (Category category : Category.values()) {
+            Map<String, Object> categoryData = new HashMap<>();
+            categoryData.put("brand", "A");
+            categoryData.put("price", 1000);
+            lowestPriceByCategory.put(category, categoryData);
+        }
+        when(brandService.getLowestPriceByCategory()).thenReturn(lowestPriceByCategory);
+    }
+
+    /**
+     * 같은 카탈로그 버전에서는 ETag가 일치하면 304로 응답하고, 버전이 바뀌면 새 응답을 직렬화하는지 검증한다.
+     * ETag에는 인스턴스 식별값이 포함되므로, 버전 번호만 같은 다른 프로세스의 ETag("7")로는 304를 받지 않아야 한다.
+     */
+    @Test
+    @DisplayName("API 1: 카탈로그 버전 ETag와 304 Not Modified")
+    void getLowestPriceByCategory_ShouldSupportETagAndNotModified() throws Exception {
+
+        // given
+        when(brandService.getCatalogVersion()).thenReturn(7L);
+
+        // when & then: 첫 요청은 직렬화된 본문과 ETag를 반환
+        String eTag = mockMvc.perform(get("/api/lowest-price-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-z]+-7\"")))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.categories.length()").value(8))
+                .andExpect(jsonPath("$.totalPrice").value("8,000"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 같은 버전의 ETag로 요청하면 본문 없이 304 응답
+        mockMvc.perform(get("/api/lowest-price-by-category").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 재시작 전이나 다른 인스턴스에서 발급된 같은 번호의 ETag는 일치하지 않음
+        mockMvc.perform(get("/api/lowest-price-by-category").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        // ETag 없이 다시 요청해도 같은 버전이면 서비스를 다시 호출하지 않고 캐시된 바이트를 전송
+        mockMvc.perform(get("/api/lowest-price-by-category"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        verify(brandService, times(1)).getLowestPriceByCategory();
+
+        // 카탈로그 버전이 바뀌면 이전 ETag는 더 이상 일치하지 않음
+        when(brandService.getCatalogVersion()).thenReturn(8L);
+        mockMvc.perform(get("/api/lowest-price-by-category").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag.replace("-7\"", "-8\"")));
+        verify(brandService, times(2)).getLowestPriceByCategory();
+
+    }
+
+}
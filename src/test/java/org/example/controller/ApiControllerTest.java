@@ -1,9 +1,14 @@
 package org.example.controller;
 
+import org.example.dto.BrandCategoryPriceDto;
 import org.example.dto.BrandDto;
+import org.example.dto.BrandPageDto;
 import org.example.dto.BrandPriceUpdateDto;
+import org.example.dto.BrandPriceUpdateResultDto;
+import org.example.dto.CategoryTopBrandsDto;
 import org.example.model.Brand;
 import org.example.model.Category;
+import org.example.service.BrandImportService;
 import org.example.service.BrandService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +19,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -23,6 +29,9 @@ import java.util.*;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -53,6 +62,12 @@ public class ApiControllerTest {
     @MockBean
     private BrandService brandService;
 
+    /**
+     * ApiController가 의존하는 대량 등록 서비스를 모킹한다.
+     */
+    @MockBean
+    private BrandImportService brandImportService;
+
     /**
      * ObjectMapper: 자바 객체를 JSON으로 변환하거나 JSON을 자바 객체로 변환하는 데 사용된다.
      * 테스트에서는 주로 요청 본문을 JSON으로 직렬화하는 데 활용된다.
@@ -360,6 +375,32 @@ public class ApiControllerTest {
 
     }
 
+    /**
+     * API 4: 이름이 없는 브랜드 생성 시 오류 반환 테스트
+     * 서비스가 이름이 비어 있는 브랜드를 거부하면(IllegalArgumentException) 컨트롤러가 500 대신 잘못된 요청 응답을 반환하는지 검증한다.
+     * - HTTP 상태 코드 400(Bad Request)
+     * - 응답에 오류 메시지 포함
+     */
+    @Test
+    @DisplayName("API 4: 이름이 없는 브랜드 생성 시 400 반환")
+    void createBrand_ShouldReturnBadRequestForBlankName() throws Exception {
+
+        // given: 이름이 없는 브랜드 DTO, 서비스는 저장을 거부
+        BrandDto brandDto = createBrandDto(null, 10000, 5000);
+
+        when(brandService.saveBrand(any(Brand.class))).thenThrow(new IllegalArgumentException("브랜드 이름이 없습니다"));
+
+        // when & then
+        mockMvc.perform(post("/api/brand")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(brandDto)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("잘못된 브랜드 정보"))
+                .andExpect(jsonPath("$.message").value("브랜드 이름이 없습니다"));
+
+    }
+
     /**
      * API 4: 브랜드 수정 테스트
      * PUT /api/brand/{id} 엔드포인트가 기존 브랜드를 올바르게 수정하는지 검증한다.
@@ -424,6 +465,40 @@ public class ApiControllerTest {
 
     }
 
+    /**
+     * API 4: 조회 이후 다른 변경이 먼저 저장된 브랜드 수정 시 충돌 반환 테스트
+     * 요청의 version이 저장할 엔티티에 설정되고, 버전 조건 UPDATE가 실패하면(낙관적 잠금 충돌) 컨트롤러가 충돌 응답을 반환하는지 검증한다.
+     * - HTTP 상태 코드 409(Conflict)
+     * - 응답에 오류 메시지 포함
+     */
+    @Test
+    @DisplayName("API 4: 다른 변경이 먼저 저장된 브랜드 수정 시 409 반환")
+    void updateBrand_ShouldReturnConflictForStaleVersion() throws Exception {
+
+        // given: 조회했을 때의 버전 3으로 수정 요청, 저장 시 낙관적 잠금 충돌
+        Long brandId = 1L;
+        BrandDto brandDto = createBrandDto("Updated Brand", 10000, 5000);
+        brandDto.setVersion(3L);
+        Brand existingBrand = createBrand(brandId, "A", 11200, 5500);
+        existingBrand.setVersion(4L);
+
+        when(brandService.getBrandById(brandId)).thenReturn(existingBrand);
+        when(brandService.saveBrand(any(Brand.class))).thenThrow(new OptimisticLockingFailureException("버전 충돌"));
+
+        // when & then
+        mockMvc.perform(put("/api/brand/{id}", brandId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(brandDto)))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("브랜드 업데이트 충돌"))
+                .andExpect(jsonPath("$.message").exists());
+
+        // 요청의 버전으로 저장을 시도해야 함 (현재 버전으로 덮어쓰지 않음)
+        verify(brandService, times(1)).saveBrand(argThat(brand -> Long.valueOf(3L).equals(brand.getVersion())));
+
+    }
+
     /**
      * API 4: 브랜드 삭제 테스트
      * DELETE /api/brand/{id} 엔드포인트가 브랜드를 올바르게 삭제하는지 검증한다.
@@ -569,6 +644,170 @@ public class ApiControllerTest {
 
     }
 
+    /**
+     * API 4: 브랜드 가격 일괄 업데이트 테스트
+     * PUT /api/brand/prices 엔드포인트가 여러 가격 변경을 한 번에 처리하고 항목별 결과를 반환하는지 검증한다.
+     * - HTTP 상태 코드 200(OK)
+     * - 응답 JSON에 성공/실패 건수와 요청 순서대로의 항목별 결과 포함
+     */
+    @Test
+    @DisplayName("API 4: 브랜드 가격 일괄 업데이트")
+    void updateBrandPrices_ShouldReturnPerItemResults() throws Exception {
+
+        // given: 성공 1건, 실패 1건을 포함한 일괄 업데이트 요청 및 서비스 메서드 모킹
+        List<BrandPriceUpdateDto> updates = Arrays.asList(
+                new BrandPriceUpdateDto("A", "상의", 12000),
+                new BrandPriceUpdateDto("Z", "상의", 13000));
+
+        when(brandService.updateBrandPrices(anyList())).thenReturn(Arrays.asList(
+                new BrandPriceUpdateResultDto("A", "상의", 12000, "success", "브랜드 가격이 성공적으로 업데이트되었습니다"),
+                new BrandPriceUpdateResultDto("Z", "상의", 13000, "error", "Z 브랜드가 존재하지 않습니다")));
+
+        // when & then: API 요청 및 응답 검증
+        mockMvc.perform(put("/api/brand/prices") // PUT 요청
+                        .contentType(MediaType.APPLICATION_JSON) // JSON 타입 지정
+                        .content(objectMapper.writeValueAsString(updates))) // 요청 본문에 업데이트 목록 JSON 포함
+                .andDo(print()) // 테스트 결과를 로그로 출력
+                .andExpect(status().isOk()) // 상태 코드 200 확인
+                .andExpect(jsonPath("$.successCount").value(1)) // 성공 건수 확인
+                .andExpect(jsonPath("$.failureCount").value(1)) // 실패 건수 확인
+                .andExpect(jsonPath("$.results", hasSize(2))) // 항목별 결과 개수 확인
+                .andExpect(jsonPath("$.results[0].status").value("success"))
+                .andExpect(jsonPath("$.results[1].brandName").value("Z"))
+                .andExpect(jsonPath("$.results[1].status").value("error"));
+
+        // 서비스 메서드가 요청 목록 전체로 한 번만 호출되었는지 확인
+        verify(brandService, times(1)).updateBrandPrices(argThat(list -> list.size() == 2));
+        verify(brandService, never()).updateBrandPrice(any(), any(), anyInt());
+
+    }
+
+    /**
+     * API 4: 가격 변경 기록 테스트
+     * POST /api/brand/prices/flush 엔드포인트가 지연 기록 중인 가격 변경을 기록하고 기록한 건수를 반환하는지 검증한다.
+     * - HTTP 상태 코드 200(OK)
+     * - 응답 JSON에 기록한 가격 변경 수 포함
+     */
+    @Test
+    @DisplayName("API 4: 지연 기록 중인 가격 변경 기록")
+    void flushPriceUpdates_ShouldReturnFlushedCount() throws Exception {
+
+        // given: 서비스 메서드 모킹
+        when(brandService.flushPriceUpdates()).thenReturn(3);
+
+        // when & then: API 요청 및 응답 검증
+        mockMvc.perform(post("/api/brand/prices/flush")) // POST 요청
+                .andDo(print()) // 테스트 결과를 로그로 출력
+                .andExpect(status().isOk()) // 상태 코드 200 확인
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.flushedCount").value(3)); // 기록 건수 확인
+
+        verify(brandService, times(1)).flushPriceUpdates();
+
+    }
+
+    /**
+     * API 3-1: 카테고리별 가격순 상위 브랜드 조회 테스트
+     * GET /api/categories/{category}/top 엔드포인트가 영문 카테고리 이름과 k, order, cursor 파라미터를 서비스에 전달하고
+     * 가격순 브랜드 목록과 다음 페이지 커서를 반환하는지 검증한다.
+     */
+    @Test
+    @DisplayName("API 3-1: 카테고리별 가격순 상위 브랜드 조회")
+    void getTopBrandsByCategory_ShouldReturnRankedPage() throws Exception {
+
+        // given: 서비스 메서드 모킹
+        when(brandService.getTopBrandsByCategory(Category.TOP, "desc", 1, "11400:9")).thenReturn(CategoryTopBrandsDto.builder()
+                .category("상의").order("desc").k(1)
+                .brands(List.of(new BrandCategoryPriceDto(1L, "A", Category.TOP, 11200)))
+                .nextCursor("11200:1")
+                .build());
+
+        // when & then: API 요청 및 응답 검증
+        mockMvc.perform(get("/api/categories/{category}/top", "top")
+                        .param("k", "1")
+                        .param("order", "desc")
+                        .param("cursor", "11400:9"))
+                .andDo(print()) // 테스트 결과를 로그로 출력
+                .andExpect(status().isOk()) // 상태 코드 200 확인
+                .andExpect(jsonPath("$.category").value("상의"))
+                .andExpect(jsonPath("$.brands", hasSize(1)))
+                .andExpect(jsonPath("$.brands[0].brandName").value("A"))
+                .andExpect(jsonPath("$.brands[0].price").value(11200))
+                .andExpect(jsonPath("$.nextCursor").value("11200:1"));
+
+        verify(brandService, times(1)).getTopBrandsByCategory(Category.TOP, "desc", 1, "11400:9");
+
+    }
+
+    /**
+     * API 3-1: 한글 카테고리 이름과 기본 파라미터로 조회하고, 잘못된 카테고리는 400 응답하는지 검증한다.
+     */
+    @Test
+    @DisplayName("API 3-1: 카테고리별 가격순 상위 브랜드 조회 - 기본 파라미터와 잘못된 카테고리")
+    void getTopBrandsByCategory_ShouldUseDefaultsAndRejectUnknownCategory() throws Exception {
+
+        // given
+        when(brandService.getTopBrandsByCategory(Category.PANTS, "asc", 20, null)).thenReturn(CategoryTopBrandsDto.builder()
+                .category("바지").order("asc").k(20).brands(List.of()).build());
+
+        // when & then
+        mockMvc.perform(get("/api/categories/{category}/top", "바지"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.order").value("asc"))
+                .andExpect(jsonPath("$.k").value(20));
+
+        mockMvc.perform(get("/api/categories/{category}/top", "잘못된카테고리"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("잘못된 조회 파라미터"));
+
+        // 잘못된 카테고리 요청은 서비스를 호출하지 않아야 함
+        verify(brandService, times(1)).getTopBrandsByCategory(any(), any(), anyInt(), any());
+
+    }
+
+    /**
+     * API 4: 브랜드 목록 페이지 조회 테스트
+     * GET /api/brands 엔드포인트가 after, limit 파라미터로 조회한 페이지와 다음 페이지 기준 ID를 반환하는지 검증한다.
+     * - HTTP 상태 코드 200(OK)
+     * - 응답 JSON에 브랜드 목록과 nextAfter 포함
+     */
+    @Test
+    @DisplayName("API 4: 브랜드 목록 페이지 조회")
+    void getBrands_ShouldReturnKeysetPage() throws Exception {
+
+        // given: 서비스 메서드 모킹
+        when(brandService.getBrandPage(0L, 1)).thenReturn(BrandPageDto.builder()
+                .after(0L).limit(1).brands(List.of(brandA)).nextAfter(brandA.getId()).build());
+
+        // when & then: API 요청 및 응답 검증
+        mockMvc.perform(get("/api/brands").param("limit", "1")) // GET 요청
+                .andDo(print()) // 테스트 결과를 로그로 출력
+                .andExpect(status().isOk()) // 상태 코드 200 확인
+                .andExpect(jsonPath("$.brands", hasSize(1)))
+                .andExpect(jsonPath("$.brands[0].name").value("A"))
+                .andExpect(jsonPath("$.nextAfter").value(brandA.getId()));
+
+        verify(brandService, times(1)).getBrandPage(0L, 1);
+
+    }
+
+    /**
+     * API 4: 잘못된 페이지 크기로 브랜드 목록 조회 시 400 응답 테스트
+     */
+    @Test
+    @DisplayName("API 4: 브랜드 목록 페이지 조회 - 잘못된 페이지 크기")
+    void getBrands_ShouldReturnBadRequestForInvalidLimit() throws Exception {
+
+        // given: 서비스가 허용 범위를 벗어난 페이지 크기를 거부
+        when(brandService.getBrandPage(0L, 0)).thenThrow(new IllegalArgumentException("limit은 1 이상 1000 이하여야 합니다: 0"));
+
+        // when & then
+        mockMvc.perform(get("/api/brands").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("잘못된 페이지 파라미터"));
+
+    }
+
     /**
      * BrandDto 객체 생성 헬퍼 메서드
      * 테스트에 사용할 BrandDto 객체를 생성한다.
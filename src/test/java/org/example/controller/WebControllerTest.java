@@ -2,6 +2,7 @@ package org.example.controller;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import org.example.dto.BrandPageDto;
 import org.example.model.Brand;
 import org.example.model.Category;
 import org.example.service.BrandService;
@@ -13,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.LinkedMultiValueMap;
@@ -24,6 +26,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -449,16 +452,17 @@ public class WebControllerTest {
      * API 4: 브랜드 관리 페이지 접근 테스트
      * "/manage-brands" 경로로 GET 요청 시:
      * 1. 올바른 뷰 이름을 반환하는지
-     * 2. 필요한 모델 속성("brands", "categoryNames", "categories")이 존재하는지
+     * 2. 필요한 모델 속성("brands", "page", "categoryNames", "categories")이 존재하는지
      * 3. 모델 속성의 값이 예상대로인지(브랜드 목록 크기, 브랜드명)
-     * 4. brandService.getAllBrands()가 정확히 1번 호출되는지 검증합니다.
+     * 4. brandService.getBrandPage()가 첫 페이지 기본 크기로 정확히 1번 호출되는지 검증합니다.
      */
     @Test
     @DisplayName("브랜드 관리 페이지 접근")
     void manageBrands_ShouldReturnCorrectViewAndData() throws Exception {
 
         // given
-        when(brandService.getAllBrands()).thenReturn(allBrands);
+        when(brandService.getBrandPage(0L, 50)).thenReturn(BrandPageDto.builder()
+                .after(0L).limit(50).brands(allBrands).build());
 
         // when & then
         MvcResult result = mockMvc.perform(get("/manage-brands"))
@@ -466,6 +470,7 @@ public class WebControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name("manage-brands"))
                 .andExpect(model().attributeExists("brands"))
+                .andExpect(model().attributeExists("page"))
                 .andExpect(model().attributeExists("categoryNames"))
                 .andExpect(model().attributeExists("categories"))
                 .andReturn();
@@ -477,7 +482,30 @@ public class WebControllerTest {
         assertEquals("A", brands.get(0).getName(), "첫 번째 브랜드명이 A여야 합니다");
         assertEquals("B", brands.get(1).getName(), "두 번째 브랜드명이 B여야 합니다");
 
-        verify(brandService, times(1)).getAllBrands();
+        verify(brandService, times(1)).getBrandPage(0L, 50);
+
+    }
+
+    /**
+     * API 4: 브랜드 관리 페이지의 다음 페이지 이동 테스트
+     * after, limit 파라미터가 그대로 서비스에 전달되고, 다음 페이지가 있으면 다음 페이지 링크가 표시되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("브랜드 관리 페이지 - 다음 페이지 조회")
+    void manageBrands_ShouldPassCursorAndRenderNextPageLink() throws Exception {
+
+        // given: 브랜드 A 다음부터 1개, 다음 페이지 있음
+        when(brandService.getBrandPage(1L, 1)).thenReturn(BrandPageDto.builder()
+                .after(1L).limit(1).brands(List.of(brandB)).nextAfter(2L).build());
+
+        // when & then
+        mockMvc.perform(get("/manage-brands").param("after", "1").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("manage-brands"))
+                .andExpect(content().string(containsString("/manage-brands?after=2&amp;limit=1")))
+                .andExpect(content().string(containsString("/manage-brands?limit=1")));
+
+        verify(brandService, times(1)).getBrandPage(1L, 1);
 
     }
 
@@ -494,7 +522,7 @@ public class WebControllerTest {
     void manageBrands_ShouldReturnErrorPageOnFailure() throws Exception {
 
         // given
-        when(brandService.getAllBrands()).thenThrow(new RuntimeException("테스트 오류"));
+        when(brandService.getBrandPage(0L, 50)).thenThrow(new RuntimeException("테스트 오류"));
 
         // when & then
         mockMvc.perform(get("/manage-brands"))
@@ -504,7 +532,7 @@ public class WebControllerTest {
                 .andExpect(model().attributeExists("error"))
                 .andExpect(model().attribute("error", containsString("테스트 오류")));
 
-        verify(brandService, times(1)).getAllBrands();
+        verify(brandService, times(1)).getBrandPage(0L, 50);
 
     }
 
@@ -746,6 +774,38 @@ public class WebControllerTest {
 
     }
 
+    /**
+     * API 4: 수정 폼 조회 이후 다른 변경이 먼저 저장된 경우 오류 페이지 반환 테스트
+     * 폼의 숨긴 필드 version이 저장할 엔티티에 설정되고, 낙관적 잠금 충돌 시 다시 조회하라는 오류 페이지가 반환되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("브랜드 수정 충돌 시 오류 페이지 반환")
+    void editBrand_ShouldReturnErrorPageOnVersionConflict() throws Exception {
+
+        // given: 폼을 조회했을 때의 버전 2로 제출, 저장 시 낙관적 잠금 충돌
+        when(brandService.getBrandById(1L)).thenReturn(brandA);
+        when(brandService.saveBrand(any(Brand.class))).thenThrow(new OptimisticLockingFailureException("버전 충돌"));
+
+        MultiValueMap<String, String> formParams = new LinkedMultiValueMap<>();
+        formParams.add("id", "1");
+        formParams.add("version", "2");
+        formParams.add("brandName", "Updated A");
+        for (Category category : Category.values()) {
+            formParams.add(category.name(), String.valueOf(1000));
+        }
+
+        // when & then
+        mockMvc.perform(post("/edit-brand")
+                        .params(formParams))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(view().name("error"))
+                .andExpect(model().attribute("error", containsString("다른 변경이 먼저 저장되었습니다")));
+
+        verify(brandService, times(1)).saveBrand(argThat(brand -> Long.valueOf(2L).equals(brand.getVersion())));
+
+    }
+
     /**
      * API 4: 브랜드 삭제 성공 시 리다이렉트 테스트
      * "/delete-brand" 경로로 GET 요청 시:
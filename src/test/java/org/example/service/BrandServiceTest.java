@@ -1,5 +1,10 @@
 package org.example.service;
 
+import org.example.dto.BrandCategoryPriceDto;
+import org.example.dto.BrandPageDto;
+import org.example.dto.BrandPriceUpdateDto;
+import org.example.dto.BrandPriceUpdateResultDto;
+import org.example.dto.CategoryTopBrandsDto;
 import org.example.model.Brand;
 import org.example.model.Category;
 import org.example.repository.BrandRepository;
@@ -11,12 +16,23 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -105,7 +121,7 @@ public class BrandServiceTest {
     void getAllBrands_ShouldReturnAllBrands() {
 
         // given: 테스트 조건 설정
-        when(brandRepository.findAll()).thenReturn(allBrands);
+        when(brandRepository.findAllWithPrices()).thenReturn(allBrands);
 
         // when: 테스트 대상 메서드 실행
         List<Brand> result = brandService.getAllBrands();
@@ -117,7 +133,110 @@ public class BrandServiceTest {
         assertEquals("C", result.get(2).getName(), "세 번째 브랜드명이 C여야 합니다");
 
         // 메서드 호출 검증
-        verify(brandRepository, times(1)).findAll();
+        verify(brandRepository, times(1)).findAllWithPrices();
+        verify(brandRepository, never()).findAll();
+
+    }
+
+    /**
+     * getBrandPage() 메서드 테스트
+     * 페이지 크기보다 하나 더 조회하여 다음 페이지가 있으면 마지막 브랜드 ID를 다음 기준으로 반환하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("브랜드 목록 페이지 조회")
+    void getBrandPage_ShouldTrimExtraRowAndReturnNextCursor() {
+
+        // given: 페이지 크기 2, 저장소는 다음 페이지 확인용으로 3개를 반환
+        ReflectionTestUtils.setField(brandService, "brandPageMaxLimit", 1000);
+        when(brandRepository.findPageWithPricesAfter(0L, 3)).thenReturn(new ArrayList<>(allBrands));
+        when(brandRepository.findPageWithPricesAfter(2L, 3)).thenReturn(List.of(brandC));
+
+        // when
+        BrandPageDto first = brandService.getBrandPage(0L, 2);
+        BrandPageDto last = brandService.getBrandPage(first.getNextAfter(), 2);
+
+        // then
+        assertEquals(List.of("A", "B"), first.getBrands().stream().map(Brand::getName).collect(Collectors.toList()),
+                "페이지 크기만큼만 반환해야 합니다");
+        assertEquals(2L, first.getNextAfter(), "다음 페이지 기준은 마지막 브랜드 ID여야 합니다");
+        assertEquals(List.of("C"), last.getBrands().stream().map(Brand::getName).collect(Collectors.toList()));
+        assertNull(last.getNextAfter(), "마지막 페이지에는 다음 기준이 없어야 합니다");
+
+        // 전체 목록 조회는 하지 않아야 함
+        verify(brandRepository, never()).findAllWithPrices();
+
+    }
+
+    /**
+     * getBrandPage() 메서드 테스트 - 잘못된 페이지 파라미터
+     * 허용 범위를 벗어난 페이지 크기나 음수 기준 ID는 조회 없이 거부하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("브랜드 목록 페이지 조회 - 잘못된 파라미터")
+    void getBrandPage_ShouldRejectInvalidParameters() {
+
+        // given
+        ReflectionTestUtils.setField(brandService, "brandPageMaxLimit", 1000);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> brandService.getBrandPage(0L, 0));
+        assertThrows(IllegalArgumentException.class, () -> brandService.getBrandPage(0L, 1001));
+        assertThrows(IllegalArgumentException.class, () -> brandService.getBrandPage(-1L, 10));
+        verify(brandRepository, never()).findPageWithPricesAfter(anyLong(), anyInt());
+
+    }
+
+    /**
+     * getTopBrandsByCategory() 메서드 테스트
+     * 메모리 인덱스의 가격순 목록에서 k개씩 조회하고, 응답 커서로 다음 페이지를 이어서 조회하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("카테고리별 가격순 상위 브랜드 조회")
+    void getTopBrandsByCategory_ShouldPageCheapestBrandsWithCursor() {
+
+        // given: 상의 가격은 C(10000) < B(10500) < A(11200)
+        ReflectionTestUtils.setField(brandService, "categoryTopMaxK", 1000);
+        when(brandRepository.findAllWithPrices()).thenReturn(allBrands);
+
+        // when
+        CategoryTopBrandsDto first = brandService.getTopBrandsByCategory(Category.TOP, "asc", 2, null);
+        CategoryTopBrandsDto last = brandService.getTopBrandsByCategory(Category.TOP, "asc", 2, first.getNextCursor());
+        CategoryTopBrandsDto mostExpensive = brandService.getTopBrandsByCategory(Category.TOP, "DESC", 1, null);
+
+        // then
+        assertEquals(List.of("C", "B"), first.getBrands().stream().map(BrandCategoryPriceDto::getBrandName).collect(Collectors.toList()));
+        assertEquals(10000, first.getBrands().get(0).getPrice());
+        assertEquals("10500:2", first.getNextCursor(), "커서는 마지막 브랜드의 가격과 ID여야 합니다");
+        assertEquals(List.of("A"), last.getBrands().stream().map(BrandCategoryPriceDto::getBrandName).collect(Collectors.toList()));
+        assertNull(last.getNextCursor(), "마지막 페이지에는 커서가 없어야 합니다");
+        assertEquals("desc", mostExpensive.getOrder());
+        assertEquals("A", mostExpensive.getBrands().get(0).getBrandName());
+        assertEquals("상의", mostExpensive.getCategory());
+
+        // 인덱스 적재 외에는 카테고리 정렬 쿼리를 실행하지 않아야 함
+        verify(brandRepository, times(1)).findAllWithPrices();
+        verify(brandRepository, never()).findAllByCategoryOrderByPriceAsc(any());
+
+    }
+
+    /**
+     * getTopBrandsByCategory() 메서드 테스트 - 잘못된 파라미터
+     * 정렬 방향, 페이지 크기, 커서 형식이 잘못되면 조회 없이 거부하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("카테고리별 가격순 상위 브랜드 조회 - 잘못된 파라미터")
+    void getTopBrandsByCategory_ShouldRejectInvalidParameters() {
+
+        // given
+        ReflectionTestUtils.setField(brandService, "categoryTopMaxK", 1000);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> brandService.getTopBrandsByCategory(Category.TOP, "random", 20, null));
+        assertThrows(IllegalArgumentException.class, () -> brandService.getTopBrandsByCategory(Category.TOP, "asc", 0, null));
+        assertThrows(IllegalArgumentException.class, () -> brandService.getTopBrandsByCategory(Category.TOP, "asc", 1001, null));
+        assertThrows(IllegalArgumentException.class, () -> brandService.getTopBrandsByCategory(Category.TOP, "asc", 20, "10500"));
+        assertThrows(IllegalArgumentException.class, () -> brandService.getTopBrandsByCategory(Category.TOP, "asc", 20, "a:b"));
+        verify(brandRepository, never()).findAllWithPrices();
 
     }
 
@@ -286,28 +405,15 @@ public class BrandServiceTest {
     /**
      * API 1: getLowestPriceByCategory() 메서드 테스트
      * 각 카테고리별 최저가격을 제공하는 브랜드와 가격을 조회하는 기능이 올바르게 작동하는지 검증합니다.
+     * 최초 조회 시 전체 브랜드로 메모리 인덱스를 적재하고, 카테고리별 정렬 쿼리는 호출하지 않아야 합니다.
      */
     @Test
     @DisplayName("API 1: 카테고리별 최저가격 조회")
     void getLowestPriceByCategory_ShouldReturnLowestPriceForEachCategory() {
 
-        // 각 카테고리별로 최저가 브랜드 모킹
-        for (Category category : Category.values()) {
-            List<Brand> brandsForCategory;
-
-            // 카테고리별로 다른 최저가 브랜드 설정
-            if (category == Category.TOP) {
-                brandsForCategory = Collections.singletonList(brandC); // C의 TOP 가격이 가장 낮음
-            } else if (category == Category.PANTS) {
-                // 동일한 최저가격을 가진 브랜드가 여러 개인 경우
-                Brand brandB_copy = createBrand(2L, "B", 10500, 5900, 3300, 9100, 2100, 2000, 2000, 2200);
-                brandsForCategory = Arrays.asList(brandB_copy, brandC); // B와 C가 동일한 PANTS 가격
-            } else {
-                brandsForCategory = Collections.singletonList(brandA); // 다른 카테고리는 A가 가장 낮음
-            }
-
-            when(brandRepository.findAllByCategoryOrderByPriceAsc(category)).thenReturn(brandsForCategory);
-        }
+        // given: 동일한 최저가격을 가진 브랜드가 여러 개인 경우 (B와 C의 PANTS 가격이 3300으로 동일)
+        Brand brandB_copy = createBrand(2L, "B", 10500, 5900, 3300, 9100, 2100, 2000, 2000, 2200);
+        when(brandRepository.findAllWithPrices()).thenReturn(Arrays.asList(brandA, brandB_copy, brandC));
 
         // when
         Map<Category, Map<String, Object>> result = brandService.getLowestPriceByCategory();
@@ -320,18 +426,113 @@ public class BrandServiceTest {
         Map<String, Object> topCategoryData = result.get(Category.TOP);
         assertNotNull(topCategoryData, "TOP 카테고리 데이터가 null이 아니어야 합니다");
         assertEquals("C", topCategoryData.get("brand"), "TOP 카테고리의 최저가 브랜드는 C여야 합니다");
+        assertEquals(10000, topCategoryData.get("price"), "TOP 카테고리의 최저가는 10,000이어야 합니다");
 
-        // PANTS 카테고리 검증 (동일 가격의 브랜드가 여러 개인 경우)
+        // PANTS 카테고리 검증 (동일 가격의 브랜드가 여러 개인 경우 브랜드 ID 순으로 표시)
         Map<String, Object> pantsCategoryData = result.get(Category.PANTS);
         assertNotNull(pantsCategoryData, "PANTS 카테고리 데이터가 null이 아니어야 합니다");
-        String pantsBrands = (String) pantsCategoryData.get("brand");
-        assertTrue(pantsBrands.contains("B") && pantsBrands.contains("C"),
-                "PANTS 카테고리의 최저가 브랜드는 B와 C를 포함해야 합니다");
+        assertEquals("B,C", pantsCategoryData.get("brand"), "PANTS 카테고리의 최저가 브랜드는 B,C여야 합니다");
 
-        // 모든 카테고리에 대해 findAllByCategoryOrderByPriceAsc가 호출되었는지 확인
-        for (Category category : Category.values()) {
-            verify(brandRepository, times(1)).findAllByCategoryOrderByPriceAsc(category);
-        }
+        // 인덱스 적재를 위해 전체 조회가 한 번만 수행되고, 카테고리별 정렬 쿼리는 호출되지 않아야 함
+        verify(brandRepository, times(1)).findAllWithPrices();
+        verify(brandRepository, never()).findAllByCategoryOrderByPriceAsc(any(Category.class));
+
+    }
+
+    /**
+     * API 1: 쓰기 작업 이후 인덱스 갱신 테스트
+     * 브랜드 저장, 가격 업데이트, 삭제가 데이터베이스 재조회 없이 인덱스에 반영되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 1: 브랜드 저장/가격 업데이트/삭제 후 카테고리별 최저가격 갱신")
+    void getLowestPriceByCategory_ShouldReflectWritesWithoutReloading() {
+
+        // given: 인덱스 적재
+        when(brandRepository.findAllWithPrices()).thenReturn(allBrands);
+        brandService.getLowestPriceByCategory();
+
+        // 1. 더 저렴한 TOP 가격을 가진 브랜드 D 저장
+        Brand brandD = createBrand(4L, "D", 9000, 5100, 3000, 9500, 2500, 1500, 2400, 2000);
+        when(brandRepository.save(any(Brand.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        brandService.saveBrand(brandD);
+        assertEquals("D", brandService.getLowestPriceByCategory().get(Category.TOP).get("brand"),
+                "저장 이후 TOP 카테고리의 최저가 브랜드는 D여야 합니다");
+
+        // 2. 브랜드 A의 TOP 가격을 D와 동일하게 업데이트
+        when(brandRepository.findByName("A")).thenReturn(brandA);
+        brandService.updateBrandPrice("A", Category.TOP, 9000);
+        assertEquals("A,D", brandService.getLowestPriceByCategory().get(Category.TOP).get("brand"),
+                "가격 업데이트 이후 TOP 카테고리의 최저가 브랜드는 A,D여야 합니다");
+
+        // 3. 브랜드 D 삭제
+        brandService.deleteBrand(4L);
+        Map<String, Object> topCategoryData = brandService.getLowestPriceByCategory().get(Category.TOP);
+        assertEquals("A", topCategoryData.get("brand"), "삭제 이후 TOP 카테고리의 최저가 브랜드는 A여야 합니다");
+        assertEquals(9000, topCategoryData.get("price"), "삭제 이후 TOP 카테고리의 최저가는 9,000이어야 합니다");
+
+        // 인덱스는 최초 한 번만 적재되어야 함
+        verify(brandRepository, times(1)).findAllWithPrices();
+
+    }
+
+    /**
+     * 조회 결과 캐시 테스트
+     * 카탈로그가 변경되지 않으면 같은 결과를 재사용하고, 쓰기가 반영되면 새로 계산하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("조회 결과 캐시 - 카탈로그 버전 변경 시 무효화")
+    void readApis_ShouldReuseResultsUntilCatalogVersionChanges() {
+
+        // given
+        when(brandRepository.findAllWithPrices()).thenReturn(allBrands);
+        Map<Category, Map<String, Object>> first = brandService.getLowestPriceByCategory();
+        Map<String, Object> firstMinMax = brandService.getMinMaxPriceByCategory(Category.TOP);
+        long version = brandService.getCatalogVersion();
+
+        // when & then: 변경이 없으면 캐시된 결과를 그대로 반환해야 함
+        assertSame(first, brandService.getLowestPriceByCategory(), "변경이 없으면 캐시된 결과를 반환해야 합니다");
+        assertSame(firstMinMax, brandService.getMinMaxPriceByCategory(Category.TOP), "변경이 없으면 캐시된 결과를 반환해야 합니다");
+        assertNotSame(firstMinMax, brandService.getMinMaxPriceByCategory(Category.PANTS), "카테고리별로 다른 결과를 캐시해야 합니다");
+
+        // when: 가격 업데이트
+        when(brandRepository.findByName("A")).thenReturn(brandA);
+        when(brandRepository.save(any(Brand.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        brandService.updateBrandPrice("A", Category.TOP, 9000);
+
+        // then: 카탈로그 버전이 증가하고 새로 계산된 결과를 반환해야 함
+        assertTrue(brandService.getCatalogVersion() > version, "쓰기 이후 카탈로그 버전이 증가해야 합니다");
+        Map<Category, Map<String, Object>> second = brandService.getLowestPriceByCategory();
+        assertNotSame(first, second, "쓰기 이후에는 결과를 새로 계산해야 합니다");
+        assertEquals("A", second.get(Category.TOP).get("brand"), "TOP 카테고리의 최저가 브랜드는 A여야 합니다");
+
+    }
+
+    /**
+     * API 1: 데이터베이스 조회 모드에서 모든 카테고리의 최저가를 집계 쿼리 한 번으로 계산하는지 검증
+     * 메모리 인덱스는 적재하지 않고, 카테고리별 쿼리도 실행하지 않아야 합니다.
+     */
+    @Test
+    @DisplayName("API 1: 데이터베이스 조회 모드 (집계 쿼리 1회)")
+    void getLowestPriceByCategory_InDatabaseReadMode_ShouldUseSingleAggregateQuery() {
+
+        // given
+        ReflectionTestUtils.setField(brandService, "readMode", "database");
+        when(brandRepository.findLowestPricesForAllCategories()).thenReturn(List.of(
+                new BrandCategoryPriceDto(1L, "A", Category.TOP, 10000),
+                new BrandCategoryPriceDto(3L, "C", Category.TOP, 10000),
+                new BrandCategoryPriceDto(2L, "B", Category.BAG, 2000)));
+
+        // when
+        Map<Category, Map<String, Object>> result = brandService.getLowestPriceByCategory();
+
+        // then
+        assertEquals(2, result.size(), "상품이 있는 카테고리만 포함되어야 합니다");
+        assertEquals("A,C", result.get(Category.TOP).get("brand"));
+        assertEquals(10000, result.get(Category.TOP).get("price"));
+        assertEquals("B", result.get(Category.BAG).get("brand"));
+        verify(brandRepository, times(1)).findLowestPricesForAllCategories();
+        verify(brandRepository, never()).findLowestPricesByCategory(any(Category.class));
+        verify(brandRepository, never()).findAllWithPrices();
 
     }
 
@@ -345,7 +546,7 @@ public class BrandServiceTest {
     void getLowestTotalPriceBrand_ShouldReturnBrandWithLowestTotalPrice() {
 
         // given
-        when(brandRepository.findAll()).thenReturn(allBrands);
+        when(brandRepository.findAllWithPrices()).thenReturn(allBrands);
 
         // when
         Map<String, Object> result = brandService.getLowestTotalPriceBrand();
@@ -372,7 +573,7 @@ public class BrandServiceTest {
             assertTrue(category.containsKey("가격"), "카테고리 맵에 '가격' 키가 있어야 합니다");
         }
 
-        verify(brandRepository, times(1)).findAll();
+        verify(brandRepository, times(1)).findAllWithPrices();
 
     }
 
@@ -389,7 +590,7 @@ public class BrandServiceTest {
         // 브랜드 A의 총액: 11200 + 5500 + 4200 + 9000 + 2000 + 1700 + 1800 + 2300 = 37700
         // 브랜드 B의 총액: 10500 + 5900 + 3800 + 9100 + 2100 + 2000 + 2000 + 2200 = 37600
         // 브랜드 C의 총액: 10000 + 6200 + 3300 + 9200 + 2200 + 1900 + 2200 + 2100 = 37100 (최저가)
-        when(brandRepository.findAll()).thenReturn(allBrands);
+        when(brandRepository.findAllWithPrices()).thenReturn(allBrands);
 
         // when
         Map<String, Object> result = brandService.getLowestTotalPriceBrand();
@@ -403,7 +604,66 @@ public class BrandServiceTest {
         int totalPrice = Integer.parseInt(totalPriceStr.replace(",", ""));
         assertEquals(37100, totalPrice, "최저 총액은 37,100이어야 합니다");
 
-        verify(brandRepository, times(1)).findAll();
+        verify(brandRepository, times(1)).findAllWithPrices();
+
+    }
+
+    /**
+     * API 2: 총액이 같은 브랜드가 여러 개인 경우와 가격 업데이트 반영 검증
+     * 동일 총액이면 브랜드 ID가 작은 브랜드를 선택하고, 가격 업데이트가 재조회 없이 반영되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 2: 동일 총액 브랜드 처리 및 가격 업데이트 반영")
+    void getLowestTotalPriceBrand_ShouldBreakTiesByIdAndReflectUpdates() {
+
+        // given: 브랜드 C와 총액이 같은 브랜드 D (ID가 더 큼)
+        Brand brandD = createBrand(4L, "D", 10000, 6200, 3300, 9200, 2200, 1900, 2200, 2100);
+        when(brandRepository.findAllWithPrices()).thenReturn(Arrays.asList(brandD, brandA, brandB, brandC));
+
+        // when & then: 총액이 같으면 ID가 작은 C가 선택되어야 함
+        Map<String, Object> lowestPrice = (Map<String, Object>) brandService.getLowestTotalPriceBrand().get("최저가");
+        assertEquals("C", lowestPrice.get("브랜드"), "동일 총액인 경우 ID가 작은 브랜드 C가 선택되어야 합니다");
+
+        // when: 브랜드 D의 TOP 가격을 낮춤 (총액 37,000)
+        when(brandRepository.findByName("D")).thenReturn(brandD);
+        when(brandRepository.save(any(Brand.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        brandService.updateBrandPrice("D", Category.TOP, 9900);
+
+        // then: 재조회 없이 D가 최저 총액 브랜드가 되어야 함
+        lowestPrice = (Map<String, Object>) brandService.getLowestTotalPriceBrand().get("최저가");
+        assertEquals("D", lowestPrice.get("브랜드"), "가격 업데이트 이후 최저 총액 브랜드는 D여야 합니다");
+        assertEquals("37,000", lowestPrice.get("총액"), "최저 총액은 37,000이어야 합니다");
+
+        verify(brandRepository, times(1)).findAllWithPrices();
+
+    }
+
+    /**
+     * API 2: 일부 카테고리 상품이 없는 브랜드 처리 검증
+     * 상품이 없는 카테고리는 총액에서 제외되고 가격이 null로 표시되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 2: 상품이 없는 카테고리 처리")
+    void getLowestTotalPriceBrand_ShouldReportMissingCategoryAsNull() {
+
+        // given: 가방 상품이 없는 브랜드 E (총액 5,000)
+        Brand brandE = createBrand(5L, "E", 1000, 1000, 500, 500, 0, 500, 500, 1000);
+        brandE.getPrices().remove(Category.BAG);
+        when(brandRepository.findAllWithPrices()).thenReturn(Arrays.asList(brandA, brandB, brandC, brandE));
+
+        // when
+        Map<String, Object> lowestPrice = (Map<String, Object>) brandService.getLowestTotalPriceBrand().get("최저가");
+
+        // then
+        assertEquals("E", lowestPrice.get("브랜드"), "최저 총액 브랜드는 E여야 합니다");
+        assertEquals("5,000", lowestPrice.get("총액"), "상품이 없는 카테고리는 총액에서 제외되어야 합니다");
+
+        List<Map<String, String>> categories = (List<Map<String, String>>) lowestPrice.get("카테고리");
+        Map<String, String> bag = categories.stream()
+                .filter(category -> Category.BAG.getDisplayName().equals(category.get("카테고리")))
+                .findFirst()
+                .orElseThrow();
+        assertNull(bag.get("가격"), "상품이 없는 카테고리의 가격은 null이어야 합니다");
 
     }
 
@@ -416,12 +676,8 @@ public class BrandServiceTest {
     @DisplayName("API 3: 카테고리별 최저/최고 가격 브랜드 조회")
     void getMinMaxPriceByCategory_ShouldReturnMinAndMaxPriceForCategory() {
 
-        // given
-        when(brandRepository.findAllByCategoryOrderByPriceAsc(Category.TOP))
-                .thenReturn(Arrays.asList(brandC, brandB, brandA)); // 최저가: C
-
-        when(brandRepository.findAllByCategoryOrderByPriceDesc(Category.TOP))
-                .thenReturn(Arrays.asList(brandA, brandB, brandC)); // 최고가: A
+        // given: 최저가 C, 최고가 A
+        when(brandRepository.findAllWithPrices()).thenReturn(allBrands);
 
         // when
         Map<String, Object> result = brandService.getMinMaxPriceByCategory(Category.TOP);
@@ -452,8 +708,10 @@ public class BrandServiceTest {
         int maxPriceValue = Integer.parseInt(maxPriceStr);
         assertEquals(11200, maxPriceValue, "최고가는 11,200이어야 합니다");
 
-        verify(brandRepository, times(1)).findAllByCategoryOrderByPriceAsc(Category.TOP);
-        verify(brandRepository, times(1)).findAllByCategoryOrderByPriceDesc(Category.TOP);
+        // 정렬 쿼리 없이 인덱스 적재를 위한 전체 조회만 한 번 수행되어야 함
+        verify(brandRepository, times(1)).findAllWithPrices();
+        verify(brandRepository, never()).findAllByCategoryOrderByPriceAsc(any(Category.class));
+        verify(brandRepository, never()).findAllByCategoryOrderByPriceDesc(any(Category.class));
 
     }
 
@@ -469,14 +727,11 @@ public class BrandServiceTest {
         // 최저가가 동일한 브랜드 (B와 C)
         Brand brandB_copy = createBrand(2L, "B", 10000, 5900, 3800, 9100, 2100, 2000, 2000, 2200);
         Brand brandC_copy = createBrand(3L, "C", 10000, 6200, 3300, 9200, 2200, 1900, 2200, 2100);
-        when(brandRepository.findAllByCategoryOrderByPriceAsc(Category.TOP))
-                .thenReturn(Arrays.asList(brandB_copy, brandC_copy, brandA));
 
         // 최고가가 동일한 브랜드 (A와 또 다른 브랜드 D)
-        Brand brandA_copy = createBrand(1L, "A", 11200, 5500, 4200, 9000, 2000, 1700, 1800, 2300);
         Brand brandD = createBrand(4L, "D", 11200, 5100, 3000, 9500, 2500, 1500, 2400, 2000);
-        when(brandRepository.findAllByCategoryOrderByPriceDesc(Category.TOP))
-                .thenReturn(Arrays.asList(brandA_copy, brandD, brandB_copy));
+        when(brandRepository.findAllWithPrices())
+                .thenReturn(Arrays.asList(brandA, brandB_copy, brandC_copy, brandD));
 
         // when
         Map<String, Object> result = brandService.getMinMaxPriceByCategory(Category.TOP);
@@ -504,6 +759,70 @@ public class BrandServiceTest {
 
     }
 
+    /**
+     * API 2: 데이터베이스 조회 모드에서 총액 집계 쿼리로 최저 총액 브랜드를 찾고 해당 브랜드만 조회하는지 검증
+     * 동점 브랜드 중에서는 ID가 가장 작은 브랜드를 선택해야 합니다.
+     */
+    @Test
+    @DisplayName("API 2: 데이터베이스 조회 모드 (총액 집계 쿼리)")
+    void getLowestTotalPriceBrand_InDatabaseReadMode_ShouldLoadOnlyWinningBrand() {
+
+        // given: 총액이 같은 브랜드 ID 5, 4
+        ReflectionTestUtils.setField(brandService, "readMode", "database");
+        Brand brand = new Brand();
+        brand.setId(4L);
+        brand.setName("D");
+        brand.getPrices().put(Category.TOP, 10100);
+        brand.getPrices().put(Category.BAG, 2500);
+        when(brandRepository.findLowestTotalPriceBrandIds()).thenReturn(List.of(5L, 4L));
+        when(brandRepository.findById(4L)).thenReturn(Optional.of(brand));
+
+        // when
+        Map<String, Object> result = brandService.getLowestTotalPriceBrand();
+
+        // then
+        Map<String, Object> lowest = (Map<String, Object>) result.get("최저가");
+        assertEquals("D", lowest.get("브랜드"));
+        assertEquals("12,600", lowest.get("총액"));
+        verify(brandRepository, times(1)).findById(4L);
+        verify(brandRepository, never()).findById(5L);
+        verify(brandRepository, never()).findAllWithPrices();
+
+    }
+
+    /**
+     * API 3: 데이터베이스 조회 모드에서 최저가/최고가 쿼리로 결과를 계산하는지 검증
+     * 스레드 풀이 없으면 두 쿼리를 요청 스레드에서 순서대로 실행하며, 같은 가격의 브랜드는 ID 순으로 정렬합니다.
+     */
+    @Test
+    @DisplayName("API 3: 데이터베이스 조회 모드 (최저가/최고가 쿼리)")
+    void getMinMaxPriceByCategory_InDatabaseReadMode_ShouldQueryLowestAndHighest() {
+
+        // given
+        ReflectionTestUtils.setField(brandService, "readMode", "database");
+        when(brandRepository.findLowestPricesByCategory(Category.TOP)).thenReturn(List.of(
+                new BrandCategoryPriceDto(7L, "G", Category.TOP, 10000),
+                new BrandCategoryPriceDto(3L, "C", Category.TOP, 10000)));
+        when(brandRepository.findHighestPricesByCategory(Category.TOP)).thenReturn(List.of(
+                new BrandCategoryPriceDto(9L, "I", Category.TOP, 11400)));
+
+        // when
+        Map<String, Object> result = brandService.getMinMaxPriceByCategory(Category.TOP);
+
+        // then
+        assertEquals("상의", result.get("카테고리"));
+        List<Map<String, String>> lowest = (List<Map<String, String>>) result.get("최저가");
+        List<Map<String, String>> highest = (List<Map<String, String>>) result.get("최고가");
+        assertEquals(2, lowest.size());
+        assertEquals("C", lowest.get(0).get("브랜드"), "같은 최저가 브랜드는 ID 순이어야 합니다");
+        assertEquals("G", lowest.get(1).get("브랜드"));
+        assertEquals("10,000", lowest.get(0).get("가격"));
+        assertEquals("I", highest.get(0).get("브랜드"));
+        assertEquals("11,400", highest.get(0).get("가격"));
+        verify(brandRepository, never()).findAllWithPrices();
+
+    }
+
     /**
      * API 4: updateBrandPrice() 메서드 테스트 - 브랜드가 존재하는 경우
      * 브랜드 가격 업데이트 기능이 올바르게 작동하는지 검증합니다.
@@ -557,6 +876,127 @@ public class BrandServiceTest {
 
     }
 
+    /**
+     * API 4: updateBrandPrices() 메서드 테스트
+     * 여러 브랜드의 가격을 한 번의 브랜드 조회로 업데이트하고 항목별 결과를 반환하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("API 4: 브랜드 가격 일괄 업데이트")
+    void updateBrandPrices_ShouldUpdateAllBrandsWithSingleLookup() {
+
+        // given: 인덱스 적재 및 일괄 조회 모킹
+        when(brandRepository.findAllWithPrices()).thenReturn(allBrands);
+        brandService.getLowestPriceByCategory();
+        when(brandRepository.findAllWithPricesByNameIn(anyCollection())).thenReturn(Arrays.asList(brandA, brandB));
+
+        List<BrandPriceUpdateDto> updates = Arrays.asList(
+                new BrandPriceUpdateDto("A", "상의", 9000),
+                new BrandPriceUpdateDto("B", "바지", 3000),
+                new BrandPriceUpdateDto("Z", "상의", 1000),
+                new BrandPriceUpdateDto("A", "존재하지않는카테고리", 1000),
+                new BrandPriceUpdateDto("B", "바지", 2900)); // 같은 브랜드/카테고리는 마지막 요청이 적용
+
+        // when
+        List<BrandPriceUpdateResultDto> results = brandService.updateBrandPrices(updates);
+
+        // then: 항목별 결과 검증
+        List<String> statuses = results.stream().map(BrandPriceUpdateResultDto::getStatus).collect(Collectors.toList());
+        assertEquals(Arrays.asList("success", "success", "error", "error", "success"), statuses,
+                "항목별 처리 상태가 요청 순서대로 반환되어야 합니다");
+
+        // 가격이 엔티티와 인덱스에 모두 반영되어야 함
+        assertEquals(9000, brandA.getPrices().get(Category.TOP), "A의 TOP 가격이 9,000이어야 합니다");
+        assertEquals(2900, brandB.getPrices().get(Category.PANTS), "B의 PANTS 가격이 2,900이어야 합니다");
+        assertEquals("A", brandService.getLowestPriceByCategory().get(Category.TOP).get("brand"),
+                "TOP 카테고리의 최저가 브랜드는 A여야 합니다");
+        assertEquals("B", brandService.getLowestPriceByCategory().get(Category.PANTS).get("brand"),
+                "PANTS 카테고리의 최저가 브랜드는 B여야 합니다");
+
+        // 브랜드는 한 번의 쿼리로 조회하고, 개별 조회는 하지 않아야 함
+        verify(brandRepository, times(1)).findAllWithPricesByNameIn(anyCollection());
+        verify(brandRepository, never()).findByName(anyString());
+
+    }
+
+    /**
+     * 지연 기록 모드: updateBrandPrice() 메서드 테스트 - 지연 기록 버퍼가 가득 찬 경우
+     * 버퍼가 가득 차서 가격 변경 요청이 직접 기록하는 동안에도, 다른 브랜드의 가격 변경은 그 기록을 기다리지 않아야 합니다.
+     */
+    @Test
+    @DisplayName("지연 기록 버퍼가 가득 차 기록하는 동안 다른 브랜드의 가격 변경은 기다리지 않음")
+    void updateBrandPrice_ShouldNotBlockOtherBrandsWhileFullBufferFlushes() throws Exception {
+
+        // given: 인덱스 적재, 첫 기록이 멈추는 지연 기록 버퍼 (최대 2개, 묶음 크기 2)
+        when(brandRepository.findAllWithPrices()).thenReturn(allBrands);
+        brandService.getLowestPriceByCategory();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PriceWriteBehindBuffer buffer = new PriceWriteBehindBuffer(prices -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, TimeUnit.HOURS.toMillis(1), 2, 2);
+        ReflectionTestUtils.setField(brandService, "priceWriteBehind", buffer);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // 묶음 크기에 도달하여 시작된 백그라운드 기록이 멈춘 동안 버퍼가 다시 가득 참
+            brandService.updateBrandPrice("A", Category.TOP, 9000);
+            brandService.updateBrandPrice("B", Category.TOP, 9100);
+            assertTrue(writing.await(5, TimeUnit.SECONDS), "백그라운드 기록이 시작되어야 합니다");
+            brandService.updateBrandPrice("A", Category.OUTER, 5000);
+            brandService.updateBrandPrice("B", Category.OUTER, 5100);
+
+            // when: 브랜드 A의 새 상품 변경은 가득 찬 버퍼를 직접 기록하느라 기다림
+            Future<Brand> fullBufferUpdate = executor.submit(() -> brandService.updateBrandPrice("A", Category.PANTS, 3000));
+            assertThrows(TimeoutException.class, () -> fullBufferUpdate.get(200, TimeUnit.MILLISECONDS),
+                    "진행 중인 기록이 끝날 때까지 기다려야 합니다");
+
+            // then: 그동안 브랜드 B의 가격 변경은 바로 반영됨
+            Future<Brand> otherBrandUpdate = executor.submit(() -> brandService.updateBrandPrice("B", Category.OUTER, 4900));
+            assertEquals(4900, otherBrandUpdate.get(5, TimeUnit.SECONDS).getPrices().get(Category.OUTER),
+                    "다른 브랜드의 가격 변경은 기록을 기다리지 않아야 합니다");
+            assertEquals("B", brandService.getLowestPriceByCategory().get(Category.OUTER).get("brand"));
+
+            // when: 기록이 끝나면 기다리던 변경도 반영됨
+            release.countDown();
+            assertEquals(3000, fullBufferUpdate.get(5, TimeUnit.SECONDS).getPrices().get(Category.PANTS));
+            assertEquals("A", brandService.getLowestPriceByCategory().get(Category.PANTS).get("brand"));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+            buffer.close();
+        }
+
+    }
+
+    /**
+     * saveBrand() 메서드 테스트 - 이름이 비어 있는 경우
+     * 이름이 없거나 공백인 브랜드는 저장하지 않고 IllegalArgumentException이 발생해야 합니다.
+     * 저장된 뒤에 인덱스 반영에서 실패하면 데이터베이스와 메모리 카탈로그가 달라지므로 저장 전에 거부합니다.
+     */
+    @Test
+    @DisplayName("이름이 비어 있는 브랜드 저장 거부")
+    void saveBrand_ShouldRejectBlankName() {
+
+        // given
+        Brand unnamed = createBrand(null, null, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000);
+        Brand blank = createBrand(null, "  ", 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> brandService.saveBrand(unnamed));
+        assertThrows(IllegalArgumentException.class, () -> brandService.saveBrand(blank));
+        assertThrows(IllegalArgumentException.class, () -> brandService.saveBrands(List.of(brandA, blank)),
+                "이름이 비어 있는 브랜드가 포함된 배치는 저장하지 않아야 합니다");
+
+        verify(brandRepository, never()).save(any(Brand.class));
+        verify(brandRepository, never()).saveAll(anyCollection());
+
+    }
+
     /**
      * initializeBrands() 메서드 테스트 - 브랜드가 없는 경우
      * 데이터베이스에 브랜드가 없을 때 초기 브랜드 데이터가 정상적으로 생성되는지 검증합니다.
@@ -0,0 +1,139 @@
+package org.example.service;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 클래스 설명 : CatalogGenerator 클래스의 단위 테스트
+ * 같은 시드의 재현성, 가격 범위와 단위, 동점 비율, 상품 없는 카테고리 비율, 배치 단위 적재를 검증합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class CatalogGeneratorTest {
+
+    /**
+     * 같은 설정이면 순번마다 항상 같은 브랜드를 생성하고, 시드가 다르면 다른 가격을 생성하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("같은 시드와 순번은 같은 브랜드를 생성")
+    void generate_ShouldBeDeterministicPerSeedAndIndex() {
+
+        // given
+        CatalogGenerator generator = new CatalogGenerator(CatalogGenerator.Settings.builder().brandCount(100).build());
+        CatalogGenerator sameSeed = new CatalogGenerator(CatalogGenerator.Settings.builder().brandCount(100).build());
+        CatalogGenerator otherSeed = new CatalogGenerator(CatalogGenerator.Settings.builder().brandCount(100).seed(1L).build());
+
+        // when
+        List<Brand> brands = generator.brands().collect(Collectors.toList());
+
+        // then: 순서와 관계없이 순번만으로 같은 브랜드가 생성되어야 함
+        assertEquals(100, brands.size());
+        assertEquals("GEN-0000042", brands.get(42).getName());
+        assertEquals(brands.get(42).getPrices(), sameSeed.generate(42).getPrices(), "같은 시드와 순번은 같은 가격이어야 합니다");
+        assertEquals(brands.get(42).getPrices(), generator.generate(42).getPrices(), "다시 생성해도 같은 가격이어야 합니다");
+        assertNotEquals(brands.get(42).getPrices(), otherSeed.generate(42).getPrices(), "시드가 다르면 다른 가격이어야 합니다");
+
+    }
+
+    /**
+     * 모든 가격이 설정된 범위 안에 있고 가격 단위의 배수인지 검증합니다.
+     */
+    @Test
+    @DisplayName("가격은 범위 안에 있고 가격 단위의 배수")
+    void generate_ShouldKeepPricesWithinRangeAndStep() {
+
+        for (CatalogGenerator.PriceDistribution distribution : CatalogGenerator.PriceDistribution.values()) {
+            // given
+            CatalogGenerator generator = new CatalogGenerator(CatalogGenerator.Settings.builder()
+                    .brandCount(1000)
+                    .distribution(distribution)
+                    .minPrice(1050)
+                    .maxPrice(50000)
+                    .priceStep(100)
+                    .build());
+
+            // when & then
+            generator.brands().forEach(brand -> {
+                assertEquals(Category.values().length, brand.getPrices().size(), "기본 설정은 모든 카테고리에 상품이 있어야 합니다");
+                brand.getPrices().values().forEach(price -> {
+                    assertTrue(price >= 1100 && price <= 50000, distribution + " 가격이 범위를 벗어났습니다: " + price);
+                    assertEquals(0, price % 100, distribution + " 가격이 단위의 배수가 아닙니다: " + price);
+                });
+            });
+        }
+
+    }
+
+    /**
+     * 동점 비율이 1이면 카테고리별 가격이 공용 가격 개수 이하로 모이고,
+     * 상품 없는 카테고리 비율이 1이면 모든 카테고리가 비어 있는지 검증합니다.
+     */
+    @Test
+    @DisplayName("동점 비율과 상품 없는 카테고리 비율 반영")
+    void generate_ShouldApplyTieAndMissingRates() {
+
+        // given
+        CatalogGenerator allTies = new CatalogGenerator(CatalogGenerator.Settings.builder()
+                .brandCount(500).tieRate(1.0).tiePoolSize(3).build());
+        CatalogGenerator allMissing = new CatalogGenerator(CatalogGenerator.Settings.builder()
+                .brandCount(10).missingRate(1.0).build());
+
+        // when
+        Set<Integer> topPrices = new HashSet<>();
+        allTies.brands().forEach(brand -> topPrices.add(brand.getPrices().get(Category.TOP)));
+
+        // then
+        assertTrue(topPrices.size() <= 3, "동점 비율이 1이면 공용 가격만 사용해야 합니다: " + topPrices);
+        allMissing.brands().forEach(brand -> assertTrue(brand.getPrices().isEmpty(), "모든 카테고리가 비어 있어야 합니다"));
+
+    }
+
+    /**
+     * 잘못된 가격 범위는 생성 전에 거부되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("잘못된 가격 범위 거부")
+    void constructor_ShouldRejectInvalidPriceRange() {
+
+        CatalogGenerator.Settings settings = CatalogGenerator.Settings.builder()
+                .minPrice(1010).maxPrice(1090).priceStep(100).build();
+
+        assertThrows(IllegalArgumentException.class, () -> new CatalogGenerator(settings));
+
+    }
+
+    /**
+     * 설정된 배치 크기 단위로 BrandService.saveBrands를 호출하여 전체 브랜드를 적재하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("배치 단위 적재")
+    void loadInto_ShouldSaveInBatches() {
+
+        // given
+        BrandService brandService = mock(BrandService.class);
+        when(brandService.saveBrands(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        CatalogGenerator generator = new CatalogGenerator(CatalogGenerator.Settings.builder()
+                .brandCount(2500).batchSize(1000).build());
+
+        // when
+        long saved = generator.loadInto(brandService);
+
+        // then: 1000, 1000, 500개씩 세 번 저장
+        assertEquals(2500, saved);
+        verify(brandService, times(2)).saveBrands(argThat(batch -> batch.size() == 1000));
+        verify(brandService, times(1)).saveBrands(argThat(batch -> batch.size() == 500));
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.example.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : CatalogResponseCache 클래스의 단위 테스트
+ * 카탈로그 버전에 따른 캐시 적중, 무효화, 계산 도중 변경된 결과의 저장 방지를 검증합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class CatalogResponseCacheTest {
+
+    /**
+     * 같은 버전에서는 결과를 한 번만 계산하고, 버전이 바뀌면 다시 계산하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("같은 버전은 캐시 적중, 버전 변경 시 재계산")
+    void get_ShouldRecomputeOnlyWhenVersionChanges() {
+
+        // given
+        AtomicLong version = new AtomicLong(1);
+        AtomicInteger loads = new AtomicInteger();
+        CatalogResponseCache cache = new CatalogResponseCache(version::get);
+
+        // when & then
+        assertEquals(1, cache.get("key", loads::incrementAndGet));
+        assertEquals(1, cache.get("key", loads::incrementAndGet), "같은 버전에서는 캐시된 결과를 반환해야 합니다");
+
+        version.incrementAndGet();
+        assertEquals(2, cache.get("key", loads::incrementAndGet), "버전이 바뀌면 다시 계산해야 합니다");
+        assertEquals(2, loads.get(), "결과는 버전마다 한 번만 계산되어야 합니다");
+
+    }
+
+    /**
+     * 계산 도중 카탈로그 버전이 바뀐 결과는 저장되지 않는지 검증합니다.
+     */
+    @Test
+    @DisplayName("계산 도중 버전이 바뀐 결과는 저장하지 않음")
+    void get_ShouldNotPublishResultComputedAcrossVersionChange() {
+
+        // given
+        AtomicLong version = new AtomicLong(1);
+        CatalogResponseCache cache = new CatalogResponseCache(version::get);
+
+        // when: 계산 도중 쓰기가 반영되어 버전이 증가
+        String stale = cache.get("key", () -> {
+            version.incrementAndGet();
+            return "stale";
+        });
+
+        // then: 호출자에게는 결과를 반환하지만 캐시에는 저장하지 않아야 함
+        assertEquals("stale", stale);
+        assertEquals("fresh", cache.get("key", () -> "fresh"), "계산 도중 버전이 바뀐 결과는 캐시되지 않아야 합니다");
+        assertEquals("fresh", cache.get("key", () -> "other"), "새 버전의 결과는 캐시되어야 합니다");
+
+    }
+
+}
@@ -0,0 +1,163 @@
+package org.example.service;
+
+import org.example.model.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : CatalogSnapshotFile 클래스의 단위 테스트
+ * 저장한 카탈로그가 그대로 읽히는지(삭제된 행 제외), 읽은 내용으로 인덱스를 복원하면 카탈로그 버전이 이어지는지,
+ * 손상된 파일은 거부되는지, 헤더의 카탈로그 지문이 가격이 바뀐 카탈로그를 구분하는지 검증합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class CatalogSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * 저장한 브랜드 ID, 이름, 가격(상품이 없는 카테고리 포함)이 같은 순서로 읽히고, 삭제된 행은 저장되지 않아야 합니다.
+     */
+    @Test
+    @DisplayName("저장한 카탈로그를 같은 내용으로 읽음")
+    void read_ShouldReturnWrittenEntries() {
+
+        // given: 브랜드 3개 중 하나를 삭제한 카탈로그 (한글 이름, 상품이 없는 카테고리 포함)
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        CategoryPriceIndex.Entry first = entry(1L, "무신사 스탠다드", 1000);
+        CategoryPriceIndex.Entry deleted = entry(2L, "B", 2000);
+        int[] prices = entry(3L, "C", 3000).prices().clone();
+        prices[Category.HAT.ordinal()] = CategoryPriceIndex.Entry.NO_PRICE;
+        CategoryPriceIndex.Entry third = new CategoryPriceIndex.Entry(3L, "C", prices, 3000 * (prices.length - 1));
+        editor.append(first);
+        int row = editor.append(deleted);
+        editor.append(third);
+        editor.remove(row);
+        Path path = directory.resolve("catalog.snapshot");
+
+        // when
+        CatalogSnapshotFile.write(path, 42, editor.build());
+        CatalogSnapshotFile.Contents contents = CatalogSnapshotFile.read(path);
+
+        // then
+        assertEquals(42, contents.catalogVersion());
+        assertEquals(2, contents.brandCount());
+        List<CategoryPriceIndex.Entry> entries = new ArrayList<>();
+        contents.forEach(entries::add);
+        assertEquals(2, entries.size());
+        assertEntry(first, entries.get(0));
+        assertEntry(third, entries.get(1));
+
+    }
+
+    /**
+     * 스냅샷으로 복원한 인덱스는 조회 결과가 같고, 카탈로그 버전이 스냅샷의 버전보다 커야 합니다.
+     */
+    @Test
+    @DisplayName("스냅샷으로 인덱스 복원 시 카탈로그 버전 유지")
+    void restore_ShouldContinueCatalogVersion() {
+
+        // given
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        editor.append(entry(1L, "A", 1000));
+        editor.append(entry(2L, "B", 900));
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(path, 1000, editor.build());
+
+        // when
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        CatalogSnapshotFile.Contents contents = CatalogSnapshotFile.read(path);
+        boolean restored = index.restore(contents, contents.catalogVersion(), index.getVersion());
+
+        // then: 복원된 인덱스로 조회와 이름 기준 가격 변경이 동작
+        assertTrue(restored);
+        assertTrue(index.getVersion() > 1000, "재시작 전에 발급된 버전(ETag)이 다시 쓰이지 않아야 합니다");
+        assertEquals(List.of("B"), index.lowest(Category.TOP).brandNames());
+        assertEquals(contents.fingerprint(), CatalogFingerprint.of(index.snapshot().matrix()));
+        assertNotNull(index.updatePrice("A", Category.TOP, 800));
+        assertEquals(List.of("A"), index.lowest(Category.TOP).brandNames());
+
+    }
+
+    /**
+     * 본문이 손상된 파일은 읽지 않아야 하고, 파일이 없으면 null을 반환해야 합니다.
+     */
+    @Test
+    @DisplayName("손상된 파일은 거부하고, 없는 파일은 null")
+    void read_ShouldRejectCorruptedFile() throws Exception {
+
+        // given: 저장된 파일의 마지막 바이트를 변경
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        editor.append(entry(1L, "A", 1000));
+        Path path = directory.resolve("catalog.snapshot");
+        long size = CatalogSnapshotFile.write(path, 1, editor.build());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'Z'}), size - 1);
+        }
+
+        // when & then
+        assertThrows(UncheckedIOException.class, () -> CatalogSnapshotFile.read(path));
+        assertNull(CatalogSnapshotFile.read(directory.resolve("missing.snapshot")));
+
+    }
+
+    /**
+     * 헤더의 지문은 저장한 카탈로그와 같고, 가격 하나가 바뀌거나 두 브랜드의 가격이 서로 바뀐 카탈로그와는 달라야 합니다.
+     */
+    @Test
+    @DisplayName("헤더의 카탈로그 지문으로 가격이 다른 카탈로그 구분")
+    void fingerprint_ShouldDistinguishChangedPrices() {
+
+        // given
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        editor.append(entry(1L, "A", 1000));
+        editor.append(entry(2L, "B", 900));
+        PriceMatrix matrix = editor.build();
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(path, 1, matrix);
+
+        PriceMatrix.Editor changed = matrix.edit();
+        changed.set(0, entry(1L, "A", 1100));
+        PriceMatrix.Editor swapped = matrix.edit();
+        swapped.set(0, entry(1L, "A", 900));
+        swapped.set(1, entry(2L, "B", 1000));
+
+        // when
+        CatalogFingerprint fingerprint = CatalogSnapshotFile.read(path).fingerprint();
+
+        // then
+        assertEquals(CatalogFingerprint.of(matrix), fingerprint);
+        assertEquals(2, fingerprint.brandCount());
+        assertNotEquals(CatalogFingerprint.of(changed.build()), fingerprint);
+        assertNotEquals(CatalogFingerprint.of(swapped.build()), fingerprint);
+
+    }
+
+    // 모든 카테고리 가격이 같은 인덱스 항목
+    private static CategoryPriceIndex.Entry entry(Long id, String name, int price) {
+        int[] prices = new int[Category.values().length];
+        Arrays.fill(prices, price);
+        return new CategoryPriceIndex.Entry(id, name, prices, price * prices.length);
+    }
+
+    private static void assertEntry(CategoryPriceIndex.Entry expected, CategoryPriceIndex.Entry actual) {
+        assertEquals(expected.id(), actual.id());
+        assertEquals(expected.name(), actual.name());
+        assertArrayEquals(expected.prices(), actual.prices());
+        assertEquals(expected.totalPrice(), actual.totalPrice());
+    }
+
+}
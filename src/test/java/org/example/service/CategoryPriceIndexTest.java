@@ -0,0 +1,167 @@
+package org.example.service;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : CategoryPriceIndex 클래스의 단위 테스트
+ * 스냅샷 게시 방식(쓰기는 다음 버전을 만들어 교체, 조회는 한 스냅샷을 계속 사용)과 적재 중 변경 감지를 검증합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class CategoryPriceIndexTest {
+
+    /**
+     * 쓰기가 반영되어도 이미 가져온 스냅샷은 바뀌지 않고, 새 스냅샷에만 다음 버전으로 반영되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("쓰기 반영 시 기존 스냅샷 유지 및 새 버전 게시")
+    void put_ShouldPublishNewSnapshotWithoutChangingPreviousOne() {
+
+        // given
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.load(List.of(brand(1L, "A", 1000), brand(2L, "B", 2000)), index.getVersion());
+        CategoryPriceIndex.Snapshot before = index.snapshot();
+
+        // when: B의 상의 가격을 가장 싸게 변경
+        index.put(CategoryPriceIndex.Entry.of(brand(2L, "B", 500)));
+        CategoryPriceIndex.Snapshot after = index.snapshot();
+
+        // then
+        assertEquals(List.of("A"), before.lowest(Category.TOP).brandNames(), "이미 가져온 스냅샷은 바뀌지 않아야 합니다");
+        assertEquals(List.of("B"), after.lowest(Category.TOP).brandNames(), "새 스냅샷에는 변경이 반영되어야 합니다");
+        assertEquals(before.version() + 1, after.version(), "쓰기마다 버전이 하나 증가해야 합니다");
+        assertEquals("B", after.lowestTotal().name());
+
+    }
+
+    /**
+     * 적재를 위해 목록을 조회하는 동안 쓰기가 반영되면 오래된 목록으로 적재하지 않는지 검증합니다.
+     */
+    @Test
+    @DisplayName("적재 도중 변경된 경우 적재 거부")
+    void load_ShouldRejectStaleBrandList() {
+
+        // given: 적재 전 버전을 기록한 뒤 다른 쓰기가 반영됨
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        long version = index.getVersion();
+        index.remove(1L);
+
+        // when
+        boolean loaded = index.load(List.of(brand(1L, "A", 1000)), version);
+
+        // then
+        assertFalse(loaded, "조회 도중 변경이 있었다면 적재하지 않아야 합니다");
+        assertFalse(index.snapshot().loaded());
+        assertTrue(index.load(List.of(brand(1L, "A", 1000)), index.getVersion()), "최신 버전으로는 적재되어야 합니다");
+        assertTrue(index.snapshot().loaded());
+
+    }
+
+    /**
+     * 삭제된 브랜드는 조회 결과에서 제외되고, 삭제 후 같은 ID로 다시 추가할 수 있는지 검증합니다.
+     */
+    @Test
+    @DisplayName("브랜드 삭제 및 재추가")
+    void remove_ShouldExcludeBrandFromSnapshot() {
+
+        // given
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.load(List.of(brand(1L, "A", 1000), brand(2L, "B", 2000)), index.getVersion());
+
+        // when
+        index.remove(1L);
+
+        // then
+        assertEquals(List.of("B"), index.lowest(Category.TOP).brandNames(), "삭제된 브랜드는 제외되어야 합니다");
+        assertEquals(1, index.snapshot().matrix().liveCount());
+
+        // when: 같은 ID로 다시 추가
+        index.put(CategoryPriceIndex.Entry.of(brand(1L, "A", 1000)));
+
+        // then
+        assertEquals(List.of("A"), index.lowest(Category.TOP).brandNames());
+        assertEquals(2, index.snapshot().matrix().liveCount());
+
+    }
+
+    /**
+     * 이름으로 한 카테고리 가격만 변경하면 총액도 함께 바뀌고, 이름이 바뀌거나 삭제된 브랜드는 이전 이름으로 찾지 않는지 검증합니다.
+     */
+    @Test
+    @DisplayName("이름으로 한 카테고리 가격 변경")
+    void updatePrice_ShouldChangeOneCategoryByName() {
+
+        // given
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.load(List.of(brand(1L, "A", 1000), brand(2L, "B", 2000)), index.getVersion());
+        long version = index.getVersion();
+
+        // when
+        CategoryPriceIndex.Entry updated = index.updatePrice("B", Category.OUTER, 500);
+
+        // then
+        assertEquals(2L, updated.id());
+        assertEquals(500, updated.price(Category.OUTER));
+        assertEquals(2500, updated.totalPrice(), "총액에 새 카테고리 가격이 더해져야 합니다");
+        assertEquals(version + 1, index.getVersion());
+        assertEquals(List.of("B"), index.lowest(Category.OUTER).brandNames());
+
+        // when: 브랜드 A의 이름 변경, 브랜드 B 삭제
+        index.put(CategoryPriceIndex.Entry.of(brand(1L, "A2", 1000)));
+        index.remove(2L);
+
+        // then
+        assertNull(index.updatePrice("A", Category.TOP, 10), "이전 이름으로는 찾지 않아야 합니다");
+        assertNull(index.updatePrice("B", Category.TOP, 10), "삭제된 브랜드는 찾지 않아야 합니다");
+        assertEquals(10, index.updatePrice("A2", Category.TOP, 10).totalPrice());
+
+    }
+
+    /**
+     * 커밋 이후 반영이 커밋 순서와 다르게 실행되어 오래된 엔티티 버전이 나중에 들어와도 최신 가격을 덮어쓰지 않는지 검증합니다.
+     */
+    @Test
+    @DisplayName("엔티티 버전이 더 낮은 항목은 반영하지 않음")
+    void putAllWithVersions_ShouldIgnoreOlderEntityVersion() {
+
+        // given
+        CategoryPriceIndex index = new CategoryPriceIndex();
+        index.load(List.of(brand(1L, "A", 1000), brand(2L, "B", 2000)), index.getVersion());
+
+        // when: 버전 3이 먼저 반영된 뒤 버전 2가 반영됨
+        index.putAll(List.of(CategoryPriceIndex.Entry.of(brand(2L, "B", 500))), Map.of(2L, 3L));
+        long version = index.getVersion();
+        index.putAll(List.of(CategoryPriceIndex.Entry.of(brand(2L, "B", 700))), Map.of(2L, 2L));
+
+        // then
+        assertEquals(500, index.lowest(Category.TOP).price(), "오래된 버전의 가격으로 덮어쓰지 않아야 합니다");
+        assertEquals(version, index.getVersion(), "반영할 항목이 없으면 새 버전을 게시하지 않아야 합니다");
+
+        // when: 더 높은 버전과 버전 없는 항목은 반영됨
+        index.putAll(List.of(CategoryPriceIndex.Entry.of(brand(2L, "B", 400))), Map.of(2L, 4L));
+        index.put(CategoryPriceIndex.Entry.of(brand(1L, "A", 300)));
+
+        // then
+        assertEquals(List.of("A"), index.lowest(Category.TOP).brandNames());
+        assertEquals(400, index.highest(Category.TOP).price());
+
+    }
+
+    // 상의 가격만 있는 브랜드 생성
+    private Brand brand(Long id, String name, int top) {
+        Brand brand = new Brand();
+        brand.setId(id);
+        brand.setName(name);
+        brand.getPrices().put(Category.TOP, top);
+        return brand;
+    }
+
+}
@@ -0,0 +1,216 @@
+package org.example.service;
+
+import org.example.model.Category;
+import org.example.service.PriceChangeLog.Change;
+import org.example.service.PriceChangeLog.FsyncPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : PriceChangeLog 클래스의 단위 테스트
+ * 추가한 기록이 파일을 다시 열었을 때 같은 순서로 재적용되는지, 쓰는 도중 중단된 마지막 기록은 버려지는지,
+ * 동시에 확정을 기다리는 기록이 모두 확정되는지, 체크포인트(세그먼트 전환) 후 로그가 비워지고 중단된 체크포인트의 기록은 재적용되는지 검증합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class PriceChangeLogTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * 기록한 브랜드 저장, 삭제, 가격 변경이 파일을 다시 열었을 때 같은 내용과 순서로 읽혀야 합니다.
+     */
+    @Test
+    @DisplayName("추가한 기록을 다시 열어 순서대로 재적용")
+    void replay_ShouldReturnAppendedChangesInOrder() {
+
+        // given
+        Path path = directory.resolve("price-changes.log");
+        List<Change> changes = List.of(
+                Change.priceChanged(1L, Category.TOP, 9000),
+                Change.brandSaved(2L),
+                Change.priceChanged(2L, Category.HAT, 1500),
+                Change.brandDeleted(3L));
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.GROUP, 10)) {
+            log.awaitDurable(log.appendAll(changes));
+        }
+
+        // when
+        List<Change> replayed = new ArrayList<>();
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.GROUP, 10)) {
+            assertEquals(4, log.replay(replayed::add));
+
+            // 재적용 후 추가한 기록은 기존 기록 뒤에 이어짐
+            log.append(Change.priceChanged(1L, Category.TOP, 8000));
+        }
+
+        // then
+        assertEquals(changes, replayed);
+        List<Change> reopened = new ArrayList<>();
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.GROUP, 10)) {
+            log.replay(reopened::add);
+        }
+        assertEquals(5, reopened.size());
+        assertEquals(Change.priceChanged(1L, Category.TOP, 8000), reopened.get(4));
+
+    }
+
+    /**
+     * 쓰는 도중 중단되어 일부만 남은 마지막 기록은 버리고 파일에서 잘라내야 합니다.
+     */
+    @Test
+    @DisplayName("중단된 마지막 기록은 버리고 잘라냄")
+    void replay_ShouldDropTornLastRecord() throws Exception {
+
+        // given: 정상 기록 2건 뒤에 일부만 쓰인 기록
+        Path path = directory.resolve("price-changes.log");
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.ALWAYS, 10)) {
+            log.append(Change.priceChanged(1L, Category.TOP, 9000));
+            log.append(Change.priceChanged(2L, Category.TOP, 8000));
+        }
+        long validSize = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 14, 1, 2, 3}));
+        }
+
+        // when
+        List<Change> replayed = new ArrayList<>();
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.ALWAYS, 10)) {
+            log.replay(replayed::add);
+        }
+
+        // then
+        assertEquals(2, replayed.size());
+        assertEquals(validSize, Files.size(path), "손상된 기록은 파일에서 잘라내야 합니다");
+
+    }
+
+    /**
+     * 여러 스레드가 동시에 기록을 추가하고 확정을 기다려도 모든 기록이 빠짐없이 파일에 남아야 합니다.
+     */
+    @Test
+    @DisplayName("동시에 확정을 기다리는 기록 모두 확정 (group commit)")
+    void awaitDurable_ShouldPersistConcurrentAppends() throws Exception {
+
+        // given
+        Path path = directory.resolve("price-changes.log");
+        int threads = 8;
+        int perThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.GROUP, 10)) {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long brandId = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        log.awaitDurable(log.append(Change.priceChanged(brandId, Category.TOP, i)));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then: 브랜드마다 가격이 추가한 순서대로 남아 있어야 함
+        List<Change> replayed = new ArrayList<>();
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.GROUP, 10)) {
+            log.replay(replayed::add);
+        }
+        assertEquals(threads * perThread, replayed.size());
+        for (long brandId = 0; brandId < threads; brandId++) {
+            long id = brandId;
+            List<Integer> prices = replayed.stream().filter(change -> change.brandId() == id).map(Change::price).toList();
+            for (int i = 0; i < perThread; i++) {
+                assertEquals(i, prices.get(i));
+            }
+        }
+
+    }
+
+    /**
+     * 체크포인트(rotate, dropSealedSegment) 후에는 재적용할 기록이 없어야 하고, 전환 이후의 기록은 새 파일에 정상적으로 추가되어야 합니다.
+     */
+    @Test
+    @DisplayName("체크포인트 후 봉인된 세그먼트 삭제")
+    void rotateAndDrop_ShouldDiscardCheckpointedChanges() {
+
+        // given
+        Path path = directory.resolve("price-changes.log");
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.INTERVAL, 10)) {
+            log.append(Change.priceChanged(1L, Category.TOP, 9000));
+            long emptySize = log.size() - 22;
+
+            // when: 전환 후 새 기록을 추가하고 봉인된 세그먼트를 지움
+            log.rotate();
+            assertEquals(emptySize, log.size());
+            log.append(Change.priceChanged(2L, Category.BAG, 2000));
+            log.dropSealedSegment();
+        }
+
+        // then
+        List<Change> replayed = new ArrayList<>();
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.INTERVAL, 10)) {
+            log.replay(replayed::add);
+        }
+        assertEquals(List.of(Change.priceChanged(2L, Category.BAG, 2000)), replayed);
+
+    }
+
+    /**
+     * 체크포인트가 끝나기 전에 종료되면 봉인된 세그먼트의 기록이 새 파일의 기록보다 먼저 재적용되어야 하고,
+     * 다음 전환에서는 새 파일의 기록이 봉인된 세그먼트 뒤에 이어 붙어야 합니다.
+     */
+    @Test
+    @DisplayName("체크포인트 중 종료 시 봉인된 세그먼트부터 재적용")
+    void replay_ShouldReadSealedSegmentFirst() {
+
+        // given: 전환 후 봉인된 세그먼트를 지우기 전에 종료
+        Path path = directory.resolve("price-changes.log");
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.GROUP, 10)) {
+            log.awaitDurable(log.append(Change.priceChanged(1L, Category.TOP, 9000)));
+            log.rotate();
+            log.awaitDurable(log.append(Change.priceChanged(1L, Category.TOP, 8000)));
+        }
+
+        // when
+        List<Change> replayed = new ArrayList<>();
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.GROUP, 10)) {
+            assertEquals(2, log.replay(replayed::add));
+
+            // 봉인된 세그먼트가 남은 상태에서 전환하면 새 파일의 기록을 그 뒤에 이어 붙임
+            log.awaitDurable(log.append(Change.priceChanged(2L, Category.BAG, 2000)));
+            log.rotate();
+        }
+
+        // then
+        assertEquals(List.of(Change.priceChanged(1L, Category.TOP, 9000), Change.priceChanged(1L, Category.TOP, 8000)), replayed);
+        List<Change> sealed = new ArrayList<>();
+        try (PriceChangeLog log = new PriceChangeLog(path, FsyncPolicy.GROUP, 10)) {
+            assertEquals(3, log.replay(sealed::add));
+        }
+        assertEquals(Change.priceChanged(2L, Category.BAG, 2000), sealed.get(2));
+
+    }
+
+}
@@ -0,0 +1,385 @@
+package org.example.service;
+
+import org.example.model.Brand;
+import org.example.model.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : PriceMatrix 클래스의 단위 테스트
+ * 가격순 목록의 양 끝에서 읽은 최저/최고 가격대(열 전체 스캔 결과와 같은지 포함)와 최저 총액, 가격순 조회, 편집 시 이전 스냅샷이 바뀌지 않는지(copy-on-write)를 검증합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class PriceMatrixTest {
+
+    /**
+     * 카테고리별 최저가/최고가와 같은 가격의 브랜드 목록(브랜드 ID 순)을 계산하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("카테고리 최저가/최고가 및 동일 가격 브랜드 수집")
+    void lowestAndHighest_ShouldCollectTiesById() {
+
+        // given: ID 순서와 다르게 추가된 브랜드 (C와 A의 상의 가격이 같음)
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        editor.append(entry(3L, "C", 1000, 500));
+        editor.append(entry(1L, "A", 1000, 700));
+        editor.append(entry(2L, "B", 3000, 600));
+        PriceMatrix matrix = editor.build();
+
+        // when
+        CategoryPriceIndex.PriceLevel lowest = matrix.lowest(Category.TOP);
+        CategoryPriceIndex.PriceLevel highest = matrix.highest(Category.OUTER);
+
+        // then
+        assertEquals(1000, lowest.price());
+        assertEquals(List.of("A", "C"), lowest.brandNames(), "같은 가격의 브랜드는 ID 순이어야 합니다");
+        assertEquals(700, highest.price());
+        assertEquals(List.of("A"), highest.brandNames());
+        assertNull(matrix.lowest(Category.BAG), "상품이 없는 카테고리는 null이어야 합니다");
+        assertNull(matrix.highest(Category.BAG), "상품이 없는 카테고리는 null이어야 합니다");
+
+    }
+
+    /**
+     * 같은 가격의 브랜드가 가격순 목록의 여러 조각에 걸쳐 있어도, 편집 전후 모두 최저가/최고가 결과가 열 전체 스캔 결과와 같은지 검증합니다.
+     */
+    @Test
+    @DisplayName("여러 조각에 걸친 동일 가격의 최저가/최고가가 스캔 결과와 일치")
+    void lowestAndHighest_ShouldMatchScanWhenTiesSpanLeaves() {
+
+        // given: 상의는 모두 같은 가격, 아우터는 양 끝 가격이 조각 세 개 이상에 걸치도록 ID 역순으로 추가
+        int count = PriceMatrix.ORDER_LEAF_SIZE * 8;
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        for (int i = 0; i < count; i++) {
+            long id = count - i;
+            int outer = i < count / 2 ? 100 : 900;
+            editor.append(entry(id, "B" + id, 500, outer));
+        }
+        PriceMatrix matrix = editor.build();
+        assertLevelsMatchScan(matrix);
+        assertEquals(count, matrix.lowest(Category.TOP).brandNames().size());
+        assertEquals(count / 2, matrix.highest(Category.OUTER).brandNames().size());
+
+        // when: 조각을 나누고 합치도록 같은 가격에 브랜드를 추가하고, 일부는 삭제하거나 가격을 바꿈
+        PriceMatrix.Editor next = matrix.edit();
+        for (int i = 0; i < PriceMatrix.ORDER_LEAF_SIZE * 3; i++) {
+            long id = count + i + 1L;
+            next.append(entry(id, "B" + id, 500, i % 2 == 0 ? 100 : 900));
+        }
+        for (int row = 0; row < count; row += 3) {
+            next.remove(row);
+        }
+        next.set(1, entry(count - 1L, "B" + (count - 1), 499, 901));
+        PriceMatrix edited = next.build();
+
+        // then
+        assertLevelsMatchScan(edited);
+        assertEquals(List.of("B" + (count - 1)), edited.lowest(Category.TOP).brandNames());
+        assertEquals(List.of("B" + (count - 1)), edited.highest(Category.OUTER).brandNames());
+        assertLevelsMatchScan(matrix);
+
+    }
+
+    /**
+     * 총액이 같으면 브랜드 ID가 작은 브랜드를 최저 총액 브랜드로 선택하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("최저 총액 스캔 및 동일 총액 ID 순 선택")
+    void lowestTotal_ShouldBreakTiesById() {
+
+        // given
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        editor.append(entry(5L, "E", 1000, 1000));
+        editor.append(entry(4L, "D", 1500, 500));
+        editor.append(entry(6L, "F", 3000, 3000));
+        PriceMatrix matrix = editor.build();
+
+        // when
+        CategoryPriceIndex.Entry lowestTotal = matrix.lowestTotal();
+
+        // then
+        assertEquals("D", lowestTotal.name(), "총액이 같으면 ID가 작은 브랜드가 선택되어야 합니다");
+        assertEquals(2000, lowestTotal.totalPrice());
+        assertNull(PriceMatrix.EMPTY.lowestTotal(), "브랜드가 없으면 null이어야 합니다");
+
+    }
+
+    /**
+     * 편집으로 만든 새 스냅샷에만 변경이 반영되고 이전 스냅샷은 그대로인지 검증합니다.
+     */
+    @Test
+    @DisplayName("편집 시 이전 스냅샷 유지 (copy-on-write)")
+    void edit_ShouldNotChangePreviousSnapshot() {
+
+        // given
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        int rowA = editor.append(entry(1L, "A", 1000, 1000));
+        int rowB = editor.append(entry(2L, "B", 2000, 2000));
+        PriceMatrix before = editor.build();
+
+        // when: A의 상의 가격을 올리고 B를 삭제
+        PriceMatrix.Editor next = before.edit();
+        next.set(rowA, entry(1L, "A", 5000, 1000));
+        next.remove(rowB);
+        PriceMatrix after = next.build();
+
+        // then
+        assertEquals(List.of("A"), before.lowest(Category.TOP).brandNames(), "이전 스냅샷은 바뀌지 않아야 합니다");
+        assertEquals(2, before.liveCount());
+        assertEquals(5000, after.lowest(Category.TOP).price());
+        assertEquals(1, after.liveCount());
+        assertFalse(after.isLive(rowB), "삭제된 행은 빈 행이어야 합니다");
+        assertNull(after.entry(rowB));
+        assertEquals("A", after.lowestTotal().name(), "삭제된 행은 최저 총액 계산에서 제외되어야 합니다");
+        assertThrows(IllegalStateException.class, () -> next.append(entry(3L, "C", 1, 1)),
+                "스냅샷을 만든 편집기는 더 이상 사용할 수 없어야 합니다");
+
+    }
+
+    /**
+     * 삭제 여부는 이름과 별도로 기록하므로, 이름이 null인 브랜드도 삭제된 행으로 취급되지 않고 수정과 삭제가 동작하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("이름이 없는 브랜드도 삭제되지 않은 행으로 유지")
+    void nullName_ShouldNotBeTreatedAsDeletedRow() {
+
+        // given: 이름이 null인 브랜드 추가
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        int row = editor.append(entry(1L, null, 1000, 1000));
+        editor.append(entry(2L, "B", 2000, 2000));
+        PriceMatrix matrix = editor.build();
+
+        // then: 조회에서 빠지지 않음
+        assertTrue(matrix.isLive(row));
+        assertEquals(2, matrix.liveCount());
+        assertNull(matrix.entry(row).name());
+        assertEquals(Collections.singletonList(null), matrix.lowest(Category.TOP).brandNames());
+        assertLevelsMatchScan(matrix);
+
+        // when: 이름을 붙였다가 다시 null로 수정 (이름 비교에서 예외가 나지 않아야 함)
+        PriceMatrix.Editor rename = matrix.edit();
+        rename.set(row, entry(1L, "A", 900, 1000));
+        rename.set(row, entry(1L, null, 800, 1000));
+        PriceMatrix renamed = rename.build();
+
+        // then
+        assertEquals(800, renamed.entry(row).price(Category.TOP));
+        assertNull(renamed.entry(row).name());
+        assertEquals(2, renamed.liveCount());
+
+        // when: 삭제
+        PriceMatrix.Editor remove = renamed.edit();
+        remove.remove(row);
+        PriceMatrix removed = remove.build();
+
+        // then: 삭제된 행만 빠지고 이전 스냅샷은 그대로
+        assertFalse(removed.isLive(row));
+        assertNull(removed.entry(row));
+        assertEquals(1, removed.liveCount());
+        assertEquals(List.of("B"), removed.lowest(Category.TOP).brandNames());
+        assertTrue(renamed.isLive(row), "이전 스냅샷은 바뀌지 않아야 합니다");
+
+    }
+
+    /**
+     * 여러 조각에 걸친 행을 추가하고 일부를 수정해도 모든 행이 올바르게 조회되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("여러 조각에 걸친 추가와 수정")
+    void appendAndSet_ShouldWorkAcrossChunks() {
+
+        // given: 조각 두 개 반을 채우는 브랜드
+        int count = PriceMatrix.CHUNK_SIZE * 2 + PriceMatrix.CHUNK_SIZE / 2;
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        for (int i = 0; i < count; i++) {
+            editor.append(entry(i + 1L, "B" + i, 10_000 + i, 20_000 - i));
+        }
+        PriceMatrix matrix = editor.build();
+
+        // when: 마지막 조각의 브랜드 하나를 가장 싸게 변경
+        int row = count - 1;
+        PriceMatrix.Editor next = matrix.edit();
+        next.set(row, entry(row + 1L, "B" + row, 1, 20_000 - row));
+        PriceMatrix updated = next.build();
+
+        // then
+        assertEquals(count, updated.size());
+        assertEquals(List.of("B" + row), updated.lowest(Category.TOP).brandNames());
+        assertEquals(List.of("B0"), matrix.lowest(Category.TOP).brandNames(), "이전 스냅샷은 바뀌지 않아야 합니다");
+        assertEquals(List.of("B" + (count - 1)), matrix.highest(Category.TOP).brandNames());
+        assertEquals(List.of("B0"), updated.highest(Category.OUTER).brandNames());
+
+    }
+
+    /**
+     * 가격순 조회가 (가격, 브랜드 ID) 순으로 정렬되고, 마지막 항목을 기준으로 다음 페이지를 이어서 조회하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("가격순 조회 및 기준 위치 다음부터 이어서 조회")
+    void ranked_ShouldPageByPriceThenIdInBothDirections() {
+
+        // given: ID 순서와 다르게 추가된 브랜드 (A와 C, B와 E의 상의 가격이 같고 D는 상의가 없음)
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        editor.append(entry(3L, "C", 1000, 500));
+        editor.append(entry(5L, "E", 3000, 500));
+        editor.append(entry(1L, "A", 1000, 700));
+        editor.append(entry(2L, "B", 3000, 600));
+        editor.append(outerOnly(4L, "D", 100));
+        PriceMatrix matrix = editor.build();
+
+        // when: 두 개씩 오름차순 조회
+        List<CategoryPriceIndex.RankedBrand> first = matrix.ranked(Category.TOP, false, Integer.MIN_VALUE, Long.MIN_VALUE, 2);
+        CategoryPriceIndex.RankedBrand last = first.get(1);
+        List<CategoryPriceIndex.RankedBrand> second = matrix.ranked(Category.TOP, false, last.price(), last.id(), 2);
+
+        // then
+        assertEquals(List.of("A", "C"), names(first), "같은 가격은 브랜드 ID 순이어야 합니다");
+        assertEquals(List.of("B", "E"), names(second));
+        assertEquals(3000, second.get(0).price());
+        assertTrue(matrix.ranked(Category.TOP, false, 3000, 5L, 2).isEmpty(), "마지막 항목 다음에는 결과가 없어야 합니다");
+
+        // when & then: 내림차순은 오름차순의 역순이며 상품이 없는 브랜드는 제외
+        assertEquals(List.of("E", "B", "C", "A"),
+                names(matrix.ranked(Category.TOP, true, Integer.MAX_VALUE, Long.MAX_VALUE, 10)));
+        assertEquals(List.of("C", "A"), names(matrix.ranked(Category.TOP, true, 3000, 2L, 10)));
+        assertEquals(List.of("D", "C", "E"),
+                names(matrix.ranked(Category.OUTER, false, Integer.MIN_VALUE, Long.MIN_VALUE, 3)));
+        assertTrue(matrix.ranked(Category.BAG, false, Integer.MIN_VALUE, Long.MIN_VALUE, 10).isEmpty());
+
+    }
+
+    /**
+     * 여러 조각에 걸친 가격순 목록이 추가, 가격 변경, 삭제를 여러 번 편집한 뒤에도 전체 정렬 결과와 같고,
+     * 이전 스냅샷의 가격순 목록은 바뀌지 않는지 검증합니다.
+     */
+    @Test
+    @DisplayName("편집 후 가격순 목록이 전체 정렬 결과와 일치")
+    void ranked_ShouldMatchFullSortAfterIncrementalEdits() {
+
+        // given: 가격순 목록 조각 여러 개를 채우는 브랜드 (같은 가격이 많도록 가격 범위를 좁게 설정)
+        Random random = new Random(42);
+        int count = PriceMatrix.ORDER_LEAF_SIZE * 6;
+        Map<Long, CategoryPriceIndex.Entry> expected = new HashMap<>();
+        Map<Long, Integer> rows = new HashMap<>();
+        PriceMatrix.Editor editor = PriceMatrix.EMPTY.edit();
+        for (long id = 1; id <= count; id++) {
+            CategoryPriceIndex.Entry entry = entry(id, "B" + id, random.nextInt(200), random.nextInt(200));
+            rows.put(id, editor.append(entry));
+            expected.put(id, entry);
+        }
+        PriceMatrix initial = editor.build();
+        List<String> initialOrder = names(initial.ranked(Category.TOP, false, Integer.MIN_VALUE, Long.MIN_VALUE, count));
+
+        // when: 편집기마다 여러 변경을 모아 스냅샷을 여러 번 만듦
+        PriceMatrix matrix = initial;
+        long nextId = count + 1;
+        for (int round = 0; round < 20; round++) {
+            PriceMatrix.Editor next = matrix.edit();
+            for (int i = 0; i < 200; i++) {
+                long id = 1 + random.nextInt(count);
+                int action = random.nextInt(10);
+                if (action < 6 && expected.containsKey(id)) {
+                    CategoryPriceIndex.Entry entry = entry(id, "B" + id, random.nextInt(200), random.nextInt(200));
+                    next.set(rows.get(id), entry);
+                    expected.put(id, entry);
+                } else if (action < 8 && expected.containsKey(id)) {
+                    next.remove(rows.get(id));
+                    expected.remove(id);
+                } else {
+                    CategoryPriceIndex.Entry entry = entry(nextId, "B" + nextId, random.nextInt(200), random.nextInt(200));
+                    rows.put(nextId, next.append(entry));
+                    expected.put(nextId++, entry);
+                }
+            }
+            matrix = next.build();
+        }
+
+        // when: 같은 가격의 브랜드를 한곳에 몰아 추가하여 조각을 나눈 뒤, 그 브랜드를 모두 삭제하여 빈 조각을 제거
+        PriceMatrix.Editor crowded = matrix.edit();
+        List<Long> crowdedIds = new ArrayList<>();
+        for (int i = 0; i < PriceMatrix.ORDER_LEAF_SIZE * 5; i++) {
+            CategoryPriceIndex.Entry entry = entry(nextId, "B" + nextId, 0, 0);
+            rows.put(nextId, crowded.append(entry));
+            expected.put(nextId, entry);
+            crowdedIds.add(nextId++);
+        }
+        PriceMatrix split = crowded.build();
+        assertEquals(PriceMatrix.ORDER_LEAF_SIZE * 5,
+                split.ranked(Category.TOP, false, Integer.MIN_VALUE, Long.MIN_VALUE, count * 2).stream()
+                        .filter(ranked -> ranked.id() >= crowdedIds.get(0)).count(), "몰아 추가한 브랜드가 모두 가격순 목록에 있어야 합니다");
+        PriceMatrix.Editor cleared = split.edit();
+        for (Long id : crowdedIds) {
+            cleared.remove(rows.get(id));
+            expected.remove(id);
+        }
+        matrix = cleared.build();
+
+        // then: 오름차순 전체, 내림차순 전체, 중간 커서 다음 페이지가 전체 정렬 결과와 같아야 함
+        List<CategoryPriceIndex.Entry> sorted = new ArrayList<>(expected.values());
+        sorted.sort(Comparator.comparingInt((CategoryPriceIndex.Entry entry) -> entry.price(Category.TOP))
+                .thenComparing(CategoryPriceIndex.Entry::id));
+        List<String> sortedNames = sorted.stream().map(CategoryPriceIndex.Entry::name).toList();
+        List<String> reversedNames = new ArrayList<>(sortedNames);
+        Collections.reverse(reversedNames);
+
+        int size = sorted.size();
+        assertEquals(sortedNames, names(matrix.ranked(Category.TOP, false, Integer.MIN_VALUE, Long.MIN_VALUE, size + 1)));
+        assertEquals(reversedNames, names(matrix.ranked(Category.TOP, true, Integer.MAX_VALUE, Long.MAX_VALUE, size + 1)));
+
+        CategoryPriceIndex.Entry middle = sorted.get(size / 2);
+        assertEquals(sortedNames.subList(size / 2 + 1, size / 2 + 51),
+                names(matrix.ranked(Category.TOP, false, middle.price(Category.TOP), middle.id(), 50)));
+        assertEquals(reversedNames.subList(size - size / 2, size - size / 2 + 50),
+                names(matrix.ranked(Category.TOP, true, middle.price(Category.TOP), middle.id(), 50)));
+
+        assertEquals(initialOrder, names(initial.ranked(Category.TOP, false, Integer.MIN_VALUE, Long.MIN_VALUE, count)),
+                "이전 스냅샷의 가격순 목록은 바뀌지 않아야 합니다");
+        assertLevelsMatchScan(split);
+        assertLevelsMatchScan(matrix);
+
+    }
+
+    // 최저가/최고가가 열 전체 스캔 결과와 같은지 확인 (상의, 아우터, 상품이 없는 가방)
+    private void assertLevelsMatchScan(PriceMatrix matrix) {
+        for (Category category : List.of(Category.TOP, Category.OUTER, Category.BAG)) {
+            assertEquals(matrix.lowestByScan(category), matrix.lowest(category), category + " 최저가");
+            assertEquals(matrix.highestByScan(category), matrix.highest(category), category + " 최고가");
+        }
+    }
+
+    // 가격순 조회 결과의 브랜드 이름 목록
+    private List<String> names(List<CategoryPriceIndex.RankedBrand> ranked) {
+        return ranked.stream().map(CategoryPriceIndex.RankedBrand::name).toList();
+    }
+
+    // 아우터 가격만 있는 인덱스 항목 생성
+    private CategoryPriceIndex.Entry outerOnly(Long id, String name, int outer) {
+        Brand brand = new Brand();
+        brand.setId(id);
+        brand.setName(name);
+        brand.getPrices().put(Category.OUTER, outer);
+        return CategoryPriceIndex.Entry.of(brand);
+    }
+
+    // 상의/아우터 가격만 있는 인덱스 항목 생성
+    private CategoryPriceIndex.Entry entry(Long id, String name, int top, int outer) {
+        Brand brand = new Brand();
+        brand.setId(id);
+        brand.setName(name);
+        brand.getPrices().put(Category.TOP, top);
+        brand.getPrices().put(Category.OUTER, outer);
+        return CategoryPriceIndex.Entry.of(brand);
+    }
+
+}
@@ -0,0 +1,177 @@
+package org.example.service;
+
+import org.example.model.Category;
+import org.example.service.PriceWriteBehindBuffer.PendingPrice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : PriceWriteBehindBuffer 클래스의 단위 테스트
+ * (브랜드, 카테고리)별 마지막 값만 기록하는지, 묶음 크기에 도달하면 주기를 기다리지 않고 기록하는지,
+ * 기록에 실패한 변경을 다시 보관하되 그 사이에 들어온 새 가격을 덮어쓰지 않는지,
+ * 가득 차면 호출자 스레드에서 기록하지 않고 보관을 거절하는지 검증합니다.
+ * 주기적인 기록이 테스트 도중 실행되지 않도록 기록 주기는 충분히 길게 설정합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class PriceWriteBehindBufferTest {
+
+    private static final long NO_PERIODIC_FLUSH = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * 같은 (브랜드, 카테고리)의 변경은 마지막 가격 하나로 합쳐져 기록되고, 종료 시 남은 변경도 기록되어야 합니다.
+     */
+    @Test
+    @DisplayName("같은 상품의 변경은 마지막 가격만 기록")
+    void flush_ShouldWriteLastPricePerBrandAndCategory() {
+
+        // given
+        List<List<PendingPrice>> batches = new ArrayList<>();
+        PriceWriteBehindBuffer buffer = new PriceWriteBehindBuffer(
+                prices -> batches.add(List.copyOf(prices)), NO_PERIODIC_FLUSH, 100, 100);
+
+        buffer.submit(1L, Category.TOP, 100);
+        buffer.submit(1L, Category.TOP, 200);
+        buffer.submit(2L, Category.TOP, 300);
+        buffer.submit(1L, Category.OUTER, 400);
+        assertEquals(3, buffer.pendingCount());
+
+        // when
+        int written = buffer.flush();
+
+        // then
+        assertEquals(3, written);
+        assertEquals(List.of(List.of(
+                new PendingPrice(1L, Category.TOP, 200),
+                new PendingPrice(2L, Category.TOP, 300),
+                new PendingPrice(1L, Category.OUTER, 400))), batches);
+        assertEquals(0, buffer.pendingCount());
+        assertEquals(0, buffer.flush(), "기록할 변경이 없으면 기록 함수를 호출하지 않아야 합니다");
+
+        // when: 종료 시 남은 변경 기록
+        buffer.submit(2L, Category.BAG, 500);
+        buffer.close();
+
+        // then
+        assertEquals(List.of(new PendingPrice(2L, Category.BAG, 500)), batches.get(1));
+
+    }
+
+    /**
+     * 보관 개수가 묶음 크기에 도달하면 기록 주기를 기다리지 않고 백그라운드에서 기록해야 합니다.
+     */
+    @Test
+    @DisplayName("묶음 크기에 도달하면 즉시 기록")
+    void submit_ShouldFlushWhenBatchSizeReached() throws Exception {
+
+        // given
+        List<PendingPrice> written = new ArrayList<>();
+        CountDownLatch flushed = new CountDownLatch(1);
+        PriceWriteBehindBuffer buffer = new PriceWriteBehindBuffer(prices -> {
+            synchronized (written) {
+                written.addAll(prices);
+            }
+            flushed.countDown();
+        }, NO_PERIODIC_FLUSH, 3, 10);
+
+        try {
+            // when
+            buffer.submit(1L, Category.TOP, 100);
+            buffer.submit(2L, Category.TOP, 200);
+            buffer.submit(3L, Category.TOP, 300);
+
+            // then
+            assertTrue(flushed.await(5, TimeUnit.SECONDS), "묶음 크기에 도달하면 기록이 시작되어야 합니다");
+            synchronized (written) {
+                assertEquals(3, written.size());
+            }
+        } finally {
+            buffer.close();
+        }
+
+    }
+
+    /**
+     * 기록에 실패한 변경은 다시 보관되어 다음 기록 때 재시도되고, 기록하는 동안 들어온 같은 상품의 새 가격은 유지되어야 합니다.
+     */
+    @Test
+    @DisplayName("기록 실패 시 재보관, 새 가격 유지")
+    void flush_ShouldRequeueFailedPricesWithoutOverwritingNewer() {
+
+        // given: 첫 기록 도중 상품 1의 새 가격이 들어온 뒤 실패
+        List<PendingPrice> written = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        PriceWriteBehindBuffer[] holder = new PriceWriteBehindBuffer[1];
+        holder[0] = new PriceWriteBehindBuffer(prices -> {
+            if (failed.compareAndSet(false, true)) {
+                holder[0].submit(1L, Category.TOP, 999);
+                throw new IllegalStateException("기록 실패");
+            }
+            written.addAll(prices);
+        }, NO_PERIODIC_FLUSH, 100, 100);
+        PriceWriteBehindBuffer buffer = holder[0];
+
+        buffer.submit(1L, Category.TOP, 100);
+        buffer.submit(2L, Category.TOP, 200);
+
+        // when & then: 실패한 기록의 예외가 전달되고 변경은 다시 보관됨
+        assertThrows(IllegalStateException.class, buffer::flush);
+        assertEquals(2, buffer.pendingCount());
+
+        // when: 재시도
+        assertEquals(2, buffer.flush());
+
+        // then
+        assertTrue(written.contains(new PendingPrice(1L, Category.TOP, 999)), "기록 중에 들어온 새 가격이 기록되어야 합니다");
+        assertTrue(written.contains(new PendingPrice(2L, Category.TOP, 200)));
+        buffer.close();
+
+    }
+
+    /**
+     * 가득 차면 새 상품의 변경은 호출자 스레드에서 기록하지 않고 거절해야 하며(호출자가 잠금을 놓고 flush 후 재시도),
+     * 이미 보관된 상품의 변경은 계속 받아야 합니다.
+     */
+    @Test
+    @DisplayName("가득 차면 기록하지 않고 새 상품의 변경을 거절")
+    void submit_ShouldRejectWithoutFlushingWhenFull() throws Exception {
+
+        // given: 백그라운드 기록이 멈춘 동안 다시 가득 참 (최대 2개, 묶음 크기 2)
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PriceWriteBehindBuffer buffer = new PriceWriteBehindBuffer(prices -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, NO_PERIODIC_FLUSH, 2, 2);
+
+        try {
+            assertTrue(buffer.submit(1L, Category.TOP, 100));
+            assertTrue(buffer.submit(2L, Category.TOP, 200));
+            assertTrue(writing.await(5, TimeUnit.SECONDS), "묶음 크기에 도달하면 백그라운드 기록이 시작되어야 합니다");
+            assertTrue(buffer.submit(3L, Category.TOP, 300));
+            assertTrue(buffer.submit(4L, Category.TOP, 400));
+
+            // when & then: 새 상품은 진행 중인 기록을 기다리지 않고 바로 거절, 보관된 상품은 덮어씀
+            assertFalse(buffer.submit(5L, Category.TOP, 500), "가득 차면 새 상품의 변경을 거절해야 합니다");
+            assertTrue(buffer.submit(3L, Category.TOP, 350));
+            assertEquals(2, buffer.pendingCount());
+        } finally {
+            release.countDown();
+            buffer.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,188 @@
+package org.example.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클래스 설명 : SingleFlight 클래스의 단위 테스트
+ * 같은 키와 버전의 동시 호출이 하나의 계산을 공유하는지, 버전이 다르면 따로 계산하는지,
+ * 계산 중 발생한 예외가 기다리던 호출자에게 전달되고 다음 호출은 다시 계산하는지 검증합니다.
+ * 작성자 : sys1021
+ * 작성일 : 2026.10.17
+ */
+public class SingleFlightTest {
+
+    /**
+     * 계산이 진행 중일 때 도착한 같은 (키, 버전)의 호출은 새로 계산하지 않고 같은 결과를 받아야 합니다.
+     */
+    @Test
+    @DisplayName("같은 키와 버전의 동시 호출은 계산 1회 공유")
+    void execute_ShouldShareInFlightComputation() throws Exception {
+
+        // given: 첫 호출의 계산을 멈춰 두고 나머지 호출이 도착하게 함
+        SingleFlight singleFlight = new SingleFlight();
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Thread> followers = new ArrayList<>();
+
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("key", 1L, () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new Object();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> {
+                    synchronized (followers) {
+                        followers.add(Thread.currentThread());
+                    }
+                    return singleFlight.execute("key", 1L, () -> {
+                        computations.incrementAndGet();
+                        return new Object();
+                    });
+                }));
+            }
+
+            // 모든 호출자가 진행 중인 계산을 기다리기 시작한 뒤 계산 완료
+            awaitWaiting(followers, 7);
+            release.countDown();
+
+            // when
+            Object shared = leader.get(5, TimeUnit.SECONDS);
+
+            // then
+            for (Future<Object> result : results) {
+                assertSame(shared, result.get(5, TimeUnit.SECONDS), "같은 계산 결과를 공유해야 합니다");
+            }
+            assertEquals(1, computations.get(), "계산은 한 번만 실행되어야 합니다");
+            assertEquals(0, singleFlight.inFlightCount(), "완료된 계산은 진행 중 목록에서 제거되어야 합니다");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+    }
+
+    /**
+     * 카탈로그 버전이 다르면 진행 중인 계산이 있어도 기다리지 않고 따로 계산해야 합니다.
+     */
+    @Test
+    @DisplayName("버전이 다르면 따로 계산")
+    void execute_ShouldNotShareAcrossVersions() throws Exception {
+
+        // given: 버전 1의 계산이 진행 중
+        SingleFlight singleFlight = new SingleFlight();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> oldVersion = executor.submit(() -> singleFlight.execute("key", 1L, () -> {
+                started.countDown();
+                await(release);
+                return "v1";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // when: 버전 2로 호출
+            String newVersion = singleFlight.execute("key", 2L, () -> "v2");
+
+            // then
+            assertEquals("v2", newVersion, "새 버전은 이전 버전의 계산을 기다리지 않아야 합니다");
+            release.countDown();
+            assertEquals("v1", oldVersion.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+    }
+
+    /**
+     * 계산 중 발생한 예외는 기다리던 호출자에게도 같은 예외로 전달되고, 다음 호출은 다시 계산해야 합니다.
+     */
+    @Test
+    @DisplayName("계산 예외 전달 후 다음 호출은 재계산")
+    void execute_ShouldPropagateFailureAndRetryNextCall() throws Exception {
+
+        // given
+        SingleFlight singleFlight = new SingleFlight();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Thread> followers = new ArrayList<>();
+
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", 1L, () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("조회 실패");
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> {
+                synchronized (followers) {
+                    followers.add(Thread.currentThread());
+                }
+                return singleFlight.execute("key", 1L, () -> "unused");
+            });
+            awaitWaiting(followers, 1);
+
+            // when
+            release.countDown();
+
+            // then
+            for (Future<String> result : List.of(leader, follower)) {
+                Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, e.getCause(), "원래 예외가 전달되어야 합니다");
+            }
+            assertEquals("retry", singleFlight.execute("key", 1L, () -> "retry"), "실패한 계산은 재사용되지 않아야 합니다");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+    }
+
+    // 테스트 스레드에서 래치 대기 (인터럽트는 예외로 전환)
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 지정한 수의 호출자 스레드가 모두 진행 중인 계산을 기다리는 상태가 될 때까지 대기
+    private static void awaitWaiting(List<Thread> followers, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (followers) {
+                if (followers.size() == count
+                        && followers.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+                    return;
+                }
+            }
+            Thread.sleep(1);
+        }
+        fail("호출자가 진행 중인 계산을 기다리지 않았습니다");
+    }
+
+}